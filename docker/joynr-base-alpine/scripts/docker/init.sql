@@ -32,6 +32,12 @@ CREATE TABLE IF NOT EXISTS public.discovery_entries
     CONSTRAINT discovery_entries_pkey PRIMARY KEY (gbid, participantid)
 );
 
+CREATE INDEX IF NOT EXISTS discovery_entries_domain_interfacename_idx
+    ON public.discovery_entries (domain, interfacename);
+
+CREATE INDEX IF NOT EXISTS discovery_entries_clustercontrollerid_idx
+    ON public.discovery_entries (clustercontrollerid);
+
 CREATE TABLE IF NOT EXISTS public.discovery_entries_customparameters
 (
     globaldiscoveryentrypersisted_gbid character varying(255) COLLATE pg_catalog."default" NOT NULL,
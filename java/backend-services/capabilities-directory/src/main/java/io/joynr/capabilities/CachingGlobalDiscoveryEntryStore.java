@@ -0,0 +1,261 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache for the domain / interface lookups of a {@link GlobalDiscoveryEntryStore}.
+ * <p>
+ * The results of {@link #lookup(String[], String)} are cached per set of domains and interface name for at
+ * most the configured time to live; the least recently used results are evicted if the cache is full. The
+ * results contain the entries of all GBIDs, the filtering by GBIDs is done by the caller. A cached result is
+ * invalidated as soon as an entry of its domains and interface is added, or an entry contained in it is
+ * added again (with other domain or interface), removed or removed as stale. Touch does not invalidate the
+ * cache: the lastSeenDateMs and expiryDateMs of the cached entries might be outdated for up to the time to
+ * live.
+ * <p>
+ * Only writes done through this instance invalidate the cache. If several GCD instances share the same
+ * database, entries added, removed or removed as stale by another instance are not visible in the cached
+ * results until they expire, i.e. results might be outdated for up to the time to live. The cache is therefore
+ * disabled by default and the time to live should be kept short.
+ * <p>
+ * All other methods are forwarded to the wrapped store.
+ */
+public class CachingGlobalDiscoveryEntryStore implements GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingGlobalDiscoveryEntryStore.class);
+
+    private final GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> store;
+    private final long timeToLiveMs;
+    // access ordered for LRU eviction, guarded by itself
+    private final LinkedHashMap<LookupKey, CachedLookup> cache;
+    // incremented with every invalidation, guarded by cache
+    private long invalidationCount = 0;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private static final class LookupKey {
+        private final Set<String> domains;
+        private final String interfaceName;
+
+        private LookupKey(String[] domains, String interfaceName) {
+            this.domains = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(domains)));
+            this.interfaceName = interfaceName;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(domains, interfaceName);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LookupKey)) {
+                return false;
+            }
+            LookupKey other = (LookupKey) obj;
+            return domains.equals(other.domains) && Objects.equals(interfaceName, other.interfaceName);
+        }
+    }
+
+    private static final class CachedLookup {
+        private final List<GlobalDiscoveryEntryPersisted> entries;
+        private final long expiryDateMs;
+
+        private CachedLookup(List<GlobalDiscoveryEntryPersisted> entries, long expiryDateMs) {
+            this.entries = entries;
+            this.expiryDateMs = expiryDateMs;
+        }
+
+        private boolean containsEntry(Predicate<GlobalDiscoveryEntryPersisted> predicate) {
+            return entries.stream().anyMatch(predicate);
+        }
+    }
+
+    /**
+     * @param store the wrapped store
+     * @param maxSize maximum number of cached lookup results
+     * @param timeToLiveMs maximum time a lookup result is cached
+     */
+    public CachingGlobalDiscoveryEntryStore(GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> store,
+                                            int maxSize,
+                                            long timeToLiveMs) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0: " + maxSize);
+        }
+        this.store = store;
+        this.timeToLiveMs = timeToLiveMs;
+        this.cache = new LinkedHashMap<LookupKey, CachedLookup>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LookupKey, CachedLookup> eldest) {
+                return size() > maxSize;
+            }
+        };
+        logger.info("Creating lookup cache with maxSize {} and timeToLiveMs {}. Changes made by other GCD "
+                + "instances are only visible after the time to live.", maxSize, timeToLiveMs);
+    }
+
+    @Override
+    public Collection<GlobalDiscoveryEntryPersisted> lookup(String[] domains, String interfaceName) {
+        LookupKey key = new LookupKey(domains, interfaceName);
+        long expectedInvalidationCount;
+        synchronized (cache) {
+            CachedLookup cachedLookup = cache.get(key);
+            if (cachedLookup != null) {
+                if (cachedLookup.expiryDateMs > System.currentTimeMillis()) {
+                    hitCount.incrementAndGet();
+                    return cachedLookup.entries;
+                }
+                cache.remove(key);
+            }
+            expectedInvalidationCount = invalidationCount;
+        }
+        missCount.incrementAndGet();
+
+        long expiryDateMs = System.currentTimeMillis() + timeToLiveMs;
+        Collection<GlobalDiscoveryEntryPersisted> result = store.lookup(domains, interfaceName);
+        if (result == null) {
+            return null;
+        }
+        List<GlobalDiscoveryEntryPersisted> entries = Collections.unmodifiableList(new ArrayList<>(result));
+        synchronized (cache) {
+            // the result might already be outdated if the store has been modified during the lookup
+            if (invalidationCount == expectedInvalidationCount) {
+                cache.put(key, new CachedLookup(entries, expiryDateMs));
+            }
+        }
+        return entries;
+    }
+
+    private void invalidate(Predicate<LookupKey> keyPredicate, Predicate<GlobalDiscoveryEntryPersisted> entryPredicate) {
+        int invalidatedCount = 0;
+        synchronized (cache) {
+            invalidationCount++;
+            Iterator<Map.Entry<LookupKey, CachedLookup>> iterator = cache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<LookupKey, CachedLookup> cacheEntry = iterator.next();
+                if (keyPredicate.test(cacheEntry.getKey()) || cacheEntry.getValue().containsEntry(entryPredicate)) {
+                    iterator.remove();
+                    invalidatedCount++;
+                }
+            }
+        }
+        logger.trace("Invalidated {} cached lookup results.", invalidatedCount);
+    }
+
+    @Override
+    public void add(GlobalDiscoveryEntryPersisted discoveryEntry, String[] gbids) {
+        try {
+            store.add(discoveryEntry, gbids);
+        } finally {
+            invalidate(key -> key.interfaceName.equals(discoveryEntry.getInterfaceName())
+                    && key.domains.contains(discoveryEntry.getDomain()),
+                       entry -> entry.getParticipantId().equals(discoveryEntry.getParticipantId()));
+        }
+    }
+
+    @Override
+    public int remove(String participantId, String[] gbids) {
+        int deletedCount = store.remove(participantId, gbids);
+        if (deletedCount > 0) {
+            invalidate(key -> false, entry -> entry.getParticipantId().equals(participantId));
+        }
+        return deletedCount;
+    }
+
+    @Override
+    public int removeStale(String clusterControllerId, Long maxLastSeenDateMs) {
+        int deletedCount = store.removeStale(clusterControllerId, maxLastSeenDateMs);
+        if (deletedCount > 0) {
+            invalidate(key -> false, entry -> clusterControllerId.equals(entry.getClusterControllerId()));
+        }
+        return deletedCount;
+    }
+
+    @Override
+    public Optional<Collection<GlobalDiscoveryEntryPersisted>> lookup(String participantId) {
+        return store.lookup(participantId);
+    }
+
+    @Override
+    public Set<GlobalDiscoveryEntryPersisted> getAllDiscoveryEntries() {
+        return store.getAllDiscoveryEntries();
+    }
+
+    @Override
+    public void touch(String clusterControllerId) {
+        store.touch(clusterControllerId);
+    }
+
+    @Override
+    public void touch(String clusterControllerId, String[] participantIds) {
+        store.touch(clusterControllerId, participantIds);
+    }
+
+    @Override
+    public boolean hasDiscoveryEntry(GlobalDiscoveryEntryPersisted discoveryEntry) {
+        return store.hasDiscoveryEntry(discoveryEntry);
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of lookups forwarded to the wrapped store
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of currently cached lookup results, including expired ones
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
+import javax.persistence.Index;
 import javax.persistence.Lob;
 import javax.persistence.Table;
 
@@ -36,7 +37,9 @@ import joynr.types.Version;
 
 @Entity
 @IdClass(GlobalDiscoveryEntryPersistedKey.class)
-@Table(name = "discovery_entries")
+@Table(name = "discovery_entries", indexes = {
+        @Index(name = "discovery_entries_domain_interfacename_idx", columnList = "domain, interfaceName"),
+        @Index(name = "discovery_entries_clustercontrollerid_idx", columnList = "clusterControllerId") })
 @Access(AccessType.PROPERTY)
 public class GlobalDiscoveryEntryPersisted extends GlobalDiscoveryEntry {
     private static final long serialVersionUID = 1L;
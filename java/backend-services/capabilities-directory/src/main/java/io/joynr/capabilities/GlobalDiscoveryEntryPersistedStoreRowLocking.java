@@ -0,0 +1,319 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import static io.joynr.messaging.ConfigurableMessagingSettings.PROPERTY_DISCOVERY_PROVIDER_DEFAULT_EXPIRY_TIME_MS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityTransaction;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.google.inject.persist.PersistService;
+
+import joynr.system.RoutingTypes.Address;
+import joynr.system.RoutingTypes.MqttAddress;
+import joynr.system.RoutingTypes.RoutingTypesUtil;
+
+/**
+ * Alternative to {@link GlobalDiscoveryEntryPersistedStorePersisted} which does not serialize the
+ * modifications of the discovery entries, neither within one GCD instance nor across all GCD instances
+ * sharing the database.
+ * <p>
+ * Every thread uses its own {@link EntityManager} (see {@link com.google.inject.persist.UnitOfWork}) instead
+ * of a single, synchronized one. Instead of locking the whole discovery_entries table, add and remove only
+ * lock the affected rows (participantId / gbid) with SELECT ... FOR UPDATE; an add of a new entry which
+ * collides with a concurrent insert of the same entry is repeated as update. Touch and removeStale are
+ * executed as single bulk statements, lookups do not lock at all.
+ */
+@Singleton
+public class GlobalDiscoveryEntryPersistedStoreRowLocking
+        implements GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalDiscoveryEntryPersistedStoreRowLocking.class);
+    private static final int MAX_ADD_ATTEMPTS = 3;
+
+    private final Provider<EntityManager> entityManagerProvider;
+    private final long defaultExpiryTimeMs;
+
+    @Inject
+    public GlobalDiscoveryEntryPersistedStoreRowLocking(Provider<EntityManager> entityManagerProvider,
+                                                        PersistService persistService,
+                                                        @Named(PROPERTY_DISCOVERY_PROVIDER_DEFAULT_EXPIRY_TIME_MS) String defaultExpiryTimeMs) {
+        persistService.start();
+        this.entityManagerProvider = entityManagerProvider;
+        this.defaultExpiryTimeMs = Long.parseLong(defaultExpiryTimeMs);
+
+        logger.debug("Creating CapabilitiesStore with row level locking");
+    }
+
+    private <T> T executeInTransaction(String operation, Function<EntityManager, T> function) {
+        EntityManager entityManager = entityManagerProvider.get();
+        EntityTransaction transaction = entityManager.getTransaction();
+        try {
+            transaction.begin();
+            T result = function.apply(entityManager);
+            transaction.commit();
+            logger.trace("{} committed successfully", operation);
+            return result;
+        } catch (RuntimeException e) {
+            logger.error("{} failed.", operation, e);
+            throw e;
+        } finally {
+            if (transaction.isActive()) {
+                logger.error("{}: rollback.", operation);
+                transaction.rollback();
+            }
+            entityManager.clear();
+        }
+    }
+
+    @Override
+    public void add(GlobalDiscoveryEntryPersisted globalDiscoveryEntry, String[] gbids) {
+        logger.debug("Adding discovery entry: {}", globalDiscoveryEntry);
+        String operation = "Add(" + globalDiscoveryEntry.getParticipantId() + ")";
+        // lock the rows always in the same (sorted) order to avoid deadlocks
+        Set<String> distinctGbids = new TreeSet<>(Arrays.asList(gbids));
+        for (int attempt = 1;; attempt++) {
+            try {
+                executeInTransaction(operation, entityManager -> {
+                    for (String gbid : distinctGbids) {
+                        upsert(entityManager, globalDiscoveryEntry, gbid);
+                    }
+                    return null;
+                });
+                return;
+            } catch (PersistenceException e) {
+                // most likely a concurrent insert of the same entry, the next attempt finds and updates it
+                if (attempt >= MAX_ADD_ATTEMPTS) {
+                    throw e;
+                }
+                logger.warn("{} failed in attempt {}, retrying.", operation, attempt);
+            }
+        }
+    }
+
+    private void upsert(EntityManager entityManager, GlobalDiscoveryEntryPersisted globalDiscoveryEntry, String gbid) {
+        GlobalDiscoveryEntryPersistedKey key = new GlobalDiscoveryEntryPersistedKey();
+        key.setGbid(gbid);
+        key.setParticipantId(globalDiscoveryEntry.getParticipantId());
+        GlobalDiscoveryEntryPersisted oldEntity = entityManager.find(GlobalDiscoveryEntryPersisted.class,
+                                                                     key,
+                                                                     LockModeType.PESSIMISTIC_WRITE);
+
+        GlobalDiscoveryEntryPersisted entity = new GlobalDiscoveryEntryPersisted(globalDiscoveryEntry,
+                                                                                 globalDiscoveryEntry.getClusterControllerId(),
+                                                                                 gbid);
+        Address address = CapabilityUtils.getAddressFromGlobalDiscoveryEntry(globalDiscoveryEntry);
+        if (address instanceof MqttAddress) {
+            ((MqttAddress) address).setBrokerUri(gbid);
+            entity.setAddress(RoutingTypesUtil.toAddressString(address));
+        }
+
+        if (oldEntity == null) {
+            logger.trace("Adding new discoveryEntry {} to the persisted entries.", globalDiscoveryEntry);
+            entityManager.persist(entity);
+            // detect a conflicting concurrent insert within the current attempt
+            entityManager.flush();
+        } else {
+            logger.trace("Merging discoveryEntry {} to the persisted entries.", globalDiscoveryEntry);
+            entityManager.merge(entity);
+        }
+    }
+
+    @Override
+    public int remove(String participantId, String[] gbids) {
+        try {
+            return executeInTransaction("Remove(" + participantId + ")", entityManager -> {
+                int deletedCount = 0;
+                // lock the rows in the same (sorted) order as add to avoid deadlocks
+                for (String gbid : new TreeSet<>(Arrays.asList(gbids))) {
+                    GlobalDiscoveryEntryPersistedKey key = new GlobalDiscoveryEntryPersistedKey();
+                    key.setGbid(gbid);
+                    key.setParticipantId(participantId);
+                    GlobalDiscoveryEntryPersisted entity = entityManager.find(GlobalDiscoveryEntryPersisted.class,
+                                                                              key,
+                                                                              LockModeType.PESSIMISTIC_WRITE);
+                    if (entity != null) {
+                        entityManager.remove(entity);
+                        deletedCount++;
+                    }
+                }
+                if (deletedCount > 0) {
+                    return deletedCount;
+                }
+                logger.warn("Error removing participantId {}. Participant is not registered in GBIDs {}.",
+                            participantId,
+                            Arrays.toString(gbids));
+                String queryCountString = "SELECT count(gdep) FROM GlobalDiscoveryEntryPersisted gdep WHERE gdep.participantId = :participantId";
+                long numberOfEntriesInAllGbids = entityManager.createQuery(queryCountString, Long.class)
+                                                              .setParameter("participantId", participantId)
+                                                              .getSingleResult();
+                // -1: NO_ENTRY_FOR_SELECTED_BACKENDS, 0: NO_ENTRY_FOR_PARTICIPANT
+                return numberOfEntriesInAllGbids > 0 ? -1 : 0;
+            });
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public Collection<GlobalDiscoveryEntryPersisted> lookup(final String[] domains, final String interfaceName) {
+        String queryString = "FROM GlobalDiscoveryEntryPersisted gdep "
+                + "WHERE gdep.domain IN :domains AND gdep.interfaceName = :interfaceName "
+                + "ORDER BY gdep.participantId";
+        try {
+            return executeInTransaction("Lookup(" + Arrays.toString(domains) + ", " + interfaceName + ")",
+                                        entityManager -> entityManager.createQuery(queryString,
+                                                                                   GlobalDiscoveryEntryPersisted.class)
+                                                                      .setParameter("domains",
+                                                                                    new HashSet<String>(Arrays.asList(domains)))
+                                                                      .setParameter("interfaceName", interfaceName)
+                                                                      .getResultList());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Optional<Collection<GlobalDiscoveryEntryPersisted>> lookup(String participantId) {
+        String queryString = "FROM GlobalDiscoveryEntryPersisted gdep WHERE gdep.participantId = :participantId";
+        try {
+            Collection<GlobalDiscoveryEntryPersisted> queryResult = executeInTransaction("Lookup(" + participantId
+                    + ")",
+                                                                                         entityManager -> entityManager.createQuery(queryString,
+                                                                                                                                    GlobalDiscoveryEntryPersisted.class)
+                                                                                                                       .setParameter("participantId",
+                                                                                                                                     participantId)
+                                                                                                                       .getResultList());
+            return Optional.ofNullable(queryResult);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Set<GlobalDiscoveryEntryPersisted> getAllDiscoveryEntries() {
+        List<GlobalDiscoveryEntryPersisted> allCapabilityEntries = new ArrayList<>();
+        try {
+            allCapabilityEntries = executeInTransaction("GetAllDiscoveryEntries()",
+                                                        entityManager -> entityManager.createQuery("FROM GlobalDiscoveryEntryPersisted gdep",
+                                                                                                   GlobalDiscoveryEntryPersisted.class)
+                                                                                      .getResultList());
+        } catch (RuntimeException e) {
+            // already logged
+        }
+        Set<GlobalDiscoveryEntryPersisted> result = new HashSet<>(allCapabilityEntries);
+        logger.debug("Retrieved all discovery entries: {}", result);
+        return result;
+    }
+
+    @Override
+    public boolean hasDiscoveryEntry(GlobalDiscoveryEntryPersisted discoveryEntry) {
+        GlobalDiscoveryEntryPersistedKey key = new GlobalDiscoveryEntryPersistedKey();
+        key.setGbid(discoveryEntry.getGbid());
+        key.setParticipantId(discoveryEntry.getParticipantId());
+        try {
+            return executeInTransaction("HasDiscoveryEntry(" + discoveryEntry + ")",
+                                        entityManager -> entityManager.find(GlobalDiscoveryEntryPersisted.class,
+                                                                            key) != null);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void touch(String clusterControllerId) {
+        String queryString = "UPDATE GlobalDiscoveryEntryPersisted gdep "
+                + "SET gdep.lastSeenDateMs = :lastSeenDateMs, gdep.expiryDateMs = :expiryDateMs "
+                + "WHERE gdep.clusterControllerId = :clusterControllerId";
+        long now = System.currentTimeMillis();
+        int updatedCount = executeInTransaction("Touch(ccId=" + clusterControllerId + ")",
+                                                entityManager -> entityManager.createQuery(queryString)
+                                                                              .setParameter("lastSeenDateMs", now)
+                                                                              .setParameter("expiryDateMs",
+                                                                                            now + defaultExpiryTimeMs)
+                                                                              .setParameter("clusterControllerId",
+                                                                                            clusterControllerId)
+                                                                              .executeUpdate());
+        logger.trace("Touch(ccId={}) updated {} entries.", clusterControllerId, updatedCount);
+    }
+
+    @Override
+    public void touch(String clusterControllerId, String[] participantIds) {
+        if (participantIds.length == 0) {
+            logger.trace("Touch(ccId={}, participantIds={}): nothing to do, no participantIds provided.",
+                         clusterControllerId,
+                         Arrays.toString(participantIds));
+            return;
+        }
+        String queryString = "UPDATE GlobalDiscoveryEntryPersisted gdep "
+                + "SET gdep.lastSeenDateMs = :lastSeenDateMs, gdep.expiryDateMs = :expiryDateMs "
+                + "WHERE gdep.clusterControllerId = :clusterControllerId AND gdep.participantId IN :participantIds";
+        long now = System.currentTimeMillis();
+        Set<String> distinctParticipantIds = new HashSet<>(Arrays.asList(participantIds));
+        int updatedCount = executeInTransaction("Touch(ccId=" + clusterControllerId + ", participantIds="
+                + Arrays.toString(participantIds) + ")",
+                                                entityManager -> entityManager.createQuery(queryString)
+                                                                              .setParameter("lastSeenDateMs", now)
+                                                                              .setParameter("expiryDateMs",
+                                                                                            now + defaultExpiryTimeMs)
+                                                                              .setParameter("clusterControllerId",
+                                                                                            clusterControllerId)
+                                                                              .setParameter("participantIds",
+                                                                                            distinctParticipantIds)
+                                                                              .executeUpdate());
+        if (distinctParticipantIds.size() > updatedCount) {
+            logger.warn("Touch(ccId={}, participantIds={}) committed successfully, but updated only {} entries.",
+                        clusterControllerId,
+                        Arrays.toString(participantIds),
+                        updatedCount);
+        }
+    }
+
+    @Override
+    public int removeStale(String clusterControllerId, Long maxLastSeenDateMs) {
+        String queryString = "DELETE FROM GlobalDiscoveryEntryPersisted gdep "
+                + "WHERE gdep.clusterControllerId = :clusterControllerId AND gdep.lastSeenDateMs < :maxLastSeenDateMs";
+        return executeInTransaction("RemoveStale(ccId=" + clusterControllerId + ", maxLastSeenDateMs="
+                + maxLastSeenDateMs + ")",
+                                    entityManager -> entityManager.createQuery(queryString)
+                                                                  .setParameter("clusterControllerId",
+                                                                                clusterControllerId)
+                                                                  .setParameter("maxLastSeenDateMs", maxLastSeenDateMs)
+                                                                  .executeUpdate());
+    }
+}
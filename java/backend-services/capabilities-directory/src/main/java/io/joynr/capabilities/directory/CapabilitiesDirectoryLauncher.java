@@ -60,6 +60,14 @@ public class CapabilitiesDirectoryLauncher {
     private static final Logger logger = LoggerFactory.getLogger(CapabilitiesDirectoryLauncher.class);
     public static final String GCD_DB_HOST = CapabilitiesDirectoryImpl.PROPERTY_PREFIX + "db.host";
     public static final String GCD_DB_PORT = CapabilitiesDirectoryImpl.PROPERTY_PREFIX + "db.port";
+    public static final String GCD_DB_LOCKING = CapabilitiesDirectoryImpl.PROPERTY_PREFIX + "db.locking";
+    public static final String DB_LOCKING_TABLE = "table";
+    public static final String DB_LOCKING_ROW = "row";
+    public static final String GCD_LOOKUP_CACHE_SIZE = CapabilitiesDirectoryImpl.PROPERTY_PREFIX + "lookup.cache.size";
+    public static final String GCD_LOOKUP_CACHE_TTL_MS = CapabilitiesDirectoryImpl.PROPERTY_PREFIX
+            + "lookup.cache.ttl.ms";
+    private static final String DEFAULT_LOOKUP_CACHE_SIZE = "0";
+    private static final String DEFAULT_LOOKUP_CACHE_TTL_MS = "1000";
     private static final String DEFAULT_DB_HOST = "localhost";
     private static String dbHost = DEFAULT_DB_HOST;
     private static final String DEFAULT_DB_PORT = "5432";
@@ -113,6 +121,13 @@ public class CapabilitiesDirectoryLauncher {
         // DB properties
         dbHost = getUserProperty(GCD_DB_HOST, userProperties, DEFAULT_DB_HOST);
         dbPort = getUserProperty(GCD_DB_PORT, userProperties, DEFAULT_DB_PORT);
+        joynrConfig.put(GCD_DB_LOCKING, getUserProperty(GCD_DB_LOCKING, userProperties, DB_LOCKING_TABLE));
+
+        // lookup cache properties
+        joynrConfig.put(GCD_LOOKUP_CACHE_SIZE,
+                        getUserProperty(GCD_LOOKUP_CACHE_SIZE, userProperties, DEFAULT_LOOKUP_CACHE_SIZE));
+        joynrConfig.put(GCD_LOOKUP_CACHE_TTL_MS,
+                        getUserProperty(GCD_LOOKUP_CACHE_TTL_MS, userProperties, DEFAULT_LOOKUP_CACHE_TTL_MS));
     }
 
     private static Module getRuntimeModule(Properties joynrConfig) {
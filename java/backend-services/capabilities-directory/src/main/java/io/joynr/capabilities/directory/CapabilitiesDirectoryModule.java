@@ -18,13 +18,19 @@
  */
 package io.joynr.capabilities.directory;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.google.inject.AbstractModule;
+import com.google.inject.Provider;
 import com.google.inject.Provides;
-import com.google.inject.TypeLiteral;
+import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
+import io.joynr.capabilities.CachingGlobalDiscoveryEntryStore;
 import io.joynr.capabilities.GlobalDiscoveryEntryPersisted;
 import io.joynr.capabilities.GlobalDiscoveryEntryPersistedStorePersisted;
+import io.joynr.capabilities.GlobalDiscoveryEntryPersistedStoreRowLocking;
 import io.joynr.capabilities.GlobalDiscoveryEntryStore;
 import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.messaging.MessagingPropertyKeys;
@@ -32,12 +38,35 @@ import io.joynr.runtime.AbstractJoynrApplication;
 import joynr.types.GlobalDiscoveryEntry;
 
 public class CapabilitiesDirectoryModule extends AbstractModule {
+    private static final Logger logger = LoggerFactory.getLogger(CapabilitiesDirectoryModule.class);
 
     @Override
     protected void configure() {
-        bind(new TypeLiteral<GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted>>() {
-        }).to(new TypeLiteral<GlobalDiscoveryEntryPersistedStorePersisted>() {
-        });
+    }
+
+    @Provides
+    @Singleton
+    GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> provideGlobalDiscoveryEntryStore(@Named(CapabilitiesDirectoryLauncher.GCD_DB_LOCKING) String dbLocking,
+                                                                                             @Named(CapabilitiesDirectoryLauncher.GCD_LOOKUP_CACHE_SIZE) int lookupCacheSize,
+                                                                                             @Named(CapabilitiesDirectoryLauncher.GCD_LOOKUP_CACHE_TTL_MS) long lookupCacheTtlMs,
+                                                                                             Provider<GlobalDiscoveryEntryPersistedStorePersisted> tableLockingStoreProvider,
+                                                                                             Provider<GlobalDiscoveryEntryPersistedStoreRowLocking> rowLockingStoreProvider) {
+        GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> store;
+        if (CapabilitiesDirectoryLauncher.DB_LOCKING_ROW.equalsIgnoreCase(dbLocking)) {
+            store = rowLockingStoreProvider.get();
+        } else {
+            if (!CapabilitiesDirectoryLauncher.DB_LOCKING_TABLE.equalsIgnoreCase(dbLocking)) {
+                logger.warn("Unknown {}: {}, using {}.",
+                            CapabilitiesDirectoryLauncher.GCD_DB_LOCKING,
+                            dbLocking,
+                            CapabilitiesDirectoryLauncher.DB_LOCKING_TABLE);
+            }
+            store = tableLockingStoreProvider.get();
+        }
+        if (lookupCacheSize > 0 && lookupCacheTtlMs > 0) {
+            return new CachingGlobalDiscoveryEntryStore(store, lookupCacheSize, lookupCacheTtlMs);
+        }
+        return store;
     }
 
     @Provides
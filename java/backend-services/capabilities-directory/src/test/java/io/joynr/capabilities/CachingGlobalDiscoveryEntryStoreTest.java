@@ -0,0 +1,166 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import joynr.types.ProviderQos;
+import joynr.types.Version;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingGlobalDiscoveryEntryStoreTest {
+
+    private static final String DOMAIN = "domain";
+    private static final String INTERFACE_NAME = "interfaceName";
+    private static final String CLUSTER_CONTROLLER_ID = "clusterControllerId";
+    private static final String[] DOMAINS = { DOMAIN };
+    private static final String[] GBIDS = { "gbid" };
+    private static final long TIME_TO_LIVE_MS = 60000;
+
+    @Mock
+    private GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> storeMock;
+
+    private GlobalDiscoveryEntryPersisted entry;
+    private CachingGlobalDiscoveryEntryStore subject;
+
+    @Before
+    public void setUp() {
+        entry = createDiscoveryEntry(DOMAIN, INTERFACE_NAME, "participantId");
+        doReturn(Arrays.asList(entry)).when(storeMock).lookup(any(String[].class), eq(INTERFACE_NAME));
+        subject = new CachingGlobalDiscoveryEntryStore(storeMock, 10, TIME_TO_LIVE_MS);
+    }
+
+    private static GlobalDiscoveryEntryPersisted createDiscoveryEntry(String domain,
+                                                                      String interfaceName,
+                                                                      String participantId) {
+        return new GlobalDiscoveryEntryPersisted(new Version(47, 11),
+                                                 domain,
+                                                 interfaceName,
+                                                 participantId,
+                                                 new ProviderQos(),
+                                                 123L,
+                                                 Long.MAX_VALUE,
+                                                 "publicKeyId",
+                                                 "address",
+                                                 CLUSTER_CONTROLLER_ID,
+                                                 GBIDS[0]);
+    }
+
+    private void lookupAndVerifyStoreCalls(int expectedStoreCalls) {
+        Collection<GlobalDiscoveryEntryPersisted> result = subject.lookup(DOMAINS, INTERFACE_NAME);
+        assertEquals(Arrays.asList(entry), result);
+        verify(storeMock, times(expectedStoreCalls)).lookup(DOMAINS, INTERFACE_NAME);
+    }
+
+    @Test
+    public void repeatedLookupIsAnsweredFromCache() {
+        lookupAndVerifyStoreCalls(1);
+        lookupAndVerifyStoreCalls(1);
+        // same set of domains in another array
+        subject.lookup(new String[]{ DOMAIN, DOMAIN }, INTERFACE_NAME);
+        verify(storeMock, times(1)).lookup(any(String[].class), anyString());
+
+        assertEquals(2, subject.getHitCount());
+        assertEquals(1, subject.getMissCount());
+    }
+
+    @Test
+    public void expiredLookupResultIsNotUsed() throws Exception {
+        subject = new CachingGlobalDiscoveryEntryStore(storeMock, 10, 10);
+        lookupAndVerifyStoreCalls(1);
+        Thread.sleep(20);
+        lookupAndVerifyStoreCalls(2);
+    }
+
+    @Test
+    public void addInvalidatesLookupsOfSameDomainAndInterface() {
+        List<GlobalDiscoveryEntryPersisted> otherInterfaceResult = Arrays.asList(createDiscoveryEntry(DOMAIN,
+                                                                                                      "otherInterface",
+                                                                                                      "otherParticipantId"));
+        doReturn(otherInterfaceResult).when(storeMock).lookup(DOMAINS, "otherInterface");
+        lookupAndVerifyStoreCalls(1);
+        subject.lookup(DOMAINS, "otherInterface");
+
+        subject.add(createDiscoveryEntry(DOMAIN, INTERFACE_NAME, "newParticipantId"), GBIDS);
+
+        lookupAndVerifyStoreCalls(2);
+        subject.lookup(DOMAINS, "otherInterface");
+        verify(storeMock, times(1)).lookup(DOMAINS, "otherInterface");
+    }
+
+    @Test
+    public void removeInvalidatesLookupsContainingParticipant() {
+        doReturn(1).when(storeMock).remove(entry.getParticipantId(), GBIDS);
+        doReturn(0).when(storeMock).remove("unknownParticipantId", GBIDS);
+        lookupAndVerifyStoreCalls(1);
+
+        subject.remove("unknownParticipantId", GBIDS);
+        lookupAndVerifyStoreCalls(1);
+
+        subject.remove(entry.getParticipantId(), GBIDS);
+        lookupAndVerifyStoreCalls(2);
+    }
+
+    @Test
+    public void removeStaleInvalidatesLookupsContainingClusterController() {
+        doReturn(1).when(storeMock).removeStale(eq(CLUSTER_CONTROLLER_ID), anyLong());
+        lookupAndVerifyStoreCalls(1);
+
+        subject.removeStale(CLUSTER_CONTROLLER_ID, 42L);
+        lookupAndVerifyStoreCalls(2);
+    }
+
+    @Test
+    public void touchDoesNotInvalidateLookups() {
+        lookupAndVerifyStoreCalls(1);
+
+        subject.touch(CLUSTER_CONTROLLER_ID);
+        subject.touch(CLUSTER_CONTROLLER_ID, new String[]{ entry.getParticipantId() });
+
+        lookupAndVerifyStoreCalls(1);
+        verify(storeMock).touch(CLUSTER_CONTROLLER_ID);
+    }
+
+    @Test
+    public void leastRecentlyUsedLookupIsEvicted() {
+        subject = new CachingGlobalDiscoveryEntryStore(storeMock, 1, TIME_TO_LIVE_MS);
+        lookupAndVerifyStoreCalls(1);
+        subject.lookup(new String[]{ "otherDomain" }, INTERFACE_NAME);
+        assertEquals(1, subject.size());
+
+        lookupAndVerifyStoreCalls(2);
+    }
+}
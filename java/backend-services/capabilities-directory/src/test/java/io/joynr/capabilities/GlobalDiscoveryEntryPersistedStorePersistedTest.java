@@ -61,10 +61,10 @@ public class GlobalDiscoveryEntryPersistedStorePersistedTest {
     private static final Logger logger = LoggerFactory.getLogger(GlobalDiscoveryEntryPersistedStorePersistedTest.class);
 
     private PersistService service;
-    private GlobalDiscoveryEntryPersistedStorePersisted store;
-    private EntityManager entityManager;
-    private String defaultGbid = "joynrdefaultgbid";
-    private String[] gbids = { defaultGbid, "joynrtestgbid2" };
+    protected GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> store;
+    protected EntityManager entityManager;
+    protected String defaultGbid = "joynrdefaultgbid";
+    protected String[] gbids = { defaultGbid, "joynrtestgbid2" };
     private String clusterControllerId = "clusterControllerId";
     static final long DEFAULT_EXPIRY_INTERVAL_MS = 60000;
 
@@ -87,10 +87,14 @@ public class GlobalDiscoveryEntryPersistedStorePersistedTest {
             }
         });
         service = injector.getInstance(PersistService.class);
-        store = injector.getInstance(GlobalDiscoveryEntryPersistedStorePersisted.class);
+        store = createStore(injector);
         entityManager = injector.getInstance(EntityManager.class);
     }
 
+    protected GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> createStore(Injector injector) {
+        return injector.getInstance(GlobalDiscoveryEntryPersistedStorePersisted.class);
+    }
+
     @After
     public void tearDown() {
         service.stop();
@@ -711,9 +715,9 @@ public class GlobalDiscoveryEntryPersistedStorePersistedTest {
         assertContains(discoveryEntry2, new String[]{ defaultGbid });
     }
 
-    private GlobalDiscoveryEntryPersisted createDiscoveryEntry(String domain,
-                                                               String interfaceName,
-                                                               String participantId) throws Exception {
+    protected GlobalDiscoveryEntryPersisted createDiscoveryEntry(String domain,
+                                                                 String interfaceName,
+                                                                 String participantId) throws Exception {
         ProviderQos qos = new ProviderQos();
         long lastSeenDateMs = 123L;
         long expiryDateMs = Long.MAX_VALUE;
@@ -734,7 +738,7 @@ public class GlobalDiscoveryEntryPersistedStorePersistedTest {
         return discoveryEntry;
     }
 
-    private void assertContains(GlobalDiscoveryEntryPersisted discoveryEntry, String[] gbids) {
+    protected void assertContains(GlobalDiscoveryEntryPersisted discoveryEntry, String[] gbids) {
         Collection<GlobalDiscoveryEntryPersisted> returnedEntries = store.lookup(discoveryEntry.getParticipantId())
                                                                          .get();
         assertEquals(gbids.length, returnedEntries.size());
@@ -0,0 +1,79 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.inject.Injector;
+
+/**
+ * Runs all tests of {@link GlobalDiscoveryEntryPersistedStorePersistedTest} against
+ * {@link GlobalDiscoveryEntryPersistedStoreRowLocking}.
+ */
+public class GlobalDiscoveryEntryPersistedStoreRowLockingTest extends GlobalDiscoveryEntryPersistedStorePersistedTest {
+
+    private static final int NUMBER_OF_THREADS = 8;
+    private static final int NUMBER_OF_ADDS_PER_THREAD = 10;
+
+    @Override
+    protected GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> createStore(Injector injector) {
+        return injector.getInstance(GlobalDiscoveryEntryPersistedStoreRowLocking.class);
+    }
+
+    @Test
+    public void add_concurrently_sameAndDifferentParticipants() throws Exception {
+        GlobalDiscoveryEntryPersisted sharedEntry = createDiscoveryEntry("domain", "interfaceName", "sharedParticipant");
+        ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < NUMBER_OF_THREADS; thread++) {
+                final int threadIndex = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < NUMBER_OF_ADDS_PER_THREAD; i++) {
+                        store.add(sharedEntry, gbids);
+                        store.add(createDiscoveryEntry("domain",
+                                                       "interfaceName",
+                                                       "participant-" + threadIndex + "-" + i),
+                                  gbids);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        entityManager.clear();
+
+        assertContains(sharedEntry, gbids.clone());
+        assertEquals(gbids.length * (NUMBER_OF_THREADS * NUMBER_OF_ADDS_PER_THREAD + 1),
+                     store.lookup(new String[]{ "domain" }, "interfaceName").size());
+    }
+}
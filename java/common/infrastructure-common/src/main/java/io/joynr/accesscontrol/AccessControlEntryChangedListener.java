@@ -0,0 +1,33 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.accesscontrol;
+
+/**
+ * Listener for changes of the access control entries in a {@link DomainAccessControlStore}.
+ */
+public interface AccessControlEntryChangedListener {
+
+    /**
+     * Called after a master, mediator or owner access control entry has been added, updated or removed.
+     *
+     * @param domain The domain of the changed entry.
+     * @param interfaceName The interface of the changed entry.
+     */
+    void accessControlEntryChanged(String domain, String interfaceName);
+}
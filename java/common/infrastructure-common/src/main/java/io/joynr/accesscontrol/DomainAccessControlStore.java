@@ -293,4 +293,11 @@ public interface DomainAccessControlStore {
      * @return false if remove fails or ownerAce ACE that match given parameters was not found.
      */
     Boolean removeOwnerAccessControlEntry(String uid, String domain, String interfaceName, String operation);
+
+    /**
+     * Registers a listener which is notified about every successful change of a master, mediator or owner ACE.
+     *
+     * @param listener The listener to add.
+     */
+    void addAccessControlEntryChangedListener(AccessControlEntryChangedListener listener);
 }
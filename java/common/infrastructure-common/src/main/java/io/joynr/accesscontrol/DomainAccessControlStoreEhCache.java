@@ -21,6 +21,7 @@ package io.joynr.accesscontrol;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +56,7 @@ public class DomainAccessControlStoreEhCache implements DomainAccessControlStore
     private static final Logger logger = LoggerFactory.getLogger(DomainAccessControlStoreEhCache.class);
     private static final String WILDCARD = "*";
     private final CacheManager cacheManager;
+    private final List<AccessControlEntryChangedListener> accessControlEntryChangedListeners = new CopyOnWriteArrayList<>();
 
     public enum CacheId {
 
@@ -192,6 +194,9 @@ public class DomainAccessControlStoreEhCache implements DomainAccessControlStore
                                                                                      updatedMasterAce.getOperation());
         updateSuccess = updateAce(updatedMasterAce, CacheId.MASTER_ACL, aceKey);
 
+        if (updateSuccess) {
+            notifyAccessControlEntryChanged(updatedMasterAce.getDomain(), updatedMasterAce.getInterfaceName());
+        }
         return updateSuccess;
     }
 
@@ -201,7 +206,11 @@ public class DomainAccessControlStoreEhCache implements DomainAccessControlStore
                                                                                      domain,
                                                                                      interfaceName,
                                                                                      operation);
-        return removeAce(CacheId.MASTER_ACL, aceKey);
+        boolean removeSuccess = removeAce(CacheId.MASTER_ACL, aceKey);
+        if (removeSuccess) {
+            notifyAccessControlEntryChanged(domain, interfaceName);
+        }
+        return removeSuccess;
     }
 
     @Override
@@ -257,6 +266,9 @@ public class DomainAccessControlStoreEhCache implements DomainAccessControlStore
             updateSuccess = updateAce(updatedMediatorAce, CacheId.MASTER_ACL, aceKey);
         }
 
+        if (updateSuccess) {
+            notifyAccessControlEntryChanged(updatedMediatorAce.getDomain(), updatedMediatorAce.getInterfaceName());
+        }
         return updateSuccess;
     }
 
@@ -266,7 +278,11 @@ public class DomainAccessControlStoreEhCache implements DomainAccessControlStore
                                                                                      domain,
                                                                                      interfaceName,
                                                                                      operation);
-        return removeAce(CacheId.MEDIATOR_ACL, aceKey);
+        boolean removeSuccess = removeAce(CacheId.MEDIATOR_ACL, aceKey);
+        if (removeSuccess) {
+            notifyAccessControlEntryChanged(domain, interfaceName);
+        }
+        return removeSuccess;
     }
 
     @Override
@@ -324,6 +340,9 @@ public class DomainAccessControlStoreEhCache implements DomainAccessControlStore
             updateSuccess = updateAce(updatedOwnerAce, CacheId.OWNER_ACL, aceKey);
         }
 
+        if (updateSuccess) {
+            notifyAccessControlEntryChanged(updatedOwnerAce.getDomain(), updatedOwnerAce.getInterfaceName());
+        }
         return updateSuccess;
     }
 
@@ -333,7 +352,11 @@ public class DomainAccessControlStoreEhCache implements DomainAccessControlStore
                                                                                      domain,
                                                                                      interfaceName,
                                                                                      operation);
-        return removeAce(CacheId.OWNER_ACL, aceKey);
+        boolean removeSuccess = removeAce(CacheId.OWNER_ACL, aceKey);
+        if (removeSuccess) {
+            notifyAccessControlEntryChanged(domain, interfaceName);
+        }
+        return removeSuccess;
     }
 
     private <T extends ControlEntry> T getAce(CacheId cacheId,
@@ -472,6 +495,17 @@ public class DomainAccessControlStoreEhCache implements DomainAccessControlStore
         return aces;
     }
 
+    @Override
+    public void addAccessControlEntryChangedListener(AccessControlEntryChangedListener listener) {
+        accessControlEntryChangedListeners.add(listener);
+    }
+
+    private void notifyAccessControlEntryChanged(String domain, String interfaceName) {
+        for (AccessControlEntryChangedListener listener : accessControlEntryChangedListeners) {
+            listener.accessControlEntryChanged(domain, interfaceName);
+        }
+    }
+
     private <T extends ControlEntry> Boolean updateAce(T accessControlEntry, CacheId cacheId, Object aceKey) {
         Cache cache = getCache(cacheId);
         boolean updateSuccess = false;
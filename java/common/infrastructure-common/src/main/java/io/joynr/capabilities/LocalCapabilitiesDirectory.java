@@ -68,4 +68,11 @@ public interface LocalCapabilitiesDirectory extends DiscoveryProvider, ShutdownL
      */
     void removeStaleProvidersOfClusterController();
 
+    /**
+     * Registers a listener which is notified after a discovery entry has been removed.
+     *
+     * @param listener The listener to add.
+     */
+    void addDiscoveryEntryRemovedListener(DiscoveryEntryRemovedListener listener);
+
 }
@@ -0,0 +1,64 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.statusmetrics;
+
+/**
+ * Status metrics for a single executor of the joynr runtime, e.g. the executor of the message router workers
+ * or of the transport I/O.
+ */
+public interface ExecutorStatusMetrics {
+
+    /**
+     * @return Returns the name of the executor.
+     */
+    String getName();
+
+    /**
+     * @return Returns the maximum number of threads of the executor.
+     */
+    int getMaximumThreads();
+
+    /**
+     * @return Returns the approximate number of threads which are currently executing tasks.
+     */
+    int getActiveThreads();
+
+    /**
+     * @return Returns the number of tasks which are waiting for execution, including delayed tasks which are not
+     *     due yet.
+     */
+    int getQueueDepth();
+
+    /**
+     * @return Returns the number of completed tasks.
+     */
+    long getCompletedTasks();
+
+    /**
+     * @return Returns the average time in milliseconds between the point in time a task was due and the start of its
+     *     execution.
+     */
+    double getAverageTaskLatencyMs();
+
+    /**
+     * @return Returns the maximum time in milliseconds between the point in time a task was due and the start of its
+     *     execution.
+     */
+    long getMaximumTaskLatencyMs();
+}
@@ -39,4 +39,9 @@ public interface JoynrStatusMetrics {
      * @return Returns the number of request messages which were discarded because the message queue reached its upper limit.
      */
     long getNumDroppedMessages();
+
+    /**
+     * @return Returns a collection with the status metrics objects of all executors of the joynr runtime.
+     */
+    Collection<ExecutorStatusMetrics> getAllExecutorStatusMetrics();
 }
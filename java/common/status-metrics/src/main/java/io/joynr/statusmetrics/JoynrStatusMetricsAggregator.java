@@ -29,6 +29,7 @@ import com.google.inject.Singleton;
 @Singleton
 public class JoynrStatusMetricsAggregator implements JoynrStatusMetricsReceiver {
     private List<ConnectionStatusMetrics> connectionStatusMetricsList = new CopyOnWriteArrayList<ConnectionStatusMetrics>();
+    private List<ExecutorStatusMetrics> executorStatusMetricsList = new CopyOnWriteArrayList<ExecutorStatusMetrics>();
 
     private volatile AtomicLong droppedMessages = new AtomicLong();
 
@@ -61,4 +62,13 @@ public class JoynrStatusMetricsAggregator implements JoynrStatusMetricsReceiver
     public long getNumDroppedMessages() {
         return droppedMessages.get();
     }
+
+    public void addExecutorStatusMetrics(ExecutorStatusMetrics metrics) {
+        executorStatusMetricsList.add(metrics);
+    }
+
+    @Override
+    public Collection<ExecutorStatusMetrics> getAllExecutorStatusMetrics() {
+        return new ArrayList<ExecutorStatusMetrics>(executorStatusMetricsList);
+    }
 }
@@ -24,4 +24,6 @@ public interface JoynrStatusMetricsReceiver extends JoynrStatusMetrics {
 
     void notifyMessageDropped();
 
+    void addExecutorStatusMetrics(ExecutorStatusMetrics metrics);
+
 }
\ No newline at end of file
@@ -98,4 +98,50 @@ public class JoynrStatusMetricsAggregatorTest {
         assertEquals(testMetrics1, subject.getConnectionStatusMetrics(gbid1).iterator().next());
         assertEquals(testMetrics2, subject.getConnectionStatusMetrics(gbid2).iterator().next());
     }
+
+    @Test
+    public void addExecutorStatusMetrics() {
+        assertEquals(0, subject.getAllExecutorStatusMetrics().size());
+
+        ExecutorStatusMetrics testMetrics = new ExecutorStatusMetrics() {
+            @Override
+            public String getName() {
+                return "testExecutor";
+            }
+
+            @Override
+            public int getMaximumThreads() {
+                return 1;
+            }
+
+            @Override
+            public int getActiveThreads() {
+                return 0;
+            }
+
+            @Override
+            public int getQueueDepth() {
+                return 0;
+            }
+
+            @Override
+            public long getCompletedTasks() {
+                return 0;
+            }
+
+            @Override
+            public double getAverageTaskLatencyMs() {
+                return 0;
+            }
+
+            @Override
+            public long getMaximumTaskLatencyMs() {
+                return 0;
+            }
+        };
+        subject.addExecutorStatusMetrics(testMetrics);
+
+        assertEquals(1, subject.getAllExecutorStatusMetrics().size());
+        assertEquals(testMetrics, subject.getAllExecutorStatusMetrics().iterator().next());
+    }
 }
@@ -19,8 +19,12 @@
 package io.joynr.accesscontrol;
 
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +37,7 @@ import io.joynr.capabilities.CapabilityCallback;
 import io.joynr.capabilities.LocalCapabilitiesDirectory;
 import io.joynr.exceptions.JoynrException;
 import io.joynr.provider.PromiseListener;
+import io.joynr.runtime.ClusterControllerRuntimeModule;
 import io.joynr.runtime.SystemServicesSettings;
 import joynr.ImmutableMessage;
 import joynr.Message;
@@ -53,18 +58,69 @@ public class AccessControllerImpl implements AccessController {
 
     private Set<String> whitelistedParticipantIds = new HashSet<String>();
 
+    // permission decisions per creator user and recipient, see hasConsumerPermission
+    private final ConcurrentMap<DecisionKey, CachedDecision> decisionCache = new ConcurrentHashMap<>();
+    private final int decisionCacheMaxSize;
+    private final AtomicLong decisionCacheInvalidationCount = new AtomicLong();
+    private final AtomicLong decisionCacheHitCount = new AtomicLong();
+    private final AtomicLong decisionCacheMissCount = new AtomicLong();
+
+    private static final class DecisionKey {
+        private final String creatorUserId;
+        private final String recipient;
+
+        private DecisionKey(String creatorUserId, String recipient) {
+            this.creatorUserId = creatorUserId;
+            this.recipient = recipient;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(creatorUserId, recipient);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DecisionKey)) {
+                return false;
+            }
+            DecisionKey other = (DecisionKey) obj;
+            return Objects.equals(creatorUserId, other.creatorUserId) && Objects.equals(recipient, other.recipient);
+        }
+    }
+
+    private static final class CachedDecision {
+        private final boolean hasPermission;
+        private final String domain;
+        private final String interfaceName;
+
+        private CachedDecision(boolean hasPermission, String domain, String interfaceName) {
+            this.hasPermission = hasPermission;
+            this.domain = domain;
+            this.interfaceName = interfaceName;
+        }
+    }
+
     @Inject
     AccessControllerImpl(LocalCapabilitiesDirectory localCapabilitiesDirectory,
                          LocalDomainAccessController localDomainAccessController,
                          CapabilitiesProvisioning capabilitiesProvisioning,
                          @Named(SystemServicesSettings.PROPERTY_CC_DISCOVERY_PROVIDER_PARTICIPANT_ID) String discoveryProviderParticipantId,
-                         @Named(SystemServicesSettings.PROPERTY_CC_ROUTING_PROVIDER_PARTICIPANT_ID) String routingProviderParticipantId) {
+                         @Named(SystemServicesSettings.PROPERTY_CC_ROUTING_PROVIDER_PARTICIPANT_ID) String routingProviderParticipantId,
+                         @Named(ClusterControllerRuntimeModule.PROPERTY_ACCESSCONTROL_DECISION_CACHE_MAX_SIZE) int decisionCacheMaxSize) {
         this.localCapabilitiesDirectory = localCapabilitiesDirectory;
         this.localDomainAccessController = localDomainAccessController;
+        this.decisionCacheMaxSize = decisionCacheMaxSize;
 
         whitelistProvisionedEntries(capabilitiesProvisioning);
         whitelistedParticipantIds.add(discoveryProviderParticipantId);
         whitelistedParticipantIds.add(routingProviderParticipantId);
+
+        localDomainAccessController.addAccessControlEntryChangedListener(this::invalidateDecisions);
+        localCapabilitiesDirectory.addDiscoveryEntryRemovedListener(this::invalidateDecisions);
     }
 
     private void whitelistProvisionedEntries(CapabilitiesProvisioning capabilitiesProvisioning) {
@@ -98,6 +154,18 @@ public class AccessControllerImpl implements AccessController {
             return;
         }
 
+        final DecisionKey decisionKey = new DecisionKey(message.getCreatorUserId(), message.getRecipient());
+        if (decisionCacheMaxSize > 0) {
+            CachedDecision cachedDecision = decisionCache.get(decisionKey);
+            if (cachedDecision != null) {
+                decisionCacheHitCount.incrementAndGet();
+                hasConsumerPermissionCallback.hasConsumerPermission(cachedDecision.hasPermission);
+                return;
+            }
+            decisionCacheMissCount.incrementAndGet();
+        }
+        final long expectedInvalidationCount = decisionCacheInvalidationCount.get();
+
         // Check permission at the interface level
         // First get the domain and interface that is being called from appropriate capability entry
         getCapabilityEntry(message, new CapabilityCallback() {
@@ -121,6 +189,11 @@ public class AccessControllerImpl implements AccessController {
                         if (permission == Permission.YES) {
                             permissionIsYes = true;
                         }
+                        if (permission != null) {
+                            cacheDecision(decisionKey,
+                                          new CachedDecision(permissionIsYes, domain, interfaceName),
+                                          expectedInvalidationCount);
+                        }
 
                         hasConsumerPermissionCallback.hasConsumerPermission(permissionIsYes);
                     }
@@ -156,6 +229,47 @@ public class AccessControllerImpl implements AccessController {
         });
     }
 
+    private void cacheDecision(DecisionKey decisionKey, CachedDecision decision, long expectedInvalidationCount) {
+        if (decisionCacheMaxSize <= 0) {
+            return;
+        }
+        if (decisionCache.size() >= decisionCacheMaxSize) {
+            logger.debug("Access control decision cache is full, clearing {} decisions", decisionCache.size());
+            decisionCache.clear();
+        }
+        decisionCache.put(decisionKey, decision);
+        // the decision might be based on outdated ACEs or discovery entries if they changed in the meantime
+        if (decisionCacheInvalidationCount.get() != expectedInvalidationCount) {
+            decisionCache.remove(decisionKey, decision);
+        }
+    }
+
+    private void invalidateDecisions(String domain, String interfaceName) {
+        decisionCacheInvalidationCount.incrementAndGet();
+        decisionCache.values()
+                     .removeIf(decision -> domain.equals(decision.domain)
+                             && interfaceName.equals(decision.interfaceName));
+    }
+
+    private void invalidateDecisions(String recipient) {
+        decisionCacheInvalidationCount.incrementAndGet();
+        decisionCache.keySet().removeIf(decisionKey -> recipient.equals(decisionKey.recipient));
+    }
+
+    /**
+     * @return the number of permission checks answered from the decision cache
+     */
+    public long getDecisionCacheHitCount() {
+        return decisionCacheHitCount.get();
+    }
+
+    /**
+     * @return the number of permission checks which required a discovery lookup and an ACE evaluation
+     */
+    public long getDecisionCacheMissCount() {
+        return decisionCacheMissCount.get();
+    }
+
     @Override
     public boolean hasProviderPermission(String userId, TrustLevel trustLevel, String domain, String interfaceName) {
         assert false : "Not yet implemented";
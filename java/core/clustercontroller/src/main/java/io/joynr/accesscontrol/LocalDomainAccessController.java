@@ -247,4 +247,10 @@ public interface LocalDomainAccessController {
      */
     boolean removeOwnerRegistrationControlEntry(String uid, String domain, String interfaceName);
 
+    /**
+     * Registers a listener which is notified when the access control entries of a domain and interface change.
+     *
+     * @param listener The listener to add.
+     */
+    void addAccessControlEntryChangedListener(AccessControlEntryChangedListener listener);
 }
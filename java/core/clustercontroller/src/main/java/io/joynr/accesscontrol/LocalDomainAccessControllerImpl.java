@@ -211,6 +211,11 @@ public class LocalDomainAccessControllerImpl implements LocalDomainAccessControl
                                                             trustLevel);
     }
 
+    @Override
+    public void addAccessControlEntryChangedListener(AccessControlEntryChangedListener listener) {
+        localDomainAccessStore.addAccessControlEntryChangedListener(listener);
+    }
+
     @Override
     public List<MasterAccessControlEntry> getEditableMasterAccessControlEntries(String uid) {
         throw new UnsupportedOperationException("Editing of access control entries is not implemented yet.");
@@ -99,6 +99,15 @@ public class GlobalCapabilitiesDirectoryClient {
         getGcdProxy().add(callbackWithModeledError, globalDiscoveryEntry, gbids, qosWithGbidCustomHeader);
     }
 
+    public void addBatch(Callback<Void> callback,
+                         GlobalDiscoveryEntry[] globalDiscoveryEntries,
+                         long ttlMs,
+                         String gbid) {
+        MessagingQos qosWithGbidCustomHeader = new MessagingQos(ttlMs);
+        qosWithGbidCustomHeader.putCustomMessageHeader(Message.CUSTOM_HEADER_GBID_KEY, gbid);
+        getGcdProxy().add(callback, globalDiscoveryEntries, qosWithGbidCustomHeader);
+    }
+
     // remove methods
     public void remove(CallbackWithModeledError<Void, DiscoveryError> callback,
                        String participantId,
@@ -112,6 +121,12 @@ public class GlobalCapabilitiesDirectoryClient {
         getGcdProxy().remove(callback, participantId, targetGbids, qosWithGbidCustomHeader);
     }
 
+    public void removeBatch(Callback<Void> callback, String[] participantIds, String targetGbid) {
+        MessagingQos qosWithGbidCustomHeader = new MessagingQos();
+        qosWithGbidCustomHeader.putCustomMessageHeader(Message.CUSTOM_HEADER_GBID_KEY, targetGbid);
+        getGcdProxy().remove(callback, participantIds, qosWithGbidCustomHeader);
+    }
+
     // lookup methods
     public void lookup(CallbackWithModeledError<GlobalDiscoveryEntry, DiscoveryError> callback,
                        String participantId,
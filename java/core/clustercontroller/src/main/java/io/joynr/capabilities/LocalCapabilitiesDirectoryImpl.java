@@ -32,12 +32,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -119,6 +121,7 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
     private Object globalAddressLock = new Object();
 
     private List<QueuedDiscoveryEntry> queuedDiscoveryEntries = new ArrayList<QueuedDiscoveryEntry>();
+    private final List<DiscoveryEntryRemovedListener> discoveryEntryRemovedListeners = new CopyOnWriteArrayList<>();
 
     private final String[] knownGbids;
 
@@ -127,6 +130,10 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
     private final long defaultExpiryTimeMs;
     private final long defaultTtlAddAndRemove;
 
+    @Inject(optional = true)
+    @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_GCD_MAX_BATCH_SIZE)
+    private volatile int gcdMaxBatchSize = 1;
+
     static class QueuedDiscoveryEntry {
         private DiscoveryEntry discoveryEntry;
         private String[] gbids;
@@ -612,6 +619,7 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
     private void removeInternal(final String participantId, ProviderScope providerScope) {
         if (providerScope == ProviderScope.LOCAL) {
             localDiscoveryEntryStore.remove(participantId);
+            notifyDiscoveryEntryRemoved(participantId);
             logger.info("Removed locally registered participantId {}", participantId);
         } else {
             CallbackCreator callbackCreator = new CallbackCreator() {
@@ -630,6 +638,7 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
                                     globalProviderParticipantIdToGbidListMap.remove(participantId);
                                     localDiscoveryEntryStore.remove(participantId);
                                 }
+                                notifyDiscoveryEntryRemoved(participantId);
                                 logger.info("Removed globally registered participantId {}", participantId);
                                 gcdTaskSequencer.taskFinished();
                             }
@@ -665,6 +674,7 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
                                         globalProviderParticipantIdToGbidListMap.remove(participantId);
                                         localDiscoveryEntryStore.remove(participantId);
                                     }
+                                    notifyDiscoveryEntryRemoved(participantId);
                                     break;
                                 case INVALID_GBID:
                                 case UNKNOWN_GBID:
@@ -1337,6 +1347,17 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
         }
     }
 
+    @Override
+    public void addDiscoveryEntryRemovedListener(DiscoveryEntryRemovedListener listener) {
+        discoveryEntryRemovedListeners.add(listener);
+    }
+
+    private void notifyDiscoveryEntryRemoved(String participantId) {
+        for (DiscoveryEntryRemovedListener listener : discoveryEntryRemovedListeners) {
+            listener.discoveryEntryRemoved(participantId);
+        }
+    }
+
     @Override
     public void removeStaleProvidersOfClusterController() {
         for (String gbid : knownGbids) {
@@ -1392,6 +1413,10 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
         private AtomicBoolean retryTask = new AtomicBoolean();
         private GcdTask task;
         private final ConcurrentLinkedQueue<GcdTask> taskQueue;
+        // tasks of a failed batch, processed one by one before any new task
+        private final ConcurrentLinkedQueue<GcdTask> unbatchedTasks;
+        // number of task callbacks of a successful batch which have not yet called taskFinished()
+        private final AtomicInteger pendingBatchCallbacks = new AtomicInteger(0);
         private Semaphore queueSemaphore;
         private Semaphore workerSemaphore;
 
@@ -1399,11 +1424,13 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
             workerSemaphore = new Semaphore(1);
             queueSemaphore = new Semaphore(0);
             taskQueue = new ConcurrentLinkedQueue<>();
+            unbatchedTasks = new ConcurrentLinkedQueue<>();
         }
 
         public void stop() {
             isStopped = true;
             taskQueue.clear();
+            unbatchedTasks.clear();
             queueSemaphore.release();
             workerSemaphore.release();
         }
@@ -1419,6 +1446,10 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
         }
 
         public void taskFinished() {
+            if (pendingBatchCallbacks.getAndUpdate(pending -> pending > 0 ? pending - 1 : 0) > 1) {
+                // further callbacks of the current batch have to be called first
+                return;
+            }
             workerSemaphore.release();
         }
 
@@ -1473,19 +1504,24 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
                         break;
                     }
 
+                    boolean isBatchable = false;
                     if (!retryTask.getAndSet(false)) {
                         // get new task, else: retry previous task
-                        try {
-                            queueSemaphore.acquire();
-                        } catch (InterruptedException e) {
-                            logger.error("queueSemaphore.acquire() interrupted", e);
-                            workerSemaphore.release();
-                            continue;
-                        }
-                        if (isStopped) {
-                            break;
+                        task = unbatchedTasks.poll();
+                        if (task == null) {
+                            try {
+                                queueSemaphore.acquire();
+                            } catch (InterruptedException e) {
+                                logger.error("queueSemaphore.acquire() interrupted", e);
+                                workerSemaphore.release();
+                                continue;
+                            }
+                            if (isStopped) {
+                                break;
+                            }
+                            task = taskQueue.poll();
+                            isBatchable = true;
                         }
-                        task = taskQueue.poll();
                     }
                     if (task == null) {
                         logger.debug("Task is null. Skipping and continuing.");
@@ -1493,6 +1529,18 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
                         continue;
                     }
 
+                    if (isBatchable && gcdMaxBatchSize > 1) {
+                        List<GcdTask> batch = pollBatch();
+                        if (batch.size() > 1) {
+                            if (task.getMode() == GcdTask.MODE.ADD) {
+                                performBatchAdd(batch);
+                            } else {
+                                performBatchRemove(batch);
+                            }
+                            continue;
+                        }
+                    }
+
                     switch (task.getMode()) {
                     case ADD:
                         if (task.isDoRetry()) {
@@ -1524,6 +1572,126 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider
             }
         }
 
+        /**
+         * Collects the current task and the directly following tasks of the queue which can be sent to the
+         * GCD in a single call: ADD tasks for the same single GBID which have not yet expired, or REMOVE tasks
+         * of providers registered only in the same single GBID. The order of the tasks is preserved.
+         */
+        private List<GcdTask> pollBatch() {
+            List<GcdTask> batch = new ArrayList<>();
+            batch.add(task);
+            String batchGbid = getBatchGbid(task);
+            if (batchGbid == null) {
+                return batch;
+            }
+            while (batch.size() < gcdMaxBatchSize) {
+                GcdTask nextTask = taskQueue.peek();
+                if (nextTask == null || nextTask.getMode() != task.getMode()
+                        || !batchGbid.equals(getBatchGbid(nextTask))) {
+                    break;
+                }
+                if (!queueSemaphore.tryAcquire()) {
+                    break;
+                }
+                batch.add(taskQueue.poll());
+            }
+            return batch;
+        }
+
+        private String getBatchGbid(GcdTask gcdTask) {
+            switch (gcdTask.getMode()) {
+            case ADD:
+                if (gcdTask.getExpiryDateMs() <= System.currentTimeMillis() || gcdTask.getGbids() == null
+                        || gcdTask.getGbids().length != 1) {
+                    return null;
+                }
+                return gcdTask.getGbids()[0];
+            case REMOVE:
+                synchronized (globalDiscoveryEntryCache) {
+                    List<String> gbids = globalProviderParticipantIdToGbidListMap.get(gcdTask.getParticipantId());
+                    return gbids != null && gbids.size() == 1 ? gbids.get(0) : null;
+                }
+            default:
+                return null;
+            }
+        }
+
+        private void performBatchAdd(List<GcdTask> batch) {
+            String gbid = batch.get(0).getGbids()[0];
+            GlobalDiscoveryEntry[] globalDiscoveryEntries = new GlobalDiscoveryEntry[batch.size()];
+            long ttlMs = defaultTtlAddAndRemove;
+            for (int i = 0; i < batch.size(); i++) {
+                GcdTask addTask = batch.get(i);
+                globalDiscoveryEntries[i] = addTask.getGlobalDiscoveryEntry();
+                if (!addTask.isDoRetry()) {
+                    ttlMs = Math.min(ttlMs, addTask.getExpiryDateMs() - System.currentTimeMillis());
+                }
+            }
+            logger.debug("Global provider registration of {} providers started in GBID {}", batch.size(), gbid);
+            Callback<Void> batchCallback = createBatchCallback(batch, "registration");
+            if (ttlMs <= 0) {
+                batchCallback.onFailure(new JoynrRuntimeException("Batch expired before it was sent."));
+                return;
+            }
+            try {
+                globalCapabilitiesDirectoryClient.addBatch(batchCallback, globalDiscoveryEntries, ttlMs, gbid);
+            } catch (Exception exception) {
+                batchCallback.onFailure(new JoynrRuntimeException("Global registration failed: "
+                        + exception.toString()));
+            }
+        }
+
+        private void performBatchRemove(List<GcdTask> batch) {
+            String gbid;
+            synchronized (globalDiscoveryEntryCache) {
+                gbid = getBatchGbid(batch.get(0));
+            }
+            String[] participantIds = new String[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                participantIds[i] = batch.get(i).getParticipantId();
+            }
+            logger.info("Removing {} globally registered participantIds for GBID {}", batch.size(), gbid);
+            Callback<Void> batchCallback = createBatchCallback(batch, "remove");
+            try {
+                globalCapabilitiesDirectoryClient.removeBatch(batchCallback, participantIds, gbid);
+            } catch (Exception exception) {
+                batchCallback.onFailure(new JoynrRuntimeException("Global remove failed: " + exception.toString()));
+            }
+        }
+
+        /**
+         * On success, the callbacks of all tasks of the batch are called; the sequencer continues after the
+         * last of them has called {@link #taskFinished()}. On failure, the tasks are processed again one by
+         * one in order to get the result, retry and error handling of each single task.
+         */
+        private Callback<Void> createBatchCallback(List<GcdTask> batch, String operation) {
+            AtomicBoolean callbackCalled = new AtomicBoolean();
+            return new Callback<Void>() {
+                @Override
+                public void onSuccess(Void result) {
+                    if (!callbackCalled.getAndSet(true)) {
+                        logger.debug("Global {} of {} providers succeeded.", operation, batch.size());
+                        pendingBatchCallbacks.set(batch.size());
+                        for (GcdTask batchTask : batch) {
+                            batchTask.getCallbackCreator().createCallback().onSuccess(null);
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(JoynrRuntimeException error) {
+                    if (!callbackCalled.getAndSet(true)) {
+                        logger.warn("Global {} of {} providers failed, processing them one by one: {}",
+                                    operation,
+                                    batch.size(),
+                                    error.toString());
+                        unbatchedTasks.addAll(batch);
+                        taskFinished();
+                    }
+                }
+            };
+        }
+
         private void performAdd(long ttlMs) {
             logger.debug("Global provider registration started: participantId {}, domain {}, interface {}, {}",
                          task.getGlobalDiscoveryEntry().getParticipantId(),
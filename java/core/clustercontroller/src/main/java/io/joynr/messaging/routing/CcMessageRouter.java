@@ -18,7 +18,6 @@
  */
 package io.joynr.messaging.routing;
 
-import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -105,6 +104,7 @@ public class CcMessageRouter
 
     private AccessController accessController;
     private boolean enableAccessControl;
+    private final SharedRoutingEntryReferences sharedRoutingEntryReferences;
     private ObjectMapper objectMapper;
 
     @Inject
@@ -122,7 +122,8 @@ public class CcMessageRouter
                            @Named(ClusterControllerRuntimeModule.PROPERTY_ACCESSCONTROL_ENABLE) boolean enableAccessControl,
                            MessageQueue messageQueue,
                            ShutdownNotifier shutdownNotifier,
-                           ObjectMapper objectMapper) {
+                           ObjectMapper objectMapper,
+                           SharedRoutingEntryReferences sharedRoutingEntryReferences) {
         dateFormatter.setTimeZone(TimeZone.getTimeZone("UTC"));
         this.routingTable = routingTable;
         this.scheduler = scheduler;
@@ -140,6 +141,7 @@ public class CcMessageRouter
         this.accessController = accessController;
         this.enableAccessControl = enableAccessControl;
         this.objectMapper = objectMapper;
+        this.sharedRoutingEntryReferences = sharedRoutingEntryReferences;
     }
 
     @Override
@@ -177,6 +179,10 @@ public class CcMessageRouter
 
     @Override
     public void removeNextHop(String participantId) {
+        if (sharedRoutingEntryReferences.releaseSharedReference(participantId)) {
+            logger.trace("Released shared routing entry reference for participantId {}", participantId);
+            return;
+        }
         routingTable.remove(participantId);
     }
 
@@ -287,8 +293,9 @@ public class CcMessageRouter
     protected ImmutableMessage createReplyMessageWithError(ImmutableMessage requestMessage,
                                                            JoynrRuntimeException error) {
         try {
-            String deserializedPayload = new String(requestMessage.getUnencryptedBody(), StandardCharsets.UTF_8);
-            final Request request = objectMapper.readValue(deserializedPayload, Request.class);
+            final Request request = requestMessage.getInProcessPayload() instanceof Request
+                    ? (Request) requestMessage.getInProcessPayload()
+                    : objectMapper.readValue(requestMessage.getUnencryptedBody(), Request.class);
             String requestReplyId = request.getRequestReplyId();
 
             MutableMessage replyMessage = new MutableMessage();
@@ -301,8 +308,7 @@ public class CcMessageRouter
             replyMessage.setTtlAbsolute(true);
             replyMessage.setTtlMs(requestMessage.getTtlMs());
             Reply reply = new Reply(requestReplyId, error);
-            String serializedPayload = objectMapper.writeValueAsString(reply);
-            replyMessage.setPayload(serializedPayload.getBytes(StandardCharsets.UTF_8));
+            replyMessage.setPayload(objectMapper.writeValueAsBytes(reply));
             Map<String, String> customHeaders = new HashMap<>();
             customHeaders.put(Message.CUSTOM_HEADER_REQUEST_REPLY_ID, requestReplyId);
             replyMessage.setCustomHeaders(customHeaders);
@@ -597,9 +603,18 @@ public class CcMessageRouter
                         continue;
                     }
 
+                    Address address = optionalAddress.get();
+                    if (message.getInProcessPayload() != null && !(address instanceof InProcessAddress)) {
+                        // the payload has not been serialized because the recipient was reachable in-process
+                        // when the message was created
+                        message = message.serializeInProcessPayload(objectMapper);
+                        delayableMessage = new DelayableImmutableMessage(message,
+                                                                         0,
+                                                                         delayableMessage.getRecipients(),
+                                                                         delayableMessage.getRetriesCount());
+                    }
                     SuccessAction messageProcessedAction = createMessageProcessedAction(message);
                     failureAction = createFailureAction(delayableMessage);
-                    Address address = optionalAddress.get();
                     logger.trace(">>>>> SEND message {} to address {}", message.getId(), address);
 
                     IMessagingStub messagingStub = messagingStubFactory.create(address);
@@ -41,7 +41,6 @@ import io.joynr.messaging.inprocess.InProcessAddress;
 import io.joynr.messaging.inprocess.InProcessLibjoynrMessagingSkeleton;
 import io.joynr.messaging.routing.AddressOperation;
 import io.joynr.messaging.routing.CcMessageRouter;
-import io.joynr.messaging.routing.MessageRouter;
 import io.joynr.messaging.routing.RoutingTable;
 import io.joynr.proxy.DiscoverySettingsStorage;
 import io.joynr.proxy.ProxyBuilderFactory;
@@ -79,7 +78,7 @@ public class ClusterControllerRuntime extends JoynrRuntimeImpl {
                                     CapabilitiesRegistrar capabilitiesRegistrar,
                                     LocalCapabilitiesDirectory localCapabilitiesDirectory,
                                     RoutingProvider routingProvider,
-                                    @Named(MessageRouter.SCHEDULEDTHREADPOOL) ScheduledExecutorService scheduler,
+                                    @Named(JoynrInjectionConstants.JOYNR_SCHEDULER_DISCOVERY) ScheduledExecutorService scheduler,
                                     @Named(SystemServicesSettings.PROPERTY_CC_REMOVE_STALE_DELAY_MS) long removeStaleDelayMs) {
         super(objectMapper,
               proxyBuilderFactory,
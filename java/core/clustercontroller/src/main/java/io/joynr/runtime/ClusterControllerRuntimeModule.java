@@ -48,6 +48,7 @@ import joynr.system.RoutingProvider;
 
 public abstract class ClusterControllerRuntimeModule extends AbstractRuntimeModule {
     public static final String PROPERTY_ACCESSCONTROL_ENABLE = "joynr.accesscontrol.enable";
+    public static final String PROPERTY_ACCESSCONTROL_DECISION_CACHE_MAX_SIZE = "joynr.accesscontrol.decisioncachemaxsize";
 
     @Override
     protected void configure() {
@@ -66,7 +67,7 @@ public abstract class ClusterControllerRuntimeModule extends AbstractRuntimeModu
         bind(RoutingTableAddressValidator.class).to(CcRoutingTableAddressValidator.class);
 
         bind(ScheduledExecutorService.class).annotatedWith(Names.named(LocalCapabilitiesDirectory.JOYNR_SCHEDULER_CAPABILITIES_FRESHNESS))
-                                            .toProvider(DefaultScheduledExecutorServiceProvider.class);
+                                            .toProvider(DefaultDiscoveryScheduledExecutorServiceProvider.class);
     }
 
     @Provides
@@ -18,10 +18,12 @@
  */
 package io.joynr.accesscontrol;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +33,7 @@ import java.util.Collection;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -38,6 +41,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 
 import io.joynr.capabilities.CapabilitiesProvisioning;
+import io.joynr.capabilities.DiscoveryEntryRemovedListener;
 import io.joynr.capabilities.LocalCapabilitiesDirectory;
 import io.joynr.provider.Promise;
 import joynr.ImmutableMessage;
@@ -58,6 +62,7 @@ import joynr.types.Version;
 public class AccessControllerTest {
 
     private static final int ONE_MINUTE_IN_MS = 60 * 1000;
+    private static final int DECISION_CACHE_MAX_SIZE = 10;
 
     @Mock
     private LocalCapabilitiesDirectory localCapabilitiesDirectory;
@@ -91,7 +96,8 @@ public class AccessControllerTest {
                                                         }
                                                     },
                                                     discoveryProviderParticipantId,
-                                                    routingProviderParticipantId);
+                                                    routingProviderParticipantId,
+                                                    DECISION_CACHE_MAX_SIZE);
 
         when(messageMock.getType()).thenReturn(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST);
         when(messageMock.getRecipient()).thenReturn(toParticipantId);
@@ -140,4 +146,75 @@ public class AccessControllerTest {
         accessController.hasConsumerPermission(messageMock, callback);
         verify(callback, Mockito.times(1)).hasConsumerPermission(true);
     }
+
+    private void stubConsumerPermission(Permission permission) {
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                GetConsumerPermissionCallback callback = (GetConsumerPermissionCallback) invocation.getArguments()[4];
+                callback.getConsumerPermission(permission);
+                return null;
+            }
+
+        }).when(localDomainAccessController).getConsumerPermission(eq(DUMMY_USERID),
+                                                                   eq(testDomain),
+                                                                   eq(testInterface),
+                                                                   eq(TrustLevel.HIGH),
+                                                                   any(GetConsumerPermissionCallback.class));
+    }
+
+    private void verifyPermissionEvaluations(int times) {
+        verify(localCapabilitiesDirectory, times(times)).lookup(eq(toParticipantId),
+                                                                any(DiscoveryQos.class),
+                                                                eq(new String[]{}));
+        verify(localDomainAccessController, times(times)).getConsumerPermission(eq(DUMMY_USERID),
+                                                                                eq(testDomain),
+                                                                                eq(testInterface),
+                                                                                eq(TrustLevel.HIGH),
+                                                                                any(GetConsumerPermissionCallback.class));
+    }
+
+    @Test
+    public void testRepeatedPermissionCheckUsesCachedDecision() {
+        stubConsumerPermission(Permission.NO);
+
+        accessController.hasConsumerPermission(messageMock, callback);
+        accessController.hasConsumerPermission(messageMock, callback);
+
+        verify(callback, times(2)).hasConsumerPermission(false);
+        verifyPermissionEvaluations(1);
+        assertEquals(1, ((AccessControllerImpl) accessController).getDecisionCacheHitCount());
+        assertEquals(1, ((AccessControllerImpl) accessController).getDecisionCacheMissCount());
+    }
+
+    @Test
+    public void testAccessControlEntryChangeInvalidatesCachedDecision() {
+        ArgumentCaptor<AccessControlEntryChangedListener> listenerCaptor = ArgumentCaptor.forClass(AccessControlEntryChangedListener.class);
+        verify(localDomainAccessController).addAccessControlEntryChangedListener(listenerCaptor.capture());
+        stubConsumerPermission(Permission.YES);
+        accessController.hasConsumerPermission(messageMock, callback);
+
+        listenerCaptor.getValue().accessControlEntryChanged("otherDomain", testInterface);
+        accessController.hasConsumerPermission(messageMock, callback);
+        verifyPermissionEvaluations(1);
+
+        listenerCaptor.getValue().accessControlEntryChanged(testDomain, testInterface);
+        accessController.hasConsumerPermission(messageMock, callback);
+        verifyPermissionEvaluations(2);
+        verify(callback, times(3)).hasConsumerPermission(true);
+    }
+
+    @Test
+    public void testDiscoveryEntryRemovalInvalidatesCachedDecision() {
+        ArgumentCaptor<DiscoveryEntryRemovedListener> listenerCaptor = ArgumentCaptor.forClass(DiscoveryEntryRemovedListener.class);
+        verify(localCapabilitiesDirectory).addDiscoveryEntryRemovedListener(listenerCaptor.capture());
+        stubConsumerPermission(Permission.YES);
+        accessController.hasConsumerPermission(messageMock, callback);
+
+        listenerCaptor.getValue().discoveryEntryRemoved(toParticipantId);
+        accessController.hasConsumerPermission(messageMock, callback);
+
+        verifyPermissionEvaluations(2);
+        verify(callback, times(2)).hasConsumerPermission(true);
+    }
 }
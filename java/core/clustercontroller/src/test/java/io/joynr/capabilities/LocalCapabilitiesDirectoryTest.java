@@ -1340,6 +1340,76 @@ public class LocalCapabilitiesDirectoryTest {
         globalAddUsesCorrectRemainingTtl(false);
     }
 
+    private List<Promise<Add1Deferred>> addThreeProvidersWhileFirstGlobalAddIsPending(Answer<Void> addBatchAnswer) throws Exception {
+        reset(globalCapabilitiesDirectoryClient);
+        setFieldValue(localCapabilitiesDirectory, "gcdMaxBatchSize", 10);
+        final boolean awaitGlobalRegistration = true;
+        String[] gbids = new String[]{ knownGbids[0] };
+        DiscoveryEntry discoveryEntry2 = new DiscoveryEntry(discoveryEntry);
+        discoveryEntry2.setParticipantId("participantId2");
+        DiscoveryEntry discoveryEntry3 = new DiscoveryEntry(discoveryEntry);
+        discoveryEntry3.setParticipantId("participantId3");
+
+        // the first add blocks the task sequencer until its callback is called, all further adds succeed
+        CountDownLatch firstAddCalled = new CountDownLatch(1);
+        AtomicBoolean isFirstAdd = new AtomicBoolean(true);
+        doAnswer(new Answer<Void>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                if (isFirstAdd.getAndSet(false)) {
+                    firstAddCalled.countDown();
+                } else {
+                    ((Callback<Void>) invocation.getArguments()[0]).onSuccess(null);
+                }
+                return null;
+            }
+        }).when(globalCapabilitiesDirectoryClient).add(any(), any(GlobalDiscoveryEntry.class), anyLong(), any());
+        doAnswer(addBatchAnswer).when(globalCapabilitiesDirectoryClient)
+                                .addBatch(any(), any(GlobalDiscoveryEntry[].class), anyLong(), anyString());
+
+        List<Promise<Add1Deferred>> promises = new ArrayList<>();
+        promises.add(localCapabilitiesDirectory.add(discoveryEntry, awaitGlobalRegistration, gbids));
+        assertTrue(firstAddCalled.await(DEFAULT_WAIT_TIME_MS, TimeUnit.MILLISECONDS));
+        promises.add(localCapabilitiesDirectory.add(discoveryEntry2, awaitGlobalRegistration, gbids));
+        promises.add(localCapabilitiesDirectory.add(discoveryEntry3, awaitGlobalRegistration, gbids));
+
+        verify(globalCapabilitiesDirectoryClient).add(callbackCaptor.capture(),
+                                                      any(GlobalDiscoveryEntry.class),
+                                                      anyLong(),
+                                                      eq(gbids));
+        callbackCaptor.getValue().onSuccess(null);
+        return promises;
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void queuedGlobalAddsForSameGbidAreBatched() throws Exception {
+        List<Promise<Add1Deferred>> promises = addThreeProvidersWhileFirstGlobalAddIsPending(createAnswerWithSuccess());
+
+        for (Promise<Add1Deferred> promise : promises) {
+            checkPromiseSuccess(promise, "add failed");
+        }
+        ArgumentCaptor<GlobalDiscoveryEntry[]> entriesCaptor = ArgumentCaptor.forClass(GlobalDiscoveryEntry[].class);
+        verify(globalCapabilitiesDirectoryClient).addBatch(any(), entriesCaptor.capture(), anyLong(), eq(knownGbids[0]));
+        assertEquals(2, entriesCaptor.getValue().length);
+        assertEquals("participantId2", entriesCaptor.getValue()[0].getParticipantId());
+        assertEquals("participantId3", entriesCaptor.getValue()[1].getParticipantId());
+        verify(globalCapabilitiesDirectoryClient, times(1)).add(any(), any(GlobalDiscoveryEntry.class), anyLong(), any());
+        verify(localDiscoveryEntryStoreMock, times(3)).add(any(DiscoveryEntry.class));
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void failedGlobalAddBatchIsRetriedOneByOne() throws Exception {
+        List<Promise<Add1Deferred>> promises = addThreeProvidersWhileFirstGlobalAddIsPending(createVoidAnswerWithException(new JoynrRuntimeException("batch failed")));
+
+        for (Promise<Add1Deferred> promise : promises) {
+            checkPromiseSuccess(promise, "add failed");
+        }
+        verify(globalCapabilitiesDirectoryClient).addBatch(any(), any(GlobalDiscoveryEntry[].class), anyLong(), anyString());
+        verify(globalCapabilitiesDirectoryClient, times(3)).add(any(), any(GlobalDiscoveryEntry.class), anyLong(), any());
+        verify(localDiscoveryEntryStoreMock, times(3)).add(any(DiscoveryEntry.class));
+    }
+
     @Test(timeout = TEST_TIMEOUT)
     public void addSameGbidTwiceInARow() throws InterruptedException {
         final boolean awaitGlobalRegistration = true;
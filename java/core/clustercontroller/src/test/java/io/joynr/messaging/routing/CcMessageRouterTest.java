@@ -22,6 +22,7 @@ import static io.joynr.util.JoynrUtil.createUuidString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -319,6 +320,38 @@ public class CcMessageRouterTest {
         testScheduleMessageOk(m -> ccMessageRouter.routeOut(m));
     }
 
+    @Test
+    public void inProcessPayloadIsSerializedIfRecipientIsNotInProcess() throws Exception {
+        // the recipient was reachable in-process when the message was created, but has an mqtt address now
+        Request request = new Request("method", new Object[]{ "param" }, new String[]{ "String" }, "requestReplyId");
+        joynrMessage.setPayload(new byte[0]);
+        joynrMessage.setInProcessPayload(request);
+        joynrMessage.setTtlMs(ExpiryDate.fromRelativeTtl(100000000).getValue());
+        joynrMessage.setTtlAbsolute(true);
+        ImmutableMessage immutableMessage = joynrMessage.getImmutableMessage();
+        final MessageProcessedListener mockMessageProcessedListener = mock(MessageProcessedListener.class);
+        ccMessageRouter.registerMessageProcessedListener(mockMessageProcessedListener);
+        doAnswer(invocation -> {
+            ((SuccessAction) invocation.getArgument(1)).execute();
+            return null;
+        }).when(messagingStubMock)
+          .transmit(any(ImmutableMessage.class), any(SuccessAction.class), any(FailureAction.class));
+
+        ccMessageRouter.routeOut(immutableMessage);
+
+        ArgumentCaptor<ImmutableMessage> transmittedMessage = ArgumentCaptor.forClass(ImmutableMessage.class);
+        verify(messagingStubMock, timeout(1000)).transmit(transmittedMessage.capture(),
+                                                          any(SuccessAction.class),
+                                                          any(FailureAction.class));
+        ImmutableMessage sentMessage = transmittedMessage.getValue();
+        assertNull(sentMessage.getInProcessPayload());
+        assertEquals(immutableMessage.getId(), sentMessage.getId());
+        assertEquals(immutableMessage.getHeaders(), sentMessage.getHeaders());
+        ObjectMapper objectMapper = injector.getInstance(ObjectMapper.class);
+        assertEquals(request, objectMapper.readValue(sentMessage.getUnencryptedBody(), Request.class));
+        verify(mockMessageProcessedListener, timeout(1000)).messageProcessed(eq(immutableMessage.getId()));
+    }
+
     @Test
     public void testScheduleExpiredMessageFails() throws Exception {
         joynrMessage.setTtlMs(ExpiryDate.fromRelativeTtl(1).getValue());
@@ -35,6 +35,7 @@ import io.joynr.exceptions.JoynrShutdownException;
 import io.joynr.exceptions.MultiDomainNoCompatibleProviderFoundException;
 import io.joynr.exceptions.NoCompatibleProviderFoundException;
 import io.joynr.messaging.routing.MessageRouter;
+import io.joynr.messaging.routing.SharedRoutingEntryReferences;
 import io.joynr.proxy.CallbackWithModeledError;
 import joynr.exceptions.ApplicationException;
 import joynr.system.DiscoveryAsync;
@@ -74,6 +75,8 @@ public class Arbitrator {
     private String[] gbids;
     private int arbitrationCnt = 0;
     private final MessageRouter messageRouter;
+    private final InFlightDiscoveryLookups inFlightDiscoveryLookups;
+    private final SharedRoutingEntryReferences sharedRoutingEntryReferences;
     private boolean filterByVersionAndArbitartionStrategy = true;
 
     // CHECKSTYLE IGNORE ParameterNumber FOR NEXT 1 LINES
@@ -85,7 +88,9 @@ public class Arbitrator {
                       ArbitrationStrategyFunction arbitrationStrategyFunction,
                       DiscoveryEntryVersionFilter discoveryEntryVersionFilter,
                       String[] gbids,
-                      MessageRouter messageRouter) {
+                      MessageRouter messageRouter,
+                      InFlightDiscoveryLookups inFlightDiscoveryLookups,
+                      SharedRoutingEntryReferences sharedRoutingEntryReferences) {
         this.domains = domains;
         this.interfaceName = interfaceName;
         this.interfaceVersion = interfaceVersion;
@@ -100,6 +105,8 @@ public class Arbitrator {
             this.gbids = gbids.clone();
         }
         this.messageRouter = messageRouter;
+        this.inFlightDiscoveryLookups = inFlightDiscoveryLookups;
+        this.sharedRoutingEntryReferences = sharedRoutingEntryReferences;
     }
 
     protected void onError(Throwable exception) {
@@ -135,7 +142,9 @@ public class Arbitrator {
                      interfaceName,
                      interfaceVersion,
                      Arrays.toString(gbids));
-        localDiscoveryAggregator.lookup(new DiscoveryCallback(filterByVersionAndArbitartionStrategy),
+        inFlightDiscoveryLookups.lookup(localDiscoveryAggregator,
+                                        sharedRoutingEntryReferences,
+                                        new DiscoveryCallback(filterByVersionAndArbitartionStrategy),
                                         domains.toArray(new String[domains.size()]),
                                         interfaceName,
                                         new joynr.types.DiscoveryQos(discoveryQos.getCacheMaxAgeMs(),
@@ -18,7 +18,7 @@
  */
 package io.joynr.arbitration;
 
-import static io.joynr.messaging.routing.MessageRouter.SCHEDULEDTHREADPOOL;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_DISCOVERY;
 
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
@@ -32,6 +32,7 @@ import com.google.inject.name.Named;
 
 import io.joynr.exceptions.DiscoveryException;
 import io.joynr.messaging.routing.MessageRouter;
+import io.joynr.messaging.routing.SharedRoutingEntryReferences;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
 import joynr.system.DiscoveryAsync;
@@ -49,9 +50,16 @@ public final class ArbitratorFactory {
     private static MessageRouter messageRouter;
 
     @Inject
-    @Named(SCHEDULEDTHREADPOOL)
+    private static SharedRoutingEntryReferences sharedRoutingEntryReferences;
+
+    @Inject
+    @Named(JOYNR_SCHEDULER_DISCOVERY)
     private static ScheduledExecutorService scheduler;
 
+    // shared by all arbitrators to coalesce their concurrent lookups
+    @Inject
+    private static InFlightDiscoveryLookups inFlightDiscoveryLookups;
+
     private static ArbitratorRunnable arbitratorRunnable;
 
     private ArbitratorFactory() {
@@ -60,6 +68,10 @@ public final class ArbitratorFactory {
 
     /**
      * Creates an arbitrator defined by the arbitrationStrategy set in the discoveryQos.
+     * <p>
+     * Concurrent discovery lookups of the created arbitrators for the same domains, interface, GBIDs and
+     * discovery settings are coalesced, i.e. only one lookup is in flight and its result is passed to all waiting
+     * arbitrators.
      *
      * @param domains
      *            Set of domains of the provider.
@@ -113,7 +125,9 @@ public final class ArbitratorFactory {
                               arbitrationStrategyFunction,
                               discoveryEntryVersionFilter,
                               gbids,
-                              messageRouter);
+                              messageRouter,
+                              inFlightDiscoveryLookups,
+                              sharedRoutingEntryReferences);
     }
 
     public static synchronized void start() {
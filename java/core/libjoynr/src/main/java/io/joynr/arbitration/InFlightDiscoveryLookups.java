@@ -0,0 +1,274 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.arbitration;
+
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_DISCOVERY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.exceptions.JoynrTimeoutException;
+import io.joynr.messaging.routing.SharedRoutingEntryReferences;
+import io.joynr.proxy.CallbackWithModeledError;
+import joynr.system.DiscoveryAsync;
+import joynr.types.DiscoveryEntryWithMetaInfo;
+import joynr.types.DiscoveryError;
+import joynr.types.DiscoveryQos;
+import joynr.types.DiscoveryScope;
+
+/**
+ * Coalesces the concurrent discovery lookups of arbitrations.
+ * <p>
+ * If an arbitration attempts a lookup while a lookup with the same discovery, domains, interface, GBIDs, discovery
+ * scope, cacheMaxAge and providerMustSupportOnChange is in flight, no further lookup is started. The arbitration
+ * waits for the result (or error) of the in-flight lookup instead and applies its own version filter, arbitration
+ * strategy, deadline and retry handling to it. The discovery timeout is not part of the lookup parameters: a waiting
+ * arbitration whose deadline is earlier than the one of the in-flight lookup fails with a
+ * {@link JoynrTimeoutException} at its own deadline.
+ * <p>
+ * The discovery increments the reference counts of the routing entries of the returned providers only once per
+ * lookup, so every further waiting arbitration gets a shared reference to them, see
+ * {@link SharedRoutingEntryReferences}, and its own copies of the discovery entries.
+ */
+@Singleton
+class InFlightDiscoveryLookups {
+    private static final Logger logger = LoggerFactory.getLogger(InFlightDiscoveryLookups.class);
+
+    private final ScheduledExecutorService scheduler;
+    // guarded by itself
+    private final Map<LookupKey, InFlightLookup> inFlightLookups = new HashMap<>();
+
+    @Inject
+    InFlightDiscoveryLookups(@Named(JOYNR_SCHEDULER_DISCOVERY) ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    private static final class LookupKey {
+        private final DiscoveryAsync discovery;
+        private final Set<String> domains;
+        private final String interfaceName;
+        private final Set<String> gbids;
+        private final DiscoveryScope discoveryScope;
+        private final Long cacheMaxAge;
+        private final Boolean providerMustSupportOnChange;
+
+        private LookupKey(DiscoveryAsync discovery,
+                          String[] domains,
+                          String interfaceName,
+                          DiscoveryQos discoveryQos,
+                          String[] gbids) {
+            this.discovery = discovery;
+            this.domains = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(domains)));
+            this.interfaceName = interfaceName;
+            this.gbids = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(gbids)));
+            this.discoveryScope = discoveryQos.getDiscoveryScope();
+            this.cacheMaxAge = discoveryQos.getCacheMaxAge();
+            this.providerMustSupportOnChange = discoveryQos.getProviderMustSupportOnChange();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(discovery),
+                                domains,
+                                interfaceName,
+                                gbids,
+                                discoveryScope,
+                                cacheMaxAge,
+                                providerMustSupportOnChange);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LookupKey)) {
+                return false;
+            }
+            LookupKey other = (LookupKey) obj;
+            return discovery == other.discovery && domains.equals(other.domains)
+                    && Objects.equals(interfaceName, other.interfaceName) && gbids.equals(other.gbids)
+                    && discoveryScope == other.discoveryScope && Objects.equals(cacheMaxAge, other.cacheMaxAge)
+                    && Objects.equals(providerMustSupportOnChange, other.providerMustSupportOnChange);
+        }
+    }
+
+    private class InFlightLookup extends CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError> {
+        private final LookupKey key;
+        private final long deadline;
+        private final SharedRoutingEntryReferences sharedRoutingEntryReferences;
+        // the first callback belongs to the arbitration which started the lookup, guarded by inFlightLookups
+        private final List<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> callbacks = new ArrayList<>();
+        // timeouts of the waiting callbacks with an earlier deadline, guarded by inFlightLookups
+        private final List<ScheduledFuture<?>> waiterTimeouts = new ArrayList<>();
+
+        private InFlightLookup(LookupKey key, long deadline, SharedRoutingEntryReferences sharedRoutingEntryReferences) {
+            this.key = key;
+            this.deadline = deadline;
+            this.sharedRoutingEntryReferences = sharedRoutingEntryReferences;
+        }
+
+        private void addWaitingCallback(CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError> callback,
+                                        long waiterDeadline) {
+            if (waiterDeadline < deadline) {
+                waiterTimeouts.add(scheduler.schedule(() -> waiterTimedOut(callback, waiterDeadline),
+                                                      waiterDeadline - System.currentTimeMillis(),
+                                                      TimeUnit.MILLISECONDS));
+            }
+            callbacks.add(callback);
+        }
+
+        private void waiterTimedOut(CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError> callback,
+                                    long waiterDeadline) {
+            synchronized (inFlightLookups) {
+                if (!callbacks.remove(callback)) {
+                    // the lookup has already completed
+                    return;
+                }
+            }
+            logger.trace("Waiting for in-flight DISCOVERY lookup for domains: {}, interface: {} timed out",
+                         key.domains,
+                         key.interfaceName);
+            callback.onFailure(new JoynrTimeoutException(waiterDeadline));
+        }
+
+        private List<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> complete() {
+            synchronized (inFlightLookups) {
+                inFlightLookups.remove(key, this);
+                List<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> waitingCallbacks = new ArrayList<>(callbacks);
+                callbacks.clear();
+                for (ScheduledFuture<?> waiterTimeout : waiterTimeouts) {
+                    waiterTimeout.cancel(false);
+                }
+                waiterTimeouts.clear();
+                return waitingCallbacks;
+            }
+        }
+
+        @Override
+        public void onSuccess(DiscoveryEntryWithMetaInfo[] discoveryEntries) {
+            List<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> waitingCallbacks = complete();
+            // add all shared references before any of the arbitrations can release one
+            for (int i = 1; i < waitingCallbacks.size(); i++) {
+                for (DiscoveryEntryWithMetaInfo discoveryEntry : discoveryEntries) {
+                    sharedRoutingEntryReferences.addSharedReference(discoveryEntry.getParticipantId());
+                }
+            }
+            if (waitingCallbacks.size() > 1) {
+                logger.debug("DISCOVERY lookup for domains: {}, interface: {} succeeded for {} coalesced arbitrations",
+                             key.domains,
+                             key.interfaceName,
+                             waitingCallbacks.size());
+            }
+            for (int i = 0; i < waitingCallbacks.size(); i++) {
+                waitingCallbacks.get(i).onSuccess(i == 0 ? discoveryEntries : copy(discoveryEntries));
+            }
+        }
+
+        @Override
+        public void onFailure(JoynrRuntimeException error) {
+            for (CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError> callback : complete()) {
+                callback.onFailure(error);
+            }
+        }
+
+        @Override
+        public void onFailure(DiscoveryError error) {
+            for (CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError> callback : complete()) {
+                callback.onFailure(error);
+            }
+        }
+    }
+
+    private static DiscoveryEntryWithMetaInfo[] copy(DiscoveryEntryWithMetaInfo[] discoveryEntries) {
+        DiscoveryEntryWithMetaInfo[] copy = new DiscoveryEntryWithMetaInfo[discoveryEntries.length];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = new DiscoveryEntryWithMetaInfo(discoveryEntries[i]);
+        }
+        return copy;
+    }
+
+    /**
+     * Performs the lookup at the given discovery or waits for the result of an identical in-flight lookup.
+     */
+    // CHECKSTYLE IGNORE ParameterNumber FOR NEXT 1 LINES
+    void lookup(DiscoveryAsync discovery,
+                SharedRoutingEntryReferences sharedRoutingEntryReferences,
+                CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError> callback,
+                String[] domains,
+                String interfaceName,
+                DiscoveryQos discoveryQos,
+                String[] gbids) {
+        LookupKey key = new LookupKey(discovery, domains, interfaceName, discoveryQos, gbids);
+        long deadline = System.currentTimeMillis() + discoveryQos.getDiscoveryTimeout();
+        InFlightLookup inFlightLookup;
+        synchronized (inFlightLookups) {
+            inFlightLookup = inFlightLookups.get(key);
+            if (inFlightLookup != null) {
+                inFlightLookup.addWaitingCallback(callback, deadline);
+                logger.trace("Waiting for in-flight DISCOVERY lookup for domains: {}, interface: {}",
+                             key.domains,
+                             key.interfaceName);
+                return;
+            }
+            inFlightLookup = new InFlightLookup(key, deadline, sharedRoutingEntryReferences);
+            inFlightLookup.callbacks.add(callback);
+            inFlightLookups.put(key, inFlightLookup);
+        }
+        try {
+            discovery.lookup(inFlightLookup, domains, interfaceName, discoveryQos, gbids);
+        } catch (RuntimeException e) {
+            // the arbitration which started the lookup handles the exception itself
+            List<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> waitingCallbacks = inFlightLookup.complete();
+            JoynrRuntimeException error = e instanceof JoynrRuntimeException ? (JoynrRuntimeException) e
+                    : new JoynrRuntimeException(e);
+            for (int i = 1; i < waitingCallbacks.size(); i++) {
+                waitingCallbacks.get(i).onFailure(error);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of currently in-flight lookups
+     */
+    int size() {
+        synchronized (inFlightLookups) {
+            return inFlightLookups.size();
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.discovery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.messaging.routing.MessageRouter;
+import io.joynr.messaging.routing.SharedRoutingEntryReferences;
+import joynr.types.DiscoveryEntryWithMetaInfo;
+import joynr.types.DiscoveryQos;
+import joynr.types.DiscoveryScope;
+
+/**
+ * Cache for the results of domain / interface lookups which the {@link LocalDiscoveryAggregator} received from the
+ * cluster controller.
+ * <p>
+ * A result is cached per set of domains, interface name, set of GBIDs, discovery scope and
+ * providerMustSupportOnChange, i.e. a lookup with another scope is never answered with the result of a lookup with a
+ * different scope. A cached result is only used if it is not older than the cacheMaxAge of the lookup's
+ * {@link DiscoveryQos} and none of its entries has expired, the least recently used results are evicted if the cache
+ * is full. Empty results are not cached so that newly registered providers are found as soon as possible.
+ * <p>
+ * A cached result is invalidated as soon as a provider of its domains and interface is added or one of its
+ * providers is added again or removed via this runtime.
+ * <p>
+ * The cluster controller increments the reference counts of the routing entries of the returned providers once per
+ * lookup. The cache therefore keeps a shared reference to the routing entries of every cached result until the
+ * result is dropped from the cache, and every result handed out from the cache gets a shared reference of its own,
+ * see {@link SharedRoutingEntryReferences}.
+ */
+class DiscoveryResultCache {
+    private static final Logger logger = LoggerFactory.getLogger(DiscoveryResultCache.class);
+
+    private final MessageRouter messageRouter;
+    private final SharedRoutingEntryReferences sharedRoutingEntryReferences;
+    // access ordered for LRU eviction, guarded by itself
+    private final LinkedHashMap<LookupKey, CachedLookup> cache;
+    // incremented with every invalidation, guarded by cache
+    private long invalidationCount = 0;
+    // evicted results whose routing entry references have not been released yet, guarded by cache
+    private final List<CachedLookup> evictedLookups = new ArrayList<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    static final class LookupKey {
+        private final Set<String> domains;
+        private final String interfaceName;
+        private final Set<String> gbids;
+        private final DiscoveryScope discoveryScope;
+        private final Boolean providerMustSupportOnChange;
+
+        LookupKey(String[] domains, String interfaceName, DiscoveryQos discoveryQos, String[] gbids) {
+            this.domains = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(domains)));
+            this.interfaceName = interfaceName;
+            this.gbids = gbids == null ? Collections.emptySet()
+                    : Collections.unmodifiableSet(new HashSet<>(Arrays.asList(gbids)));
+            this.discoveryScope = discoveryQos.getDiscoveryScope();
+            this.providerMustSupportOnChange = discoveryQos.getProviderMustSupportOnChange();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(domains, interfaceName, gbids, discoveryScope, providerMustSupportOnChange);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LookupKey)) {
+                return false;
+            }
+            LookupKey other = (LookupKey) obj;
+            return domains.equals(other.domains) && Objects.equals(interfaceName, other.interfaceName)
+                    && gbids.equals(other.gbids) && discoveryScope == other.discoveryScope
+                    && Objects.equals(providerMustSupportOnChange, other.providerMustSupportOnChange);
+        }
+    }
+
+    private static final class CachedLookup {
+        private final DiscoveryEntryWithMetaInfo[] entries;
+        private final long cachedDateMs;
+
+        private CachedLookup(DiscoveryEntryWithMetaInfo[] entries, long cachedDateMs) {
+            this.entries = entries;
+            this.cachedDateMs = cachedDateMs;
+        }
+
+        private boolean isUsable(long maxAgeMs, long nowMs) {
+            if (nowMs - cachedDateMs > maxAgeMs) {
+                return false;
+            }
+            for (DiscoveryEntryWithMetaInfo entry : entries) {
+                if (entry.getExpiryDateMs() != null && entry.getExpiryDateMs() < nowMs) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean containsEntry(Predicate<DiscoveryEntryWithMetaInfo> predicate) {
+            return Arrays.stream(entries).anyMatch(predicate);
+        }
+    }
+
+    /**
+     * @param maxSize maximum number of cached lookup results
+     * @param messageRouter used to release the routing entry references of dropped results
+     * @param sharedRoutingEntryReferences used to share the routing entry references of cached results
+     */
+    DiscoveryResultCache(int maxSize,
+                         MessageRouter messageRouter,
+                         SharedRoutingEntryReferences sharedRoutingEntryReferences) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0: " + maxSize);
+        }
+        this.messageRouter = messageRouter;
+        this.sharedRoutingEntryReferences = sharedRoutingEntryReferences;
+        this.cache = new LinkedHashMap<LookupKey, CachedLookup>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LookupKey, CachedLookup> eldest) {
+                if (size() > maxSize) {
+                    evictedLookups.add(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // must be called while holding the cache lock so that the references cannot be released in between
+    private void addSharedReferences(CachedLookup cachedLookup) {
+        for (DiscoveryEntryWithMetaInfo entry : cachedLookup.entries) {
+            sharedRoutingEntryReferences.addSharedReference(entry.getParticipantId());
+        }
+    }
+
+    // must not be called while holding the cache lock, removeNextHop might call the parent router
+    private void releaseReferences(List<CachedLookup> droppedLookups) {
+        for (CachedLookup droppedLookup : droppedLookups) {
+            for (DiscoveryEntryWithMetaInfo entry : droppedLookup.entries) {
+                try {
+                    messageRouter.removeNextHop(entry.getParticipantId());
+                } catch (JoynrRuntimeException e) {
+                    logger.error("Failed to release routing entry reference of cached discovery entry for participantId {}",
+                                 entry.getParticipantId(),
+                                 e);
+                }
+            }
+        }
+    }
+
+    // must be called while holding the cache lock
+    private List<CachedLookup> takeEvictedLookups() {
+        List<CachedLookup> droppedLookups = new ArrayList<>(evictedLookups);
+        evictedLookups.clear();
+        return droppedLookups;
+    }
+
+    /**
+     * @return copies of the cached entries, or null if there is no usable result for the lookup
+     */
+    DiscoveryEntryWithMetaInfo[] get(LookupKey key, DiscoveryQos discoveryQos) {
+        Long cacheMaxAge = discoveryQos.getCacheMaxAge();
+        if (cacheMaxAge == null || cacheMaxAge <= 0) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        CachedLookup cachedLookup;
+        synchronized (cache) {
+            cachedLookup = cache.get(key);
+            if (cachedLookup != null && cachedLookup.isUsable(cacheMaxAge, System.currentTimeMillis())) {
+                addSharedReferences(cachedLookup);
+            } else {
+                cachedLookup = null;
+            }
+        }
+        if (cachedLookup == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        DiscoveryEntryWithMetaInfo[] result = new DiscoveryEntryWithMetaInfo[cachedLookup.entries.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new DiscoveryEntryWithMetaInfo(cachedLookup.entries[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @return the current invalidation count which has to be passed to {@link #put(LookupKey, DiscoveryEntryWithMetaInfo[], long)}
+     * when the result of a lookup started now is received
+     */
+    long getInvalidationCount() {
+        synchronized (cache) {
+            return invalidationCount;
+        }
+    }
+
+    /**
+     * Caches the result of a lookup unless the cache has been invalidated since the lookup has been started.
+     */
+    void put(LookupKey key, DiscoveryEntryWithMetaInfo[] entries, long expectedInvalidationCount) {
+        if (entries.length == 0) {
+            return;
+        }
+        DiscoveryEntryWithMetaInfo[] copy = new DiscoveryEntryWithMetaInfo[entries.length];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = new DiscoveryEntryWithMetaInfo(entries[i]);
+        }
+        List<CachedLookup> droppedLookups;
+        synchronized (cache) {
+            if (invalidationCount != expectedInvalidationCount) {
+                return;
+            }
+            CachedLookup cachedLookup = new CachedLookup(copy, System.currentTimeMillis());
+            addSharedReferences(cachedLookup);
+            CachedLookup replacedLookup = cache.put(key, cachedLookup);
+            droppedLookups = takeEvictedLookups();
+            if (replacedLookup != null) {
+                droppedLookups.add(replacedLookup);
+            }
+        }
+        releaseReferences(droppedLookups);
+    }
+
+    void invalidate(String domain, String interfaceName, String participantId) {
+        invalidate(key -> key.interfaceName.equals(interfaceName) && key.domains.contains(domain),
+                   entry -> participantId.equals(entry.getParticipantId()));
+    }
+
+    void invalidate(String participantId) {
+        invalidate(key -> false, entry -> participantId.equals(entry.getParticipantId()));
+    }
+
+    private void invalidate(Predicate<LookupKey> keyPredicate, Predicate<DiscoveryEntryWithMetaInfo> entryPredicate) {
+        List<CachedLookup> droppedLookups = new ArrayList<>();
+        synchronized (cache) {
+            invalidationCount++;
+            Iterator<Map.Entry<LookupKey, CachedLookup>> iterator = cache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<LookupKey, CachedLookup> cacheEntry = iterator.next();
+                if (keyPredicate.test(cacheEntry.getKey()) || cacheEntry.getValue().containsEntry(entryPredicate)) {
+                    droppedLookups.add(cacheEntry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+        releaseReferences(droppedLookups);
+    }
+
+    long getHitCount() {
+        return hitCount.get();
+    }
+
+    long getMissCount() {
+        return missCount.get();
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
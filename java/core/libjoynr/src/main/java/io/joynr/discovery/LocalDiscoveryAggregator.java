@@ -33,7 +33,10 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 
 import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.messaging.MessagingQos;
+import io.joynr.messaging.routing.MessageRouter;
+import io.joynr.messaging.routing.SharedRoutingEntryReferences;
 import io.joynr.proxy.Callback;
 import io.joynr.proxy.CallbackWithModeledError;
 import io.joynr.proxy.Future;
@@ -66,12 +69,17 @@ public class LocalDiscoveryAggregator implements DiscoveryAsync {
     private DiscoveryProxy discoveryProxy;
     private ProxyBuilderFactory proxyBuilderFactory;
     private String systemServiceDomain;
+    // null if disabled
+    private final DiscoveryResultCache discoveryResultCache;
 
     @Inject
     public LocalDiscoveryAggregator(@Named(SystemServicesSettings.PROPERTY_SYSTEM_SERVICES_DOMAIN) String systemServicesDomain,
                                     @Named(SystemServicesSettings.PROPERTY_CC_DISCOVERY_PROVIDER_PARTICIPANT_ID) String discoveryProviderParticipantId,
                                     @Named(SystemServicesSettings.PROPERTY_CC_ROUTING_PROVIDER_PARTICIPANT_ID) String routingProviderParticipantId,
-                                    ProxyBuilderFactory proxyBuilderFactory) {
+                                    @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_LIBJOYNR_CACHE_MAX_SIZE) int discoveryCacheMaxSize,
+                                    ProxyBuilderFactory proxyBuilderFactory,
+                                    MessageRouter messageRouter,
+                                    SharedRoutingEntryReferences sharedRoutingEntryReferences) {
         ProviderQos providerQos = new ProviderQos();
         providerQos.setScope(ProviderScope.LOCAL);
         String defaultPublicKeyId = "";
@@ -99,15 +107,28 @@ public class LocalDiscoveryAggregator implements DiscoveryAsync {
 
         this.proxyBuilderFactory = proxyBuilderFactory;
         this.systemServiceDomain = systemServicesDomain;
+        this.discoveryResultCache = discoveryCacheMaxSize > 0
+                ? new DiscoveryResultCache(discoveryCacheMaxSize, messageRouter, sharedRoutingEntryReferences)
+                : null;
+    }
+
+    private void invalidateCachedLookups(DiscoveryEntry discoveryEntry) {
+        if (discoveryResultCache != null) {
+            discoveryResultCache.invalidate(discoveryEntry.getDomain(),
+                                            discoveryEntry.getInterfaceName(),
+                                            discoveryEntry.getParticipantId());
+        }
     }
 
     @Override
     public Future<Void> add(Callback<Void> callback, DiscoveryEntry discoveryEntry) {
+        invalidateCachedLookups(discoveryEntry);
         return getDefaultDiscoveryProxy().add(callback, discoveryEntry, false);
     }
 
     @Override
     public Future<Void> add(Callback<Void> callback, DiscoveryEntry discoveryEntry, Boolean awaitGlobalRegistration) {
+        invalidateCachedLookups(discoveryEntry);
         return getDefaultDiscoveryProxy().add(callback, discoveryEntry, awaitGlobalRegistration);
     }
 
@@ -116,6 +137,7 @@ public class LocalDiscoveryAggregator implements DiscoveryAsync {
                             DiscoveryEntry discoveryEntry,
                             Boolean awaitGlobalRegistration,
                             String[] gbids) {
+        invalidateCachedLookups(discoveryEntry);
         return getDefaultDiscoveryProxy().add(callback, discoveryEntry, awaitGlobalRegistration, gbids);
     }
 
@@ -123,6 +145,7 @@ public class LocalDiscoveryAggregator implements DiscoveryAsync {
     public Future<Void> addToAll(CallbackWithModeledError<Void, DiscoveryError> callback,
                                  DiscoveryEntry discoveryEntry,
                                  Boolean awaitGlobalRegistration) {
+        invalidateCachedLookups(discoveryEntry);
         return getDefaultDiscoveryProxy().addToAll(callback, discoveryEntry, awaitGlobalRegistration);
     }
 
@@ -180,6 +203,25 @@ public class LocalDiscoveryAggregator implements DiscoveryAsync {
         final Future<DiscoveryEntryWithMetaInfo[]> discoveryEntryFuture = new Future<>();
         if (!missingDomains.isEmpty()) {
             logger.trace("Did not find entries for the following domains: {}", missingDomains);
+            String[] missingDomainsArray = new String[missingDomains.size()];
+            missingDomains.toArray(missingDomainsArray);
+
+            final DiscoveryResultCache.LookupKey cacheKey;
+            final long cacheInvalidationCount;
+            if (discoveryResultCache != null) {
+                cacheKey = new DiscoveryResultCache.LookupKey(missingDomainsArray, interfaceName, discoveryQos, gbids);
+                DiscoveryEntryWithMetaInfo[] cachedEntries = discoveryResultCache.get(cacheKey, discoveryQos);
+                if (cachedEntries != null) {
+                    logger.trace("Found cached entries for missing domains: {}", Arrays.toString(cachedEntries));
+                    Collections.addAll(discoveryEntries, cachedEntries);
+                    resolveDiscoveryEntriesFutureWithEntries(discoveryEntryFuture, discoveryEntries, callback);
+                    return discoveryEntryFuture;
+                }
+                cacheInvalidationCount = discoveryResultCache.getInvalidationCount();
+            } else {
+                cacheKey = null;
+                cacheInvalidationCount = 0;
+            }
             CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError> newCallback = new CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>() {
 
                 @Override
@@ -200,13 +242,14 @@ public class LocalDiscoveryAggregator implements DiscoveryAsync {
                 public void onSuccess(DiscoveryEntryWithMetaInfo[] entries) {
                     assert entries != null : "Entries must not be null.";
                     logger.trace("Globally found entries for missing domains: {}", Arrays.toString(entries));
+                    if (cacheKey != null) {
+                        discoveryResultCache.put(cacheKey, entries, cacheInvalidationCount);
+                    }
 
                     Collections.addAll(discoveryEntries, entries);
                     resolveDiscoveryEntriesFutureWithEntries(discoveryEntryFuture, discoveryEntries, callback);
                 }
             };
-            String[] missingDomainsArray = new String[missingDomains.size()];
-            missingDomains.toArray(missingDomainsArray);
 
             MessagingQos messagingQos = new MessagingQos(discoveryQos.getDiscoveryTimeout() + epsilonMs);
             getDefaultDiscoveryProxy().lookup(newCallback,
@@ -254,9 +297,28 @@ public class LocalDiscoveryAggregator implements DiscoveryAsync {
 
     @Override
     public Future<Void> remove(Callback<Void> callback, String participantId) {
+        if (discoveryResultCache != null) {
+            discoveryResultCache.invalidate(participantId);
+        }
         return getDefaultDiscoveryProxy().remove(callback, participantId);
     }
 
+    /**
+     * @return the number of domain / interface lookups which have been answered from the discovery result cache, see
+     * {@link ConfigurableMessagingSettings#PROPERTY_DISCOVERY_LIBJOYNR_CACHE_MAX_SIZE}
+     */
+    public long getDiscoveryCacheHitCount() {
+        return discoveryResultCache == null ? 0 : discoveryResultCache.getHitCount();
+    }
+
+    /**
+     * @return the number of domain / interface lookups which have been forwarded to the cluster controller although
+     * the discovery result cache is enabled
+     */
+    public long getDiscoveryCacheMissCount() {
+        return discoveryResultCache == null ? 0 : discoveryResultCache.getMissCount();
+    }
+
     public void forceQueryOfDiscoveryProxy() {
         getDefaultDiscoveryProxy();
     }
@@ -18,17 +18,27 @@
  */
 package io.joynr.dispatching;
 
-import java.util.function.BiConsumer;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
 
+/**
+ * Concurrent map of entries by participantId which notifies its listeners about added and removed entries.
+ * <p>
+ * Lookups and modifications do not take a directory wide lock. The listeners are notified after the entry has
+ * been added to or removed from the directory, outside of any lock: a listener or any thread which has seen
+ * the notification will also see the modification via {@link #get(String)}. The notifications for
+ * concurrent modifications of the same participantId are not ordered.
+ *
+ * @param <T> the type of the entries
+ */
 public abstract class Directory<T> {
-    private Set<DirectoryListener<T>> listeners = new HashSet<>();
-    private Map<String, T> entryMap = new HashMap<>();
+    private final Set<DirectoryListener<T>> listeners = new CopyOnWriteArraySet<>();
+    private final Map<String, T> entryMap = new ConcurrentHashMap<>();
 
     /**
      * Adds a listener to the directory. The Directory will notify the listeners when an entry is
@@ -37,7 +47,7 @@ public abstract class Directory<T> {
      *
      * @param listener the listener to be added
      */
-    public synchronized void addListener(DirectoryListener<T> listener) {
+    public void addListener(DirectoryListener<T> listener) {
         listeners.add(listener);
     }
 
@@ -46,7 +56,7 @@ public abstract class Directory<T> {
      *
      * @param listener the listener to be removed
      */
-    public synchronized void removeListener(DirectoryListener<T> listener) {
+    public void removeListener(DirectoryListener<T> listener) {
         listeners.remove(listener);
     }
 
@@ -56,8 +66,28 @@ public abstract class Directory<T> {
      * @param participantId the entry's participantId
      * @param entry the entry to be added
      */
-    public synchronized void add(String participantId, T entry) {
+    public void add(String participantId, T entry) {
         entryMap.put(participantId, entry);
+        notifyEntryAdded(participantId, entry);
+    }
+
+    /**
+     * Adds the specified entry and participantId into the directory if there is no entry for the
+     * participantId yet.
+     *
+     * @param participantId the entry's participantId
+     * @param entry the entry to be added
+     * @return true if the entry has been added, false if there already was an entry for the participantId
+     */
+    public boolean addIfAbsent(String participantId, T entry) {
+        if (entryMap.putIfAbsent(participantId, entry) != null) {
+            return false;
+        }
+        notifyEntryAdded(participantId, entry);
+        return true;
+    }
+
+    private void notifyEntryAdded(String participantId, T entry) {
         for (DirectoryListener<T> listener : listeners) {
             listener.entryAdded(participantId, entry);
         }
@@ -70,7 +100,7 @@ public abstract class Directory<T> {
      * @param participantId participantId of the entry supposed to be removed
      * @return the previous entry associated with the participantId or null if the participantId was not present
      */
-    public synchronized T remove(String participantId) {
+    public T remove(String participantId) {
         getLogger().trace("remove: {}", participantId);
         T result = entryMap.remove(participantId);
         if (result == null) {
@@ -83,19 +113,20 @@ public abstract class Directory<T> {
         return result;
     }
 
-    public synchronized T get(String participantId) {
+    public T get(String participantId) {
         return entryMap.get(participantId);
     }
 
     /**
-     * Executes the specified consumer on each entry.
+     * Executes the specified consumer on each entry. Entries added or removed concurrently might or might not
+     * be passed to the consumer.
      * @param consumer consumer to be executed
      */
-    public synchronized void forEach(BiConsumer<String, T> consumer) {
+    public void forEach(BiConsumer<String, T> consumer) {
         entryMap.forEach(consumer);
     }
 
-    public synchronized boolean isEmpty() {
+    public boolean isEmpty() {
         return entryMap.isEmpty();
     }
 
@@ -246,10 +246,15 @@ public class DispatcherImpl implements Dispatcher {
             throw new JoynrMessageExpiredException("Reply message " + message + " expired!");
         }
 
-        String payload;
+        if (message.getInProcessPayload() != null) {
+            handleInProcessPayload(message, expiryDate);
+            return;
+        }
+
+        byte[] payload;
 
         try {
-            payload = new String(message.getUnencryptedBody(), StandardCharsets.UTF_8);
+            payload = message.getUnencryptedBody();
         } catch (EncodingException e) {
             logger.error("Error reading SMRF message. msgId: {}. from: {} to: {}. Discarding joynr message. Error:",
                          message.getId(),
@@ -266,11 +271,11 @@ public class DispatcherImpl implements Dispatcher {
                 if (reply.getRequestReplyId().contains(StatelessAsyncIdCalculator.REQUEST_REPLY_ID_SEPARATOR)) {
                     addStatelessCallback(message, reply);
                 }
-                logger.trace("Parsed reply from message payload: {}", payload);
+                traceParsedPayload("reply", payload);
                 handle(reply);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_SUBSCRIPTION_REPLY.equals(type)) {
                 SubscriptionReply subscriptionReply = objectMapper.readValue(payload, SubscriptionReply.class);
-                logger.trace("Parsed subscription reply from message payload: {}", payload);
+                traceParsedPayload("subscription reply", payload);
                 handle(subscriptionReply);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST.equals(type)) {
                 final Map<String, String> customHeaders = message.getCustomHeaders();
@@ -279,7 +284,7 @@ public class DispatcherImpl implements Dispatcher {
                 final Request request = objectMapper.readValue(payload, Request.class);
                 request.setCreatorUserId(message.getCreatorUserId());
                 request.setContext(createMessageContext(message));
-                logger.trace("Parsed request from message payload: {}", payload);
+                traceParsedPayload("request", payload);
                 handle(request,
                        message.getSender(),
                        message.getRecipient(),
@@ -291,25 +296,25 @@ public class DispatcherImpl implements Dispatcher {
                 OneWayRequest oneWayRequest = objectMapper.readValue(payload, OneWayRequest.class);
                 oneWayRequest.setCreatorUserId(message.getCreatorUserId());
                 oneWayRequest.setContext(createMessageContext(message));
-                logger.trace("Parsed one way request from message payload: {}", payload);
+                traceParsedPayload("one way request", payload);
                 handle(oneWayRequest, message.getRecipient(), expiryDate);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_SUBSCRIPTION_REQUEST.equals(type)
                     || Message.MessageType.VALUE_MESSAGE_TYPE_BROADCAST_SUBSCRIPTION_REQUEST.equals(type)
                     || Message.MessageType.VALUE_MESSAGE_TYPE_MULTICAST_SUBSCRIPTION_REQUEST.equals(type)) {
                 SubscriptionRequest subscriptionRequest = objectMapper.readValue(payload, SubscriptionRequest.class);
-                logger.trace("Parsed subscription request from message payload: {}", payload);
+                traceParsedPayload("subscription request", payload);
                 handle(subscriptionRequest, message.getSender(), message.getRecipient());
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_SUBSCRIPTION_STOP.equals(type)) {
                 SubscriptionStop subscriptionStop = objectMapper.readValue(payload, SubscriptionStop.class);
-                logger.trace("Parsed subscription stop from message payload: {}", payload);
+                traceParsedPayload("subscription stop", payload);
                 handle(subscriptionStop);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_PUBLICATION.equals(type)) {
                 SubscriptionPublication publication = objectMapper.readValue(payload, SubscriptionPublication.class);
-                logger.trace("Parsed publication from message payload: {}", payload);
+                traceParsedPayload("publication", payload);
                 handle(publication);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_MULTICAST.equals(type)) {
                 MulticastPublication multicastPublication = objectMapper.readValue(payload, MulticastPublication.class);
-                logger.trace("Parsed multicast publication from message payload: {}", payload);
+                traceParsedPayload("multicast publication", payload);
                 handle(multicastPublication);
             }
         } catch (IOException e) {
@@ -322,6 +327,53 @@ public class DispatcherImpl implements Dispatcher {
         }
     }
 
+    /**
+     * Handles a request or reply which has been passed within the JVM without serialization, see
+     * {@link MutableMessage#setInProcessPayload(Object)}.
+     */
+    private void handleInProcessPayload(final ImmutableMessage message, final long expiryDate) {
+        Object inProcessPayload = message.getInProcessPayload();
+        logger.trace("Received in-process payload of message {}: {}", message.getId(), inProcessPayload);
+        if (inProcessPayload instanceof Reply) {
+            Reply reply = (Reply) inProcessPayload;
+            if (reply.getRequestReplyId().contains(StatelessAsyncIdCalculator.REQUEST_REPLY_ID_SEPARATOR)) {
+                addStatelessCallback(message, reply);
+            }
+            handle(reply);
+        } else if (inProcessPayload instanceof Request) {
+            final Map<String, String> customHeaders = message.getCustomHeaders();
+            customHeaders.putAll(message.getExtraCustomHeaders());
+            final Request request = (Request) inProcessPayload;
+            request.setCreatorUserId(message.getCreatorUserId());
+            request.setContext(createMessageContext(message));
+            handle(request,
+                   message.getSender(),
+                   message.getRecipient(),
+                   expiryDate,
+                   customHeaders,
+                   getEffort(message),
+                   message.isCompressed());
+        } else if (inProcessPayload instanceof OneWayRequest) {
+            OneWayRequest oneWayRequest = (OneWayRequest) inProcessPayload;
+            oneWayRequest.setCreatorUserId(message.getCreatorUserId());
+            oneWayRequest.setContext(createMessageContext(message));
+            handle(oneWayRequest, message.getRecipient(), expiryDate);
+        } else {
+            logger.error("Unexpected in-process payload. msgId: {}. from: {} to: {}. Discarding joynr message.",
+                         message.getId(),
+                         message.getSender(),
+                         message.getRecipient());
+        }
+    }
+
+    private void traceParsedPayload(String payloadDescription, byte[] payload) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("Parsed {} from message payload: {}",
+                         payloadDescription,
+                         new String(payload, StandardCharsets.UTF_8));
+        }
+    }
+
     private Map<String, Serializable> createMessageContext(ImmutableMessage message) {
         Map<String, Serializable> result = new HashMap<>();
         result.putAll(message.getContext());
@@ -396,10 +448,14 @@ public class DispatcherImpl implements Dispatcher {
         }
 
         Message.MessageType type = message.getType();
-        String payload;
+        if (message.getInProcessPayload() instanceof Request) {
+            requestReplyManager.handleError((Request) message.getInProcessPayload(), error);
+            return;
+        }
+        byte[] payload;
 
         try {
-            payload = new String(message.getUnencryptedBody(), StandardCharsets.UTF_8);
+            payload = message.getUnencryptedBody();
         } catch (EncodingException e) {
             logger.error("Error extracting payload for message with ID {}:", message.getId(), e);
             return;
@@ -413,7 +469,7 @@ public class DispatcherImpl implements Dispatcher {
         } catch (IOException e) {
             logger.error("Error extracting payload for message with ID {}, raw payload: {}. Error: ",
                          message.getId(),
-                         payload,
+                         new String(payload, StandardCharsets.UTF_8),
                          e);
         }
     }
@@ -424,7 +480,7 @@ public class DispatcherImpl implements Dispatcher {
         }
         Object[] values = new Object[parameterTypes.length];
         for (int i = 0; i < parameterTypes.length; i++) {
-            values[i] = objectMapper.convertValue(publicizedValues.get(i), parameterTypes[i]);
+            values[i] = objectMapper.convertValueIfRequired(publicizedValues.get(i), parameterTypes[i]);
         }
         return values;
     }
@@ -450,8 +506,8 @@ public class DispatcherImpl implements Dispatcher {
                         attributeValue = objectMapper.convertValue(((List<?>) publication.getResponse()).get(0),
                                                                    typeRef);
                     } else {
-                        attributeValue = objectMapper.convertValue(((List<?>) publication.getResponse()).get(0),
-                                                                   receivedType);
+                        attributeValue = objectMapper.convertValueIfRequired(((List<?>) publication.getResponse()).get(0),
+                                                                             receivedType);
                     }
 
                     subscriptionManager.handleAttributePublication(subscriptionId, attributeValue);
@@ -0,0 +1,112 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching;
+
+import java.lang.reflect.Array;
+
+import io.joynr.exceptions.JoynrException;
+import io.joynr.util.ObjectMapper;
+import joynr.OneWayRequest;
+import joynr.Reply;
+import joynr.Request;
+
+/**
+ * Creates the payload objects of messages which are passed within the JVM, see
+ * {@link joynr.MutableMessage#setInProcessPayload(Object)}.
+ * <p>
+ * Sender and recipient must not share mutable parameter or response values. Immutable values (strings, boxed
+ * primitives, enums) are passed as is, arrays are copied element by element and all other values, e.g. structs
+ * and maps, as well as the error of a reply, are deep copied with the ObjectMapper without serializing them to
+ * bytes.
+ */
+class InProcessPayloadCopier {
+
+    private final ObjectMapper objectMapper;
+
+    InProcessPayloadCopier(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return a copy of the given request, reply or one way request, or null if the payload type is not supported
+     */
+    Object copy(Object payload) {
+        if (payload instanceof Request) {
+            Request request = (Request) payload;
+            return new Request(request.getMethodName(),
+                               copyValues(request.getParams()),
+                               request.getParamDatatypes(),
+                               request.getRequestReplyId(),
+                               request.getStatelessAsyncCallbackMethodId());
+        } else if (payload instanceof OneWayRequest) {
+            OneWayRequest oneWayRequest = (OneWayRequest) payload;
+            return new OneWayRequest(oneWayRequest.getMethodName(),
+                                     copyValues(oneWayRequest.getParams()),
+                                     oneWayRequest.getParamDatatypes());
+        } else if (payload instanceof Reply) {
+            Reply reply = (Reply) payload;
+            if (reply.getError() != null) {
+                return new Reply(reply.getRequestReplyId(), (JoynrException) copyValue(reply.getError()));
+            }
+            return new Reply(reply.getRequestReplyId(), copyValues(reply.getResponse()));
+        }
+        return null;
+    }
+
+    private Object[] copyValues(Object[] values) {
+        if (values == null) {
+            return null;
+        }
+        Object[] copy = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            copy[i] = copyValue(values[i]);
+        }
+        return copy;
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> type = value.getClass();
+        if (isImmutable(type)) {
+            return value;
+        }
+        if (type.isArray()) {
+            Class<?> componentType = type.getComponentType();
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(componentType, length);
+            if (componentType.isPrimitive() || isImmutable(componentType)) {
+                System.arraycopy(value, 0, copy, 0, length);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    Array.set(copy, i, copyValue(Array.get(value, i)));
+                }
+            }
+            return copy;
+        }
+        return objectMapper.convertValue(value, type);
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return type == String.class || Enum.class.isAssignableFrom(type) || type == Boolean.class
+                || type == Character.class || type == Byte.class || type == Short.class || type == Integer.class
+                || type == Long.class || type == Float.class || type == Double.class;
+    }
+}
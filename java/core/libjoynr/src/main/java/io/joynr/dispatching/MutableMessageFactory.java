@@ -22,6 +22,7 @@ import static joynr.Message.CUSTOM_HEADER_REQUEST_REPLY_ID;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +30,11 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 
@@ -37,6 +43,9 @@ import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.messaging.JoynrMessageProcessor;
 import io.joynr.messaging.MessagingQos;
 import io.joynr.messaging.MessagingQosEffort;
+import io.joynr.messaging.inprocess.InProcessAddress;
+import io.joynr.messaging.routing.RoutingTable;
+import io.joynr.pubsub.publication.PublicationValues;
 import io.joynr.util.ObjectMapper;
 import joynr.BroadcastSubscriptionRequest;
 import joynr.Message;
@@ -52,18 +61,65 @@ import joynr.SubscriptionRequest;
 import joynr.SubscriptionStop;
 
 public class MutableMessageFactory {
+    private static final Set<Message.MessageType> IN_PROCESS_MESSAGE_TYPES = EnumSet.of(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST,
+                                                                                        Message.MessageType.VALUE_MESSAGE_TYPE_ONE_WAY,
+                                                                                        Message.MessageType.VALUE_MESSAGE_TYPE_REPLY);
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
     private final Set<JoynrMessageProcessor> messageProcessors;
     private ObjectMapper objectMapper;
+    private final InProcessPayloadCopier inProcessPayloadCopier;
     @Inject(optional = true)
     @Named(ConfigurableMessagingSettings.PROPERTY_TTL_UPLIFT_MS)
     private long ttlUpliftMs = 0;
+    @Inject(optional = true)
+    @Named(ConfigurableMessagingSettings.PROPERTY_IN_PROCESS_OBJECT_PASSING)
+    private boolean inProcessObjectPassing = true;
+    // only available in cluster controller runtimes
+    @Inject(optional = true)
+    private RoutingTable routingTable;
 
     private static final Logger logger = LoggerFactory.getLogger(MutableMessageFactory.class);
 
+    /**
+     * Envelope of a {@link SubscriptionPublication} whose values have already been serialized once for all
+     * subscriptions: the serialized values are spliced in as raw JSON, only the subscriptionId is serialized per
+     * publication. The result is equal to the serialization of the {@link SubscriptionPublication}.
+     */
+    private static class SerializedSubscriptionPublication implements JsonSerializable {
+        private final SerializableString serializedResponse;
+        private final String subscriptionId;
+
+        SerializedSubscriptionPublication(SerializableString serializedResponse, String subscriptionId) {
+            this.serializedResponse = serializedResponse;
+            this.subscriptionId = subscriptionId;
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("_typeName", SubscriptionPublication.class.getName());
+            gen.writeFieldName("response");
+            gen.writeRawValue(serializedResponse);
+            if (subscriptionId != null) {
+                gen.writeStringField("subscriptionId", subscriptionId);
+            }
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen,
+                                      SerializerProvider serializers,
+                                      TypeSerializer typeSer) throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+
     @Inject
     public MutableMessageFactory(ObjectMapper objectMapper, Set<JoynrMessageProcessor> messageProcessors) {
         this.objectMapper = objectMapper;
         this.messageProcessors = messageProcessors;
+        this.inProcessPayloadCopier = new InProcessPayloadCopier(objectMapper);
     }
 
     private MutableMessage createMessage(Message.MessageType joynrMessageType,
@@ -97,7 +153,13 @@ public class MutableMessageFactory {
         message.setRecipient(toParticipantId);
         message.setTtlAbsolute(true);
         message.setTtlMs(expiryDate.getValue());
-        message.setPayload(serializePayload(payload));
+        Object inProcessPayload = createInProcessPayload(joynrMessageType, toParticipantId, payload);
+        if (inProcessPayload != null) {
+            message.setInProcessPayload(inProcessPayload);
+            message.setPayload(EMPTY_PAYLOAD);
+        } else {
+            message.setPayload(serializePayload(payload));
+        }
         message.setCustomHeaders(messagingQos.getCustomMessageHeaders());
         message.setCompressed(messagingQos.getCompress());
         for (JoynrMessageProcessor processor : messageProcessors) {
@@ -192,10 +254,21 @@ public class MutableMessageFactory {
                                             String toParticipantId,
                                             SubscriptionPublication publication,
                                             MessagingQos messagingQos) {
+        Object payload = publication;
+        PublicationValues publicationValues = publication.getPublicationValues();
+        if (publicationValues != null) {
+            try {
+                // the values are serialized only once for all subscriptions
+                payload = new SerializedSubscriptionPublication(publicationValues.getSerializedValues(objectMapper),
+                                                                publication.getSubscriptionId());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
         MutableMessage msg = createMessage(Message.MessageType.VALUE_MESSAGE_TYPE_PUBLICATION,
                                            fromParticipantId,
                                            toParticipantId,
-                                           publication,
+                                           payload,
                                            messagingQos);
         addRequestReplyIdCustomHeader(msg, publication.getSubscriptionId());
         return msg;
@@ -224,22 +297,43 @@ public class MutableMessageFactory {
                              messagingQos);
     }
 
+    /**
+     * Requests and replies to a participant which is reachable within the JVM, i.e. via an {@link InProcessAddress},
+     * are not serialized: a copy of the payload object is passed to the recipient instead. The payload is always
+     * serialized if {@link JoynrMessageProcessor}s are registered because they might inspect or modify it.
+     *
+     * @return the payload object to be passed to the recipient, or null if the payload has to be serialized
+     */
+    private Object createInProcessPayload(Message.MessageType joynrMessageType,
+                                          String toParticipantId,
+                                          Object payload) {
+        if (!inProcessObjectPassing || routingTable == null || !messageProcessors.isEmpty()
+                || !IN_PROCESS_MESSAGE_TYPES.contains(joynrMessageType)
+                || !routingTable.containsKey(toParticipantId)
+                || !(routingTable.get(toParticipantId) instanceof InProcessAddress)) {
+            return null;
+        }
+        return inProcessPayloadCopier.copy(payload);
+    }
+
     private byte[] serializePayload(Object payload) {
         // when using javax.annotatoins.NonNull annotation on capabilities parameter it will
         // cause a NoSuchMethodError
         assert (payload != null);
 
-        String serializedPayload;
+        if (payload.getClass() == String.class) {
+            return ((String) payload).getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] serializedPayload;
         try {
-            if (payload.getClass() == String.class) {
-                serializedPayload = (String) payload;
-            } else {
-                serializedPayload = objectMapper.writeValueAsString(payload);
-                logger.trace("SerializePayload as: {}", serializedPayload);
-            }
+            // serialize directly to UTF-8 to avoid an intermediate String
+            serializedPayload = objectMapper.writeValueAsBytes(payload);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return serializedPayload.getBytes(StandardCharsets.UTF_8);
+        if (logger.isTraceEnabled()) {
+            logger.trace("SerializePayload as: {}", new String(serializedPayload, StandardCharsets.UTF_8));
+        }
+        return serializedPayload;
     }
 }
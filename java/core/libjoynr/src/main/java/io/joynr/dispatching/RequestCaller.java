@@ -18,26 +18,125 @@
  */
 package io.joynr.dispatching;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.joynr.provider.AbstractJoynrProvider;
 import io.joynr.provider.CallContext;
 import io.joynr.provider.JoynrProvider;
+import io.joynr.util.ReflectionUtils;
+import joynr.OneWayRequest;
 
 public class RequestCaller implements JoynrProvider {
+    private static final Logger logger = LoggerFactory.getLogger(RequestCaller.class);
+    private static final Object[] NO_PARAMS = new Object[0];
 
     private Object provider;
     private Object proxy;
+    private final boolean usesCallContext;
+    // methodName -> invokers of all methods with this name, built once when the provider is registered
+    private final Map<String, MethodInvoker[]> methodInvokers;
+
+    /**
+     * Invokes one provider method via a method handle bound to the provider.
+     */
+    public static final class MethodInvoker {
+        private final Method method;
+        private final String[] paramDatatypes;
+        private final Class<?>[] parameterTypes;
+        // parameter types with primitives replaced by their wrappers, to check the arguments before invocation
+        private final Class<?>[] boxedParameterTypes;
+        private final MethodHandle methodHandle;
+
+        private MethodInvoker(Method method, Object provider) throws IllegalAccessException {
+            this.method = method;
+            this.parameterTypes = method.getParameterTypes();
+            this.paramDatatypes = ReflectionUtils.toDatatypeNames(parameterTypes);
+            this.boxedParameterTypes = new Class<?>[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                boxedParameterTypes[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+            }
+            this.methodHandle = unreflect(method).bindTo(provider)
+                                                 .asSpreader(Object[].class, paramDatatypes.length)
+                                                 .asType(MethodType.methodType(Object.class, Object[].class));
+        }
+
+        private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+            try {
+                return MethodHandles.publicLookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                // e.g. method of a non public interface
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            }
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        /**
+         * Throws the same exceptions as reflective invocation would for arguments which do not fit the method, so
+         * that exceptions thrown by the invocation itself are known to come from the provider.
+         */
+        private void checkArguments(Object[] params) {
+            if (params.length != boxedParameterTypes.length) {
+                throw new IllegalArgumentException("wrong number of arguments for " + method + ": " + params.length);
+            }
+            for (int i = 0; i < params.length; i++) {
+                if (params[i] == null ? parameterTypes[i].isPrimitive()
+                        : !boxedParameterTypes[i].isInstance(params[i])) {
+                    throw new IllegalArgumentException("argument type mismatch for parameter " + i + " of " + method);
+                }
+            }
+        }
+    }
 
     public RequestCaller(Object proxy, Object provider) {
         this.proxy = proxy;
         this.provider = provider;
+        this.usesCallContext = provider instanceof AbstractJoynrProvider;
+        this.methodInvokers = createMethodInvokers(proxy, provider);
+    }
+
+    private static Map<String, MethodInvoker[]> createMethodInvokers(Object proxy, Object provider) {
+        Map<String, List<MethodInvoker>> invokersByName = new HashMap<>();
+        if (proxy != null && provider != null) {
+            for (Class<?> providedInterface : proxy.getClass().getInterfaces()) {
+                if (!providedInterface.isInstance(provider)) {
+                    continue;
+                }
+                for (Method method : providedInterface.getMethods()) {
+                    try {
+                        invokersByName.computeIfAbsent(method.getName(), name -> new ArrayList<>())
+                                      .add(new MethodInvoker(method, provider));
+                    } catch (IllegalAccessException | SecurityException e) {
+                        logger.error("Provider method {} cannot be invoked, requests for it are rejected.",
+                                     method,
+                                     e);
+                    }
+                }
+            }
+        }
+        Map<String, MethodInvoker[]> methodInvokers = new HashMap<>();
+        invokersByName.forEach((name, invokers) -> methodInvokers.put(name,
+                                                                       invokers.toArray(new MethodInvoker[invokers.size()])));
+        return methodInvokers;
     }
 
     public void setContext(CallContext context) {
 
-        if (provider instanceof AbstractJoynrProvider) {
+        if (usesCallContext) {
             if (context != null) {
                 AbstractJoynrProvider.setCallContext(context);
             }
@@ -45,11 +144,56 @@ public class RequestCaller implements JoynrProvider {
     }
 
     public void removeContext() {
-        if (provider instanceof AbstractJoynrProvider) {
+        if (usesCallContext) {
             AbstractJoynrProvider.removeCallContext();
         }
     }
 
+    /**
+     * @return true if the provider can access the {@link CallContext} set via {@link #setContext(CallContext)}
+     */
+    public boolean usesCallContext() {
+        return usesCallContext;
+    }
+
+    /**
+     * Looks up the provider method with the name and joynr parameter datatype names (see
+     * ReflectionUtils.toDatatypeNames) of the given request. The datatype names are not copied.
+     *
+     * @param request the request
+     * @return the invoker of the method or null if the provider does not have such a method
+     */
+    public MethodInvoker findMethodInvoker(OneWayRequest request) {
+        MethodInvoker[] invokers = methodInvokers.get(request.getMethodName());
+        if (invokers != null) {
+            for (MethodInvoker invoker : invokers) {
+                if (request.hasParamDatatypes(invoker.paramDatatypes)) {
+                    return invoker;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Invokes the provider method.
+     *
+     * @param methodInvoker the invoker of the method
+     * @param params the arguments
+     * @return the result of the method
+     * @throws IllegalArgumentException if the arguments do not fit the parameters of the method
+     * @throws InvocationTargetException wrapping the exception thrown by the provider method
+     */
+    public Object invoke(MethodInvoker methodInvoker, Object[] params) throws InvocationTargetException {
+        Object[] arguments = params == null ? NO_PARAMS : params;
+        methodInvoker.checkArguments(arguments);
+        try {
+            return methodInvoker.methodHandle.invokeExact(arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
     public Object invoke(Method method, Object[] params) throws IllegalAccessException, IllegalArgumentException,
                                                          InvocationTargetException {
         return method.invoke(proxy, params);
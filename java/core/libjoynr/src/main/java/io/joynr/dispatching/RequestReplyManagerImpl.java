@@ -73,6 +73,10 @@ public class RequestReplyManagerImpl
     private ConcurrentHashMap<String, ConcurrentLinkedQueue<ContentWithExpiryDate<Request>>> requestQueue = new ConcurrentHashMap<>();
     private ConcurrentHashMap<String, ConcurrentLinkedQueue<ContentWithExpiryDate<OneWayRequest>>> oneWayRequestQueue = new ConcurrentHashMap<>();
     private ConcurrentHashMap<Request, ProviderCallback<Reply>> replyCallbacks = new ConcurrentHashMap<Request, ProviderCallback<Reply>>();
+    // participantIds with queued requests or whose queued requests are being handled after the provider has been
+    // added: new requests for them are queued, too, to keep the order of the requests; modified while holding
+    // requestQueueLock
+    private Set<String> queuingParticipantIds = ConcurrentHashMap.newKeySet();
 
     private ReplyCallerDirectory replyCallerDirectory;
     private ProviderDirectory providerDirectory;
@@ -234,6 +238,17 @@ public class RequestReplyManagerImpl
     @Override
     public void entryAdded(String participantId, ProviderContainer providerContainer) {
         RequestCaller requestCaller = providerContainer.getRequestCaller();
+        // the provider is already visible in the providerDirectory, but requests for it are still queued until
+        // all queued requests have been handled, including the ones queued while handling the queued requests
+        while (handleQueuedRequests(participantId, requestCaller)) {
+            logger.trace("Handled queued requests for provider participantId: {}", participantId);
+        }
+    }
+
+    /**
+     * @return false if there were no queued requests, requests are no longer queued for the participantId then
+     */
+    private boolean handleQueuedRequests(String participantId, RequestCaller requestCaller) {
         List<ScheduledFuture<?>> futuresList;
         ConcurrentLinkedQueue<ContentWithExpiryDate<Request>> requestList;
         LinkedList<ProviderCallback<Reply>> requestListCallbacks = new LinkedList<ProviderCallback<Reply>>();
@@ -249,6 +264,15 @@ public class RequestReplyManagerImpl
 
             oneWayRequestList = oneWayRequestQueue.remove(participantId);
             futuresList = cleanupSchedulerFuturesMap.remove(participantId);
+            if (requestList == null && oneWayRequestList == null) {
+                queuingParticipantIds.remove(participantId);
+            }
+        }
+
+        if (futuresList != null) {
+            for (ScheduledFuture<?> future : futuresList) {
+                future.cancel(false);
+            }
         }
 
         if (requestList != null) {
@@ -273,11 +297,15 @@ public class RequestReplyManagerImpl
                 }
             }
         }
+        return requestList != null || oneWayRequestList != null;
+    }
 
-        if (futuresList != null) {
-            for (ScheduledFuture<?> future : futuresList) {
-                future.cancel(false);
-            }
+    // requires requestQueueLock
+    private void queuedRequestExpired(String providerParticipantId) {
+        if (!requestQueue.containsKey(providerParticipantId)
+                && !oneWayRequestQueue.containsKey(providerParticipantId)
+                && providerDirectory.get(providerParticipantId) == null) {
+            queuingParticipantIds.remove(providerParticipantId);
         }
     }
 
@@ -289,11 +317,11 @@ public class RequestReplyManagerImpl
     @Override
     public void handleOneWayRequest(final String providerParticipantId, final OneWayRequest request, long expiryDate) {
         ProviderContainer providerContainer = providerDirectory.get(providerParticipantId);
-        if (providerContainer == null) {
+        if (providerContainer == null || queuingParticipantIds.contains(providerParticipantId)) {
             synchronized (requestQueueLock) {
                 providerContainer = providerDirectory.get(providerParticipantId);
-                if (providerContainer == null) {
-                    logger.info("Provider participantId: {} not found, queuing one-way request message.",
+                if (providerContainer == null || queuingParticipantIds.contains(providerParticipantId)) {
+                    logger.info("Provider participantId: {} not found or queued requests pending, queuing one-way request message.",
                                 providerParticipantId);
                     queueOneWayRequest(providerParticipantId,
                                        request,
@@ -327,6 +355,7 @@ public class RequestReplyManagerImpl
         final ContentWithExpiryDate<OneWayRequest> requestItem = new ContentWithExpiryDate<OneWayRequest>(oneWayRequest,
                                                                                                           expiryDate);
         oneWayRequestQueue.get(providerParticipantId).add(requestItem);
+        queuingParticipantIds.add(providerParticipantId);
 
         Runnable cleanupRunnable = new Runnable() {
 
@@ -339,6 +368,7 @@ public class RequestReplyManagerImpl
                         if (queue.isEmpty()) {
                             // cleanup
                             oneWayRequestQueue.remove(providerParticipantId);
+                            queuedRequestExpired(providerParticipantId);
                         }
                     }
                 }
@@ -364,11 +394,11 @@ public class RequestReplyManagerImpl
                               Request request,
                               long expiryDate) {
         ProviderContainer providerContainer = providerDirectory.get(providerParticipantId);
-        if (providerContainer == null) {
+        if (providerContainer == null || queuingParticipantIds.contains(providerParticipantId)) {
             synchronized (requestQueueLock) {
                 providerContainer = providerDirectory.get(providerParticipantId);
-                if (providerContainer == null) {
-                    logger.info("Provider participantId: {} not found, queuing request message.",
+                if (providerContainer == null || queuingParticipantIds.contains(providerParticipantId)) {
+                    logger.info("Provider participantId: {} not found or queued requests pending, queuing request message.",
                                 providerParticipantId);
                     queueRequest(replyCallback, providerParticipantId, request, ExpiryDate.fromAbsolute(expiryDate));
                     return;
@@ -396,6 +426,7 @@ public class RequestReplyManagerImpl
         final ContentWithExpiryDate<Request> requestItem = new ContentWithExpiryDate<Request>(request, expiryDate);
         requestQueue.get(providerParticipantId).add(requestItem);
         replyCallbacks.put(request, replyCallback);
+        queuingParticipantIds.add(providerParticipantId);
 
         Runnable cleanupRunnable = new Runnable() {
             @Override
@@ -406,7 +437,8 @@ public class RequestReplyManagerImpl
                         queue.remove(requestItem);
                         if (queue.isEmpty()) {
                             // cleanup
-                            oneWayRequestQueue.remove(providerParticipantId);
+                            requestQueue.remove(providerParticipantId);
+                            queuedRequestExpired(providerParticipantId);
                         }
                     }
                     replyCallbacks.remove(requestItem.getContent());
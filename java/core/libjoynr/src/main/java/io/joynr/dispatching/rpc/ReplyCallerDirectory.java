@@ -18,14 +18,10 @@
  */
 package io.joynr.dispatching.rpc;
 
-import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_TIMER_REPLY_CALLER;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,31 +32,34 @@ import com.google.inject.name.Named;
 
 import io.joynr.common.ExpiryDate;
 import io.joynr.dispatching.Directory;
-import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.exceptions.JoynrShutdownException;
 import io.joynr.exceptions.JoynrTimeoutException;
+import io.joynr.runtime.HashedWheelTimer;
+import io.joynr.runtime.HashedWheelTimer.Timeout;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
 
 /**
  * Queue to store replyCallers and remove them if the round-trip TTL of the corresponding request expires.
- *
+ * <p>
+ * The expiry of the replyCallers is scheduled on a hashed wheel timer, so adding and removing a replyCaller
+ * does not take a lock. A replyCaller expires at the latest one tick of the timer after its round-trip TTL,
+ * see {@link io.joynr.messaging.ConfigurableMessagingSettings#PROPERTY_REPLY_CALLER_EXPIRY_TOLERANCE_MS}.
  */
 @Singleton
 public class ReplyCallerDirectory extends Directory<ReplyCaller> implements ShutdownListener {
 
-    private boolean shutdown = false;
+    private volatile boolean shutdown = false;
     private static final Logger logger = LoggerFactory.getLogger(ReplyCallerDirectory.class);
 
-    private ScheduledExecutorService cleanupScheduler;
+    private final HashedWheelTimer expiryTimer;
 
-    private ConcurrentMap<String, ScheduledFuture<?>> cleanupSchedulerFuturesMap = null;
+    private final ConcurrentMap<String, Timeout> expiryTimeouts = new ConcurrentHashMap<>();
 
     @Inject
-    public ReplyCallerDirectory(@Named(JOYNR_SCHEDULER_CLEANUP) ScheduledExecutorService cleanupScheduler,
+    public ReplyCallerDirectory(@Named(JOYNR_TIMER_REPLY_CALLER) HashedWheelTimer expiryTimer,
                                 ShutdownNotifier shutdownNotifier) {
-        this.cleanupScheduler = cleanupScheduler;
-        this.cleanupSchedulerFuturesMap = new ConcurrentHashMap<>();
+        this.expiryTimer = expiryTimer;
         shutdownNotifier.registerForShutdown(this);
     }
 
@@ -68,39 +67,31 @@ public class ReplyCallerDirectory extends Directory<ReplyCaller> implements Shut
                                final ReplyCaller replyCaller,
                                final ExpiryDate roundTripTtlExpirationDate) {
         logger.trace("AddReplyCaller: requestReplyId: {}, expiryDate: {}", requestReplyId, roundTripTtlExpirationDate);
-        synchronized (this) {
-            if (super.get(requestReplyId) != null) {
-                logger.error("RequestReplyId should not be replicated: {}", requestReplyId);
-            } else {
-                super.add(requestReplyId, replyCaller);
-                try {
-                    ScheduledFuture<?> cleanupSchedulerFuture = cleanupScheduler.schedule(new Runnable() {
-                        @Override
-                        public void run() {
-                            removeExpiredReplyCaller(requestReplyId);
-                        }
-                    }, roundTripTtlExpirationDate.getRelativeTtl(), TimeUnit.MILLISECONDS);
-                    cleanupSchedulerFuturesMap.put(requestReplyId, cleanupSchedulerFuture);
-                } catch (RejectedExecutionException e) {
-                    if (shutdown) {
-                        throw new JoynrShutdownException("shutdown in ReplyCallerDirectory");
-                    }
-                    throw new JoynrRuntimeException(e);
-                }
-            }
+        if (shutdown) {
+            throw new JoynrShutdownException("shutdown in ReplyCallerDirectory");
+        }
+        if (!addIfAbsent(requestReplyId, replyCaller)) {
+            logger.error("RequestReplyId should not be replicated: {}", requestReplyId);
+            return;
+        }
+        Timeout expiryTimeout = expiryTimer.newTimeout(() -> removeExpiredReplyCaller(requestReplyId),
+                                                       roundTripTtlExpirationDate.getRelativeTtl());
+        expiryTimeouts.put(requestReplyId, expiryTimeout);
+        if (expiryTimeout.isExpired()) {
+            // the timeout might have expired before it was stored, see removeExpiredReplyCaller
+            expiryTimeouts.remove(requestReplyId, expiryTimeout);
+        } else if (get(requestReplyId) != replyCaller && expiryTimeouts.remove(requestReplyId, expiryTimeout)) {
+            // the reply might have been received and the replyCaller removed before the timeout was stored
+            expiryTimeout.cancel();
         }
     }
 
     @Override
     public ReplyCaller remove(String id) {
-        ReplyCaller replyCaller;
-        ScheduledFuture<?> future;
-        synchronized (this) {
-            replyCaller = super.remove(id);
-            future = cleanupSchedulerFuturesMap.remove(id);
-        }
-        if (future != null) {
-            future.cancel(false);
+        ReplyCaller replyCaller = super.remove(id);
+        Timeout expiryTimeout = expiryTimeouts.remove(id);
+        if (expiryTimeout != null) {
+            expiryTimeout.cancel();
         }
         return replyCaller;
     }
@@ -120,12 +111,11 @@ public class ReplyCallerDirectory extends Directory<ReplyCaller> implements Shut
 
     @Override
     public void shutdown() {
-        synchronized (this) {
-            for (ScheduledFuture<?> cleanupSchedulerFuture : cleanupSchedulerFuturesMap.values()) {
-                cleanupSchedulerFuture.cancel(false);
-            }
-            shutdown = true;
+        shutdown = true;
+        for (Timeout expiryTimeout : expiryTimeouts.values()) {
+            expiryTimeout.cancel();
         }
+        expiryTimeouts.clear();
     }
 
     @Override
@@ -20,10 +20,7 @@ package io.joynr.dispatching.rpc;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +31,7 @@ import com.google.inject.Provider;
 import io.joynr.JoynrVersion;
 import io.joynr.context.JoynrMessageScope;
 import io.joynr.dispatching.RequestCaller;
+import io.joynr.dispatching.RequestCaller.MethodInvoker;
 import io.joynr.exceptions.JoynrException;
 import io.joynr.messaging.JoynrMessageCreator;
 import io.joynr.messaging.JoynrMessageMetaInfo;
@@ -42,9 +40,7 @@ import io.joynr.provider.CallContext;
 import io.joynr.provider.Promise;
 import io.joynr.provider.PromiseListener;
 import io.joynr.provider.ProviderCallback;
-import io.joynr.proxy.MethodSignature;
 import io.joynr.util.AnnotationUtil;
-import io.joynr.util.ReflectionUtils;
 import joynr.OneWayRequest;
 import joynr.Reply;
 import joynr.Request;
@@ -71,13 +67,6 @@ public class RequestInterpreter {
         this.joynrMessageContext = joynrMessageContext;
     }
 
-    // use for caching because creation of MethodMetaInformation is expensive
-    // ConcurrentMap<ClassName, ConcurrentMap<MethodName, MethodMetaInformation>
-    // >
-    // TODO move methodMetaInformation to a central place, save metaInformations in a cache (e.g. with predefined max
-    // size)
-    private final ConcurrentMap<MethodSignature, Method> methodSignatureToMethodMap = new ConcurrentHashMap<MethodSignature, Method>();
-
     private Reply createReply(Request request, Object... response) {
         return new Reply(request.getRequestReplyId(), response);
     }
@@ -143,33 +132,24 @@ public class RequestInterpreter {
     }
 
     public Object invokeMethod(RequestCaller requestCaller, OneWayRequest request) {
-        // A method is identified by its defining request caller, its name and the types of its arguments
-        MethodSignature methodSignature = new MethodSignature(requestCaller,
-                                                              request.getMethodName(),
-                                                              request.getParamDatatypes());
-
-        ensureMethodMetaInformationPresent(requestCaller, request, methodSignature);
-
-        Method method = methodSignatureToMethodMap.get(methodSignature);
+        // A method is identified by its name and the types of its arguments in the dispatch table of the request caller
+        MethodInvoker methodInvoker = requestCaller.findMethodInvoker(request);
+        if (methodInvoker == null) {
+            logger.error("RequestInterpreter: Received an RPC invocation for non existing method in {}.",
+                         logRequest(request));
+            JoynrVersion joynrVersion = AnnotationUtil.getAnnotation(requestCaller.getProxy().getClass(),
+                                                                     JoynrVersion.class);
+            throw new MethodInvocationException(new NoSuchMethodException(request.getMethodName()).toString(),
+                                                new Version(joynrVersion.major(), joynrVersion.minor()));
+        }
 
-        Object[] params = null;
+        Object[] params = request.getParams();
         try {
-            if (method.getParameterTypes().length > 0) {
-                // method with parameters
-                params = request.getParams();
-            }
             joynrMessageScope.activate();
             setContext(requestCaller, request);
 
-            logger.trace("Invoke provider method {}({})", method.getName(), params);
-            return requestCaller.invoke(method, params);
-        } catch (IllegalAccessException e) {
-            logger.error("RequestInterpreter: Received an RPC invocation for a non public method {}",
-                         logRequest(request));
-            JoynrVersion joynrVersion = AnnotationUtil.getAnnotation(requestCaller.getProxy().getClass(),
-                                                                     JoynrVersion.class);
-            throw new MethodInvocationException(e, new Version(joynrVersion.major(), joynrVersion.minor()));
-
+            logger.trace("Invoke provider method {}({})", request.getMethodName(), params);
+            return requestCaller.invoke(methodInvoker, params);
         } catch (InvocationTargetException e) {
             logger.debug("InvokeMethod error", e);
             Throwable cause = e.getCause();
@@ -190,32 +170,11 @@ public class RequestInterpreter {
         joynrMessageCreatorProvider.get().setMessageCreatorId(creatorUserId);
         joynrMessageContext.get().setMessageContext(context);
         // allow requestCaller to set thread-local CallContext
-        CallContext callContext = new CallContext();
-        callContext.setContext(context);
-        callContext.setPrincipal(creatorUserId);
-        requestCaller.setContext(callContext);
-    }
-
-    private void ensureMethodMetaInformationPresent(RequestCaller requestCaller,
-                                                    OneWayRequest request,
-                                                    MethodSignature methodSignature) {
-        try {
-            if (!methodSignatureToMethodMap.containsKey(methodSignature)) {
-                Method method;
-                method = ReflectionUtils.findMethodByParamTypeNames(methodSignature.getRequestCaller()
-                                                                                   .getProxy()
-                                                                                   .getClass(),
-                                                                    methodSignature.getMethodName(),
-                                                                    methodSignature.getParameterTypeNames());
-                methodSignatureToMethodMap.putIfAbsent(methodSignature, method);
-            }
-        } catch (NoSuchMethodException e) {
-            logger.error("RequestInterpreter: Received an RPC invocation for non existing method in {}. Error:",
-                         logRequest(request),
-                         e);
-            JoynrVersion joynrVersion = AnnotationUtil.getAnnotation(requestCaller.getProxy().getClass(),
-                                                                     JoynrVersion.class);
-            throw new MethodInvocationException(e.toString(), new Version(joynrVersion.major(), joynrVersion.minor()));
+        if (requestCaller.usesCallContext()) {
+            CallContext callContext = new CallContext();
+            callContext.setContext(context);
+            callContext.setPrincipal(creatorUserId);
+            requestCaller.setContext(callContext);
         }
     }
 }
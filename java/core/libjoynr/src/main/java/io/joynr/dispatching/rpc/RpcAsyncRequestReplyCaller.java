@@ -20,6 +20,7 @@ package io.joynr.dispatching.rpc;
 
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +40,8 @@ public class RpcAsyncRequestReplyCaller<T> implements ReplyCaller {
     private Method method;
     private MethodMetaInformation methodMetaInformation;
     private Future<T> future;
+    // completed directly from the thread delivering the reply, no lock involved
+    private CompletableFuture<Object> completableFuture;
     private static final Logger logger = LoggerFactory.getLogger(RpcAsyncRequestReplyCaller.class);
     private String requestReplyId;
     private Object proxy;
@@ -59,6 +62,22 @@ public class RpcAsyncRequestReplyCaller<T> implements ReplyCaller {
         this.methodMetaInformation = methodMetaInformation;
     }
 
+    /**
+     * Creates a reply caller for a proxy method returning a CompletableFuture: the future is completed with the
+     * reply converted to the type argument of the method's return type.
+     */
+    public RpcAsyncRequestReplyCaller(Object proxy,
+                                      String requestReplyId,
+                                      CompletableFuture<Object> completableFuture,
+                                      Method method,
+                                      MethodMetaInformation methodMetaInformation) {
+        this.proxy = proxy;
+        this.requestReplyId = requestReplyId;
+        this.completableFuture = completableFuture;
+        this.method = method;
+        this.methodMetaInformation = methodMetaInformation;
+    }
+
     @Override
     public void messageCallBack(Reply payload) {
 
@@ -87,18 +106,16 @@ public class RpcAsyncRequestReplyCaller<T> implements ReplyCaller {
                 if (future != null) {
                     future.onFailure(payload.getError());
                 }
+                if (completableFuture != null) {
+                    completableFuture.completeExceptionally((Throwable) payload.getError());
+                }
+            } else if (completableFuture != null) {
+                Object result = RpcUtils.reconstructCompletableFutureReplyObject(method, payload);
+                logSuccess(result);
+                completableFuture.complete(result);
             } else {
                 response = RpcUtils.reconstructCallbackReplyObject(method, methodMetaInformation, payload);
-                if (logger.isTraceEnabled()) {
-                    logger.trace("REQUEST returns successful: requestReplyId: {}, method {}, response: {}",
-                                 requestReplyId,
-                                 method.getName(),
-                                 response);
-                } else {
-                    logger.debug("REQUEST returns successful: requestReplyId: {}, method {}, response: [not available with current loglevel]",
-                                 requestReplyId,
-                                 method.getName());
-                }
+                logSuccess(response);
                 // Callback must be called first before releasing the future
                 if (callback != null) {
                     callback.resolve(response);
@@ -110,6 +127,22 @@ public class RpcAsyncRequestReplyCaller<T> implements ReplyCaller {
             }
         } catch (Exception e) {
             logger.error("Error calling async method {}: ", method.getName(), e);
+            if (completableFuture != null) {
+                completableFuture.completeExceptionally(new JoynrRuntimeException(e));
+            }
+        }
+    }
+
+    private void logSuccess(Object response) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("REQUEST returns successful: requestReplyId: {}, method {}, response: {}",
+                         requestReplyId,
+                         method.getName(),
+                         response);
+        } else {
+            logger.debug("REQUEST returns successful: requestReplyId: {}, method {}, response: [not available with current loglevel]",
+                         requestReplyId,
+                         method.getName());
         }
     }
 
@@ -128,6 +161,9 @@ public class RpcAsyncRequestReplyCaller<T> implements ReplyCaller {
         if (future != null) {
             future.onFailure(joynrException);
         }
+        if (completableFuture != null) {
+            completableFuture.completeExceptionally((Throwable) joynrException);
+        }
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -20,6 +20,8 @@ package io.joynr.dispatching.rpc;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,19 +41,37 @@ public class RpcUtils {
     public static Object reconstructReturnedObject(Method method,
                                                    MethodMetaInformation methodMetaInformation,
                                                    Object... response) {
+        return reconstructReturnedObject(method, method.getReturnType(), response);
+    }
+
+    /**
+     * Reconstructs the value a CompletableFuture returned by a proxy method is completed with. The type of the value
+     * is the type argument of the method's return type, i.e. the plain out parameter type, Void or the
+     * multi-out container.
+     */
+    public static Object reconstructCompletableFutureReplyObject(Method method, Reply reply) {
+        Type returnType = method.getGenericReturnType();
+        if (!(returnType instanceof ParameterizedType)
+                || !(((ParameterizedType) returnType).getActualTypeArguments()[0] instanceof Class)) {
+            throw new IllegalStateException("Received a reply to a rpc method call without CompletableFuture return type including the type of the returned value");
+        }
+        Class<?> returnedType = (Class<?>) ((ParameterizedType) returnType).getActualTypeArguments()[0];
+        return reconstructReturnedObject(method, returnedType, reply.getResponse());
+    }
+
+    private static Object reconstructReturnedObject(Method method, Class<?> returnedType, Object... response) {
 
         Object responsePayload = null;
 
         if (response.length == 1) {
-            responsePayload = objectMapper.convertValue(response[0], method.getReturnType());
+            responsePayload = objectMapper.convertValueIfRequired(response[0], returnedType);
         } else if (response.length > 1) {
             try {
-                convertMultioutResponseToCorrectTypes(method, response);
+                convertMultioutResponseToCorrectTypes(method, returnedType, response);
 
                 final Class<?>[] constructorParameterTypes = { Object[].class };
-                responsePayload = method.getReturnType()
-                                        .getConstructor(constructorParameterTypes)
-                                        .newInstance((Object) response);
+                responsePayload = returnedType.getConstructor(constructorParameterTypes)
+                                              .newInstance((Object) response);
             } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
                     | InvocationTargetException | NoSuchMethodException | SecurityException e) {
                 logger.error("Error calling multi-out method: {}. Unable to recreate return object. Returning NULL instead: ",
@@ -78,16 +98,16 @@ public class RpcUtils {
         } else if (responseParameterCount == 1) {
             responsePayload = new Object[1];
             try {
-                responsePayload[0] = objectMapper.convertValue(response.getResponse()[0],
-                                                               methodMetaInformation.getCallbackAnnotation()
-                                                                                    .deserializationType());
+                responsePayload[0] = objectMapper.convertValueIfRequired(response.getResponse()[0],
+                                                                         methodMetaInformation.getCallbackAnnotation()
+                                                                                              .deserializationType());
             } catch (IllegalArgumentException e) {
                 logger.error("Error calling method: {}. Unable to recreate response for callback. Returning NULL instead",
                              method.getName(),
                              e);
             }
         } else if (response.getResponse().length > 1) {
-            convertMultioutResponseToCorrectTypes(method, response.getResponse());
+            convertMultioutResponseToCorrectTypes(method, method.getReturnType(), response.getResponse());
             responsePayload = response.getResponse();
         }
         return responsePayload;
@@ -101,19 +121,21 @@ public class RpcUtils {
         Class<?>[] returnValuesTypes = statelessCallbackMethod.getParameterTypes();
 
         for (int i = 0; i < returnValuesCount; i++) {
-            returnValues[i] = objectMapper.convertValue(response[i], returnValuesTypes[i]);
+            returnValues[i] = objectMapper.convertValueIfRequired(response[i], returnValuesTypes[i]);
         }
 
         return returnValues;
     }
 
-    private static void convertMultioutResponseToCorrectTypes(Method method, Object... response) {
+    private static void convertMultioutResponseToCorrectTypes(Method method,
+                                                              Class<?> returnedType,
+                                                              Object... response) {
         Method getDatatypes;
         try {
-            getDatatypes = method.getReturnType().getMethod("getDatatypes");
+            getDatatypes = returnedType.getMethod("getDatatypes");
             Class<?>[] responseDatatypes = (Class<?>[]) getDatatypes.invoke(null);
             for (int i = 0; i < response.length; i++) {
-                response[i] = objectMapper.convertValue(response[i], responseDatatypes[i]);
+                response[i] = objectMapper.convertValueIfRequired(response[i], responseDatatypes[i]);
             }
         } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
                 | InvocationTargetException e) {
@@ -19,6 +19,7 @@
 package io.joynr.dispatching.subscription;
 
 import io.joynr.pubsub.publication.AttributeListener;
+import io.joynr.pubsub.publication.PublicationValues;
 
 public class AttributeListenerImpl implements AttributeListener {
 
@@ -37,4 +38,9 @@ public class AttributeListenerImpl implements AttributeListener {
 
     }
 
+    @Override
+    public void attributeValueChanged(PublicationValues values) {
+        publicationManagerImpl.attributeValueChanged(subscriptionId, values);
+    }
+
 }
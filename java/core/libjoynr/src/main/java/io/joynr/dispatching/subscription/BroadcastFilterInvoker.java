@@ -0,0 +1,110 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching.subscription;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import io.joynr.pubsub.publication.BroadcastFilter;
+import joynr.BroadcastFilterParameters;
+
+/**
+ * Invokes the filter method of a broadcast filter class.
+ * <p>
+ * The filter method and its parameters type are resolved once per filter class, the filter is called via a method
+ * handle instead of reflection.
+ */
+final class BroadcastFilterInvoker {
+
+    private static final ClassValue<BroadcastFilterInvoker> invokers = new ClassValue<BroadcastFilterInvoker>() {
+        @Override
+        protected BroadcastFilterInvoker computeValue(Class<?> filterClass) {
+            return new BroadcastFilterInvoker(filterClass);
+        }
+    };
+
+    // null if the filter class does not have a filter method
+    private final MethodHandle filterMethodHandle;
+    private final Class<? extends BroadcastFilterParameters> filterParametersType;
+
+    static BroadcastFilterInvoker forFilter(BroadcastFilter filter) {
+        return invokers.get(filter.getClass());
+    }
+
+    @SuppressWarnings("unchecked")
+    private BroadcastFilterInvoker(Class<?> filterClass) {
+        Method filterMethod = null;
+        for (Method method : filterClass.getMethods()) {
+            if (method.getName().equals("filter")) {
+                filterMethod = method;
+                break;
+            }
+        }
+        if (filterMethod == null) {
+            filterMethodHandle = null;
+            filterParametersType = null;
+            return;
+        }
+        Class<?>[] parameterTypes = filterMethod.getParameterTypes();
+        filterParametersType = (Class<? extends BroadcastFilterParameters>) parameterTypes[parameterTypes.length - 1];
+        try {
+            filterMethod.setAccessible(true);
+            filterMethodHandle = MethodHandles.lookup()
+                                              .unreflect(filterMethod)
+                                              .asSpreader(Object[].class, parameterTypes.length)
+                                              .asType(MethodType.methodType(boolean.class,
+                                                                            Object.class,
+                                                                            Object[].class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Unable to access filter method of " + filterClass, e);
+        }
+    }
+
+    /**
+     * @return false if the filter class does not have a filter method, i.e. no filtering is done
+     */
+    boolean hasFilterMethod() {
+        return filterMethodHandle != null;
+    }
+
+    Class<? extends BroadcastFilterParameters> getFilterParametersType() {
+        return filterParametersType;
+    }
+
+    /**
+     * Creates the filter parameters object of the type expected by the filter method.
+     */
+    BroadcastFilterParameters createFilterParameters(BroadcastFilterParameters filterParameters) throws ReflectiveOperationException {
+        BroadcastFilterParameters filterParametersDerived = filterParametersType.getDeclaredConstructor()
+                                                                                .newInstance();
+        filterParametersDerived.setFilterParameters(filterParameters.getFilterParameters());
+        return filterParametersDerived;
+    }
+
+    boolean filter(BroadcastFilter filter,
+                   Object[] values,
+                   BroadcastFilterParameters filterParametersDerived) throws Throwable {
+        Object[] args = Arrays.copyOf(values, values.length + 1);
+        args[args.length - 1] = filterParametersDerived;
+        return (boolean) filterMethodHandle.invokeExact((Object) filter, args);
+    }
+}
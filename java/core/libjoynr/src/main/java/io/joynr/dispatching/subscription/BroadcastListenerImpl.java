@@ -22,6 +22,7 @@ import java.util.List;
 
 import io.joynr.pubsub.publication.BroadcastFilter;
 import io.joynr.pubsub.publication.BroadcastListener;
+import io.joynr.pubsub.publication.PublicationValues;
 
 public class BroadcastListenerImpl implements BroadcastListener {
 
@@ -37,4 +38,9 @@ public class BroadcastListenerImpl implements BroadcastListener {
     public void broadcastOccurred(List<BroadcastFilter> filters, Object... values) {
         publicationManagerImpl.broadcastOccurred(subscriptionId, filters, values);
     }
+
+    @Override
+    public void broadcastOccurred(List<BroadcastFilter> filters, PublicationValues values) {
+        publicationManagerImpl.broadcastOccurred(subscriptionId, filters, values);
+    }
 }
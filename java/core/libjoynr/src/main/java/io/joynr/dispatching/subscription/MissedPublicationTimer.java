@@ -18,12 +18,11 @@
  */
 package io.joynr.dispatching.subscription;
 
-import java.util.TimerTask;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
+import io.joynr.runtime.HashedWheelTimer;
 import joynr.exceptions.PublicationMissedException;
 
 public class MissedPublicationTimer extends PubSubTimerBase {
@@ -39,8 +38,9 @@ public class MissedPublicationTimer extends PubSubTimerBase {
                                   long alertAfterInterval_ms,
                                   AttributeSubscriptionListener<?> callback,
                                   PubSubState state,
-                                  String subscrptionId) {
-        super(expiryDate, state);
+                                  String subscrptionId,
+                                  HashedWheelTimer timer) {
+        super(expiryDate, state, timer);
         this.expectedInterval_ms = expectedInterval_ms;
         this.alertAfterInterval_ms = alertAfterInterval_ms;
         this.callback = callback;
@@ -48,7 +48,7 @@ public class MissedPublicationTimer extends PubSubTimerBase {
         startTimer();
     }
 
-    class MissedPublicationTask extends TimerTask {
+    class MissedPublicationTask implements Runnable {
 
         @Override
         public void run() {
@@ -77,7 +77,7 @@ public class MissedPublicationTimer extends PubSubTimerBase {
     }
 
     @Override
-    protected TimerTask getTimerTask() {
+    protected Runnable getTimerTask() {
         return new MissedPublicationTask();
     };
 
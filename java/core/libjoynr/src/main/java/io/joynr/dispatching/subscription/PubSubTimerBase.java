@@ -18,24 +18,30 @@
  */
 package io.joynr.dispatching.subscription;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.joynr.pubsub.SubscriptionQos;
+import io.joynr.runtime.HashedWheelTimer;
+import io.joynr.runtime.HashedWheelTimer.Timeout;
 
 public abstract class PubSubTimerBase {
     protected long expiryDate;
     protected PubSubState state;
-    protected Timer timer = new Timer();
+    protected final HashedWheelTimer timer;
+    private final Object timeoutLock = new Object();
+    private Timeout timeout;
     private static final Logger logger = LoggerFactory.getLogger(PubSubTimerBase.class);
 
-    public PubSubTimerBase(long expiryDate, PubSubState state) {
+    /**
+     * @param expiryDate expiry date of the subscription
+     * @param state state of the subscription
+     * @param timer shared timer on which the timer tasks are scheduled
+     */
+    public PubSubTimerBase(long expiryDate, PubSubState state, HashedWheelTimer timer) {
         this.state = state;
         this.expiryDate = expiryDate;
-
+        this.timer = timer;
     }
 
     public void startTimer() {
@@ -52,19 +58,26 @@ public abstract class PubSubTimerBase {
     }
 
     public void cancel() {
-        synchronized (timer) {
+        synchronized (timeoutLock) {
             state.stop();
-            timer.cancel();
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
         }
     }
 
     protected void rescheduleTimer(long delay) {
-        synchronized (timer) {
+        synchronized (timeoutLock) {
             boolean isExpiredNow = isExpiredInMs(0);
             boolean isExpiredBeforeNextPublication = isExpiredInMs(delay);
             if (!isExpiredNow && !isExpiredBeforeNextPublication && !state.isStopped()) {
                 logger.trace("Rescheduling PubSubTimer with delay {}.", delay);
-                timer.schedule(getTimerTask(), delay);
+                if (timeout != null) {
+                    // no-op if called from the expired task itself
+                    timeout.cancel();
+                }
+                timeout = timer.newTimeout(getTimerTask(), delay);
             } else {
                 if (logger.isTraceEnabled()) {
                     if (isExpiredNow) {
@@ -81,6 +94,6 @@ public abstract class PubSubTimerBase {
         }
     }
 
-    protected abstract TimerTask getTimerTask();
+    protected abstract Runnable getTimerTask();
 
 }
@@ -18,7 +18,7 @@
  */
 package io.joynr.dispatching.subscription;
 
-import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_TIMER_SUBSCRIPTION;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
@@ -31,9 +31,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,8 +61,12 @@ import io.joynr.pubsub.HeartbeatSubscriptionInformation;
 import io.joynr.pubsub.SubscriptionQos;
 import io.joynr.pubsub.publication.AttributeListener;
 import io.joynr.pubsub.publication.BroadcastFilter;
+import io.joynr.pubsub.publication.BroadcastFilterChain;
 import io.joynr.pubsub.publication.BroadcastListener;
 import io.joynr.pubsub.publication.MulticastListener;
+import io.joynr.pubsub.publication.PublicationValues;
+import io.joynr.runtime.HashedWheelTimer;
+import io.joynr.runtime.HashedWheelTimer.Timeout;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
 import io.joynr.util.MultiMap;
@@ -91,15 +92,15 @@ public class PublicationManagerImpl
     private final ConcurrentMap<String, PublicationInformation> subscriptionId2PublicationInformation;
     // Map SubscriptionId -> PublicationTimer
     private final ConcurrentMap<String, PublicationTimer> publicationTimers;
-    // Map SubscriptionId -> ScheduledFuture
-    private final ConcurrentMap<String, ScheduledFuture<?>> subscriptionEndFutures;
+    // Map SubscriptionId -> Timeout
+    private final ConcurrentMap<String, Timeout> subscriptionEndFutures;
     // Map SubscriptionId -> UnregisterAttributeListener
     private final ConcurrentMap<String, UnregisterAttributeListener> unregisterAttributeListeners;
     // Map SubscriptionId -> UnregisterBroadcastListener
     private final ConcurrentMap<String, UnregisterBroadcastListener> unregisterBroadcastListeners;
 
     private AttributePollInterpreter attributePollInterpreter;
-    private ScheduledExecutorService cleanupScheduler;
+    private HashedWheelTimer subscriptionTimer;
     private Dispatcher dispatcher;
     private ProviderDirectory providerDirectory;
     private RoutingTable routingTable;
@@ -119,6 +120,8 @@ public class PublicationManagerImpl
         private String proxyParticipantId;
         private SubscriptionRequest subscriptionRequest;
         private PubSubState pubState;
+        // filter parameters of a broadcast subscription converted to the types expected by the filters
+        private final ConcurrentMap<Class<?>, BroadcastFilterParameters> derivedFilterParameters = new ConcurrentHashMap<>();
 
         PublicationInformation(String providerParticipantId,
                                String proxyParticipantId,
@@ -197,14 +200,14 @@ public class PublicationManagerImpl
                                   Dispatcher dispatcher,
                                   ProviderDirectory providerDirectory,
                                   RoutingTable routingTable,
-                                  @Named(JOYNR_SCHEDULER_CLEANUP) ScheduledExecutorService cleanupScheduler,
+                                  @Named(JOYNR_TIMER_SUBSCRIPTION) HashedWheelTimer subscriptionTimer,
                                   ShutdownNotifier shutdownNotifier) {
         super();
         this.dispatcher = dispatcher;
         this.providerDirectory = providerDirectory;
         this.routingTable = routingTable;
         this.addRemoveLock = new Object();
-        this.cleanupScheduler = cleanupScheduler;
+        this.subscriptionTimer = subscriptionTimer;
         this.queuedSubscriptionRequests = new MultiMap<>();
         this.subscriptionId2PublicationInformation = new ConcurrentHashMap<>();
         this.publicationTimers = new ConcurrentHashMap<>();
@@ -240,7 +243,8 @@ public class PublicationManagerImpl
                                                                     method,
                                                                     providerContainer,
                                                                     this,
-                                                                    attributePollInterpreter);
+                                                                    attributePollInterpreter,
+                                                                    subscriptionTimer);
 
                 timer.startTimer();
                 publicationTimers.put(subscriptionId, timer);
@@ -366,16 +370,16 @@ public class PublicationManagerImpl
     // requires addRemoveLock: subscriptionEndFutures
     private void updateSubscriptionCleanupIfNecessary(SubscriptionRequest subscriptionRequest,
                                                       long subscriptionEndDelay) {
-        ScheduledFuture<?> future = subscriptionEndFutures.remove(subscriptionRequest.getSubscriptionId());
+        Timeout future = subscriptionEndFutures.remove(subscriptionRequest.getSubscriptionId());
         if (future != null) {
-            future.cancel(true);
+            future.cancel();
         }
         // cleanup is only necessary if publication information is stored and the subscription expires
         // no information is stored for non queued multicast subscriptions
         if (subscriptionId2PublicationInformation.containsKey(subscriptionRequest.getSubscriptionId())
                 && subscriptionRequest.getQos().getExpiryDateMs() != SubscriptionQos.NO_EXPIRY_DATE) {
             final String subscriptionId = subscriptionRequest.getSubscriptionId();
-            ScheduledFuture<?> subscriptionEndFuture = cleanupScheduler.schedule(new Runnable() {
+            Timeout subscriptionEndFuture = subscriptionTimer.newTimeout(new Runnable() {
 
                 @Override
                 public void run() {
@@ -385,7 +389,7 @@ public class PublicationManagerImpl
                     }
                 }
 
-            }, subscriptionEndDelay, TimeUnit.MILLISECONDS);
+            }, subscriptionEndDelay);
             subscriptionEndFutures.put(subscriptionId, subscriptionEndFuture);
         }
     }
@@ -473,9 +477,9 @@ public class PublicationManagerImpl
         if (!cancelQueuedAndOngoingPublication(subscriptionId)) {
             return;
         }
-        ScheduledFuture<?> future = subscriptionEndFutures.remove(subscriptionId);
+        Timeout future = subscriptionEndFutures.remove(subscriptionId);
         if (future != null) {
-            future.cancel(true);
+            future.cancel();
         }
         PublicationInformation publicationInformation = subscriptionId2PublicationInformation.remove(subscriptionId);
         if (!(publicationInformation.getSubscriptionRequest() instanceof MulticastSubscriptionRequest)) {
@@ -622,6 +626,16 @@ public class PublicationManagerImpl
 
     @Override
     public void attributeValueChanged(String subscriptionId, Object value) {
+        attributeValueChanged(subscriptionId, new PublicationValues(Arrays.asList(value)));
+    }
+
+    /**
+     * Sends the changed attribute value to the subscriber of the subscription.
+     *
+     * @param subscriptionId the id of the subscription
+     * @param values the changed value, shared by all subscriptions of the attribute and serialized only once
+     */
+    public void attributeValueChanged(String subscriptionId, PublicationValues values) {
         // no lock for subscriptionId2PublicationInformation
         PublicationInformation publicationInformation = subscriptionId2PublicationInformation.get(subscriptionId);
         if (publicationInformation != null) {
@@ -632,7 +646,7 @@ public class PublicationManagerImpl
             } else {
                 // no lock for publicationTimers
                 PublicationTimer publicationTimer = publicationTimers.get(subscriptionId);
-                SubscriptionPublication publication = prepareAttributePublication(value, subscriptionId);
+                SubscriptionPublication publication = new SubscriptionPublication(values, subscriptionId);
                 if (publicationTimer != null) {
                     // used by OnChangedWithKeepAlive
                     publicationTimer.sendPublicationNow(publication);
@@ -651,6 +665,17 @@ public class PublicationManagerImpl
 
     @Override
     public void broadcastOccurred(String subscriptionId, List<BroadcastFilter> filters, Object... values) {
+        broadcastOccurred(subscriptionId, filters, new PublicationValues(Arrays.asList(values)));
+    }
+
+    /**
+     * Sends the broadcast values to the subscriber of the subscription if they pass the filters.
+     *
+     * @param subscriptionId the id of the subscription
+     * @param filters the filters of the broadcast
+     * @param values the broadcast values, shared by all subscriptions of the broadcast and serialized only once
+     */
+    public void broadcastOccurred(String subscriptionId, List<BroadcastFilter> filters, PublicationValues values) {
         // no lock for subscriptionId2PublicationInformation
         PublicationInformation publicationInformation = subscriptionId2PublicationInformation.get(subscriptionId);
         if (publicationInformation != null) {
@@ -659,8 +684,7 @@ public class PublicationManagerImpl
                 long minInterval = ((OnChangeSubscriptionQos) publicationInformation.getQos()).getMinIntervalMs();
                 if (minInterval <= System.currentTimeMillis()
                         - publicationInformation.getState().getTimeOfLastPublication()) {
-                    sendPublication(prepareBroadcastPublication(Arrays.asList(values), subscriptionId),
-                                    publicationInformation);
+                    sendPublication(new SubscriptionPublication(values, subscriptionId), publicationInformation);
                     logger.trace("Event occured changed for subscription id: {} sending publication: ", subscriptionId);
                 } else {
                     logger.trace("Two subsequent broadcasts of event {} occured within minInterval of subscription with id {}. Event will not be sent to the subscribing client.",
@@ -676,38 +700,40 @@ public class PublicationManagerImpl
 
     private boolean processFilterChain(PublicationInformation publicationInformation,
                                        List<BroadcastFilter> filters,
-                                       Object[] values) {
+                                       PublicationValues values) {
 
         if (filters != null && filters.size() > 0) {
+            Object[] filterValues = values.getValues().toArray();
             BroadcastSubscriptionRequest subscriptionRequest = (BroadcastSubscriptionRequest) publicationInformation.subscriptionRequest;
             BroadcastFilterParameters filterParameters = subscriptionRequest.getFilterParameters();
+            // the results of the filters can be shared by all subscriptions of the fired broadcast
+            BroadcastFilterChain filterChain = (filters instanceof BroadcastFilterChain)
+                    ? (BroadcastFilterChain) filters
+                    : null;
 
             for (BroadcastFilter filter : filters) {
-                Method filterMethod = null;
                 try {
-                    Method[] methodsOfFilterClass = filter.getClass().getMethods();
-                    for (Method method : methodsOfFilterClass) {
-                        if (method.getName().equals("filter")) {
-                            filterMethod = method;
-                            break;
-                        }
-                    }
-                    if (filterMethod == null) {
+                    BroadcastFilterInvoker filterInvoker = BroadcastFilterInvoker.forFilter(filter);
+                    if (!filterInvoker.hasFilterMethod()) {
                         // no filtering
                         return true;
                     }
-                    filterMethod.setAccessible(true);
-
-                    Class<?> filterParametersType = filterMethod.getParameterTypes()[values.length];
-                    BroadcastFilterParameters filterParametersDerived = (BroadcastFilterParameters) filterParametersType.newInstance();
-                    filterParametersDerived.setFilterParameters(filterParameters.getFilterParameters());
-                    Object[] args = Arrays.copyOf(values, values.length + 1);
-                    args[args.length - 1] = filterParametersDerived;
 
-                    if ((Boolean) filterMethod.invoke(filter, args) == false) {
+                    Boolean result = (filterChain == null) ? null
+                            : filterChain.getFilterResult(filter, filterParameters.getFilterParameters());
+                    if (result == null) {
+                        BroadcastFilterParameters filterParametersDerived = getDerivedFilterParameters(publicationInformation,
+                                                                                                       filterInvoker,
+                                                                                                       filterParameters);
+                        result = filterInvoker.filter(filter, filterValues, filterParametersDerived);
+                        if (filterChain != null) {
+                            filterChain.putFilterResult(filter, filterParameters.getFilterParameters(), result);
+                        }
+                    }
+                    if (!result) {
                         return false;
                     }
-                } catch (Exception e) {
+                } catch (Throwable e) {
                     logger.error("ProcessFilterChain error:", e);
                     throw new IllegalStateException("processFilterChain: Error in reflection calling filters.", e);
                 }
@@ -716,12 +742,20 @@ public class PublicationManagerImpl
         return true;
     }
 
-    private SubscriptionPublication prepareAttributePublication(Object value, String subscriptionId) {
-        return new SubscriptionPublication(Arrays.asList(value), subscriptionId);
+    private BroadcastFilterParameters getDerivedFilterParameters(PublicationInformation publicationInformation,
+                                                                 BroadcastFilterInvoker filterInvoker,
+                                                                 BroadcastFilterParameters filterParameters) throws ReflectiveOperationException {
+        Class<?> filterParametersType = filterInvoker.getFilterParametersType();
+        BroadcastFilterParameters filterParametersDerived = publicationInformation.derivedFilterParameters.get(filterParametersType);
+        if (filterParametersDerived == null) {
+            filterParametersDerived = filterInvoker.createFilterParameters(filterParameters);
+            publicationInformation.derivedFilterParameters.putIfAbsent(filterParametersType, filterParametersDerived);
+        }
+        return filterParametersDerived;
     }
 
-    private SubscriptionPublication prepareBroadcastPublication(List<Object> values, String subscriptionId) {
-        return new SubscriptionPublication(values, subscriptionId);
+    private SubscriptionPublication prepareAttributePublication(Object value, String subscriptionId) {
+        return new SubscriptionPublication(Arrays.asList(value), subscriptionId);
     }
 
     private void sendPublication(SubscriptionPublication publication, PublicationInformation publicationInformation) {
@@ -838,9 +872,9 @@ public class PublicationManagerImpl
     @Override
     public void shutdown() {
         synchronized (subscriptionEndFutures.values()) {
-            for (ScheduledFuture<?> future : subscriptionEndFutures.values()) {
+            for (Timeout future : subscriptionEndFutures.values()) {
                 if (future != null) {
-                    future.cancel(false);
+                    future.cancel();
                 }
             }
         }
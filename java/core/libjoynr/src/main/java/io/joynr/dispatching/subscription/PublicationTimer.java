@@ -22,7 +22,6 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Optional;
-import java.util.TimerTask;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +34,8 @@ import io.joynr.provider.PromiseListener;
 import io.joynr.provider.ProviderContainer;
 import io.joynr.pubsub.HeartbeatSubscriptionInformation;
 import io.joynr.pubsub.SubscriptionQos;
+import io.joynr.runtime.HashedWheelTimer;
+import io.joynr.runtime.HashedWheelTimer.Timeout;
 import joynr.OnChangeSubscriptionQos;
 import joynr.SubscriptionPublication;
 import joynr.exceptions.ProviderRuntimeException;
@@ -55,6 +56,7 @@ public class PublicationTimer extends PubSubTimerBase {
     private final long minInterval;
     private final long period;
     private boolean pendingPublication;
+    private Timeout pendingPublicationTimeout;
     private final PublicationManager publicationManager;
 
     /**
@@ -64,13 +66,15 @@ public class PublicationTimer extends PubSubTimerBase {
      * @param providerContainer request caller
      * @param publicationManager publication manager to send publication messages
      * @param attributePollInterpreter attribute poll interpreter to execute method
+     * @param timer shared timer on which the publications are scheduled
      */
     public PublicationTimer(PublicationInformation publicationInformation,
                             Method method,
                             ProviderContainer providerContainer,
                             PublicationManager publicationManager,
-                            AttributePollInterpreter attributePollInterpreter) {
-        super(publicationInformation.getQos().getExpiryDateMs(), publicationInformation.getState());
+                            AttributePollInterpreter attributePollInterpreter,
+                            HashedWheelTimer timer) {
+        super(publicationInformation.getQos().getExpiryDateMs(), publicationInformation.getState(), timer);
         this.publicationManager = publicationManager;
 
         SubscriptionQos qos = publicationInformation.getQos();
@@ -91,7 +95,7 @@ public class PublicationTimer extends PubSubTimerBase {
         this.pendingPublication = false;
     }
 
-    class PublicationTask extends TimerTask {
+    class PublicationTask implements Runnable {
 
         @Override
         public void run() {
@@ -174,7 +178,8 @@ public class PublicationTimer extends PubSubTimerBase {
             synchronized (PublicationTimer.this) {
                 if (pendingPublication) {
                     pendingPublication = false;
-                    PublicationTimer.this.notify();
+                    pendingPublicationTimeout.cancel();
+                    pendingPublicationTimeout = null;
                 }
             }
             logger.trace("Sent subscriptionreply @{}", state.getTimeOfLastPublication());
@@ -184,23 +189,21 @@ public class PublicationTimer extends PubSubTimerBase {
                     pendingPublication = true;
                     final long timeToWait = minInterval - timeSinceLast;
                     logger.trace("TimeToWait for subscription {}: {}", publication.getSubscriptionId(), timeToWait);
-                    new Thread(new Runnable() {
+                    pendingPublicationTimeout = timer.newTimeout(new Runnable() {
                         @Override
                         public void run() {
                             synchronized (PublicationTimer.this) {
-                                try {
-                                    PublicationTimer.this.wait(timeToWait);
-                                    if (pendingPublication) {
-                                        sendPublication(publication);
-                                    }
-                                } catch (InterruptedException e) {
-                                    Thread.currentThread().interrupt();
-                                    logger.trace("DelayedPublicationThread interrupted. No publication is sent.");
+                                if (!pendingPublication || state.isStopped()) {
+                                    logger.trace("Delayed publication obsolete. No publication is sent.");
+                                    return;
                                 }
+                                // reschedules itself if minInterval has not yet been reached
+                                pendingPublication = false;
+                                pendingPublicationTimeout = null;
                             }
-
+                            sendPublication(publication);
                         }
-                    }).start();
+                    }, timeToWait);
                 } else {
                     logger.trace("Ignored attribute change. Mininterval {} not yet reached since timeSinceLast: {}",
                                  minInterval,
@@ -211,7 +214,7 @@ public class PublicationTimer extends PubSubTimerBase {
     }
 
     @Override
-    protected TimerTask getTimerTask() {
+    protected Runnable getTimerTask() {
         return new PublicationTask();
     }
 
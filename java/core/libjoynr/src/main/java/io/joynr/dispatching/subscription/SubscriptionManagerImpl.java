@@ -19,6 +19,7 @@
 package io.joynr.dispatching.subscription;
 
 import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_TIMER_SUBSCRIPTION;
 import static io.joynr.util.JoynrUtil.createUuidString;
 
 import java.lang.reflect.Method;
@@ -57,6 +58,7 @@ import io.joynr.pubsub.HeartbeatSubscriptionInformation;
 import io.joynr.pubsub.SubscriptionQos;
 import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
 import io.joynr.pubsub.subscription.BroadcastSubscriptionListener;
+import io.joynr.runtime.HashedWheelTimer;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
 import joynr.BroadcastSubscriptionRequest;
@@ -85,6 +87,7 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
 
     private static final Logger logger = LoggerFactory.getLogger(SubscriptionManagerImpl.class);
     private ScheduledExecutorService cleanupScheduler;
+    private HashedWheelTimer subscriptionTimer;
     private Dispatcher dispatcher;
 
     private final MulticastWildcardRegexFactory multicastWildcardRegexFactory;
@@ -92,11 +95,13 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
 
     @Inject
     public SubscriptionManagerImpl(@Named(JOYNR_SCHEDULER_CLEANUP) ScheduledExecutorService cleanupScheduler,
+                                   @Named(JOYNR_TIMER_SUBSCRIPTION) HashedWheelTimer subscriptionTimer,
                                    Dispatcher dispatcher,
                                    MulticastWildcardRegexFactory multicastWildcardRegexFactory,
                                    ShutdownNotifier shutdownNotifier,
                                    MulticastReceiverRegistrar multicastReceiverRegistrar) {
         this.cleanupScheduler = cleanupScheduler;
+        this.subscriptionTimer = subscriptionTimer;
         this.dispatcher = dispatcher;
         this.subscriptionListenerDirectory = new ConcurrentHashMap<>();
         this.broadcastSubscriptionListenerDirectory = new ConcurrentHashMap<>();
@@ -127,6 +132,7 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
                             ConcurrentMap<String, Future<String>> subscriptionFutureMap,
                             ConcurrentMap<String, List<MulticastInformation>> subscriptionIdToMulticastInformationMap,
                             ScheduledExecutorService cleanupScheduler,
+                            HashedWheelTimer subscriptionTimer,
                             Dispatcher dispatcher,
                             MulticastWildcardRegexFactory multicastWildcardRegexFactory,
                             MulticastReceiverRegistrar multicastReceiverRegistrar) {
@@ -141,6 +147,7 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
         this.unicastBroadcastTypes = unicastBroadcastTypes;
         this.multicastBroadcastTypes = multicastBroadcastTypes;
         this.cleanupScheduler = cleanupScheduler;
+        this.subscriptionTimer = subscriptionTimer;
         this.dispatcher = dispatcher;
         this.subscriptionFutureMap = subscriptionFutureMap;
         this.subscriptionIdToMulticastInformationMap = subscriptionIdToMulticastInformationMap;
@@ -209,7 +216,8 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
                                                                                                     heartbeat.getAlertAfterIntervalMs(),
                                                                                                     request.getAttributeSubscriptionListener(),
                                                                                                     subscriptionStates.get(request.getSubscriptionId()),
-                                                                                                    request.getSubscriptionId()));
+                                                                                                    request.getSubscriptionId(),
+                                                                                                    subscriptionTimer));
                                          }
                                      }
 
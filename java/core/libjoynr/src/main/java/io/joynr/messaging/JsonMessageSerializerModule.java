@@ -39,8 +39,13 @@ import io.joynr.messaging.serialize.JoynrUntypedObjectDeserializer;
 import io.joynr.messaging.serialize.OneWayRequestDeserializer;
 import io.joynr.messaging.serialize.RequestDeserializer;
 import io.joynr.util.ObjectMapper;
+import joynr.BroadcastSubscriptionRequest;
 import joynr.OneWayRequest;
+import joynr.Reply;
 import joynr.Request;
+import joynr.SubscriptionPublication;
+import joynr.SubscriptionRequest;
+import joynr.SubscriptionStop;
 
 public class JsonMessageSerializerModule extends AbstractModule {
 
@@ -75,12 +80,20 @@ public class JsonMessageSerializerModule extends AbstractModule {
                                                                                            SimpleType.construct(Object.class),
                                                                                            null);
 
-        module.addDeserializer(Request.class, new RequestDeserializer(objectMapper));
-        module.addDeserializer(OneWayRequest.class, new OneWayRequestDeserializer(objectMapper));
+        module.addDeserializer(Request.class, new RequestDeserializer());
+        module.addDeserializer(OneWayRequest.class, new OneWayRequestDeserializer());
         module.addDeserializer(Object.class, new JoynrUntypedObjectDeserializer(typeDeserializer));
 
         module.setMixInAnnotation(Throwable.class, ThrowableMixIn.class);
         objectMapper.registerModule(module);
+
+        // register the known message types before the mapper is used for the first time
+        objectMapper.registerSubtypes(Request.class,
+                                      Reply.class,
+                                      SubscriptionRequest.class,
+                                      SubscriptionStop.class,
+                                      SubscriptionPublication.class,
+                                      BroadcastSubscriptionRequest.class);
     }
 
     @Provides
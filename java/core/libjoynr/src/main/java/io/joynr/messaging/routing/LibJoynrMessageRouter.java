@@ -92,6 +92,7 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
     private List<QueuedParentRoutingUpdate> queuedParentRoutingUpdates = new ArrayList<>();
     private Map<String, QueuedMulticastRegistration> queuedMulticastRegistrations = new HashMap<>();
     private boolean ready = false;
+    private final SharedRoutingEntryReferences sharedRoutingEntryReferences;
 
     @Inject
     public LibJoynrMessageRouter(@Named(SystemServicesSettings.LIBJOYNR_MESSAGING_ADDRESS) Address incomingAddress,
@@ -100,12 +101,14 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
                                  MessagingStubFactory messagingStubFactory,
                                  MessageQueue messageQueue,
                                  ShutdownNotifier shutdownNotifier,
-                                 Dispatcher dispatcher) {
+                                 Dispatcher dispatcher,
+                                 SharedRoutingEntryReferences sharedRoutingEntryReferences) {
         dateFormatter.setTimeZone(TimeZone.getTimeZone("UTC"));
         this.scheduler = scheduler;
         this.dispatcher = dispatcher;
         this.messagingStubFactory = messagingStubFactory;
         this.messageQueue = messageQueue;
+        this.sharedRoutingEntryReferences = sharedRoutingEntryReferences;
         shutdownNotifier.registerForShutdown(this);
         if (maxParallelSends < 2) {
             maxParallelSends = 2;
@@ -152,6 +155,10 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
 
     @Override
     public void removeNextHop(final String participantId) {
+        if (sharedRoutingEntryReferences.releaseSharedReference(participantId)) {
+            logger.trace("Released shared routing entry reference for participantId {}", participantId);
+            return;
+        }
         if (!ready) {
             // lazy synchronization: synchronization is only required if message router is not yet ready, i.e.
             // proxy for parent router is not ready. Once ready == true, it will never be set to false again.
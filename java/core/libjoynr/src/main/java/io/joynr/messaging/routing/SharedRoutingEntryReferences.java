@@ -0,0 +1,73 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.routing;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.inject.Singleton;
+
+/**
+ * Keeps track of routing entry references which are shared by several consumers of a discovery result.
+ * <p>
+ * Every discovery lookup increments the reference count of the routing entries of the returned providers once and
+ * every consumer of the result (arbitrator, proxy) decrements it once via {@link MessageRouter#removeNextHop(String)}
+ * when it does not need the routing entry anymore. If a discovery result is handed out to additional consumers
+ * without another lookup, e.g. from a cache, the additional references are recorded here and the same number of
+ * removeNextHop calls is absorbed by the message router instead of being applied to the routing table.
+ */
+@Singleton
+public class SharedRoutingEntryReferences {
+
+    // guarded by itself
+    private final Map<String, Integer> sharedReferenceCounts = new HashMap<>();
+
+    /**
+     * Records an additional reference to the routing entry of the given participant.
+     *
+     * @param participantId the participantId of the routing entry
+     */
+    public void addSharedReference(String participantId) {
+        synchronized (sharedReferenceCounts) {
+            sharedReferenceCounts.merge(participantId, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Releases a reference recorded by {@link #addSharedReference(String)}, if any.
+     *
+     * @param participantId the participantId of the routing entry
+     * @return true if a shared reference has been released, i.e. the removal must not be applied to the routing
+     * table; false otherwise
+     */
+    public boolean releaseSharedReference(String participantId) {
+        synchronized (sharedReferenceCounts) {
+            Integer count = sharedReferenceCounts.get(participantId);
+            if (count == null) {
+                return false;
+            }
+            if (count > 1) {
+                sharedReferenceCounts.put(participantId, count - 1);
+            } else {
+                sharedReferenceCounts.remove(participantId);
+            }
+            return true;
+        }
+    }
+}
@@ -18,60 +18,159 @@
  */
 package io.joynr.messaging.serialize;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.slf4j.Logger;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import io.joynr.util.ReflectionUtils;
-import io.joynr.util.ObjectMapper;
 
-class ParamsAndParamDatatypesHolder {
-    public final String[] paramDatatypes;
-    public final Object[] params;
+class DeserializedRequestFields {
+    public String methodName;
+    public String requestReplyId;
+    public String[] paramDatatypes = new String[0];
+    public Object[] params = new Object[0];
+}
+
+/**
+ * Resolves joynr param datatype names (e.g. "Integer[]" or "joynr.types.ProviderQos") to jackson JavaTypes.
+ * Resolved types are cached; the number of cached names is limited because they are received from remote.
+ */
+class ParamDatatypeResolver {
+    private static final int MAX_CACHED_DATATYPES = 1000;
+
+    private final ConcurrentMap<String, JavaType> javaTypes = new ConcurrentHashMap<>();
 
-    public ParamsAndParamDatatypesHolder(String[] paramDatatypes, Object[] params) {
-        this.paramDatatypes = paramDatatypes;
-        this.params = params;
+    JavaType resolve(String paramDatatype, DeserializationContext ctxt) {
+        JavaType javaType = javaTypes.get(paramDatatype);
+        if (javaType == null) {
+            Class<?> javaClass = ReflectionUtils.toJavaClasses(paramDatatype)[0];
+            javaType = ctxt.constructType(javaClass);
+            if (javaTypes.size() < MAX_CACHED_DATATYPES) {
+                javaTypes.putIfAbsent(paramDatatype, javaType);
+            }
+        }
+        return javaType;
     }
 }
 
 class DeserializerUtils {
 
-    static ParamsAndParamDatatypesHolder deserializeParams(ObjectMapper objectMapper, JsonNode node, Logger logger) {
-        Class<?>[] javaClasses = null;
-        String[] paramDatatypes;
-        Object[] params;
+    /**
+     * Reads the fields of a (OneWay)Request in a single pass, binding each param directly to the type given in
+     * paramDatatypes. The params are only buffered if they are received before their paramDatatypes.
+     * Params which cannot be deserialized to their datatype are set to null.
+     */
+    static DeserializedRequestFields deserializeRequestFields(JsonParser jp,
+                                                              DeserializationContext ctxt,
+                                                              ParamDatatypeResolver paramDatatypeResolver,
+                                                              Logger logger) throws IOException {
+        DeserializedRequestFields fields = new DeserializedRequestFields();
+        String[] paramDatatypes = null;
+        TokenBuffer bufferedParams = null;
+        boolean hasParams = false;
 
-        ArrayNode paramDatatypesNode = (ArrayNode) node.get("paramDatatypes");
-        if (paramDatatypesNode != null) {
-            paramDatatypes = new String[paramDatatypesNode.size()];
-            int i = 0;
-            for (final JsonNode paramDatatypeNode : paramDatatypesNode) {
-                paramDatatypes[i] = paramDatatypeNode.asText();
-                i++;
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String fieldName = jp.getCurrentName();
+            token = jp.nextToken();
+            switch (fieldName) {
+            case "methodName":
+                fields.methodName = jp.getValueAsString();
+                break;
+            case "requestReplyId":
+                fields.requestReplyId = jp.getValueAsString();
+                break;
+            case "paramDatatypes":
+                paramDatatypes = readParamDatatypes(jp);
+                break;
+            case "params":
+                if (token != JsonToken.START_ARRAY) {
+                    jp.skipChildren();
+                } else if (paramDatatypes != null) {
+                    fields.params = readParams(jp, ctxt, paramDatatypes, paramDatatypeResolver, logger);
+                    hasParams = true;
+                } else {
+                    bufferedParams = new TokenBuffer(jp, ctxt);
+                    bufferedParams.copyCurrentStructure(jp);
+                }
+                break;
+            default:
+                jp.skipChildren();
+                break;
             }
-            javaClasses = ReflectionUtils.toJavaClasses(paramDatatypes);
-        } else {
-            paramDatatypes = new String[0];
         }
 
-        ArrayNode paramsNode = (ArrayNode) node.get("params");
-        if (paramsNode != null && javaClasses != null) {
-            params = new Object[paramsNode.size()];
-            int i = 0;
-            for (final JsonNode paramNode : paramsNode) {
-                try {
-                    params[i] = objectMapper.treeToValue(paramNode, javaClasses[i]);
-                } catch (Exception e) {
-                    logger.error("Unable to deserialize to {}. Reason:", javaClasses[i], e);
-                    params[i] = null;
+        if (paramDatatypes == null) {
+            return fields;
+        }
+        fields.paramDatatypes = paramDatatypes;
+        if (!hasParams && bufferedParams != null) {
+            try (JsonParser bufferedParser = bufferedParams.asParser(jp.getCodec())) {
+                bufferedParser.nextToken();
+                fields.params = readParams(bufferedParser, ctxt, paramDatatypes, paramDatatypeResolver, logger);
+            }
+        }
+        return fields;
+    }
+
+    private static String[] readParamDatatypes(JsonParser jp) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_ARRAY) {
+            jp.skipChildren();
+            return null;
+        }
+        List<String> paramDatatypes = new ArrayList<>();
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            paramDatatypes.add(jp.getText());
+            jp.skipChildren();
+        }
+        return paramDatatypes.toArray(new String[paramDatatypes.size()]);
+    }
+
+    private static Object[] readParams(JsonParser jp,
+                                       DeserializationContext ctxt,
+                                       String[] paramDatatypes,
+                                       ParamDatatypeResolver paramDatatypeResolver,
+                                       Logger logger) throws IOException {
+        List<Object> params = new ArrayList<>(paramDatatypes.length);
+        JsonStreamContext paramsContext = jp.getParsingContext();
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            int i = params.size();
+            if (i >= paramDatatypes.length) {
+                logger.error("Unable to deserialize param {}: no param datatype given.", i);
+                params.add(null);
+                jp.skipChildren();
+                continue;
+            }
+            JavaType javaType = paramDatatypeResolver.resolve(paramDatatypes[i], ctxt);
+            try {
+                params.add(jp.getCurrentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(jp, javaType));
+            } catch (JsonParseException e) {
+                throw e;
+            } catch (Exception e) {
+                logger.error("Unable to deserialize to {}. Reason:", javaType, e);
+                params.add(null);
+                // skip the rest of the param which could not be deserialized
+                JsonToken skippedToken = jp.getCurrentToken();
+                while (skippedToken != null && jp.getParsingContext() != paramsContext) {
+                    skippedToken = jp.nextToken();
                 }
-                i++;
             }
-        } else {
-            params = new Object[0];
         }
-        return new ParamsAndParamDatatypesHolder(paramDatatypes, params);
+        return params.toArray();
     }
 }
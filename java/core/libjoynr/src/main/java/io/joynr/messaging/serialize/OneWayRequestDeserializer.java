@@ -27,9 +27,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
-import io.joynr.util.ObjectMapper;
 import joynr.OneWayRequest;
 
 /**
@@ -40,11 +38,7 @@ import joynr.OneWayRequest;
 public class OneWayRequestDeserializer extends JsonDeserializer<OneWayRequest> {
     private static final Logger logger = LoggerFactory.getLogger(OneWayRequestDeserializer.class);
 
-    private ObjectMapper objectMapper;
-
-    public OneWayRequestDeserializer(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
-    }
+    private final ParamDatatypeResolver paramDatatypeResolver = new ParamDatatypeResolver();
 
     /* (non-Javadoc)
      * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser,
@@ -53,14 +47,11 @@ public class OneWayRequestDeserializer extends JsonDeserializer<OneWayRequest> {
     @Override
     public OneWayRequest deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException,
                                                                                  JsonProcessingException {
-        JsonNode node = jp.getCodec().readTree(jp);
-        String methodName = node.get("methodName").asText();
-
-        ParamsAndParamDatatypesHolder paramsAndParamDatatypes = DeserializerUtils.deserializeParams(objectMapper,
-                                                                                                    node,
-                                                                                                    logger);
-
-        return new OneWayRequest(methodName, paramsAndParamDatatypes.params, paramsAndParamDatatypes.paramDatatypes);
+        DeserializedRequestFields fields = DeserializerUtils.deserializeRequestFields(jp,
+                                                                                      ctxt,
+                                                                                      paramDatatypeResolver,
+                                                                                      logger);
 
+        return new OneWayRequest(fields.methodName, fields.params, fields.paramDatatypes);
     }
 }
@@ -27,9 +27,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
-import io.joynr.util.ObjectMapper;
 import joynr.Request;
 
 /**
@@ -40,11 +38,7 @@ import joynr.Request;
 public class RequestDeserializer extends JsonDeserializer<Request> {
     private static final Logger logger = LoggerFactory.getLogger(RequestDeserializer.class);
 
-    private ObjectMapper objectMapper;
-
-    public RequestDeserializer(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
-    }
+    private final ParamDatatypeResolver paramDatatypeResolver = new ParamDatatypeResolver();
 
     /* (non-Javadoc)
      * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser,
@@ -52,17 +46,11 @@ public class RequestDeserializer extends JsonDeserializer<Request> {
      */
     @Override
     public Request deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        JsonNode node = jp.getCodec().readTree(jp);
-        String methodName = node.get("methodName").asText();
-        String requestReplyId = node.get("requestReplyId").asText();
-
-        ParamsAndParamDatatypesHolder paramsAndParamDatatypes = DeserializerUtils.deserializeParams(objectMapper,
-                                                                                                    node,
-                                                                                                    logger);
+        DeserializedRequestFields fields = DeserializerUtils.deserializeRequestFields(jp,
+                                                                                      ctxt,
+                                                                                      paramDatatypeResolver,
+                                                                                      logger);
 
-        return new Request(methodName,
-                           paramsAndParamDatatypes.params,
-                           paramsAndParamDatatypes.paramDatatypes,
-                           requestReplyId);
+        return new Request(fields.methodName, fields.params, fields.paramDatatypes, fields.requestReplyId);
     }
 }
@@ -19,7 +19,9 @@
 package io.joynr.proxy;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
 
+import io.joynr.messaging.MessagingQos;
 import io.joynr.proxy.invocation.AttributeSubscribeInvocation;
 import io.joynr.proxy.invocation.BroadcastSubscribeInvocation;
 import io.joynr.proxy.invocation.MulticastSubscribeInvocation;
@@ -30,12 +32,27 @@ public interface ConnectorInvocationHandler {
 
     Object executeAsyncMethod(Object proxy, Method method, Object[] args, Future<?> future);
 
+    void executeAsyncMethod(Object proxy,
+                            ProxyMethod proxyMethod,
+                            ICallback callback,
+                            Object[] params,
+                            MessagingQos messagingQos,
+                            Future<?> future);
+
+    void executeCompletionStageMethod(Object proxy, Method method, Object[] args, CompletableFuture<Object> future);
+
     void executeStatelessAsyncMethod(Method method, Object[] args);
 
     Object executeSyncMethod(Method method, Object[] args) throws ApplicationException;
 
+    Object executeSyncMethod(ProxyMethod proxyMethod,
+                             Object[] params,
+                             MessagingQos messagingQos) throws ApplicationException;
+
     void executeOneWayMethod(Method method, Object[] args);
 
+    void executeOneWayMethod(ProxyMethod proxyMethod, Object[] params, MessagingQos messagingQos);
+
     void executeSubscriptionMethod(BroadcastSubscribeInvocation broadcastSubscription);
 
     void executeSubscriptionMethod(UnsubscribeInvocation unsubscribeInvocation);
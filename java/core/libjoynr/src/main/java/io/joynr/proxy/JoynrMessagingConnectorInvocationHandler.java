@@ -22,6 +22,7 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,7 @@ import io.joynr.proxy.invocation.AttributeSubscribeInvocation;
 import io.joynr.proxy.invocation.BroadcastSubscribeInvocation;
 import io.joynr.proxy.invocation.MulticastSubscribeInvocation;
 import io.joynr.proxy.invocation.UnsubscribeInvocation;
+import io.joynr.util.ReflectionUtils;
 import joynr.MethodMetaInformation;
 import joynr.OneWayRequest;
 import joynr.Reply;
@@ -109,7 +111,6 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
         return strippedArguments;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Future<?> executeAsyncMethod(Object proxy, Method method, Object[] params, Future<?> future) {
 
@@ -139,7 +140,51 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
 
         StrippedArguments strippedArguments = getStrippedArguments(paramsWithoutCallback,
                                                                    paramDatatypesWithoutCallback);
-        Request request = new Request(method.getName(), strippedArguments.params, strippedArguments.paramDatatypes);
+        executeAsyncRequest(proxy,
+                            method,
+                            methodMetaInformation,
+                            callback,
+                            future,
+                            strippedArguments.params,
+                            ReflectionUtils.toDatatypeNames(strippedArguments.paramDatatypes),
+                            strippedArguments.messagingQos);
+        return future;
+    }
+
+    @Override
+    public void executeAsyncMethod(Object proxy,
+                                   ProxyMethod proxyMethod,
+                                   ICallback callback,
+                                   Object[] params,
+                                   MessagingQos messagingQos,
+                                   Future<?> future) {
+        if (toDiscoveryEntries.size() > 1) {
+            throw new JoynrIllegalStateException("You can't execute async methods for multiple participants.");
+        }
+        if (toDiscoveryEntries.isEmpty()) {
+            throw new JoynrIllegalStateException("You must have exactly one participant to be able to execute an async method.");
+        }
+
+        executeAsyncRequest(proxy,
+                            proxyMethod.getMethod(),
+                            proxyMethod.getMethodMetaInformation(),
+                            callback,
+                            future,
+                            params,
+                            proxyMethod.getParamDatatypes(),
+                            messagingQos == null ? qosSettings : messagingQos);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executeAsyncRequest(Object proxy,
+                                     Method method,
+                                     MethodMetaInformation methodMetaInformation,
+                                     ICallback callback,
+                                     Future<?> future,
+                                     Object[] params,
+                                     String[] paramDatatypes,
+                                     MessagingQos messagingQos) {
+        Request request = new Request(method.getName(), params, paramDatatypes, null);
         String requestReplyId = request.getRequestReplyId();
 
         @SuppressWarnings("rawtypes")
@@ -150,14 +195,46 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
                                                                                                    method,
                                                                                                    methodMetaInformation);
 
-        ExpiryDate expiryDate = DispatcherUtils.convertTtlToExpirationDate(strippedArguments.messagingQos.getRoundTripTtl_ms());
+        ExpiryDate expiryDate = DispatcherUtils.convertTtlToExpirationDate(messagingQos.getRoundTripTtl_ms());
 
         replyCallerDirectory.addReplyCaller(requestReplyId, callbackWrappingReplyCaller, expiryDate);
+        requestReplyManager.sendRequest(fromParticipantId, toDiscoveryEntries.iterator().next(), request, messagingQos);
+    }
+
+    @Override
+    public void executeCompletionStageMethod(Object proxy,
+                                             Method method,
+                                             Object[] params,
+                                             CompletableFuture<Object> future) {
+        if (method == null) {
+            throw new IllegalArgumentException("Method cannot be null");
+        }
+        if (toDiscoveryEntries.size() > 1) {
+            throw new JoynrIllegalStateException("You can't execute async methods for multiple participants.");
+        }
+        if (toDiscoveryEntries.isEmpty()) {
+            throw new JoynrIllegalStateException("You must have exactly one participant to be able to execute an async method.");
+        }
+
+        MethodMetaInformation methodMetaInformation = JoynrMessagingConnectorFactory.ensureMethodMetaInformationPresent(method);
+
+        StrippedArguments strippedArguments = getStrippedArguments(params, method.getParameterTypes());
+        Request request = new Request(method.getName(), strippedArguments.params, strippedArguments.paramDatatypes);
+        String requestReplyId = request.getRequestReplyId();
+
+        RpcAsyncRequestReplyCaller<?> completingReplyCaller = new RpcAsyncRequestReplyCaller<>(proxy,
+                                                                                               requestReplyId,
+                                                                                               future,
+                                                                                               method,
+                                                                                               methodMetaInformation);
+
+        ExpiryDate expiryDate = DispatcherUtils.convertTtlToExpirationDate(strippedArguments.messagingQos.getRoundTripTtl_ms());
+
+        replyCallerDirectory.addReplyCaller(requestReplyId, completingReplyCaller, expiryDate);
         requestReplyManager.sendRequest(fromParticipantId,
                                         toDiscoveryEntries.iterator().next(),
                                         request,
                                         strippedArguments.messagingQos);
-        return future;
     }
 
     private void copyArrayWithoutElement(Object[] fromArray, Object[] toArray, int removeIndex) {
@@ -223,21 +300,50 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
         MethodMetaInformation methodMetaInformation = JoynrMessagingConnectorFactory.ensureMethodMetaInformationPresent(method);
 
         StrippedArguments strippedArguments = getStrippedArguments(args, method.getParameterTypes());
+        return executeSyncRequest(method,
+                                  methodMetaInformation,
+                                  strippedArguments.params,
+                                  ReflectionUtils.toDatatypeNames(strippedArguments.paramDatatypes),
+                                  strippedArguments.messagingQos);
+    }
 
-        Request request = new Request(method.getName(), strippedArguments.params, strippedArguments.paramDatatypes);
+    @Override
+    public Object executeSyncMethod(ProxyMethod proxyMethod,
+                                    Object[] params,
+                                    MessagingQos messagingQos) throws ApplicationException {
+        if (toDiscoveryEntries.size() > 1) {
+            throw new JoynrIllegalStateException("You can't execute sync methods for multiple participants.");
+        }
+        if (toDiscoveryEntries.isEmpty()) {
+            throw new JoynrIllegalStateException("You must have exactly one participant to be able to execute a sync method.");
+        }
+
+        return executeSyncRequest(proxyMethod.getMethod(),
+                                  proxyMethod.getMethodMetaInformation(),
+                                  params,
+                                  proxyMethod.getParamDatatypes(),
+                                  messagingQos == null ? qosSettings : messagingQos);
+    }
+
+    private Object executeSyncRequest(Method method,
+                                      MethodMetaInformation methodMetaInformation,
+                                      Object[] params,
+                                      String[] paramDatatypes,
+                                      MessagingQos messagingQos) throws ApplicationException {
+        Request request = new Request(method.getName(), params, paramDatatypes, null);
         Reply reply;
         String requestReplyId = request.getRequestReplyId();
 
         SynchronizedReplyCaller synchronizedReplyCaller = new SynchronizedReplyCaller(fromParticipantId,
                                                                                       requestReplyId,
                                                                                       request);
-        ExpiryDate expiryDate = DispatcherUtils.convertTtlToExpirationDate(strippedArguments.messagingQos.getRoundTripTtl_ms());
+        ExpiryDate expiryDate = DispatcherUtils.convertTtlToExpirationDate(messagingQos.getRoundTripTtl_ms());
         replyCallerDirectory.addReplyCaller(requestReplyId, synchronizedReplyCaller, expiryDate);
         reply = requestReplyManager.sendSyncRequest(fromParticipantId,
                                                     toDiscoveryEntries.iterator().next(),
                                                     request,
                                                     synchronizedReplyCaller,
-                                                    strippedArguments.messagingQos);
+                                                    messagingQos);
         if (reply.getError() == null) {
             if (method.getReturnType().equals(void.class)) {
                 logger.debug("REQUEST returns successful: requestReplyId: {}, method {}, response: [void]",
@@ -304,20 +410,36 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
         }
 
         StrippedArguments strippedArguments = getStrippedArguments(args, method.getParameterTypes());
+        executeOneWayRequest(method.getName(),
+                             strippedArguments.params,
+                             ReflectionUtils.toDatatypeNames(strippedArguments.paramDatatypes),
+                             strippedArguments.messagingQos);
+    }
+
+    @Override
+    public void executeOneWayMethod(ProxyMethod proxyMethod, Object[] params, MessagingQos messagingQos) {
+        if (toDiscoveryEntries.isEmpty()) {
+            throw new JoynrIllegalStateException("You must have at least one participant to be able to execute an oneWayMethod.");
+        }
+
+        executeOneWayRequest(proxyMethod.getMethodName(),
+                             params,
+                             proxyMethod.getParamDatatypes(),
+                             messagingQos == null ? qosSettings : messagingQos);
+    }
 
+    private void executeOneWayRequest(String methodName,
+                                      Object[] params,
+                                      String[] paramDatatypes,
+                                      MessagingQos messagingQos) {
         logger.debug("ONEWAYREQUEST call proxy: method: {}, params: {}, proxy participantId: {}, provider discovery entries: {}",
-                     method.getName(),
-                     strippedArguments.params,
+                     methodName,
+                     params,
                      fromParticipantId,
                      toDiscoveryEntries);
 
-        OneWayRequest request = new OneWayRequest(method.getName(),
-                                                  strippedArguments.params,
-                                                  strippedArguments.paramDatatypes);
-        requestReplyManager.sendOneWayRequest(fromParticipantId,
-                                              toDiscoveryEntries,
-                                              request,
-                                              strippedArguments.messagingQos);
+        OneWayRequest request = new OneWayRequest(methodName, params, paramDatatypes);
+        requestReplyManager.sendOneWayRequest(fromParticipantId, toDiscoveryEntries, request, messagingQos);
     }
 
     @Override
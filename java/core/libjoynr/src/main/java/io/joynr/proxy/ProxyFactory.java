@@ -18,23 +18,72 @@
  */
 package io.joynr.proxy;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
+import java.util.Optional;
 
+import io.joynr.StaticProxy;
+import io.joynr.UsedBy;
+import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.messaging.MessagingQos;
 
 public final class ProxyFactory {
 
+    // constructor of the generated static proxy implementing the requested interface, if any
+    private static final ClassValue<Optional<Constructor<?>>> staticProxyConstructors = new ClassValue<Optional<Constructor<?>>>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> interfaceClass) {
+            return findStaticProxyConstructor(interfaceClass);
+        }
+    };
+
     private ProxyFactory() {
 
     }
 
+    /**
+     * Creates a proxy for the given interface. If the generated static proxy of the joynr interface (see
+     * {@link StaticProxy}) implements the interface, it is instantiated. Otherwise a dynamic proxy dispatching via
+     * reflection is created.
+     */
     @SuppressWarnings("unchecked")
     // necessary for jenkins?
     public static <T> T createProxy(Class<T> interfaceClass,
                                     final MessagingQos qosSettings,
                                     ProxyInvocationHandler proxyInvocationHandler) {
+        Optional<Constructor<?>> staticProxyConstructor = staticProxyConstructors.get(interfaceClass);
+        if (staticProxyConstructor.isPresent()) {
+            try {
+                return (T) staticProxyConstructor.get().newInstance(proxyInvocationHandler);
+            } catch (InvocationTargetException e) {
+                throw new JoynrRuntimeException("Unable to create static proxy for " + interfaceClass.getName(),
+                                                e.getCause());
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new JoynrRuntimeException("Unable to create static proxy for " + interfaceClass.getName(), e);
+            }
+        }
         return (T) Proxy.newProxyInstance(interfaceClass.getClassLoader(),
                                           new Class<?>[]{ interfaceClass },
                                           proxyInvocationHandler);
     }
+
+    private static Optional<Constructor<?>> findStaticProxyConstructor(Class<?> interfaceClass) {
+        StaticProxy staticProxy = interfaceClass.getAnnotation(StaticProxy.class);
+        if (staticProxy == null) {
+            // sync, async, ... interfaces point to the proxy interface
+            UsedBy usedBy = interfaceClass.getAnnotation(UsedBy.class);
+            if (usedBy != null) {
+                staticProxy = usedBy.value().getAnnotation(StaticProxy.class);
+            }
+        }
+        if (staticProxy == null || !interfaceClass.isAssignableFrom(staticProxy.value())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(staticProxy.value().getConstructor(ProxyInvocationHandler.class));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
 }
@@ -23,6 +23,7 @@ import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -36,6 +37,7 @@ import org.slf4j.LoggerFactory;
 import com.google.inject.assistedinject.Assisted;
 
 import io.joynr.Async;
+import io.joynr.CompletionStageAsync;
 import io.joynr.StatelessAsync;
 import io.joynr.Sync;
 import io.joynr.arbitration.ArbitrationResult;
@@ -52,6 +54,7 @@ import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.messaging.MessagingQos;
 import io.joynr.proxy.invocation.AttributeSubscribeInvocation;
 import io.joynr.proxy.invocation.BroadcastSubscribeInvocation;
+import io.joynr.proxy.invocation.CompletionStageMethodInvocation;
 import io.joynr.proxy.invocation.Invocation;
 import io.joynr.proxy.invocation.MethodInvocation;
 import io.joynr.proxy.invocation.MulticastSubscribeInvocation;
@@ -74,6 +77,7 @@ public abstract class ProxyInvocationHandler implements InvocationHandler {
     protected ConnectorInvocationHandler connector;
     protected final String proxyParticipantId;
     private ConcurrentLinkedQueue<MethodInvocation<?>> queuedRpcList = new ConcurrentLinkedQueue<MethodInvocation<?>>();
+    private ConcurrentLinkedQueue<CompletionStageMethodInvocation> queuedCompletionStageRpcList = new ConcurrentLinkedQueue<>();
     private ConcurrentLinkedQueue<SubscriptionAction> queuedSubscriptionInvocationList = new ConcurrentLinkedQueue<SubscriptionAction>();
     private ConcurrentLinkedQueue<UnsubscribeInvocation> queuedUnsubscribeInvocationList = new ConcurrentLinkedQueue<UnsubscribeInvocation>();
     private ConcurrentLinkedQueue<StatelessAsyncMethodInvocation> queuedStatelessAsyncInvocationList = new ConcurrentLinkedQueue<>();
@@ -303,6 +307,26 @@ public abstract class ProxyInvocationHandler implements InvocationHandler {
 
     }
 
+    private void sendQueuedCompletionStageInvocations() {
+        while (true) {
+            CompletionStageMethodInvocation currentRPC = queuedCompletionStageRpcList.poll();
+            if (currentRPC == null) {
+                return;
+            }
+
+            try {
+                connector.executeCompletionStageMethod(currentRPC.getProxy(),
+                                                       currentRPC.getMethod(),
+                                                       currentRPC.getArgs(),
+                                                       currentRPC.getFuture());
+            } catch (JoynrRuntimeException e) {
+                currentRPC.getFuture().completeExceptionally(e);
+            } catch (Exception e) {
+                currentRPC.getFuture().completeExceptionally(new JoynrRuntimeException(e));
+            }
+        }
+    }
+
     private void sendQueuedStatelessAsyncInvocations() {
         while (true) {
             StatelessAsyncMethodInvocation invocation = queuedStatelessAsyncInvocationList.poll();
@@ -325,6 +349,7 @@ public abstract class ProxyInvocationHandler implements InvocationHandler {
 
             if (connector != null) {
                 sendQueuedInvocations();
+                sendQueuedCompletionStageInvocations();
                 sendQueuedSubscriptionInvocations();
                 sendQueuedUnsubscribeInvocations();
                 sendQueuedStatelessAsyncInvocations();
@@ -459,6 +484,39 @@ public abstract class ProxyInvocationHandler implements InvocationHandler {
         return connector.executeAsyncMethod(proxy, method, args, future);
     }
 
+    /**
+     * executeCompletionStageMethod is called whenever a method of the CompletionStage interface which is provided by
+     * the proxy is called. The returned CompletableFuture is completed by the reply caller of the request, no thread
+     * waits for the reply.
+     */
+    private CompletableFuture<Object> executeCompletionStageMethod(Object proxy, Method method, Object[] args) {
+        if (preparingForShutdown.get()) {
+            throw new JoynrIllegalStateException("Preparing for shutdown. Only stateless methods can be called.");
+        }
+        CompletableFuture<Object> future = new CompletableFuture<>();
+
+        connectorStatusLock.lock();
+        try {
+            if (!isConnectorReady()) {
+                // waiting for arbitration -> queue invocation
+                queuedCompletionStageRpcList.offer(new CompletionStageMethodInvocation(proxy, method, args, future));
+                return future;
+            }
+        } finally {
+            connectorStatusLock.unlock();
+        }
+
+        // arbitration already successfully finished -> send invocation
+        try {
+            connector.executeCompletionStageMethod(proxy, method, args, future);
+        } catch (JoynrRuntimeException e) {
+            future.completeExceptionally(e);
+        } catch (Exception e) {
+            future.completeExceptionally(new JoynrRuntimeException(e));
+        }
+        return future;
+    }
+
     private void executeStatelessAsyncMethod(Method method, Object[] args) throws Exception {
         connectorStatusLock.lock();
         try {
@@ -516,6 +574,8 @@ public abstract class ProxyInvocationHandler implements InvocationHandler {
                 return result.isPresent() ? result.get() : null;
             } else if (methodInterfaceClass.getAnnotation(Async.class) != null) {
                 return executeAsyncMethod(proxy, method, args);
+            } else if (methodInterfaceClass.getAnnotation(CompletionStageAsync.class) != null) {
+                return executeCompletionStageMethod(proxy, method, args);
             } else if (methodInterfaceClass.getAnnotation(StatelessAsync.class) != null) {
                 executeStatelessAsyncMethod(method, args);
                 return null;
@@ -529,6 +589,172 @@ public abstract class ProxyInvocationHandler implements InvocationHandler {
         }
     }
 
+    /**
+     * invokeSyncMethod is called by the generated static proxy (see {@link io.joynr.StaticProxy}) for the methods of
+     * the synchronous interface without modeled errors. It behaves like a call via
+     * {@link #invoke(Object, Method, Object[])}, but the request is sent with the information precomputed in the
+     * {@link ProxyMethod} instead of reflective lookups.
+     *
+     * @param proxyMethod the called method
+     * @param params the parameters of the call
+     * @param messagingQos the MessagingQos of the call, null to use the MessagingQos of the proxy
+     * @return the reconstructed response
+     */
+    public Object invokeSyncMethod(ProxyMethod proxyMethod, Object[] params, MessagingQos messagingQos) {
+        try {
+            return invokeSyncMethodWithModeledError(proxyMethod, params, messagingQos);
+        } catch (ApplicationException e) {
+            throw new JoynrRuntimeException(e);
+        }
+    }
+
+    /**
+     * Same as {@link #invokeSyncMethod(ProxyMethod, Object[], MessagingQos)} for the methods of the synchronous
+     * interface with modeled errors.
+     *
+     * @param proxyMethod the called method
+     * @param params the parameters of the call
+     * @param messagingQos the MessagingQos of the call, null to use the MessagingQos of the proxy
+     * @return the reconstructed response
+     * @throws ApplicationException if the provider replied with a modeled error
+     */
+    public Object invokeSyncMethodWithModeledError(ProxyMethod proxyMethod,
+                                                   Object[] params,
+                                                   MessagingQos messagingQos) throws ApplicationException {
+        throwIfAborted();
+        logInvocation(proxyMethod, params);
+        try {
+            if (preparingForShutdown.get()) {
+                throw new JoynrIllegalStateException("Preparing for shutdown. Only stateless methods can be called.");
+            }
+            return executeMethodWithCaller(proxyMethod.getMethod(),
+                                           params,
+                                           (method, args) -> connector.executeSyncMethod(proxyMethod,
+                                                                                         args,
+                                                                                         messagingQos));
+        } catch (ApplicationException | RuntimeException e) {
+            throwIfAborted();
+            throw e;
+        }
+    }
+
+    /**
+     * invokeAsyncMethod is called by the generated static proxy (see {@link io.joynr.StaticProxy}) for the methods of
+     * the asynchronous interface. Calls which are made before the arbitration has finished are queued like the calls
+     * via {@link #invoke(Object, Method, Object[])}.
+     *
+     * @param <F> the type of the returned future
+     * @param proxy the generated static proxy
+     * @param proxyMethod the called method
+     * @param callback the callback of the call, may be null
+     * @param future the future which is returned to the caller and resolved with the reply
+     * @param params the parameters of the call without the callback
+     * @param messagingQos the MessagingQos of the call, null to use the MessagingQos of the proxy
+     * @return the passed future
+     */
+    public <F extends Future<?>> F invokeAsyncMethod(Object proxy,
+                                                     ProxyMethod proxyMethod,
+                                                     ICallback callback,
+                                                     F future,
+                                                     Object[] params,
+                                                     MessagingQos messagingQos) {
+        throwIfAborted();
+        logInvocation(proxyMethod, params);
+        if (preparingForShutdown.get()) {
+            throw new JoynrIllegalStateException("Preparing for shutdown. Only stateless methods can be called.");
+        }
+
+        connectorStatusLock.lock();
+        try {
+            if (!isConnectorReady()) {
+                // waiting for arbitration -> queue invocation
+                @SuppressWarnings("unchecked")
+                Future<Object> queuedFuture = (Future<Object>) future;
+                queuedRpcList.offer(new MethodInvocation<Object>(proxy,
+                                                                 proxyMethod.getMethod(messagingQos),
+                                                                 proxyMethod.toMethodArguments(callback,
+                                                                                               params,
+                                                                                               messagingQos),
+                                                                 queuedFuture));
+                return future;
+            }
+        } finally {
+            connectorStatusLock.unlock();
+        }
+
+        // arbitration already successfully finished -> send invocation
+        try {
+            connector.executeAsyncMethod(proxy, proxyMethod, callback, params, messagingQos, future);
+        } catch (RuntimeException e) {
+            throwIfAborted();
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * invokeOneWayMethod is called by the generated static proxy (see {@link io.joynr.StaticProxy}) for the methods of
+     * the fire and forget interface.
+     *
+     * @param proxyMethod the called method
+     * @param params the parameters of the call
+     * @param messagingQos the MessagingQos of the call, null to use the MessagingQos of the proxy
+     */
+    public void invokeOneWayMethod(ProxyMethod proxyMethod, Object[] params, MessagingQos messagingQos) {
+        throwIfAborted();
+        logInvocation(proxyMethod, params);
+        try {
+            executeMethodWithCaller(proxyMethod.getMethod(), params, (method, args) -> {
+                connector.executeOneWayMethod(proxyMethod, args, messagingQos);
+                return null;
+            });
+        } catch (ApplicationException e) {
+            throw new JoynrRuntimeException(e);
+        } catch (RuntimeException e) {
+            throwIfAborted();
+            throw e;
+        }
+    }
+
+    /**
+     * invokeReflectively is called by the generated static proxy (see {@link io.joynr.StaticProxy}) for all methods
+     * which are not sent directly, e.g. subscriptions and stateless async calls.
+     *
+     * @param proxy the generated static proxy
+     * @param proxyMethod the called method
+     * @param args the arguments of the call as passed to the method
+     * @return the result of the call
+     */
+    public Object invokeReflectively(Object proxy, ProxyMethod proxyMethod, Object[] args) {
+        try {
+            return invoke(proxy, proxyMethod.getMethod(), args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new JoynrRuntimeException(e);
+        }
+    }
+
+    private void logInvocation(ProxyMethod proxyMethod, Object[] params) {
+        logger.trace("Calling proxy.{}({}) on domain: {} and interface {}, proxy participant ID: {}",
+                     proxyMethod.getMethodName(),
+                     params,
+                     domains,
+                     interfaceName,
+                     proxyParticipantId);
+    }
+
+    private void throwIfAborted() {
+        Throwable abortThrowable = throwable;
+        if (abortThrowable instanceof RuntimeException) {
+            throw (RuntimeException) abortThrowable;
+        } else if (abortThrowable instanceof Error) {
+            throw (Error) abortThrowable;
+        } else if (abortThrowable != null) {
+            throw new JoynrRuntimeException(abortThrowable);
+        }
+    }
+
     public void abort(JoynrRuntimeException exception) {
         setThrowableForInvoke(exception);
 
@@ -557,6 +783,10 @@ public abstract class ProxyInvocationHandler implements InvocationHandler {
             invocation.getFuture().onFailure(exception);
         }
 
+        for (CompletionStageMethodInvocation invocation : queuedCompletionStageRpcList) {
+            invocation.getFuture().completeExceptionally(exception);
+        }
+
         for (Iterator<UnsubscribeInvocation> iterator = queuedUnsubscribeInvocationList.iterator(); iterator.hasNext();) {
             Invocation<String> invocation = iterator.next();
             invocation.getFuture().onFailure(exception);
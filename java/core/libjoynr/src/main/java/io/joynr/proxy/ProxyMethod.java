@@ -0,0 +1,130 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.proxy;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import io.joynr.exceptions.JoynrIllegalStateException;
+import io.joynr.messaging.MessagingQos;
+import io.joynr.util.ReflectionUtils;
+import joynr.MethodMetaInformation;
+
+/**
+ * Information about a method of a generated proxy interface which is computed once by the generated static proxy
+ * (see {@link io.joynr.StaticProxy}), so that its calls can be sent without reflective lookups: the method, its
+ * {@link MethodMetaInformation} and the datatype names of the request parameters, i.e. of all parameters except
+ * the callback and the MessagingQos.
+ */
+public final class ProxyMethod {
+    private final Method method;
+    private final Method methodWithMessagingQos;
+    private final MethodMetaInformation methodMetaInformation;
+    private final String[] paramDatatypes;
+
+    /**
+     * @param interfaceClass the proxy interface declaring the method
+     * @param methodName the name of the method
+     * @param parameterTypes the parameter types of the method variant without MessagingQos parameter
+     */
+    public ProxyMethod(Class<?> interfaceClass, String methodName, Class<?>... parameterTypes) {
+        try {
+            method = interfaceClass.getMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new JoynrIllegalStateException("Method " + methodName + Arrays.toString(parameterTypes)
+                    + " not found in " + interfaceClass.getName());
+        }
+        Class<?>[] parameterTypesWithMessagingQos = Arrays.copyOf(parameterTypes, parameterTypes.length + 1);
+        parameterTypesWithMessagingQos[parameterTypes.length] = MessagingQos.class;
+        Method foundMethodWithMessagingQos;
+        try {
+            foundMethodWithMessagingQos = interfaceClass.getMethod(methodName, parameterTypesWithMessagingQos);
+        } catch (NoSuchMethodException e) {
+            foundMethodWithMessagingQos = null;
+        }
+        methodWithMessagingQos = foundMethodWithMessagingQos;
+
+        methodMetaInformation = JoynrMessagingConnectorFactory.ensureMethodMetaInformationPresent(method);
+        int callbackIndex = methodMetaInformation.getCallbackIndex();
+        if (callbackIndex < 0) {
+            paramDatatypes = ReflectionUtils.toDatatypeNames(parameterTypes);
+        } else {
+            Class<?>[] parameterTypesWithoutCallback = new Class<?>[parameterTypes.length - 1];
+            System.arraycopy(parameterTypes, 0, parameterTypesWithoutCallback, 0, callbackIndex);
+            System.arraycopy(parameterTypes,
+                             callbackIndex + 1,
+                             parameterTypesWithoutCallback,
+                             callbackIndex,
+                             parameterTypesWithoutCallback.length - callbackIndex);
+            paramDatatypes = ReflectionUtils.toDatatypeNames(parameterTypesWithoutCallback);
+        }
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public MethodMetaInformation getMethodMetaInformation() {
+        return methodMetaInformation;
+    }
+
+    public String getMethodName() {
+        return method.getName();
+    }
+
+    /**
+     * @return the datatype names of the request parameters, must not be modified
+     */
+    String[] getParamDatatypes() {
+        return paramDatatypes;
+    }
+
+    /**
+     * @return the method variant matching the arguments of {@link #toMethodArguments(ICallback, Object[],
+     *         MessagingQos)}
+     */
+    Method getMethod(MessagingQos messagingQos) {
+        return messagingQos == null ? method : methodWithMessagingQos;
+    }
+
+    /**
+     * Restores the arguments of a reflective call, e.g. to queue the call until the arbitration has finished.
+     */
+    Object[] toMethodArguments(ICallback callback, Object[] params, MessagingQos messagingQos) {
+        int callbackIndex = methodMetaInformation.getCallbackIndex();
+        int argumentCount = params.length + (callbackIndex < 0 ? 0 : 1) + (messagingQos == null ? 0 : 1);
+        Object[] args = new Object[argumentCount];
+        if (callbackIndex < 0) {
+            System.arraycopy(params, 0, args, 0, params.length);
+        } else {
+            System.arraycopy(params, 0, args, 0, callbackIndex);
+            args[callbackIndex] = callback;
+            System.arraycopy(params, callbackIndex, args, callbackIndex + 1, params.length - callbackIndex);
+        }
+        if (messagingQos != null) {
+            args[argumentCount - 1] = messagingQos;
+        }
+        return args;
+    }
+
+    @Override
+    public String toString() {
+        return method.toString();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.proxy.invocation;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CompletionStageMethodInvocation contains the queuable information for a call of a proxy method returning a
+ * CompletableFuture
+ */
+
+public class CompletionStageMethodInvocation {
+
+    private final Object proxy;
+    private final Method method;
+    private final Object[] args;
+    private final CompletableFuture<Object> future;
+
+    public CompletionStageMethodInvocation(Object proxy,
+                                           Method method,
+                                           Object[] args,
+                                           CompletableFuture<Object> future) {
+        this.proxy = proxy;
+        this.method = method;
+        this.args = args == null ? null : args.clone();
+        this.future = future;
+    }
+
+    public Object getProxy() {
+        return proxy;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Object[] getArgs() {
+        return args == null ? null : args.clone();
+    }
+
+    public CompletableFuture<Object> getFuture() {
+        return future;
+    }
+}
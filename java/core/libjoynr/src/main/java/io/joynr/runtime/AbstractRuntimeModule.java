@@ -19,6 +19,9 @@
 package io.joynr.runtime;
 
 import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_DISCOVERY;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_TIMER_REPLY_CALLER;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_TIMER_SUBSCRIPTION;
 
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -60,6 +63,7 @@ import io.joynr.messaging.IMessagingSkeletonFactory;
 import io.joynr.messaging.IMessagingStub;
 import io.joynr.messaging.JoynrMessageProcessor;
 import io.joynr.messaging.JsonMessageSerializerModule;
+import io.joynr.messaging.MessagingPropertyKeys;
 import io.joynr.messaging.MessagingSettings;
 import io.joynr.messaging.MessagingSkeletonFactory;
 import io.joynr.messaging.NoOpRawMessagingPreprocessor;
@@ -68,7 +72,7 @@ import io.joynr.messaging.inprocess.InProcessAddress;
 import io.joynr.messaging.inprocess.InProcessLibjoynrMessagingSkeletonFactory;
 import io.joynr.messaging.inprocess.InProcessMessagingStubFactory;
 import io.joynr.messaging.routing.GlobalAddressFactory;
-import io.joynr.messaging.routing.InMemoryMulticastReceiverRegistry;
+import io.joynr.messaging.routing.MessageQueue;
 import io.joynr.messaging.routing.MessageRouter;
 import io.joynr.messaging.routing.MessageRouterUtil;
 import io.joynr.messaging.routing.MessagingStubFactory;
@@ -140,7 +144,8 @@ abstract class AbstractRuntimeModule extends AbstractModule {
         bind(CapabilitiesRegistrar.class).to(CapabilitiesRegistrarImpl.class);
         bind(ParticipantIdStorage.class).to(PropertiesFileParticipantIdStorage.class);
         bind(MessagingSettings.class).to(ConfigurableMessagingSettings.class);
-        bind(MulticastReceiverRegistry.class).to(InMemoryMulticastReceiverRegistry.class).asEagerSingleton();
+        bind(MulticastReceiverRegistry.class).toProvider(MulticastReceiverRegistryProvider.class).asEagerSingleton();
+        bind(MessageQueue.class).toProvider(MessageQueueProvider.class).in(Singleton.class);
         bind(RawMessagingPreprocessor.class).to(NoOpRawMessagingPreprocessor.class);
         bind(ScheduledExecutorService.class).annotatedWith(Names.named(MessageRouter.SCHEDULEDTHREADPOOL))
                                             .toProvider(DefaultScheduledExecutorServiceProvider.class);
@@ -153,8 +158,16 @@ abstract class AbstractRuntimeModule extends AbstractModule {
 
         install(new StaticCapabilitiesProvisioningModule());
 
+        bind(ScheduledExecutorService.class).annotatedWith(Names.named(MessagingPropertyKeys.SCHEDULEDTHREADPOOL_TRANSPORT))
+                                            .toProvider(DefaultTransportScheduledExecutorServiceProvider.class);
         bind(ScheduledExecutorService.class).annotatedWith(Names.named(JOYNR_SCHEDULER_CLEANUP))
-                                            .toProvider(DefaultScheduledExecutorServiceProvider.class);
+                                            .toProvider(DefaultCleanupScheduledExecutorServiceProvider.class);
+        bind(ScheduledExecutorService.class).annotatedWith(Names.named(JOYNR_SCHEDULER_DISCOVERY))
+                                            .toProvider(DefaultDiscoveryScheduledExecutorServiceProvider.class);
+        bind(HashedWheelTimer.class).annotatedWith(Names.named(JOYNR_TIMER_SUBSCRIPTION))
+                                    .toProvider(DefaultSubscriptionTimerProvider.class);
+        bind(HashedWheelTimer.class).annotatedWith(Names.named(JOYNR_TIMER_REPLY_CALLER))
+                                    .toProvider(DefaultReplyCallerTimerProvider.class);
         Multibinder.newSetBinder(binder(), new TypeLiteral<JoynrMessageProcessor>() {
         });
     }
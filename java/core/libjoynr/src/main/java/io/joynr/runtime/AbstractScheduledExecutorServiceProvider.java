@@ -0,0 +1,115 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Provider;
+
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
+import io.joynr.util.JoynrThreadFactory;
+
+/**
+ * Base class of the providers of the executors of the joynr runtime. Each subsystem (message routing, transport
+ * I/O, cleanup, discovery) gets its own, individually sized executor so that long running tasks of one subsystem
+ * do not delay the tasks of another one. The executors are registered as {@link io.joynr.statusmetrics.ExecutorStatusMetrics}.
+ */
+public abstract class AbstractScheduledExecutorServiceProvider implements Provider<ScheduledExecutorService>,
+        ShutdownListener {
+    private static final Logger logger = LoggerFactory.getLogger(AbstractScheduledExecutorServiceProvider.class);
+    private static final long TERMINATION_TIMEOUT = 5000;
+    private final InstrumentedScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * @param name the name of the executor, also used as prefix of the thread names
+     * @param threads the number of threads of the executor
+     * @param virtualThreads if true, virtual threads are used if supported by the JVM
+     * @param shutdownNotifier the executor is shut down as last
+     * @param joynrStatusMetricsReceiver the executor is registered for the status metrics
+     */
+    protected AbstractScheduledExecutorServiceProvider(String name,
+                                                       int threads,
+                                                       boolean virtualThreads,
+                                                       ShutdownNotifier shutdownNotifier,
+                                                       JoynrStatusMetricsReceiver joynrStatusMetricsReceiver) {
+        ThreadFactory threadFactory = virtualThreads ? createVirtualThreadFactory(name) : null;
+        if (threadFactory == null) {
+            threadFactory = new JoynrThreadFactory(name, true);
+        }
+        logger.debug("Creating executor {} with {} threads", name, threads);
+        scheduler = new InstrumentedScheduledThreadPoolExecutor(name, threads, threadFactory);
+        scheduler.setKeepAliveTime(100, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+
+        joynrStatusMetricsReceiver.addExecutorStatusMetrics(scheduler);
+        shutdownNotifier.registerToBeShutdownAsLast(this);
+    }
+
+    /*
+     * Virtual threads are only available as of Java 21, the joynr runtime is compiled for Java 11.
+     */
+    private static ThreadFactory createVirtualThreadFactory(String name) {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class)
+                                  .invoke(builder, "joynr-" + name + "-virtual-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads are not supported by this JVM, using platform threads for executor {}",
+                        name);
+            return null;
+        }
+    }
+
+    @Override
+    public ScheduledExecutorService get() {
+        return scheduler;
+    }
+
+    @Override
+    public void shutdown() {
+        logger.debug("shutdown of executor {} invoked", scheduler.getName());
+        scheduler.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.purge();
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                logger.error("Executor {} did not shut down in time. Timed out waiting for executor service to shutdown after {}ms.",
+                             scheduler.getName(),
+                             TERMINATION_TIMEOUT);
+                logger.debug("Attempting to shutdown executor {} forcibly.", scheduler);
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Executor {} shutdown interrupted:", scheduler.getName(), e);
+        }
+        logger.debug("shutdown of executor {} finished", scheduler.getName());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import javax.inject.Named;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
+
+/**
+ * Provides the executor for arbitration and discovery tasks, see {@link JoynrInjectionConstants#JOYNR_SCHEDULER_DISCOVERY}.
+ */
+@Singleton
+public class DefaultDiscoveryScheduledExecutorServiceProvider extends AbstractScheduledExecutorServiceProvider {
+
+    @Inject
+    public DefaultDiscoveryScheduledExecutorServiceProvider(@Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_EXECUTOR_THREADS) int threads,
+                                                            @Named(ConfigurableMessagingSettings.PROPERTY_EXECUTOR_VIRTUAL_THREADS) boolean virtualThreads,
+                                                            ShutdownNotifier shutdownNotifier,
+                                                            JoynrStatusMetricsReceiver joynrStatusMetricsReceiver) {
+        /*
+         * ArbitratorFactory: arbitratorRunnable
+         * InFlightDiscoveryLookups: timeouts of arbitrations waiting for an in-flight lookup
+         * ClusterControllerRuntime / LocalCapabilitiesDirectory: removeStale and freshness updates
+         */
+        super("DiscoveryExecutor", threads, virtualThreads, shutdownNotifier, joynrStatusMetricsReceiver);
+    }
+}
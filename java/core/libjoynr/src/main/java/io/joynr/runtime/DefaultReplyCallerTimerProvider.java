@@ -0,0 +1,60 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import javax.inject.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+
+/**
+ * Provides the {@link HashedWheelTimer} which expires the reply callers of outstanding requests, see
+ * {@link JoynrInjectionConstants#JOYNR_TIMER_REPLY_CALLER}.
+ */
+@Singleton
+public class DefaultReplyCallerTimerProvider implements Provider<HashedWheelTimer>, ShutdownListener {
+    private static final Logger logger = LoggerFactory.getLogger(DefaultReplyCallerTimerProvider.class);
+    private static final int TICKS_PER_WHEEL = 1024;
+    private static final int TIMER_THREADS = 2;
+    private final HashedWheelTimer timer;
+
+    @Inject
+    public DefaultReplyCallerTimerProvider(@Named(ConfigurableMessagingSettings.PROPERTY_REPLY_CALLER_EXPIRY_TOLERANCE_MS) long expiryToleranceMs,
+                                           ShutdownNotifier shutdownNotifier) {
+        timer = new HashedWheelTimer("ReplyCallerTimer", expiryToleranceMs, TICKS_PER_WHEEL, TIMER_THREADS);
+        shutdownNotifier.registerToBeShutdownAsLast(this);
+    }
+
+    @Override
+    public HashedWheelTimer get() {
+        return timer;
+    }
+
+    @Override
+    public void shutdown() {
+        logger.debug("shutdown invoked, dropping {} scheduled timeouts", timer.getScheduledTimeoutCount());
+        timer.shutdown();
+    }
+}
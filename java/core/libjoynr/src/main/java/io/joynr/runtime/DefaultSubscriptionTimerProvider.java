@@ -0,0 +1,60 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import javax.inject.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+
+/**
+ * Provides the {@link HashedWheelTimer} shared by all publication timers, missed publication timers and
+ * subscription end tasks of a runtime, see {@link JoynrInjectionConstants#JOYNR_TIMER_SUBSCRIPTION}.
+ */
+@Singleton
+public class DefaultSubscriptionTimerProvider implements Provider<HashedWheelTimer>, ShutdownListener {
+    private static final Logger logger = LoggerFactory.getLogger(DefaultSubscriptionTimerProvider.class);
+    private static final int TICKS_PER_WHEEL = 512;
+    private final HashedWheelTimer timer;
+
+    @Inject
+    public DefaultSubscriptionTimerProvider(@Named(ConfigurableMessagingSettings.PROPERTY_SUBSCRIPTION_TIMER_THREADS) int timerThreads,
+                                            @Named(ConfigurableMessagingSettings.PROPERTY_SUBSCRIPTION_TIMER_TICK_MS) long tickDurationMs,
+                                            ShutdownNotifier shutdownNotifier) {
+        timer = new HashedWheelTimer("SubscriptionTimer", tickDurationMs, TICKS_PER_WHEEL, timerThreads);
+        shutdownNotifier.registerToBeShutdownAsLast(this);
+    }
+
+    @Override
+    public HashedWheelTimer get() {
+        return timer;
+    }
+
+    @Override
+    public void shutdown() {
+        logger.debug("shutdown invoked, dropping {} scheduled timeouts", timer.getScheduledTimeoutCount());
+        timer.shutdown();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import javax.inject.Named;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
+
+/**
+ * Provides the executor of the transports, see {@link io.joynr.messaging.MessagingPropertyKeys#SCHEDULEDTHREADPOOL_TRANSPORT}.
+ * <p>
+ * The executor always uses platform threads because it runs the event loop of the MQTT client.
+ */
+@Singleton
+public class DefaultTransportScheduledExecutorServiceProvider extends AbstractScheduledExecutorServiceProvider {
+
+    @Inject
+    public DefaultTransportScheduledExecutorServiceProvider(@Named(ConfigurableMessagingSettings.PROPERTY_TRANSPORT_EXECUTOR_THREADS) int threads,
+                                                            ShutdownNotifier shutdownNotifier,
+                                                            JoynrStatusMetricsReceiver joynrStatusMetricsReceiver) {
+        /*
+         * MessagingSkeletonFactory: 1 per skeleton (transport), only required during startup, can be executed one after the other
+         * HivemqMqttClientFactory: netty event loop and application scheduler of the MQTT connections
+         */
+        super("TransportExecutor", threads, false, shutdownNotifier, joynrStatusMetricsReceiver);
+    }
+}
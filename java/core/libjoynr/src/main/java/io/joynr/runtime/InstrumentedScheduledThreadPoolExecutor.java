@@ -0,0 +1,168 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.joynr.statusmetrics.ExecutorStatusMetrics;
+
+/**
+ * {@link ScheduledThreadPoolExecutor} which records the latency of its tasks, i.e. the time between the point in
+ * time a task was due and the start of its execution, and provides it together with the state of the pool as
+ * {@link ExecutorStatusMetrics}.
+ */
+public class InstrumentedScheduledThreadPoolExecutor extends ScheduledThreadPoolExecutor
+        implements ExecutorStatusMetrics {
+
+    private final String name;
+    private final LongAdder startedTasks = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maximumLatencyNanos = new AtomicLong();
+
+    public InstrumentedScheduledThreadPoolExecutor(String name, int corePoolSize, ThreadFactory threadFactory) {
+        super(corePoolSize, threadFactory);
+        this.name = name;
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+        return new LatencyRecordingTask<>(task);
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+        return new LatencyRecordingTask<>(task);
+    }
+
+    private void recordLatency(long latencyNanos) {
+        long latency = Math.max(0, latencyNanos);
+        startedTasks.increment();
+        totalLatencyNanos.add(latency);
+        maximumLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getMaximumThreads() {
+        return getCorePoolSize();
+    }
+
+    @Override
+    public int getActiveThreads() {
+        return getActiveCount();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return getQueue().size();
+    }
+
+    @Override
+    public long getCompletedTasks() {
+        return getCompletedTaskCount();
+    }
+
+    @Override
+    public double getAverageTaskLatencyMs() {
+        long started = startedTasks.sum();
+        if (started == 0) {
+            return 0;
+        }
+        return totalLatencyNanos.sum() / (started * 1_000_000.0);
+    }
+
+    @Override
+    public long getMaximumTaskLatencyMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maximumLatencyNanos.get());
+    }
+
+    /*
+     * The delay of a task which is due is negative: it is the time the task has been waiting for a thread. Periodic
+     * tasks are decorated only once and re-queued by the executor, so the latency of each execution is recorded.
+     */
+    private class LatencyRecordingTask<V> implements RunnableScheduledFuture<V> {
+        private final RunnableScheduledFuture<V> task;
+
+        private LatencyRecordingTask(RunnableScheduledFuture<V> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            recordLatency(-task.getDelay(TimeUnit.NANOSECONDS));
+            task.run();
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return task.isPeriodic();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof LatencyRecordingTask) {
+                return task.compareTo(((LatencyRecordingTask<?>) other).task);
+            }
+            return task.compareTo(other);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return task.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+    }
+}
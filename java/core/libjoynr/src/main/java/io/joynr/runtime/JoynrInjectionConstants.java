@@ -20,4 +20,7 @@ package io.joynr.runtime;
 
 public interface JoynrInjectionConstants {
     static final String JOYNR_SCHEDULER_CLEANUP = "joynr.scheduler.cleanup";
+    static final String JOYNR_SCHEDULER_DISCOVERY = "joynr.scheduler.discovery";
+    static final String JOYNR_TIMER_SUBSCRIPTION = "joynr.timer.subscription";
+    static final String JOYNR_TIMER_REPLY_CALLER = "joynr.timer.replycaller";
 }
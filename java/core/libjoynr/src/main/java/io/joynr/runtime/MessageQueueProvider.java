@@ -0,0 +1,84 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import java.util.concurrent.DelayQueue;
+
+import javax.inject.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.messaging.routing.MessageQueue;
+import io.joynr.messaging.routing.MessageQueue.MaxTimeoutHolder;
+import io.joynr.messaging.routing.ShardedMessageQueue;
+
+/**
+ * Selects the {@link MessageQueue} implementation configured with
+ * {@link ConfigurableMessagingSettings#PROPERTY_MESSAGE_QUEUE_TYPE}. The {@link HashedWheelTimer} for the
+ * delayed messages of the {@link ShardedMessageQueue} is owned by this provider.
+ */
+@Singleton
+public class MessageQueueProvider implements Provider<MessageQueue>, ShutdownListener {
+    private static final Logger logger = LoggerFactory.getLogger(MessageQueueProvider.class);
+    private static final long RETRY_TIMER_TICK_MS = 10;
+    private static final int RETRY_TIMER_TICKS_PER_WHEEL = 512;
+
+    private final MessageQueue messageQueue;
+    private final HashedWheelTimer retryTimer;
+
+    @Inject
+    public MessageQueueProvider(@Named(ConfigurableMessagingSettings.PROPERTY_MESSAGE_QUEUE_TYPE) String messageQueueType,
+                                @Named(ConfigurableMessagingSettings.PROPERTY_MESSAGE_QUEUE_LANES) int numberOfLanes,
+                                MaxTimeoutHolder maxTimeoutHolder,
+                                ShutdownNotifier shutdownNotifier) {
+        if (ConfigurableMessagingSettings.MESSAGE_QUEUE_TYPE_SHARDED.equalsIgnoreCase(messageQueueType)) {
+            logger.debug("Using sharded message queue with {} lanes.", numberOfLanes);
+            retryTimer = new HashedWheelTimer("MessageRetryTimer", RETRY_TIMER_TICK_MS, RETRY_TIMER_TICKS_PER_WHEEL, 1);
+            messageQueue = new ShardedMessageQueue(maxTimeoutHolder, numberOfLanes, retryTimer);
+            shutdownNotifier.registerToBeShutdownAsLast(this);
+            return;
+        }
+        if (!ConfigurableMessagingSettings.MESSAGE_QUEUE_TYPE_DELAYQUEUE.equalsIgnoreCase(messageQueueType)) {
+            logger.warn("Unknown message queue type {}, using {}.",
+                        messageQueueType,
+                        ConfigurableMessagingSettings.MESSAGE_QUEUE_TYPE_DELAYQUEUE);
+        }
+        retryTimer = null;
+        messageQueue = new MessageQueue(new DelayQueue<>(), maxTimeoutHolder);
+    }
+
+    @Override
+    public MessageQueue get() {
+        return messageQueue;
+    }
+
+    @Override
+    public void shutdown() {
+        if (retryTimer != null) {
+            logger.debug("shutdown invoked, dropping {} delayed messages", retryTimer.getScheduledTimeoutCount());
+            retryTimer.shutdown();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import javax.inject.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.messaging.routing.InMemoryMulticastReceiverRegistry;
+import io.joynr.messaging.routing.MulticastReceiverRegistry;
+import io.joynr.messaging.routing.TrieMulticastReceiverRegistry;
+
+/**
+ * Selects the {@link MulticastReceiverRegistry} implementation configured with
+ * {@link ConfigurableMessagingSettings#PROPERTY_MULTICAST_RECEIVER_REGISTRY}.
+ */
+public class MulticastReceiverRegistryProvider implements Provider<MulticastReceiverRegistry> {
+    private static final Logger logger = LoggerFactory.getLogger(MulticastReceiverRegistryProvider.class);
+
+    private final String registryType;
+    private final Provider<TrieMulticastReceiverRegistry> trieRegistryProvider;
+    private final Provider<InMemoryMulticastReceiverRegistry> regexRegistryProvider;
+
+    @Inject
+    public MulticastReceiverRegistryProvider(@Named(ConfigurableMessagingSettings.PROPERTY_MULTICAST_RECEIVER_REGISTRY) String registryType,
+                                             Provider<TrieMulticastReceiverRegistry> trieRegistryProvider,
+                                             Provider<InMemoryMulticastReceiverRegistry> regexRegistryProvider) {
+        this.registryType = registryType;
+        this.trieRegistryProvider = trieRegistryProvider;
+        this.regexRegistryProvider = regexRegistryProvider;
+    }
+
+    @Override
+    public MulticastReceiverRegistry get() {
+        if (ConfigurableMessagingSettings.MULTICAST_RECEIVER_REGISTRY_REGEX.equalsIgnoreCase(registryType)) {
+            logger.debug("Using regex based multicast receiver registry.");
+            return regexRegistryProvider.get();
+        }
+        if (!ConfigurableMessagingSettings.MULTICAST_RECEIVER_REGISTRY_TRIE.equalsIgnoreCase(registryType)) {
+            logger.warn("Unknown multicast receiver registry type {}, using {}.",
+                        registryType,
+                        ConfigurableMessagingSettings.MULTICAST_RECEIVER_REGISTRY_TRIE);
+        }
+        return trieRegistryProvider.get();
+    }
+}
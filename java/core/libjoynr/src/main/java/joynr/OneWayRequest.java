@@ -83,6 +83,14 @@ public class OneWayRequest implements JoynrMessageType {
         return paramDatatypes != null && paramDatatypes.length > 0;
     }
 
+    /**
+     * @param datatypes the datatype names to compare with
+     * @return true if the datatype names of the parameters equal the given ones, the names are not copied
+     */
+    public boolean hasParamDatatypes(String[] datatypes) {
+        return Arrays.equals(paramDatatypes, datatypes);
+    }
+
     public Object[] getParams() {
         return params == null ? null : params.clone();
     }
@@ -20,13 +20,17 @@ package joynr;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.pubsub.publication.PublicationValues;
 
 public class SubscriptionPublication extends AbstractPublication {
 
     private static final long serialVersionUID = 1L;
 
     private String subscriptionId;
+    private transient PublicationValues publicationValues;
 
     public SubscriptionPublication() {
     }
@@ -36,6 +40,17 @@ public class SubscriptionPublication extends AbstractPublication {
         this.subscriptionId = subscriptionId;
     }
 
+    /**
+     * @param publicationValues the values of an attribute change or broadcast which are shared by all
+     *                          subscriptions and serialized only once
+     * @param subscriptionId the id of the subscription
+     */
+    public SubscriptionPublication(PublicationValues publicationValues, String subscriptionId) {
+        super(publicationValues.getValues());
+        this.subscriptionId = subscriptionId;
+        this.publicationValues = publicationValues;
+    }
+
     public SubscriptionPublication(JoynrRuntimeException error, String subscriptionId) {
         super(error);
         this.subscriptionId = subscriptionId;
@@ -49,6 +64,14 @@ public class SubscriptionPublication extends AbstractPublication {
         this.subscriptionId = subscriptionId;
     }
 
+    /**
+     * @return the shared values of the response or null if the publication has not been created from them
+     */
+    @JsonIgnore
+    public PublicationValues getPublicationValues() {
+        return publicationValues;
+    }
+
     @Override
     public String toString() {
         return "SubscriptionPublication [" + "subscriptionId=" + subscriptionId + ", "
@@ -31,6 +31,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -67,9 +68,11 @@ import io.joynr.discovery.LocalDiscoveryAggregator;
 import io.joynr.exceptions.DiscoveryException;
 import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.exceptions.JoynrShutdownException;
+import io.joynr.exceptions.JoynrTimeoutException;
 import io.joynr.exceptions.MultiDomainNoCompatibleProviderFoundException;
 import io.joynr.exceptions.NoCompatibleProviderFoundException;
 import io.joynr.messaging.routing.MessageRouter;
+import io.joynr.messaging.routing.SharedRoutingEntryReferences;
 import io.joynr.proxy.Callback;
 import io.joynr.proxy.CallbackWithModeledError;
 import io.joynr.proxy.Future;
@@ -110,6 +113,8 @@ public class ArbitrationTest {
 
     private ScheduledExecutorService scheduler;
 
+    private SharedRoutingEntryReferences sharedRoutingEntryReferences = new SharedRoutingEntryReferences();
+
     @Mock
     private ShutdownNotifier shutdownNotifier;
     @Mock
@@ -171,7 +176,8 @@ public class ArbitrationTest {
         schedulerField.setAccessible(true);
         String name = "TEST.joynr.scheduler.arbitration.arbitratorRunnable";
         ThreadFactory joynrThreadFactory = new JoynrThreadFactory(name, true);
-        scheduler = Executors.newSingleThreadScheduledExecutor(joynrThreadFactory);
+        // one thread is occupied by the arbitratorRunnable, the other one runs the timeouts of waiting arbitrations
+        scheduler = Executors.newScheduledThreadPool(2, joynrThreadFactory);
         schedulerField.set(ArbitratorFactory.class, scheduler);
 
         Field shutdownNotifierField = ArbitratorFactory.class.getDeclaredField("shutdownNotifier");
@@ -182,6 +188,14 @@ public class ArbitrationTest {
         messageRouterField.setAccessible(true);
         messageRouterField.set(ArbitratorFactory.class, messageRouter);
 
+        Field sharedRoutingEntryReferencesField = ArbitratorFactory.class.getDeclaredField("sharedRoutingEntryReferences");
+        sharedRoutingEntryReferencesField.setAccessible(true);
+        sharedRoutingEntryReferencesField.set(ArbitratorFactory.class, sharedRoutingEntryReferences);
+
+        Field inFlightDiscoveryLookupsField = ArbitratorFactory.class.getDeclaredField("inFlightDiscoveryLookups");
+        inFlightDiscoveryLookupsField.setAccessible(true);
+        inFlightDiscoveryLookupsField.set(ArbitratorFactory.class, new InFlightDiscoveryLookups(scheduler));
+
         ArbitratorFactory.start();
         verify(shutdownNotifier).registerForShutdown(any(ShutdownListener.class));
     }
@@ -1581,4 +1595,122 @@ public class ArbitrationTest {
         assertEquals(expectedArbitrationResult, capturedArbitrationResult);
     }
 
+    @Test
+    public void concurrentArbitrationsShareInFlightLookup() throws InterruptedException {
+        List<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> lookupCallbacks = Collections.synchronizedList(new ArrayList<>());
+        doAnswer((invocation) -> {
+            lookupCallbacks.add(invocation.getArgument(0));
+            localDiscoveryAggregatorSemaphore.release();
+            return null;
+        }).when(localDiscoveryAggregator)
+          .lookup(Mockito.<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> any(),
+                  any(String[].class),
+                  eq(interfaceName),
+                  any(joynr.types.DiscoveryQos.class),
+                  Mockito.<String[]> any());
+        DiscoveryEntryWithMetaInfo discoveryEntry = new DiscoveryEntryWithMetaInfo(interfaceVersion,
+                                                                                   domain,
+                                                                                   interfaceName,
+                                                                                   expectedParticipantId,
+                                                                                   new ProviderQos(),
+                                                                                   System.currentTimeMillis(),
+                                                                                   NO_EXPIRY,
+                                                                                   publicKeyId,
+                                                                                   true);
+        discoveryQos = new DiscoveryQos(ARBITRATION_TIMEOUT, ArbitrationStrategy.HighestPriority, Long.MAX_VALUE);
+        Set<String> domainsSet = new HashSet<String>(Arrays.asList(domain));
+        ArbitrationCallback otherArbitrationCallback = mock(ArbitrationCallback.class);
+
+        for (ArbitrationCallback callback : Arrays.asList(arbitrationCallback, otherArbitrationCallback)) {
+            Arbitrator arbitrator = ArbitratorFactory.create(domainsSet,
+                                                             interfaceName,
+                                                             interfaceVersion,
+                                                             discoveryQos,
+                                                             localDiscoveryAggregator,
+                                                             new String[0]);
+            arbitrator.setArbitrationListener(callback);
+            arbitrator.scheduleArbitration(true);
+        }
+        assertTrue(localDiscoveryAggregatorSemaphore.tryAcquire(1000, TimeUnit.MILLISECONDS));
+        // give the second arbitration time to join the in-flight lookup
+        Thread.sleep(200);
+        assertEquals(1, lookupCallbacks.size());
+
+        lookupCallbacks.get(0).onSuccess(new DiscoveryEntryWithMetaInfo[]{ discoveryEntry });
+
+        ArbitrationResult expectedArbitrationResult = new ArbitrationResult(new HashSet<>(Arrays.asList(discoveryEntry)),
+                                                                            new HashSet<>());
+        assertEquals(expectedArbitrationResult, captureArbitrationResultByArbitrationCallbackOnSuccess());
+        verify(otherArbitrationCallback).onSuccess(eq(expectedArbitrationResult));
+        // the routing entry reference of the lookup is shared with the second arbitration
+        assertTrue(sharedRoutingEntryReferences.releaseSharedReference(expectedParticipantId));
+        assertFalse(sharedRoutingEntryReferences.releaseSharedReference(expectedParticipantId));
+    }
+
+    @Test
+    public void arbitrationWaitingForInFlightLookupFailsAtItsOwnDeadline() throws InterruptedException {
+        final long shortArbitrationTimeoutMs = 300;
+        List<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> lookupCallbacks = Collections.synchronizedList(new ArrayList<>());
+        doAnswer((invocation) -> {
+            lookupCallbacks.add(invocation.getArgument(0));
+            localDiscoveryAggregatorSemaphore.release();
+            return null;
+        }).when(localDiscoveryAggregator)
+          .lookup(Mockito.<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> any(),
+                  any(String[].class),
+                  eq(interfaceName),
+                  any(joynr.types.DiscoveryQos.class),
+                  Mockito.<String[]> any());
+        DiscoveryEntryWithMetaInfo discoveryEntry = new DiscoveryEntryWithMetaInfo(interfaceVersion,
+                                                                                   domain,
+                                                                                   interfaceName,
+                                                                                   expectedParticipantId,
+                                                                                   new ProviderQos(),
+                                                                                   System.currentTimeMillis(),
+                                                                                   NO_EXPIRY,
+                                                                                   publicKeyId,
+                                                                                   true);
+        Set<String> domainsSet = new HashSet<String>(Arrays.asList(domain));
+        ArbitrationCallback shortArbitrationCallback = mock(ArbitrationCallback.class);
+
+        Arbitrator arbitrator = ArbitratorFactory.create(domainsSet,
+                                                         interfaceName,
+                                                         interfaceVersion,
+                                                         new DiscoveryQos(ARBITRATION_TIMEOUT,
+                                                                          ArbitrationStrategy.HighestPriority,
+                                                                          Long.MAX_VALUE),
+                                                         localDiscoveryAggregator,
+                                                         new String[0]);
+        arbitrator.setArbitrationListener(arbitrationCallback);
+        arbitrator.scheduleArbitration(true);
+        assertTrue(localDiscoveryAggregatorSemaphore.tryAcquire(1000, TimeUnit.MILLISECONDS));
+
+        long start = System.currentTimeMillis();
+        Arbitrator shortArbitrator = ArbitratorFactory.create(domainsSet,
+                                                              interfaceName,
+                                                              interfaceVersion,
+                                                              new DiscoveryQos(shortArbitrationTimeoutMs,
+                                                                               ArbitrationStrategy.HighestPriority,
+                                                                               Long.MAX_VALUE),
+                                                              localDiscoveryAggregator,
+                                                              new String[0]);
+        shortArbitrator.setArbitrationListener(shortArbitrationCallback);
+        shortArbitrator.scheduleArbitration(true);
+
+        // the second arbitration joins the in-flight lookup and fails at its own deadline
+        verify(shortArbitrationCallback, timeout(shortArbitrationTimeoutMs + 1000)).onError(any(JoynrTimeoutException.class));
+        long elapsedMs = System.currentTimeMillis() - start;
+        assertTrue("elapsed: " + elapsedMs, elapsedMs < ARBITRATION_TIMEOUT);
+        assertEquals(1, lookupCallbacks.size());
+        verify(arbitrationCallback, never()).onError(any(Throwable.class));
+
+        lookupCallbacks.get(0).onSuccess(new DiscoveryEntryWithMetaInfo[]{ discoveryEntry });
+
+        ArbitrationResult expectedArbitrationResult = new ArbitrationResult(new HashSet<>(Arrays.asList(discoveryEntry)),
+                                                                            new HashSet<>());
+        assertEquals(expectedArbitrationResult, captureArbitrationResultByArbitrationCallbackOnSuccess());
+        verify(shortArbitrationCallback, never()).onSuccess(any(ArbitrationResult.class));
+        // the timed out arbitration does not get a shared routing entry reference
+        assertFalse(sharedRoutingEntryReferences.releaseSharedReference(expectedParticipantId));
+    }
 }
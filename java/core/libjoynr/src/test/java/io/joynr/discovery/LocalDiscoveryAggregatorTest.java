@@ -19,6 +19,7 @@
 package io.joynr.discovery;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,6 +49,8 @@ import org.slf4j.LoggerFactory;
 
 import io.joynr.JoynrVersion;
 import io.joynr.messaging.MessagingQos;
+import io.joynr.messaging.routing.MessageRouter;
+import io.joynr.messaging.routing.SharedRoutingEntryReferences;
 import io.joynr.proxy.Callback;
 import io.joynr.proxy.CallbackWithModeledError;
 import io.joynr.proxy.Future;
@@ -94,6 +97,8 @@ public class LocalDiscoveryAggregatorTest {
     @Mock
     Callback<Void> callback;
     @Mock
+    MessageRouter messageRouter;
+    @Mock
     CallbackWithModeledError<Void, DiscoveryError> addCallbackWithModeledError;
     @Mock
     CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError> lookupCallbackWithModeledError;
@@ -101,6 +106,7 @@ public class LocalDiscoveryAggregatorTest {
     CallbackWithModeledError<DiscoveryEntryWithMetaInfo, DiscoveryError> lookupByParticipantIdCallbackWithModeledError;
 
     private String[] gbids = { "joynrdefaultgbid", "testGbid2", "testGbid3" };
+    private SharedRoutingEntryReferences sharedRoutingEntryReferences = new SharedRoutingEntryReferences();
 
     @Before
     public void setUp() {
@@ -115,7 +121,10 @@ public class LocalDiscoveryAggregatorTest {
         localDiscoveryAggregator = new LocalDiscoveryAggregator(systemServicesDomain,
                                                                 discoveryProviderParticipantId,
                                                                 "routingProviderParticipantId",
-                                                                proxyBuilderFactory);
+                                                                0,
+                                                                proxyBuilderFactory,
+                                                                messageRouter,
+                                                                sharedRoutingEntryReferences);
         localDiscoveryAggregator.forceQueryOfDiscoveryProxy();
         ProviderQos providerQos = new ProviderQos();
         providerQos.setScope(ProviderScope.LOCAL);
@@ -445,6 +454,131 @@ public class LocalDiscoveryAggregatorTest {
                                                     eq(discoveryProviderParticipantId));
     }
 
+    private LocalDiscoveryAggregator createCachingLocalDiscoveryAggregator() {
+        LocalDiscoveryAggregator cachingLocalDiscoveryAggregator = new LocalDiscoveryAggregator(systemServicesDomain,
+                                                                                                discoveryProviderParticipantId,
+                                                                                                "routingProviderParticipantId",
+                                                                                                10,
+                                                                                                proxyBuilderFactory,
+                                                                                                messageRouter,
+                                                                                                sharedRoutingEntryReferences);
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) {
+                @SuppressWarnings("unchecked")
+                Callback<DiscoveryEntryWithMetaInfo[]> callback = (Callback<DiscoveryEntryWithMetaInfo[]>) invocation.getArguments()[0];
+                callback.onSuccess(new DiscoveryEntryWithMetaInfo[]{ anotherDiscoveryProviderEntry });
+                return null;
+            }
+        }).when(discoveryProxyMock)
+          .lookup(ArgumentMatchers.<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> any(),
+                  any(String[].class),
+                  anyString(),
+                  any(DiscoveryQos.class),
+                  Mockito.<String[]> any(),
+                  any(MessagingQos.class));
+        return cachingLocalDiscoveryAggregator;
+    }
+
+    private DiscoveryEntryWithMetaInfo[] lookupAnotherDomain(LocalDiscoveryAggregator aggregator,
+                                                             DiscoveryQos discoveryQos) throws Exception {
+        return aggregator.lookup(lookupCallbackWithModeledError,
+                                 new String[]{ anotherDomain },
+                                 Discovery.INTERFACE_NAME,
+                                 discoveryQos,
+                                 gbids)
+                         .get();
+    }
+
+    private void verifyProxyLookups(int expectedProxyLookups) {
+        verify(discoveryProxyMock,
+               times(expectedProxyLookups)).lookup(ArgumentMatchers.<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> any(),
+                                                   any(String[].class),
+                                                   anyString(),
+                                                   any(DiscoveryQos.class),
+                                                   Mockito.<String[]> any(),
+                                                   any(MessagingQos.class));
+    }
+
+    @Test
+    public void lookupByDomainInterface_usesCachedResultIfCacheMaxAgeAllows() throws Exception {
+        LocalDiscoveryAggregator cachingLocalDiscoveryAggregator = createCachingLocalDiscoveryAggregator();
+        DiscoveryQos discoveryQos = new DiscoveryQos();
+        discoveryQos.setCacheMaxAge(ONE_DAY_IN_MS);
+
+        lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+        DiscoveryEntryWithMetaInfo[] result = lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+
+        verifyProxyLookups(1);
+        assertEquals(1, result.length);
+        assertEquals(anotherDiscoveryProviderEntry, result[0]);
+        assertEquals(1, cachingLocalDiscoveryAggregator.getDiscoveryCacheHitCount());
+        assertEquals(1, cachingLocalDiscoveryAggregator.getDiscoveryCacheMissCount());
+        // one shared routing entry reference for the cache and one for the second lookup
+        assertTrue(sharedRoutingEntryReferences.releaseSharedReference(anotherDiscoveryProviderEntry.getParticipantId()));
+        assertTrue(sharedRoutingEntryReferences.releaseSharedReference(anotherDiscoveryProviderEntry.getParticipantId()));
+        assertFalse(sharedRoutingEntryReferences.releaseSharedReference(anotherDiscoveryProviderEntry.getParticipantId()));
+    }
+
+    @Test
+    public void lookupByDomainInterface_doesNotUseCachedResultWithoutCacheMaxAge() throws Exception {
+        LocalDiscoveryAggregator cachingLocalDiscoveryAggregator = createCachingLocalDiscoveryAggregator();
+        DiscoveryQos discoveryQos = new DiscoveryQos();
+        discoveryQos.setCacheMaxAge(0L);
+
+        lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+        lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+
+        verifyProxyLookups(2);
+        assertEquals(0, cachingLocalDiscoveryAggregator.getDiscoveryCacheHitCount());
+    }
+
+    @Test
+    public void lookupByDomainInterface_doesNotUseCachedResultOfOtherScope() throws Exception {
+        LocalDiscoveryAggregator cachingLocalDiscoveryAggregator = createCachingLocalDiscoveryAggregator();
+        DiscoveryQos discoveryQos = new DiscoveryQos();
+        discoveryQos.setCacheMaxAge(ONE_DAY_IN_MS);
+        discoveryQos.setDiscoveryScope(DiscoveryScope.LOCAL_ONLY);
+        lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+
+        discoveryQos.setDiscoveryScope(DiscoveryScope.GLOBAL_ONLY);
+        lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+
+        verifyProxyLookups(2);
+    }
+
+    @Test
+    public void addAndRemove_invalidateCachedResults() throws Exception {
+        LocalDiscoveryAggregator cachingLocalDiscoveryAggregator = createCachingLocalDiscoveryAggregator();
+        DiscoveryQos discoveryQos = new DiscoveryQos();
+        discoveryQos.setCacheMaxAge(ONE_DAY_IN_MS);
+        lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+
+        DiscoveryEntry otherInterfaceEntry = new DiscoveryEntry(new Version(0, 0),
+                                                                anotherDomain,
+                                                                "otherInterface",
+                                                                "otherParticipant",
+                                                                new ProviderQos(),
+                                                                System.currentTimeMillis(),
+                                                                expiryDateMs,
+                                                                publicKeyId);
+        cachingLocalDiscoveryAggregator.add(callback, otherInterfaceEntry);
+        lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+        verifyProxyLookups(1);
+
+        DiscoveryEntry sameInterfaceEntry = new DiscoveryEntry(otherInterfaceEntry);
+        sameInterfaceEntry.setInterfaceName(Discovery.INTERFACE_NAME);
+        cachingLocalDiscoveryAggregator.add(callback, sameInterfaceEntry);
+        lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+        verifyProxyLookups(2);
+
+        cachingLocalDiscoveryAggregator.remove(callback, anotherDiscoveryProviderEntry.getParticipantId());
+        lookupAnotherDomain(cachingLocalDiscoveryAggregator, discoveryQos);
+        verifyProxyLookups(3);
+        // the routing entry references of the invalidated results have been released
+        verify(messageRouter, times(2)).removeNextHop(anotherDiscoveryProviderEntry.getParticipantId());
+    }
+
     @Test
     public void forceQueryOfDiscoveryProxy() {
         localDiscoveryAggregator.forceQueryOfDiscoveryProxy();
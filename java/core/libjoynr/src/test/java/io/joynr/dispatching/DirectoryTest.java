@@ -0,0 +1,148 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class DirectoryTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectoryTest.class);
+
+    private Directory<Object> directory;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        directory = new Directory<Object>() {
+            @Override
+            protected Logger getLogger() {
+                return logger;
+            }
+        };
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void listenersSeeEntryInDirectory() {
+        Object entry = new Object();
+        AtomicInteger addedCount = new AtomicInteger();
+        AtomicInteger removedCount = new AtomicInteger();
+        directory.addListener(new DirectoryListener<Object>() {
+            @Override
+            public void entryAdded(String participantId, Object addedEntry) {
+                assertSame(entry, directory.get(participantId));
+                addedCount.incrementAndGet();
+            }
+
+            @Override
+            public void entryRemoved(String participantId) {
+                assertNull(directory.get(participantId));
+                removedCount.incrementAndGet();
+            }
+        });
+
+        directory.add("participantId", entry);
+        assertSame(entry, directory.remove("participantId"));
+        assertNull(directory.remove("participantId"));
+
+        assertEquals(1, addedCount.get());
+        assertEquals(1, removedCount.get());
+        assertTrue(directory.isEmpty());
+    }
+
+    @Test
+    public void addIfAbsentDoesNotReplaceEntry() {
+        Object entry = new Object();
+        AtomicInteger addedCount = new AtomicInteger();
+        directory.addListener(new DirectoryListener<Object>() {
+            @Override
+            public void entryAdded(String participantId, Object addedEntry) {
+                addedCount.incrementAndGet();
+            }
+
+            @Override
+            public void entryRemoved(String participantId) {
+            }
+        });
+
+        assertTrue(directory.addIfAbsent("participantId", entry));
+        assertFalse(directory.addIfAbsent("participantId", new Object()));
+
+        assertSame(entry, directory.get("participantId"));
+        assertEquals(1, addedCount.get());
+    }
+
+    @Test
+    public void concurrentAddAndRemoveNotifyOncePerEntry() throws Exception {
+        final int entriesPerThread = 10000;
+        final int threads = 4;
+        ConcurrentHashMap<String, Boolean> added = new ConcurrentHashMap<>();
+        AtomicInteger removedCount = new AtomicInteger();
+        directory.addListener(new DirectoryListener<Object>() {
+            @Override
+            public void entryAdded(String participantId, Object entry) {
+                assertNull(added.put(participantId, Boolean.TRUE));
+            }
+
+            @Override
+            public void entryRemoved(String participantId) {
+                removedCount.incrementAndGet();
+            }
+        });
+
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            final String prefix = "thread" + thread + "-";
+            executor.execute(() -> {
+                for (int i = 0; i < entriesPerThread; i++) {
+                    directory.add(prefix + i, Boolean.TRUE);
+                    directory.remove(prefix + i);
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(threads * entriesPerThread, added.size());
+        assertEquals(threads * entriesPerThread, removedCount.get());
+        assertTrue(directory.isEmpty());
+    }
+}
@@ -21,9 +21,11 @@ package io.joynr.dispatching;
 import static io.joynr.proxy.StatelessAsyncIdCalculator.REQUEST_REPLY_ID_SEPARATOR;
 import static io.joynr.proxy.StatelessAsyncIdCalculator.USE_CASE_SEPARATOR;
 import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_TIMER_REPLY_CALLER;
 import static io.joynr.util.JoynrUtil.createUuidString;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -86,6 +88,7 @@ import io.joynr.provider.ProviderCallback;
 import io.joynr.provider.ProviderContainer;
 import io.joynr.proxy.JoynrMessagingConnectorFactory;
 import io.joynr.proxy.StatelessAsyncIdCalculator;
+import io.joynr.runtime.HashedWheelTimer;
 import io.joynr.smrf.EncodingException;
 import io.joynr.smrf.UnsuppportedVersionException;
 import io.joynr.util.JoynrThreadFactory;
@@ -154,6 +157,8 @@ public class DispatcherImplTest {
                 ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor(namedThreadFactory);
                 bind(ScheduledExecutorService.class).annotatedWith(Names.named(JOYNR_SCHEDULER_CLEANUP))
                                                     .toInstance(cleanupExecutor);
+                bind(HashedWheelTimer.class).annotatedWith(Names.named(JOYNR_TIMER_REPLY_CALLER))
+                                            .toInstance(new HashedWheelTimer("DispatcherImplTest", 10, 512, 1));
                 bind(StatelessAsyncIdCalculator.class).toInstance(statelessAsyncIdCalculator);
                 bind(String.class).annotatedWith(Names.named(MessagingPropertyKeys.CHANNELID)).toInstance("channelid");
             }
@@ -280,6 +285,24 @@ public class DispatcherImplTest {
         assertEquals(TEST_CUSTOM_HEADER_VALUE, argument.getValue().getContext().get(TEST_CUSTOM_HEADER_KEY));
     }
 
+    @Test
+    public void testInProcessRequestIsHandledWithoutDeserialization() throws Exception {
+        Request request = new Request("method", new Object[0], new Class<?>[0]);
+        String toParticipantId = "toParticipantId";
+        MutableMessage joynrMessage = messageFactory.createRequest("fromParticipantId",
+                                                                   toParticipantId,
+                                                                   request,
+                                                                   new MessagingQos(1000L));
+        joynrMessage.setPayload(new byte[0]);
+        joynrMessage.setInProcessPayload(request);
+
+        fixture.messageArrived(joynrMessage.getImmutableMessage());
+
+        ArgumentCaptor<Request> argument = ArgumentCaptor.forClass(Request.class);
+        verify(requestReplyManagerMock).handleRequest(any(), eq(toParticipantId), argument.capture(), anyLong());
+        assertSame(request, argument.getValue());
+    }
+
     @Test
     public void testSendMulticastMessage() {
         MutableMessageFactory messageFactoryMock = mock(MutableMessageFactory.class);
@@ -317,7 +340,7 @@ public class DispatcherImplTest {
 
         MutableMessageFactory messageFactoryMock = mock(MutableMessageFactory.class);
         ObjectMapper objectMapperMock = mock(ObjectMapper.class);
-        when(objectMapperMock.readValue(anyString(), eq(SubscriptionRequest.class))).thenReturn(subscriptionRequest);
+        when(objectMapperMock.readValue(any(byte[].class), eq(SubscriptionRequest.class))).thenReturn(subscriptionRequest);
 
         fixture = new DispatcherImpl(requestReplyManagerMock,
                                      subscriptionManagerMock,
@@ -361,7 +384,7 @@ public class DispatcherImplTest {
             MutableMessageFactory messageFactoryMock = mock(MutableMessageFactory.class);
             ObjectMapper objectMapperMock = mock(ObjectMapper.class);
 
-            when(objectMapperMock.readValue(any(String.class), eq(Request.class))).thenReturn(request);
+            when(objectMapperMock.readValue(any(byte[].class), eq(Request.class))).thenReturn(request);
 
             fixture = new DispatcherImpl(requestReplyManagerMock,
                                          subscriptionManagerMock,
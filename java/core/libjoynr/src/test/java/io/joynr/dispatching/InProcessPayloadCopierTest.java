@@ -0,0 +1,122 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import io.joynr.messaging.JsonMessageSerializerModule;
+import io.joynr.util.ObjectMapper;
+import joynr.OneWayRequest;
+import joynr.Reply;
+import joynr.Request;
+import joynr.exceptions.ProviderRuntimeException;
+import joynr.types.Localisation.GpsFixEnum;
+import joynr.types.Localisation.GpsLocation;
+
+public class InProcessPayloadCopierTest {
+
+    private InProcessPayloadCopier subject;
+
+    @Before
+    public void setUp() {
+        ObjectMapper objectMapper = Guice.createInjector(new JsonMessageSerializerModule())
+                                         .getInstance(ObjectMapper.class);
+        subject = new InProcessPayloadCopier(objectMapper);
+    }
+
+    private static GpsLocation createGpsLocation() {
+        return new GpsLocation(1.0d, 2.0d, 0d, GpsFixEnum.MODE2D, 0d, 0d, 0d, 0d, 0l, 0l, 0);
+    }
+
+    @Test
+    public void immutableParamsAreNotCopied() {
+        String stringParam = "string";
+        Integer integerParam = 47;
+        Request request = new Request("method",
+                                      new Object[]{ stringParam, integerParam, GpsFixEnum.MODE3D },
+                                      new Class<?>[]{ String.class, Integer.class, GpsFixEnum.class });
+
+        Request copy = (Request) subject.copy(request);
+
+        assertEquals(request, copy);
+        assertNotSame(request, copy);
+        assertEquals(request.getRequestReplyId(), copy.getRequestReplyId());
+        assertSame(stringParam, copy.getParams()[0]);
+        assertSame(integerParam, copy.getParams()[1]);
+        assertSame(GpsFixEnum.MODE3D, copy.getParams()[2]);
+    }
+
+    @Test
+    public void structsAndArraysAreCopied() {
+        GpsLocation gpsLocation = createGpsLocation();
+        GpsLocation[] gpsLocations = { createGpsLocation(), createGpsLocation() };
+        Byte[] bytes = { 1, 2, 3 };
+        OneWayRequest oneWayRequest = new OneWayRequest("method",
+                                                        new Object[]{ gpsLocation, gpsLocations, bytes },
+                                                        new Class<?>[]{ GpsLocation.class, GpsLocation[].class,
+                                                                Byte[].class });
+
+        OneWayRequest copy = (OneWayRequest) subject.copy(oneWayRequest);
+
+        assertEquals(oneWayRequest, copy);
+        Object[] copiedParams = copy.getParams();
+        assertNotSame(gpsLocation, copiedParams[0]);
+        assertNotSame(gpsLocations, copiedParams[1]);
+        assertNotSame(gpsLocations[0], ((GpsLocation[]) copiedParams[1])[0]);
+        assertNotSame(bytes, copiedParams[2]);
+        assertSame(bytes[0], ((Byte[]) copiedParams[2])[0]);
+    }
+
+    @Test
+    public void replyResponseIsCopied() {
+        GpsLocation gpsLocation = createGpsLocation();
+        Reply reply = new Reply("requestReplyId", gpsLocation);
+
+        Reply copy = (Reply) subject.copy(reply);
+
+        assertEquals(reply, copy);
+        assertNotSame(gpsLocation, copy.getResponse()[0]);
+    }
+
+    @Test
+    public void replyErrorIsCopied() {
+        ProviderRuntimeException error = new ProviderRuntimeException("error");
+        Reply reply = new Reply("requestReplyId", error);
+
+        Reply copy = (Reply) subject.copy(reply);
+
+        assertEquals(reply, copy);
+        assertNotSame(error, copy.getError());
+        assertEquals(error, copy.getError());
+        assertNull(copy.getResponse());
+    }
+
+    @Test
+    public void unsupportedPayloadIsNotCopied() {
+        assertNull(subject.copy("payload"));
+    }
+}
@@ -19,21 +19,28 @@
 package io.joynr.dispatching;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -51,6 +58,9 @@ import io.joynr.messaging.JoynrMessageProcessor;
 import io.joynr.messaging.JsonMessageSerializerModule;
 import io.joynr.messaging.MessagingQos;
 import io.joynr.messaging.MessagingQosEffort;
+import io.joynr.messaging.inprocess.InProcessAddress;
+import io.joynr.messaging.routing.RoutingTable;
+import io.joynr.pubsub.publication.PublicationValues;
 import io.joynr.util.ObjectMapper;
 import joynr.ImmutableMessage;
 import joynr.Message;
@@ -63,6 +73,7 @@ import joynr.Reply;
 import joynr.Request;
 import joynr.SubscriptionPublication;
 import joynr.SubscriptionRequest;
+import joynr.system.RoutingTypes.MqttAddress;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MutableMessageFactoryTest {
@@ -82,6 +93,9 @@ public class MutableMessageFactoryTest {
     private SubscriptionPublication publication;
     private ObjectMapper objectMapper;
 
+    @Mock
+    private RoutingTable routingTableMock;
+
     @Before
     public void setUp() throws NoSuchMethodException, SecurityException {
         fromParticipantId = "sender";
@@ -277,6 +291,35 @@ public class MutableMessageFactoryTest {
         assertTrue(message.getPayload() != null);
     }
 
+    @Test
+    public void createPublicationFromSharedValues() throws Exception {
+        PublicationValues publicationValues = new PublicationValues(Arrays.asList("response",
+                                                                                  42,
+                                                                                  new String[]{ "a", "b" },
+                                                                                  null));
+        SubscriptionPublication sharedValuesPublication = new SubscriptionPublication(publicationValues,
+                                                                                      publication.getSubscriptionId());
+        SubscriptionPublication listPublication = new SubscriptionPublication(publicationValues.getValues(),
+                                                                              publication.getSubscriptionId());
+
+        MutableMessage message = mutableMessageFactory.createPublication(fromParticipantId,
+                                                                         toParticipantId,
+                                                                         sharedValuesPublication,
+                                                                         messagingQos);
+        MutableMessage expectedMessage = mutableMessageFactory.createPublication(fromParticipantId,
+                                                                                 toParticipantId,
+                                                                                 listPublication,
+                                                                                 messagingQos);
+
+        assertArrayEquals(expectedMessage.getPayload(), message.getPayload());
+        assertEquals(publicationValues.getSerializedValues(objectMapper).getValue(),
+                     objectMapper.writeValueAsString(publicationValues.getValues()));
+        SubscriptionPublication deserializedPublication = objectMapper.readValue(message.getPayload(),
+                                                                                 SubscriptionPublication.class);
+        assertEquals(publication.getSubscriptionId(), deserializedPublication.getSubscriptionId());
+        assertEquals(4, ((List<?>) deserializedPublication.getResponse()).size());
+    }
+
     @Test
     public void testMessageProcessorUsed() {
         MutableMessage message = mutableMessageFactory.createRequest("from",
@@ -340,4 +383,111 @@ public class MutableMessageFactoryTest {
         message = mutableMessageFactory.createRequest("from", "to", request, messagingQos);
         assertEquals(false, message.getCompressed());
     }
+
+    private MutableMessageFactory createMutableMessageFactoryWithRoutingTable(JoynrMessageProcessor... messageProcessors) {
+        Injector injector = Guice.createInjector(new JoynrPropertiesModule(new Properties()),
+                                                 new JsonMessageSerializerModule(),
+                                                 new AbstractModule() {
+                                                     @Override
+                                                     protected void configure() {
+                                                         bind(RoutingTable.class).toInstance(routingTableMock);
+                                                         Multibinder<JoynrMessageProcessor> joynrMessageProcessorMultibinder = Multibinder.newSetBinder(binder(),
+                                                                                                                                                        new TypeLiteral<JoynrMessageProcessor>() {
+                                                                                                                                                        });
+                                                         for (JoynrMessageProcessor messageProcessor : messageProcessors) {
+                                                             joynrMessageProcessorMultibinder.addBinding()
+                                                                                             .toInstance(messageProcessor);
+                                                         }
+                                                     }
+                                                 });
+        return injector.getInstance(MutableMessageFactory.class);
+    }
+
+    @Test
+    public void createRequestForInProcessRecipientPassesCopyOfRequest() throws Exception {
+        when(routingTableMock.containsKey(toParticipantId)).thenReturn(true);
+        when(routingTableMock.get(toParticipantId)).thenReturn(new InProcessAddress());
+        Integer[] values = { 1, 2, 3 };
+        Request requestWithArray = new Request("method", new Object[]{ values }, new Class<?>[]{ Integer[].class });
+
+        MutableMessage message = createMutableMessageFactoryWithRoutingTable().createRequest(fromParticipantId,
+                                                                                             toParticipantId,
+                                                                                             requestWithArray,
+                                                                                             messagingQos);
+
+        assertEquals(0, message.getPayload().length);
+        Request inProcessRequest = (Request) message.getImmutableMessage().getInProcessPayload();
+        assertEquals(requestWithArray, inProcessRequest);
+        assertNotSame(requestWithArray, inProcessRequest);
+        assertNotSame(values, inProcessRequest.getParams()[0]);
+    }
+
+    @Test
+    public void createReplyForInProcessRecipientPassesCopyOfReply() throws Exception {
+        when(routingTableMock.containsKey(toParticipantId)).thenReturn(true);
+        when(routingTableMock.get(toParticipantId)).thenReturn(new InProcessAddress());
+
+        MutableMessage message = createMutableMessageFactoryWithRoutingTable().createReply(fromParticipantId,
+                                                                                           toParticipantId,
+                                                                                           reply,
+                                                                                           messagingQos);
+
+        assertEquals(0, message.getPayload().length);
+        Object inProcessReply = message.getImmutableMessage().getInProcessPayload();
+        assertEquals(reply, inProcessReply);
+        assertNotSame(reply, inProcessReply);
+    }
+
+    @Test
+    public void createRequestForRemoteRecipientSerializesPayload() throws Exception {
+        when(routingTableMock.containsKey(toParticipantId)).thenReturn(true);
+        when(routingTableMock.get(toParticipantId)).thenReturn(new MqttAddress());
+
+        MutableMessage message = createMutableMessageFactoryWithRoutingTable().createRequest(fromParticipantId,
+                                                                                             toParticipantId,
+                                                                                             request,
+                                                                                             messagingQos);
+
+        assertNull(message.getInProcessPayload());
+        assertEquals(request, objectMapper.readValue(message.getPayload(), Request.class));
+    }
+
+    @Test
+    public void createRequestForInProcessRecipientWithMessageProcessorSerializesPayload() throws Exception {
+        when(routingTableMock.containsKey(toParticipantId)).thenReturn(true);
+        when(routingTableMock.get(toParticipantId)).thenReturn(new InProcessAddress());
+        List<byte[]> processedPayloads = new ArrayList<>();
+        JoynrMessageProcessor messageProcessor = new JoynrMessageProcessor() {
+            @Override
+            public MutableMessage processOutgoing(MutableMessage joynrMessage) {
+                processedPayloads.add(joynrMessage.getPayload());
+                return joynrMessage;
+            }
+
+            @Override
+            public ImmutableMessage processIncoming(ImmutableMessage joynrMessage) {
+                return joynrMessage;
+            }
+        };
+
+        MutableMessage message = createMutableMessageFactoryWithRoutingTable(messageProcessor).createRequest(fromParticipantId,
+                                                                                                             toParticipantId,
+                                                                                                             request,
+                                                                                                             messagingQos);
+
+        assertNull(message.getInProcessPayload());
+        assertEquals(1, processedPayloads.size());
+        assertEquals(request, objectMapper.readValue(processedPayloads.get(0), Request.class));
+    }
+
+    @Test
+    public void createPublicationForInProcessRecipientSerializesPayload() throws Exception {
+        MutableMessage message = createMutableMessageFactoryWithRoutingTable().createPublication(fromParticipantId,
+                                                                                                 toParticipantId,
+                                                                                                 publication,
+                                                                                                 messagingQos);
+
+        assertNull(message.getInProcessPayload());
+        assertTrue(message.getPayload().length > 0);
+    }
 }
@@ -19,6 +19,7 @@
 package io.joynr.dispatching;
 
 import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_TIMER_REPLY_CALLER;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -37,8 +38,11 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
@@ -87,6 +91,7 @@ import io.joynr.provider.ProviderContainer;
 import io.joynr.proxy.DefaultStatelessAsyncIdCalculatorImpl;
 import io.joynr.proxy.JoynrMessagingConnectorFactory;
 import io.joynr.proxy.StatelessAsyncIdCalculator;
+import io.joynr.runtime.HashedWheelTimer;
 import io.joynr.runtime.ShutdownNotifier;
 import io.joynr.util.JoynrThreadFactory;
 import io.joynr.util.ObjectMapper;
@@ -170,6 +175,8 @@ public class RequestReplyManagerTest {
                 ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor(namedThreadFactory);
                 bind(ScheduledExecutorService.class).annotatedWith(Names.named(JOYNR_SCHEDULER_CLEANUP))
                                                     .toInstance(cleanupExecutor);
+                bind(HashedWheelTimer.class).annotatedWith(Names.named(JOYNR_TIMER_REPLY_CALLER))
+                                            .toInstance(new HashedWheelTimer("RequestReplyManagerTest", 10, 512, 1));
                 bind(StatelessAsyncIdCalculator.class).to(DefaultStatelessAsyncIdCalculatorImpl.class);
                 bind(StatelessAsyncRequestReplyIdManager.class).to(DefaultStatelessAsyncRequestReplyIdManagerImpl.class);
                 bind(String.class).annotatedWith(Names.named(MessagingPropertyKeys.CHANNELID)).toInstance("channelId");
@@ -347,6 +354,46 @@ public class RequestReplyManagerTest {
         testResponderUnregistered.assertReceivedPayloadsContains(payload2);
     }
 
+    @Test
+    public void requestsReceivedWhileHandlingQueuedRequestsAreHandledAfterThem() throws Exception {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final ReplyCallback replyCallbackMock = mock(ReplyCallback.class);
+        TestProvider testResponderSpy = spy(new TestProvider(2));
+        doAnswer(invocation -> {
+            String payload = invocation.getArgument(0);
+            events.add("start " + payload);
+            if (payload1.equals(payload)) {
+                // a new request is received while the queued request is executed
+                requestReplyManager.handleRequest(replyCallbackMock,
+                                                  testResponderUnregisteredParticipantId,
+                                                  request2,
+                                                  ExpiryDate.fromRelativeTtl(TIME_TO_LIVE).getValue());
+            }
+            events.add("end " + payload);
+            return invocation.callRealMethod();
+        }).when(testResponderSpy).methodWithStrings(any(String.class));
+
+        requestReplyManager.handleRequest(replyCallbackMock,
+                                          testResponderUnregisteredParticipantId,
+                                          request1,
+                                          ExpiryDate.fromRelativeTtl(TIME_TO_LIVE).getValue());
+        when(providerContainer.getRequestCaller()).thenReturn(requestCallerFactory.create(testResponderSpy));
+        providerDirectory.add(testResponderUnregisteredParticipantId, providerContainer);
+
+        testResponderSpy.assertAllPayloadsReceived((int) TIME_TO_LIVE);
+        assertEquals(Arrays.asList("start " + payload1, "end " + payload1, "start " + payload2, "end " + payload2),
+                     events);
+
+        // requests are no longer queued after the queued requests have been handled
+        requestReplyManager.handleRequest(replyCallbackMock,
+                                          testResponderUnregisteredParticipantId,
+                                          request1,
+                                          ExpiryDate.fromRelativeTtl(TIME_TO_LIVE).getValue());
+        assertEquals(6, events.size());
+        assertEquals("start " + payload1, events.get(4));
+        providerDirectory.remove(testResponderUnregisteredParticipantId);
+    }
+
     @Test
     public void requestReplyMessagesRemoveCallBackByTtl() throws Exception {
         TestProvider testResponder = new TestProvider(1);
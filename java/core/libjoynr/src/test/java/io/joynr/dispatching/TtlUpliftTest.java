@@ -35,9 +35,6 @@ import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import org.hamcrest.Description;
 import org.junit.Before;
@@ -76,6 +73,7 @@ import io.joynr.provider.Deferred;
 import io.joynr.provider.Promise;
 import io.joynr.provider.ProviderContainer;
 import io.joynr.pubsub.SubscriptionQos;
+import io.joynr.runtime.HashedWheelTimer;
 import io.joynr.runtime.JoynrInjectionConstants;
 import joynr.BroadcastSubscriptionRequest;
 import joynr.ImmutableMessage;
@@ -112,8 +110,8 @@ public class TtlUpliftTest {
     private MutableMessageFactory messageFactory;
     private MutableMessageFactory messageFactoryWithTtlUplift;
 
-    private ScheduledExecutorService cleanupScheduler;
-    private ScheduledExecutorService cleanupSchedulerSpy;
+    private HashedWheelTimer subscriptionTimer;
+    private HashedWheelTimer subscriptionTimerSpy;
     private RequestCaller requestCaller;
     private PublicationManagerImpl publicationManager;
     private PublicationManagerImpl publicationManagerWithTtlUplift;
@@ -142,8 +140,8 @@ public class TtlUpliftTest {
     public void setUp() throws NoSuchMethodException, SecurityException {
         fromParticipantId = "sender";
         toParticipantId = "receiver";
-        cleanupScheduler = new ScheduledThreadPoolExecutor(1);
-        cleanupSchedulerSpy = Mockito.spy(cleanupScheduler);
+        subscriptionTimer = new HashedWheelTimer("TtlUpliftTest", 10, 512, 1);
+        subscriptionTimerSpy = Mockito.spy(subscriptionTimer);
 
         Module defaultModule = Modules.override(new JoynrPropertiesModule(new Properties()))
                                       .with(new JsonMessageSerializerModule(), new AbstractModule() {
@@ -173,8 +171,8 @@ public class TtlUpliftTest {
                                               bind(Dispatcher.class).toInstance(dispatcher);
                                               bind(ProviderDirectory.class).toInstance(providerDirectory);
                                               bind(RoutingTable.class).toInstance(Mockito.mock(RoutingTable.class));
-                                              bind(ScheduledExecutorService.class).annotatedWith(Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP))
-                                                                                  .toInstance(cleanupSchedulerSpy);
+                                              bind(HashedWheelTimer.class).annotatedWith(Names.named(JoynrInjectionConstants.JOYNR_TIMER_SUBSCRIPTION))
+                                                                          .toInstance(subscriptionTimerSpy);
                                           }
 
                                       });
@@ -403,10 +401,10 @@ public class TtlUpliftTest {
     }
 
     private void verifyCleanupSchedulerDelay(long expectedDelay, long toleranceMs) {
-        verify(cleanupSchedulerSpy, times(1)).schedule(any(Runnable.class), longCaptor.capture(), any(TimeUnit.class));
+        verify(subscriptionTimerSpy, times(1)).newTimeout(any(Runnable.class), longCaptor.capture());
         long capturedLong = longCaptor.getValue();
         long diff = expectedDelay - capturedLong;
-        assertTrue("Delay for cleanupScheduler=" + capturedLong + " differs " + diff + "ms (more than " + toleranceMs
+        assertTrue("Delay for subscriptionTimer=" + capturedLong + " differs " + diff + "ms (more than " + toleranceMs
                 + "ms) from the expected value=" + expectedDelay, (diff <= toleranceMs));
     }
 
@@ -470,7 +468,7 @@ public class TtlUpliftTest {
         if (qos.getExpiryDateMs() != SubscriptionQos.NO_EXPIRY_DATE) {
             verifyCleanupSchedulerDelay(expectedSubscriptionReplyTtl, toleranceMs);
         } else {
-            verify(cleanupSchedulerSpy, times(0)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+            verify(subscriptionTimerSpy, times(0)).newTimeout(any(Runnable.class), anyLong());
         }
 
         publicationManagerWithTtlUplift.attributeValueChanged(SUBSCRIPTION_ID, valueToPublish);
@@ -630,7 +628,7 @@ public class TtlUpliftTest {
         if (qos.getExpiryDateMs() != SubscriptionQos.NO_EXPIRY_DATE) {
             verifyCleanupSchedulerDelay(expectedSubscriptionReplyTtl, toleranceMs);
         } else {
-            verify(cleanupSchedulerSpy, times(0)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+            verify(subscriptionTimerSpy, times(0)).newTimeout(any(Runnable.class), anyLong());
         }
 
         publicationManagerWithTtlUplift.broadcastOccurred(SUBSCRIPTION_ID, null, valueToPublish);
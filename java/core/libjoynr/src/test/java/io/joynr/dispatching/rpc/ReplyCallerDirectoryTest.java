@@ -0,0 +1,151 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.joynr.common.ExpiryDate;
+import io.joynr.dispatching.DirectoryListener;
+import io.joynr.exceptions.JoynrShutdownException;
+import io.joynr.exceptions.JoynrTimeoutException;
+import io.joynr.runtime.HashedWheelTimer;
+import io.joynr.runtime.ShutdownNotifier;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReplyCallerDirectoryTest {
+
+    private static final long EXPIRY_TOLERANCE_MS = 20;
+    private static final String REQUEST_REPLY_ID = "requestReplyId";
+
+    @Mock
+    private ShutdownNotifier shutdownNotifier;
+    @Mock
+    private ReplyCaller replyCaller;
+
+    private HashedWheelTimer expiryTimer;
+    private ReplyCallerDirectory subject;
+
+    @Before
+    public void setUp() {
+        expiryTimer = new HashedWheelTimer("ReplyCallerDirectoryTest", EXPIRY_TOLERANCE_MS, 64, 1);
+        subject = new ReplyCallerDirectory(expiryTimer, shutdownNotifier);
+        verify(shutdownNotifier).registerForShutdown(subject);
+    }
+
+    @After
+    public void tearDown() {
+        expiryTimer.shutdown();
+    }
+
+    @Test(timeout = 3000)
+    public void expiredReplyCallerIsRemovedAndNotified() throws Exception {
+        final long ttlMs = 100;
+        CountDownLatch errorLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            errorLatch.countDown();
+            return null;
+        }).when(replyCaller).error(any(Throwable.class));
+        long start = System.currentTimeMillis();
+
+        subject.addReplyCaller(REQUEST_REPLY_ID, replyCaller, ExpiryDate.fromRelativeTtl(ttlMs));
+
+        assertTrue(errorLatch.await(1000, TimeUnit.MILLISECONDS));
+        long elapsedMs = System.currentTimeMillis() - start;
+        assertTrue("elapsed: " + elapsedMs, elapsedMs >= ttlMs);
+        verify(replyCaller).error(any(JoynrTimeoutException.class));
+        assertNull(subject.get(REQUEST_REPLY_ID));
+        assertEquals(0, expiryTimer.getScheduledTimeoutCount());
+    }
+
+    @Test(timeout = 3000)
+    public void removedReplyCallerDoesNotExpire() throws Exception {
+        subject.addReplyCaller(REQUEST_REPLY_ID, replyCaller, ExpiryDate.fromRelativeTtl(50));
+        assertEquals(1, expiryTimer.getScheduledTimeoutCount());
+
+        assertSame(replyCaller, subject.remove(REQUEST_REPLY_ID));
+        assertEquals(0, expiryTimer.getScheduledTimeoutCount());
+
+        Thread.sleep(50 + 5 * EXPIRY_TOLERANCE_MS);
+        verify(replyCaller, never()).error(any(Throwable.class));
+    }
+
+    @Test
+    public void replyCallerRemovedBeforeExpiryIsScheduledDoesNotKeepTimeout() {
+        // simulates a reply which is received right after the replyCaller has been added
+        subject.addListener(new DirectoryListener<ReplyCaller>() {
+            @Override
+            public void entryAdded(String participantId, ReplyCaller addedReplyCaller) {
+                subject.remove(participantId);
+            }
+
+            @Override
+            public void entryRemoved(String participantId) {
+            }
+        });
+
+        subject.addReplyCaller(REQUEST_REPLY_ID, replyCaller, ExpiryDate.fromRelativeTtl(10000));
+
+        assertNull(subject.get(REQUEST_REPLY_ID));
+        assertEquals(0, expiryTimer.getScheduledTimeoutCount());
+    }
+
+    @Test
+    public void replicatedRequestReplyIdIsIgnored() {
+        ReplyCaller otherReplyCaller = mock(ReplyCaller.class);
+        subject.addReplyCaller(REQUEST_REPLY_ID, replyCaller, ExpiryDate.fromRelativeTtl(10000));
+        subject.addReplyCaller(REQUEST_REPLY_ID, otherReplyCaller, ExpiryDate.fromRelativeTtl(10000));
+
+        assertSame(replyCaller, subject.get(REQUEST_REPLY_ID));
+        assertEquals(1, expiryTimer.getScheduledTimeoutCount());
+    }
+
+    @Test
+    public void shutdownCancelsExpiry() {
+        subject.addReplyCaller(REQUEST_REPLY_ID, replyCaller, ExpiryDate.fromRelativeTtl(10000));
+
+        subject.shutdown();
+
+        assertEquals(0, expiryTimer.getScheduledTimeoutCount());
+    }
+
+    @Test(expected = JoynrShutdownException.class)
+    public void addReplyCallerAfterShutdownFails() {
+        subject.shutdown();
+
+        subject.addReplyCaller(REQUEST_REPLY_ID, replyCaller, ExpiryDate.fromRelativeTtl(10000));
+    }
+}
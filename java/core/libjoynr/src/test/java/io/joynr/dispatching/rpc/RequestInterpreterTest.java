@@ -44,6 +44,7 @@ import io.joynr.messaging.JoynrMessageCreator;
 import io.joynr.messaging.JoynrMessageMetaInfo;
 import io.joynr.provider.CallContext;
 import joynr.OneWayRequest;
+import joynr.exceptions.MethodInvocationException;
 import joynr.tests.DefaulttestProvider;
 
 /**
@@ -82,8 +83,8 @@ public class RequestInterpreterTest {
         subject = new RequestInterpreter(joynrMessageScope, joynrMessageCreatorProvider, joynrMessageContextProvider);
         request = new OneWayRequest("getTestAttribute", new Object[0], new Class[0]);
         request.setCreatorUserId(creatorUserId);
-        Mockito.when(joynrMessageCreatorProvider.get()).thenReturn(joynrMessageCreator);
-        Mockito.when(joynrMessageContextProvider.get()).thenReturn(joynrMessageContext);
+        Mockito.lenient().when(joynrMessageCreatorProvider.get()).thenReturn(joynrMessageCreator);
+        Mockito.lenient().when(joynrMessageContextProvider.get()).thenReturn(joynrMessageContext);
     }
 
     @Test
@@ -114,4 +115,34 @@ public class RequestInterpreterTest {
         assertEquals(context, callContextCaptor.getValue().getContext());
         assertEquals(creatorUserId, callContextCaptor.getValue().getPrincipal());
     }
+
+    @Test(expected = MethodInvocationException.class)
+    public void testUnknownMethodRejected() {
+        OneWayRequest unknownMethodRequest = new OneWayRequest("unknownMethod", new Object[0], new Class[0]);
+        subject.invokeMethod(requestCaller, unknownMethodRequest);
+    }
+
+    @Test(expected = MethodInvocationException.class)
+    public void testMethodWithOtherParamDatatypesRejected() {
+        OneWayRequest otherParamsRequest = new OneWayRequest("getTestAttribute",
+                                                             new Object[]{ "param" },
+                                                             new Class[]{ String.class });
+        subject.invokeMethod(requestCaller, otherParamsRequest);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParamOfWrongTypeRejected() {
+        OneWayRequest wrongParamTypeRequest = new OneWayRequest("setTestAttribute",
+                                                                new Object[]{ "notAnInteger" },
+                                                                new Class[]{ Integer.class });
+        subject.invokeMethod(requestCaller, wrongParamTypeRequest);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongNumberOfParamsRejected() {
+        OneWayRequest missingParamRequest = new OneWayRequest("setTestAttribute",
+                                                              new Object[0],
+                                                              new Class[]{ Integer.class });
+        subject.invokeMethod(requestCaller, missingParamRequest);
+    }
 }
@@ -46,8 +46,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -79,6 +77,8 @@ import io.joynr.provider.Promise;
 import io.joynr.provider.ProviderContainer;
 import io.joynr.pubsub.SubscriptionQos;
 import io.joynr.pubsub.publication.BroadcastFilter;
+import io.joynr.pubsub.publication.BroadcastFilterChain;
+import io.joynr.runtime.HashedWheelTimer;
 import io.joynr.runtime.ShutdownNotifier;
 import io.joynr.util.MultiMap;
 import joynr.BroadcastFilterParameters;
@@ -108,7 +108,7 @@ public class PublicationManagerTest {
     private static final boolean SUBSCRIPTIONSREQUEST_PERSISTENCY_ENABLED = true;
     private static final boolean SUBSCRIPTIONSREQUEST_PERSISTENCY_DISABLED = false;
 
-    ScheduledExecutorService cleanupScheduler;
+    HashedWheelTimer subscriptionTimer;
     PublicationManagerImpl publicationManager;
 
     @Mock
@@ -141,12 +141,12 @@ public class PublicationManagerTest {
         valueToPublishDeferred.resolve(valueToPublish);
         Promise<Deferred<String>> valueToPublishPromise = new Promise<Deferred<String>>(valueToPublishDeferred);
 
-        cleanupScheduler = new ScheduledThreadPoolExecutor(1);
+        subscriptionTimer = new HashedWheelTimer("PublicationManagerTest", 10, 512, 1);
         publicationManager = new PublicationManagerImpl(attributePollInterpreter,
                                                         dispatcher,
                                                         providerDirectory,
                                                         routingTable,
-                                                        cleanupScheduler,
+                                                        subscriptionTimer,
                                                         shutdownNotifier);
 
         requestCaller = new RequestCallerFactory().create(provider);
@@ -183,7 +183,7 @@ public class PublicationManagerTest {
                                                                            dispatcher,
                                                                            requestCallerDirectory,
                                                                            routingTable,
-                                                                           cleanupScheduler,
+                                                                           subscriptionTimer,
                                                                            shutdownNotifier);
 
         when(requestCallerDirectory.get(eq(providerId))).thenReturn(providerContainer);
@@ -238,7 +238,7 @@ public class PublicationManagerTest {
                                                                            dispatcher,
                                                                            providerDirectory,
                                                                            routingTable,
-                                                                           cleanupScheduler,
+                                                                           subscriptionTimer,
                                                                            shutdownNotifier);
 
         verifyNoMoreInteractions(routingTable);
@@ -293,7 +293,7 @@ public class PublicationManagerTest {
                                                                            dispatcher,
                                                                            providerDirectory,
                                                                            routingTable,
-                                                                           cleanupScheduler,
+                                                                           subscriptionTimer,
                                                                            shutdownNotifier);
 
         verifyNoMoreInteractions(routingTable);
@@ -868,7 +868,7 @@ public class PublicationManagerTest {
                                                         dispatcher,
                                                         providerDirectory,
                                                         routingTable,
-                                                        cleanupScheduler,
+                                                        subscriptionTimer,
                                                         shutdownNotifier);
 
         long minInterval_ms = 0;
@@ -918,7 +918,7 @@ public class PublicationManagerTest {
                                                         dispatcher,
                                                         providerDirectory,
                                                         routingTable,
-                                                        cleanupScheduler,
+                                                        subscriptionTimer,
                                                         shutdownNotifier);
 
         long minInterval_ms = 0;
@@ -970,6 +970,52 @@ public class PublicationManagerTest {
     }
 
     @SuppressWarnings("unchecked")
+    @Test
+    public void broadcastFilterIsEvaluatedOncePerBroadcastForEqualFilterParameters() throws Exception {
+        publicationManager = new PublicationManagerImpl(attributePollInterpreter,
+                                                        dispatcher,
+                                                        providerDirectory,
+                                                        routingTable,
+                                                        subscriptionTimer,
+                                                        shutdownNotifier);
+        when(providerDirectory.get(eq(PROVIDER_PARTICIPANT_ID))).thenReturn(providerContainer);
+
+        OnChangeSubscriptionQos qos = new OnChangeSubscriptionQos().setMinIntervalMs(0)
+                                                                   .setExpiryDateMs(SubscriptionQos.NO_EXPIRY_DATE)
+                                                                   .setPublicationTtlMs(1000);
+        String[] countries = { "Germany", "Germany", "France" };
+        List<SubscriptionRequest> subscriptionRequests = new ArrayList<>();
+        for (int i = 0; i < countries.length; i++) {
+            testBroadcastInterface.LocationUpdateSelectiveBroadcastFilterParameters filterParameters = new testBroadcastInterface.LocationUpdateSelectiveBroadcastFilterParameters();
+            filterParameters.setCountry(countries[i]);
+            SubscriptionRequest subscriptionRequest = new BroadcastSubscriptionRequest(SUBSCRIPTION_ID + i,
+                                                                                       "subscribedToName",
+                                                                                       filterParameters,
+                                                                                       qos);
+            publicationManager.addSubscriptionRequest(PROXY_PARTICIPANT_ID,
+                                                      PROVIDER_PARTICIPANT_ID,
+                                                      subscriptionRequest);
+            subscriptionRequests.add(subscriptionRequest);
+        }
+
+        testLocationUpdateSelectiveBroadcastFilter filter = mock(testLocationUpdateSelectiveBroadcastFilter.class);
+        when(filter.filter(any(GpsLocation.class),
+                           any(testBroadcastInterface.LocationUpdateSelectiveBroadcastFilterParameters.class))).thenReturn(true);
+        BroadcastFilterChain filterChain = new BroadcastFilterChain(Collections.<BroadcastFilter> singletonList(filter));
+        GpsLocation eventValue = new GpsLocation();
+
+        for (SubscriptionRequest subscriptionRequest : subscriptionRequests) {
+            publicationManager.broadcastOccurred(subscriptionRequest.getSubscriptionId(), filterChain, eventValue);
+        }
+
+        verify(filter, times(2)).filter(eq(eventValue),
+                                        any(testBroadcastInterface.LocationUpdateSelectiveBroadcastFilterParameters.class));
+        verify(dispatcher, times(countries.length)).sendSubscriptionPublication(eq(PROVIDER_PARTICIPANT_ID),
+                                                                                 argThat(mySet -> mySet.contains(PROXY_PARTICIPANT_ID)),
+                                                                                 any(SubscriptionPublication.class),
+                                                                                 any(MessagingQos.class));
+    }
+
     @Test
     public void broadcastPublicationIsSentWhenFiltersPass() throws Exception {
 
@@ -977,7 +1023,7 @@ public class PublicationManagerTest {
                                                         dispatcher,
                                                         providerDirectory,
                                                         routingTable,
-                                                        cleanupScheduler,
+                                                        subscriptionTimer,
                                                         shutdownNotifier);
 
         long minInterval_ms = 0;
@@ -1029,7 +1075,7 @@ public class PublicationManagerTest {
                                                         dispatcher,
                                                         providerDirectory,
                                                         routingTable,
-                                                        cleanupScheduler,
+                                                        subscriptionTimer,
                                                         shutdownNotifier);
 
         long minInterval_ms = 0;
@@ -1077,7 +1123,7 @@ public class PublicationManagerTest {
                                                         dispatcher,
                                                         providerDirectory,
                                                         routingTable,
-                                                        cleanupScheduler,
+                                                        subscriptionTimer,
                                                         shutdownNotifier);
         int period = 200;
         final int toleranceMs = period - 50;
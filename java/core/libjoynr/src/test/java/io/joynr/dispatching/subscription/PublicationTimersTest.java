@@ -31,8 +31,6 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -58,6 +56,7 @@ import io.joynr.provider.AbstractSubscriptionPublisher;
 import io.joynr.provider.Deferred;
 import io.joynr.provider.Promise;
 import io.joynr.provider.ProviderContainer;
+import io.joynr.runtime.HashedWheelTimer;
 import io.joynr.runtime.ShutdownNotifier;
 import joynr.PeriodicSubscriptionQos;
 import joynr.SubscriptionPublication;
@@ -85,7 +84,7 @@ public class PublicationTimersTest {
     @Mock
     private AttributePollInterpreter attributePollInterpreter;
 
-    private ScheduledExecutorService cleanupScheduler = Executors.newSingleThreadScheduledExecutor();
+    private HashedWheelTimer subscriptionTimer = new HashedWheelTimer("PublicationTimersTest", 10, 512, 1);
 
     @Mock
     private SubscriptionTestsProviderImpl provider;
@@ -127,7 +126,7 @@ public class PublicationTimersTest {
                                                                            dispatcher,
                                                                            providerDirectory,
                                                                            Mockito.mock(RoutingTable.class),
-                                                                           cleanupScheduler,
+                                                                           subscriptionTimer,
                                                                            shutdownNotifier);
 
         when(providerDirectory.get(eq(providerId))).thenReturn(providerContainer);
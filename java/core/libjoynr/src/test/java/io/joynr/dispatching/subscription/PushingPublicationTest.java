@@ -32,8 +32,6 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -61,6 +59,7 @@ import io.joynr.provider.Deferred;
 import io.joynr.provider.Promise;
 import io.joynr.provider.ProviderContainer;
 import io.joynr.pubsub.SubscriptionQos;
+import io.joynr.runtime.HashedWheelTimer;
 import io.joynr.runtime.ShutdownNotifier;
 import joynr.OnChangeSubscriptionQos;
 import joynr.OnChangeWithKeepAliveSubscriptionQos;
@@ -91,7 +90,7 @@ public class PushingPublicationTest {
     @Mock
     private ShutdownNotifier shutdownNotifier;
 
-    private ScheduledExecutorService cleanupScheduler = Executors.newSingleThreadScheduledExecutor();
+    private HashedWheelTimer subscriptionTimer = new HashedWheelTimer("PushingPublicationTest", 10, 512, 1);
 
     private SubscriptionRequest subscriptionRequest;
     private String subscriptionId;
@@ -110,7 +109,7 @@ public class PushingPublicationTest {
                                                         dispatcher,
                                                         providerDirectory,
                                                         Mockito.mock(RoutingTable.class),
-                                                        cleanupScheduler,
+                                                        subscriptionTimer,
                                                         shutdownNotifier);
         subscriptionId = "subscriptionId";
         proxyId = "proxyId";
@@ -83,6 +83,7 @@ import io.joynr.pubsub.SubscriptionQos;
 import io.joynr.pubsub.subscription.AttributeSubscriptionAdapter;
 import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
 import io.joynr.pubsub.subscription.BroadcastSubscriptionListener;
+import io.joynr.runtime.HashedWheelTimer;
 import joynr.MulticastSubscriptionQos;
 import joynr.OnChangeSubscriptionQos;
 import joynr.PeriodicSubscriptionQos;
@@ -134,6 +135,8 @@ public class SubscriptionManagerTest {
     private ConcurrentMap<String, Class<?>> subscriptionAttributeTypes;
     @Mock
     private ScheduledExecutorService cleanupScheduler;
+    @Mock
+    private HashedWheelTimer subscriptionTimer;
 
     @Mock
     private Dispatcher dispatcher;
@@ -160,6 +163,7 @@ public class SubscriptionManagerTest {
                                                           subscriptionFutureMap,
                                                           subscriptionIdToMulticastInformationMap,
                                                           cleanupScheduler,
+                                                          subscriptionTimer,
                                                           dispatcher,
                                                           multicastWildcardRegexFactory,
                                                           mockMulticastReceiverRegistrar);
@@ -194,7 +198,8 @@ public class SubscriptionManagerTest {
                                                             alertInterval_ms,
                                                             attributeSubscriptionCallback,
                                                             subscriptionState,
-                                                            subscriptionId);
+                                                            subscriptionId,
+                                                            subscriptionTimer);
 
         qosSettings = new MessagingQos();
         fromParticipantId = "fromParticipantId";
@@ -61,6 +61,7 @@ import io.joynr.proxy.invocation.MulticastSubscribeInvocation;
 import io.joynr.pubsub.SubscriptionQos;
 import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
 import io.joynr.pubsub.subscription.BroadcastSubscriptionListener;
+import io.joynr.runtime.HashedWheelTimer;
 import io.joynr.runtime.ShutdownNotifier;
 import joynr.MulticastSubscriptionQos;
 import joynr.PeriodicSubscriptionQos;
@@ -79,6 +80,7 @@ public class SubscriptionTimersTest {
     private SubscriptionManager subscriptionManager;
 
     private ScheduledExecutorService subscriptionEndScheduler;
+    private HashedWheelTimer subscriptionTimer;
     ConcurrentMap<String, MissedPublicationTimer> missedPublicationTimers;
     ConcurrentMap<String, ScheduledFuture<?>> subscriptionEndFutures;
 
@@ -117,7 +119,9 @@ public class SubscriptionTimersTest {
     @Before
     public void setUp() {
         subscriptionEndScheduler = Executors.newScheduledThreadPool(10);
+        subscriptionTimer = new HashedWheelTimer("SubscriptionTimersTest", 10, 512, 1);
         subscriptionManager = new SubscriptionManagerImpl(subscriptionEndScheduler,
+                                                          subscriptionTimer,
                                                           dispatcher,
                                                           multicastWildcardRegexFactory,
                                                           shutdownNotifier,
@@ -64,6 +64,7 @@ import io.joynr.messaging.routing.LibJoynrMessageRouter;
 import io.joynr.messaging.routing.MessageQueue;
 import io.joynr.messaging.routing.MessagingStubFactory;
 import io.joynr.messaging.routing.RoutingTable;
+import io.joynr.messaging.routing.SharedRoutingEntryReferences;
 import io.joynr.runtime.ShutdownNotifier;
 import io.joynr.util.JoynrThreadFactory;
 import io.joynr.util.ObjectMapper;
@@ -112,6 +113,7 @@ public class LibJoynrMessageRouterTest {
     @Mock
     private Dispatcher dispatcherMock;
     private MessageQueue messageQueue;
+    private SharedRoutingEntryReferences sharedRoutingEntryReferences = new SharedRoutingEntryReferences();
     private LibJoynrMessageRouter messageRouter;
     private LibJoynrMessageRouter messageRouterForUdsAddresses;
     private String unknownParticipantId = "unknownParticipantId";
@@ -139,14 +141,16 @@ public class LibJoynrMessageRouterTest {
                                                   messagingStubFactory,
                                                   messageQueue,
                                                   shutdownNotifier,
-                                                  dispatcherMock);
+                                                  dispatcherMock,
+                                                  sharedRoutingEntryReferences);
         messageRouterForUdsAddresses = new LibJoynrMessageRouter(incomingUdsClientAddress,
                                                                  provideMessageSchedulerThreadPoolExecutor(),
                                                                  maxParallelSends,
                                                                  messagingStubFactory,
                                                                  messageQueue,
                                                                  shutdownNotifier,
-                                                                 dispatcherMock);
+                                                                 dispatcherMock,
+                                                                 sharedRoutingEntryReferences);
         messageRouter.setParentRouter(messageRouterParent, parentAddress, "parentParticipantId", "proxyParticipantId");
         ObjectMapper objectMapper = new ObjectMapper();
         messageFactory = new MutableMessageFactory(objectMapper, new HashSet<JoynrMessageProcessor>());
@@ -173,7 +177,8 @@ public class LibJoynrMessageRouterTest {
                                                                              messagingStubFactory,
                                                                              messageQueue,
                                                                              shutdownNotifier,
-                                                                             dispatcherMock);
+                                                                             dispatcherMock,
+                                                                             sharedRoutingEntryReferences);
         Field messageWorkerField = LibJoynrMessageRouter.class.getDeclaredField("messageWorkers");
         messageWorkerField.setAccessible(true);
         assertTrue(((List) messageWorkerField.get(localMessageRouter)).size() >= 2);
@@ -301,7 +306,8 @@ public class LibJoynrMessageRouterTest {
                                                                                 messagingStubFactory,
                                                                                 messageQueue,
                                                                                 shutdownNotifier,
-                                                                                dispatcherMock);
+                                                                                dispatcherMock,
+                                                                                sharedRoutingEntryReferences);
         String routingProxyParticipantId = "proxyParticipantId";
         String[] participantIdsAdd = new String[]{ "participant0", "participant1", "participant2", "participant3" };
         String[] participantIdsRemove = new String[]{ "particpantIdRemoveOnly", "participant1", "participant3",
@@ -334,6 +340,20 @@ public class LibJoynrMessageRouterTest {
         verifyNoMoreInteractions(deferredMessageRouterParent);
     }
 
+    @Test
+    public void removeNextHopReleasesSharedReferencesBeforeRemovingFromParent() {
+        String participantId = "sharedParticipantId";
+        sharedRoutingEntryReferences.addSharedReference(participantId);
+        sharedRoutingEntryReferences.addSharedReference(participantId);
+
+        messageRouter.removeNextHop(participantId);
+        messageRouter.removeNextHop(participantId);
+        verify(messageRouterParent, never()).removeNextHop(anyString());
+
+        messageRouter.removeNextHop(participantId);
+        verify(messageRouterParent).removeNextHop(eq(participantId));
+    }
+
     @Test
     public void queuedMulticastReceiversRegisteredAfterParentRouterSet() {
         String routingProxyParticipantId = "proxyParticipantId";
@@ -343,7 +363,8 @@ public class LibJoynrMessageRouterTest {
                                                                                 messagingStubFactory,
                                                                                 messageQueue,
                                                                                 shutdownNotifier,
-                                                                                dispatcherMock);
+                                                                                dispatcherMock,
+                                                                                sharedRoutingEntryReferences);
         String[] multicastIds = new String[]{ "multicastId1", "multicastId2", "multicastId3" };
         String[] subscriberParticipantIds = new String[]{ "subscriberParticipantId1", "subscriberParticipantId2",
                 "subscriberParticipantId3" };
@@ -18,21 +18,28 @@
  */
 package io.joynr.provider;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import io.joynr.pubsub.publication.AttributeListener;
 import io.joynr.pubsub.publication.BroadcastFilter;
 import io.joynr.pubsub.publication.BroadcastListener;
+import io.joynr.pubsub.publication.PublicationValues;
 
 @RunWith(MockitoJUnitRunner.class)
 public class SubscriptionPublisherTest {
@@ -45,6 +52,11 @@ public class SubscriptionPublisherTest {
             super.fireBroadcast(broadcastName, broadcastFilters, values);
         }
 
+        @Override
+        public void onAttributeValueChanged(String attributeName, Object value) {
+            super.onAttributeValueChanged(attributeName, value);
+        }
+
     }
 
     @Before
@@ -68,7 +80,9 @@ public class SubscriptionPublisherTest {
 
         subscriptionPublisher.fireBroadcast(broadcastName, broadcastFilters, value1, value2);
 
-        verify(broadcastListener).broadcastOccurred(eq(broadcastFilters), eq(value1), eq(value2));
+        ArgumentCaptor<PublicationValues> values = ArgumentCaptor.forClass(PublicationValues.class);
+        verify(broadcastListener).broadcastOccurred(eq(broadcastFilters), values.capture());
+        assertEquals(Arrays.asList(value1, value2), values.getValue().getValues());
 
     }
 
@@ -89,7 +103,28 @@ public class SubscriptionPublisherTest {
 
         subscriptionPublisher.fireBroadcast(broadcastName, broadcastFilters, value1, value2);
 
-        verify(broadcastListener, never()).broadcastOccurred(eq(broadcastFilters), eq(value1), eq(value2));
+        verify(broadcastListener, never()).broadcastOccurred(any(), any(PublicationValues.class));
+    }
+
+    @Test
+    public void attributeListenersShareValuesOfChange() throws Exception {
+        String attributeName = "myattribute";
+        String value = "value";
+
+        MySubscriptionPublisher subscriptionPublisher = new MySubscriptionPublisher();
+        AttributeListener attributeListener1 = mock(AttributeListener.class);
+        AttributeListener attributeListener2 = mock(AttributeListener.class);
+        subscriptionPublisher.registerAttributeListener(attributeName, attributeListener1);
+        subscriptionPublisher.registerAttributeListener(attributeName, attributeListener2);
+
+        subscriptionPublisher.onAttributeValueChanged(attributeName, value);
+
+        ArgumentCaptor<PublicationValues> values1 = ArgumentCaptor.forClass(PublicationValues.class);
+        ArgumentCaptor<PublicationValues> values2 = ArgumentCaptor.forClass(PublicationValues.class);
+        verify(attributeListener1).attributeValueChanged(values1.capture());
+        verify(attributeListener2).attributeValueChanged(values2.capture());
+        assertEquals(Arrays.asList(value), values1.getValue().getValues());
+        assertSame(values1.getValue(), values2.getValue());
     }
 
 }
@@ -170,6 +170,8 @@ public class ConnectorTest {
     @Sync
     interface TestSyncInterface {
         void methodWithoutParameters();
+
+        void methodWithParameters(Integer a, String[] b);
     }
 
     @FireAndForget
@@ -182,6 +184,10 @@ public class ConnectorTest {
         void someMethodwithoutAnnotations(Integer a, String b) throws JsonMappingException;
 
         Future<Void> methodWithoutParameters(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback);
+
+        Future<Void> methodWithParameters(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+                                          Integer a,
+                                          String[] b);
     }
 
     @StatelessAsync
@@ -324,6 +330,64 @@ public class ConnectorTest {
         }
     }
 
+    @Test
+    public void asyncProxyMethodCallCallsRequestReplyManagerWithCorrectArguments() {
+        ConnectorInvocationHandler connector = createConnector();
+        ProxyMethod proxyMethod = new ProxyMethod(TestAsyncInterface.class,
+                                                  "methodWithParameters",
+                                                  Callback.class,
+                                                  Integer.class,
+                                                  String[].class);
+        Object[] params = new Object[]{ 42, new String[]{ "b" } };
+        Future<Void> future = new Future<Void>();
+
+        connector.executeAsyncMethod(proxy, proxyMethod, voidCallback, params, null, future);
+
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(requestReplyManager, times(1)).sendRequest(eq(fromParticipantId),
+                                                          eq(toDiscoveryEntry),
+                                                          requestCaptor.capture(),
+                                                          eq(qosSettings));
+        Request actualRequest = requestCaptor.getValue();
+        Request expectedRequest = new Request("methodWithParameters",
+                                              params,
+                                              new String[]{ "Integer", "String[]" },
+                                              actualRequest.getRequestReplyId());
+        assertEquals(expectedRequest, actualRequest);
+        verify(replyCallerDirectory).addReplyCaller(eq(actualRequest.getRequestReplyId()), any(), any());
+    }
+
+    @Test
+    public void syncProxyMethodCallCallsRequestReplyManagerWithCorrectArguments() throws Exception {
+        ConnectorInvocationHandler connector = createConnector();
+        ProxyMethod proxyMethod = new ProxyMethod(TestSyncInterface.class,
+                                                  "methodWithParameters",
+                                                  Integer.class,
+                                                  String[].class);
+        Object[] params = new Object[]{ 42, new String[]{ "b" } };
+        MessagingQos messagingQos = new MessagingQos(4711);
+        when(requestReplyManager.sendSyncRequest(any(String.class),
+                                                 any(DiscoveryEntryWithMetaInfo.class),
+                                                 any(Request.class),
+                                                 any(SynchronizedReplyCaller.class),
+                                                 any(MessagingQos.class))).thenReturn(new Reply());
+
+        connector.executeSyncMethod(proxyMethod, params, messagingQos);
+
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(requestReplyManager, times(1)).sendSyncRequest(eq(fromParticipantId),
+                                                              eq(toDiscoveryEntry),
+                                                              requestCaptor.capture(),
+                                                              isA(SynchronizedReplyCaller.class),
+                                                              eq(messagingQos));
+        Request actualRequest = requestCaptor.getValue();
+        Request expectedRequest = new Request("methodWithParameters",
+                                              params,
+                                              new String[]{ "Integer", "String[]" },
+                                              actualRequest.getRequestReplyId());
+        assertEquals(expectedRequest, actualRequest);
+    }
+
     @Test
     public void oneWayMethodCallCallsRequestReplyManagerWithCorrectArguments() {
         ConnectorInvocationHandler connector = createConnector();
@@ -19,13 +19,18 @@
 package io.joynr.proxy;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +41,8 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -51,13 +58,16 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 
 import io.joynr.Async;
+import io.joynr.CompletionStageAsync;
 import io.joynr.Sync;
 import io.joynr.arbitration.ArbitrationResult;
 import io.joynr.arbitration.DiscoveryQos;
 import io.joynr.dispatcher.rpc.JoynrBroadcastSubscriptionInterface;
 import io.joynr.dispatcher.rpc.annotation.FireAndForget;
 import io.joynr.dispatcher.rpc.annotation.JoynrMulticast;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcCallback;
 import io.joynr.exceptions.JoynrIllegalStateException;
+import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.messaging.MessagingQos;
 import io.joynr.messaging.routing.GarbageCollectionHandler;
 import io.joynr.messaging.routing.MessageRouter;
@@ -118,6 +128,23 @@ public class ProxyInvocationHandlerTest {
         Promise<DeferredVoid> testAsyncMethod(String inputData);
     }
 
+    @Async
+    private interface TestServiceAsyncWithCallback {
+        io.joynr.proxy.Future<String> testAsyncMethod(@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+                                                      String inputData);
+
+        default io.joynr.proxy.Future<String> testAsyncMethod(@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+                                                              String inputData,
+                                                              MessagingQos messagingQos) {
+            return testAsyncMethod(callback, inputData);
+        }
+    }
+
+    @CompletionStageAsync
+    private interface TestServiceCompletionStage {
+        CompletableFuture<String> testCompletionStageMethod(String inputData);
+    }
+
     @Before
     public void setup() {
         proxy = new Object();
@@ -284,6 +311,12 @@ public class ProxyInvocationHandlerTest {
         testExecutionFailsAfterPrepareForShutdown(method);
     }
 
+    @Test(expected = JoynrIllegalStateException.class)
+    public void testExecuteCompletionStageFailsAfterPrepareForShutdown() throws Exception {
+        Method method = TestServiceCompletionStage.class.getMethod("testCompletionStageMethod", String.class);
+        testExecutionFailsAfterPrepareForShutdown(method);
+    }
+
     @Test(expected = JoynrIllegalStateException.class)
     public void testExecuteSubscriptionMethodFailsAfterPrepareForShutdown() throws Exception {
         Method method = MyBroadcastSubscriptionListener.class.getMethod("onSubscribed", String.class);
@@ -310,6 +343,155 @@ public class ProxyInvocationHandlerTest {
         verify(connectorInvocationHandler).executeOneWayMethod(eq(method), any());
     }
 
+    @Test
+    public void testQueuedCompletionStageMethodIsExecutedAfterArbitration() throws Exception {
+        ConnectorInvocationHandler connectorInvocationHandler = mock(ConnectorInvocationHandler.class);
+        when(mockConnectorFactory.create(anyString(),
+                                         any(),
+                                         any(),
+                                         any())).thenReturn(Optional.of(connectorInvocationHandler));
+        Method method = TestServiceCompletionStage.class.getMethod("testCompletionStageMethod", String.class);
+
+        Object result = proxyInvocationHandler.invokeInternal(proxy, method, new Object[]{ "inputData" });
+        assertTrue(result instanceof CompletableFuture);
+        CompletableFuture<?> future = (CompletableFuture<?>) result;
+        assertFalse(future.isDone());
+
+        proxyInvocationHandler.createConnector(mock(ArbitrationResult.class));
+
+        verify(connectorInvocationHandler).executeCompletionStageMethod(eq(proxy),
+                                                                        eq(method),
+                                                                        any(),
+                                                                        same(future));
+        assertFalse(future.isDone());
+    }
+
+    @Test
+    public void testCompletionStageMethodFailingAfterArbitrationCompletesExceptionally() throws Exception {
+        ConnectorInvocationHandler connectorInvocationHandler = mock(ConnectorInvocationHandler.class);
+        when(mockConnectorFactory.create(anyString(),
+                                         any(),
+                                         any(),
+                                         any())).thenReturn(Optional.of(connectorInvocationHandler));
+        JoynrIllegalStateException exception = new JoynrIllegalStateException("no participant");
+        doThrow(exception).when(connectorInvocationHandler)
+                          .executeCompletionStageMethod(any(), any(Method.class), any(), any());
+        proxyInvocationHandler.createConnector(mock(ArbitrationResult.class));
+        Method method = TestServiceCompletionStage.class.getMethod("testCompletionStageMethod", String.class);
+
+        // the invocation fails like a queued invocation instead of throwing synchronously
+        CompletableFuture<?> future = (CompletableFuture<?>) proxyInvocationHandler.invokeInternal(proxy,
+                                                                                                 method,
+                                                                                                 new Object[]{
+                                                                                                         "inputData" });
+
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.get();
+            fail("Should not get this far.");
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+        }
+    }
+
+    @Test
+    public void testAbortCompletesQueuedCompletionStageMethodExceptionally() throws Exception {
+        Method method = TestServiceCompletionStage.class.getMethod("testCompletionStageMethod", String.class);
+        CompletableFuture<?> future = (CompletableFuture<?>) proxyInvocationHandler.invokeInternal(proxy,
+                                                                                                 method,
+                                                                                                 new Object[]{
+                                                                                                         "inputData" });
+        JoynrRuntimeException exception = new JoynrRuntimeException("arbitration failed");
+
+        proxyInvocationHandler.abort(exception);
+
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.get();
+            fail("Should not get this far.");
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+        }
+    }
+
+    @Test
+    public void testSyncProxyMethodIsPassedToConnector() throws Exception {
+        ConnectorInvocationHandler connectorInvocationHandler = mock(ConnectorInvocationHandler.class);
+        when(mockConnectorFactory.create(anyString(),
+                                         any(),
+                                         any(),
+                                         any())).thenReturn(Optional.of(connectorInvocationHandler));
+        ProxyMethod proxyMethod = new ProxyMethod(TestServiceSync.class, "testSyncMethod", String.class);
+        Object[] params = new Object[]{ "inputData" };
+        when(connectorInvocationHandler.executeSyncMethod(proxyMethod, params, null)).thenReturn("result");
+        proxyInvocationHandler.createConnector(mock(ArbitrationResult.class));
+
+        Object result = proxyInvocationHandler.invokeSyncMethod(proxyMethod, params, null);
+
+        assertSame("result", result);
+    }
+
+    @Test
+    public void testQueuedAsyncProxyMethodIsExecutedAfterArbitration() throws Exception {
+        ConnectorInvocationHandler connectorInvocationHandler = mock(ConnectorInvocationHandler.class);
+        when(mockConnectorFactory.create(anyString(),
+                                         any(),
+                                         any(),
+                                         any())).thenReturn(Optional.of(connectorInvocationHandler));
+        ProxyMethod proxyMethod = new ProxyMethod(TestServiceAsyncWithCallback.class,
+                                                  "testAsyncMethod",
+                                                  Callback.class,
+                                                  String.class);
+        @SuppressWarnings("unchecked")
+        Callback<String> callback = mock(Callback.class);
+        MessagingQos callMessagingQos = new MessagingQos(4711);
+        io.joynr.proxy.Future<String> future = new io.joynr.proxy.Future<String>();
+
+        Object result = proxyInvocationHandler.invokeAsyncMethod(proxy,
+                                                                 proxyMethod,
+                                                                 callback,
+                                                                 future,
+                                                                 new Object[]{ "inputData" },
+                                                                 callMessagingQos);
+        assertSame(future, result);
+
+        proxyInvocationHandler.createConnector(mock(ArbitrationResult.class));
+
+        // queued calls are sent via the reflective connector method
+        Method methodWithMessagingQos = TestServiceAsyncWithCallback.class.getMethod("testAsyncMethod",
+                                                                                   Callback.class,
+                                                                                   String.class,
+                                                                                   MessagingQos.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(connectorInvocationHandler).executeAsyncMethod(eq(proxy),
+                                                              eq(methodWithMessagingQos),
+                                                              argsCaptor.capture(),
+                                                              same(future));
+        assertArrayEquals(new Object[]{ callback, "inputData", callMessagingQos }, argsCaptor.getValue());
+    }
+
+    @Test
+    public void testAsyncProxyMethodFailsAfterAbort() throws Exception {
+        ProxyMethod proxyMethod = new ProxyMethod(TestServiceAsyncWithCallback.class,
+                                                  "testAsyncMethod",
+                                                  Callback.class,
+                                                  String.class);
+        JoynrRuntimeException exception = new JoynrRuntimeException("arbitration failed");
+        proxyInvocationHandler.abort(exception);
+
+        try {
+            proxyInvocationHandler.invokeAsyncMethod(proxy,
+                                                     proxyMethod,
+                                                     null,
+                                                     new io.joynr.proxy.Future<String>(),
+                                                     new Object[]{ "inputData" },
+                                                     null);
+            fail("Should not get this far.");
+        } catch (JoynrRuntimeException e) {
+            assertSame(exception, e);
+        }
+    }
+
     @Test
     public void testHandlingReceivedSelectedAndNonSelectedProviderParticipantIds() throws Throwable {
         ConnectorInvocationHandler connectorInvocationHandler = mock(ConnectorInvocationHandler.class);
@@ -0,0 +1,103 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.joynr.util.JoynrThreadFactory;
+
+public class InstrumentedScheduledThreadPoolExecutorTest {
+
+    private InstrumentedScheduledThreadPoolExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new InstrumentedScheduledThreadPoolExecutor("TestExecutor",
+                                                               1,
+                                                               new JoynrThreadFactory("TestExecutor", true));
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void latencyOfQueuedTaskIsRecorded() throws Exception {
+        CountDownLatch blockingTaskStarted = new CountDownLatch(1);
+        CountDownLatch releaseBlockingTask = new CountDownLatch(1);
+        CountDownLatch queuedTaskExecuted = new CountDownLatch(1);
+        executor.execute(() -> {
+            blockingTaskStarted.countDown();
+            try {
+                releaseBlockingTask.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(blockingTaskStarted.await(1, TimeUnit.SECONDS));
+        executor.execute(queuedTaskExecuted::countDown);
+
+        assertEquals("TestExecutor", executor.getName());
+        assertEquals(1, executor.getMaximumThreads());
+        assertEquals(1, executor.getActiveThreads());
+        assertEquals(1, executor.getQueueDepth());
+
+        Thread.sleep(50);
+        releaseBlockingTask.countDown();
+        assertTrue(queuedTaskExecuted.await(1, TimeUnit.SECONDS));
+
+        assertTrue(executor.getMaximumTaskLatencyMs() >= 50);
+        assertTrue(executor.getAverageTaskLatencyMs() >= 25);
+    }
+
+    @Test
+    public void delayedTaskHasNoLatencyBeforeItIsDue() throws Exception {
+        CountDownLatch delayedTaskExecuted = new CountDownLatch(1);
+        executor.schedule(delayedTaskExecuted::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(delayedTaskExecuted.await(1, TimeUnit.SECONDS));
+        assertTrue(executor.getMaximumTaskLatencyMs() < 50);
+    }
+
+    @Test
+    public void periodicTaskCanBeCancelled() throws Exception {
+        CountDownLatch executions = new CountDownLatch(3);
+        ScheduledFuture<?> future = executor.scheduleWithFixedDelay(executions::countDown,
+                                                                    0,
+                                                                    10,
+                                                                    TimeUnit.MILLISECONDS);
+        assertTrue(executions.await(1, TimeUnit.SECONDS));
+
+        assertTrue(future.cancel(false));
+        assertTrue(future.isCancelled());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        assertTrue(executor.getCompletedTasks() >= 3);
+    }
+}
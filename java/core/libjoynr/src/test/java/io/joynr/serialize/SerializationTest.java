@@ -538,6 +538,36 @@ public class SerializationTest {
 
     }
 
+    @Test
+    public void deserializeRequestWithParamsBeforeParamDatatypes() throws IOException {
+        GpsPosition gpsPosition = new GpsPosition(49.0065, 11.65);
+        String[] paramDatatypes = { GpsPosition.class.getName(), "Integer" };
+        String json = "{\"params\":[" + objectMapper.writeValueAsString(gpsPosition) + ",42],"
+                + "\"paramDatatypes\":" + objectMapper.writeValueAsString(paramDatatypes) + ","
+                + "\"methodName\":\"updateRoute\",\"requestReplyId\":\"requestReplyId\"}";
+
+        Request receivedRequest = objectMapper.readValue(json, Request.class);
+
+        Request expectedRequest = new Request("updateRoute",
+                                              new Object[]{ gpsPosition, 42 },
+                                              paramDatatypes,
+                                              "requestReplyId");
+        Assert.assertEquals(expectedRequest, receivedRequest);
+    }
+
+    @Test
+    public void deserializeRequestWithInvalidParam() throws IOException {
+        String[] paramDatatypes = { TestEnum.class.getName(), GpsPosition.class.getName(), "Integer" };
+        String json = "{\"methodName\":\"methodName\",\"paramDatatypes\":"
+                + objectMapper.writeValueAsString(paramDatatypes)
+                + ",\"params\":[\"UNKNOWN_ENUM_VALUE\",{\"latitude\":{\"nested\":[1,2]}},42],"
+                + "\"requestReplyId\":\"requestReplyId\"}";
+
+        Request receivedRequest = objectMapper.readValue(json, Request.class);
+
+        assertArrayEquals(new Object[]{ null, null, 42 }, receivedRequest.getParams());
+    }
+
     @Test
     public void serializeReply() throws JsonGenerationException, JsonMappingException, IOException {
 
@@ -29,6 +29,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.reset;
 
+import java.nio.ByteBuffer;
 import java.util.Properties;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -158,7 +159,7 @@ public abstract class AbstractMqttMultipleBackendTest {
                 return null;
             }
         }).when(joynrMqttClient).publishMessage(anyString(),
-                                                any(byte[].class),
+                                                any(ByteBuffer.class),
                                                 anyMap(),
                                                 anyInt(),
                                                 anyLong(),
@@ -201,4 +202,10 @@ public abstract class AbstractMqttMultipleBackendTest {
         };
     }
 
+    protected static byte[] toByteArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
 }
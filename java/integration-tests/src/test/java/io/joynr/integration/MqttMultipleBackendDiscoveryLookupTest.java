@@ -30,6 +30,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -60,7 +61,7 @@ public class MqttMultipleBackendDiscoveryLookupTest extends MqttMultipleBackendD
         CountDownLatch publishCountDownLatch = new CountDownLatch(1);
         doAnswer(createVoidCountDownAnswer(publishCountDownLatch)).when(expectedClient)
                                                                   .publishMessage(eq(gcdTopic),
-                                                                                  any(byte[].class),
+                                                                                  any(ByteBuffer.class),
                                                                                   anyMap(),
                                                                                   anyInt(),
                                                                                   anyLong(),
@@ -76,13 +77,13 @@ public class MqttMultipleBackendDiscoveryLookupTest extends MqttMultipleBackendD
 
         assertTrue(publishCountDownLatch.await(500, TimeUnit.MILLISECONDS));
         verify(otherClient, times(0)).publishMessage(anyString(),
-                                                     any(byte[].class),
+                                                     any(ByteBuffer.class),
                                                      anyMap(),
                                                      anyInt(),
                                                      anyLong(),
                                                      any(SuccessAction.class),
                                                      any(FailureAction.class));
-        ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<ByteBuffer> messageCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
         verify(expectedClient).publishMessage(eq(gcdTopic),
                                               messageCaptor.capture(),
                                               anyMap(),
@@ -90,7 +91,7 @@ public class MqttMultipleBackendDiscoveryLookupTest extends MqttMultipleBackendD
                                               anyLong(),
                                               any(SuccessAction.class),
                                               any(FailureAction.class));
-        byte[] serializedMessage = messageCaptor.getValue();
+        byte[] serializedMessage = toByteArray(messageCaptor.getValue());
         ImmutableMessage capturedMessage = new ImmutableMessage(serializedMessage);
         assertEquals(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST, capturedMessage.getType());
         assertEquals(getGcdParticipantId(), capturedMessage.getRecipient());
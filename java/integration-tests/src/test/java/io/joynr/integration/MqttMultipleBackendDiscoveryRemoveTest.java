@@ -32,6 +32,7 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -98,7 +99,7 @@ public class MqttMultipleBackendDiscoveryRemoveTest extends MqttMultipleBackendD
         CountDownLatch publishCountDownLatch = new CountDownLatch(1);
         doAnswer(createVoidCountDownAnswer(publishCountDownLatch)).when(expectedClient)
                                                                   .publishMessage(eq(gcdTopic),
-                                                                                  any(byte[].class),
+                                                                                  any(ByteBuffer.class),
                                                                                   anyMap(),
                                                                                   anyInt(),
                                                                                   anyLong(),
@@ -118,13 +119,13 @@ public class MqttMultipleBackendDiscoveryRemoveTest extends MqttMultipleBackendD
 
         assertTrue(publishCountDownLatch.await(1500, TimeUnit.MILLISECONDS));
         verify(otherClient, times(0)).publishMessage(anyString(),
-                                                     any(byte[].class),
+                                                     any(ByteBuffer.class),
                                                      anyMap(),
                                                      anyInt(),
                                                      anyLong(),
                                                      any(SuccessAction.class),
                                                      any(FailureAction.class));
-        ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<ByteBuffer> messageCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
         verify(expectedClient).publishMessage(eq(gcdTopic),
                                               messageCaptor.capture(),
                                               anyMap(),
@@ -132,7 +133,7 @@ public class MqttMultipleBackendDiscoveryRemoveTest extends MqttMultipleBackendD
                                               anyLong(),
                                               any(SuccessAction.class),
                                               any(FailureAction.class));
-        byte[] serializedMessage = messageCaptor.getValue();
+        byte[] serializedMessage = toByteArray(messageCaptor.getValue());
         ImmutableMessage capturedMessage = new ImmutableMessage(serializedMessage);
         assertEquals(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST, capturedMessage.getType());
         assertEquals(getGcdParticipantId(), capturedMessage.getRecipient());
@@ -159,7 +160,7 @@ public class MqttMultipleBackendDiscoveryRemoveTest extends MqttMultipleBackendD
         CountDownLatch publishCountDownLatch = new CountDownLatch(1);
         doAnswer(createVoidCountDownAnswer(publishCountDownLatch)).when(expectedClient)
                                                                   .publishMessage(eq(gcdTopic),
-                                                                                  any(byte[].class),
+                                                                                  any(ByteBuffer.class),
                                                                                   anyMap(),
                                                                                   anyInt(),
                                                                                   anyLong(),
@@ -170,13 +171,13 @@ public class MqttMultipleBackendDiscoveryRemoveTest extends MqttMultipleBackendD
 
         assertTrue(publishCountDownLatch.await(1500, TimeUnit.MILLISECONDS));
         verify(otherClient, times(0)).publishMessage(anyString(),
-                                                     any(byte[].class),
+                                                     any(ByteBuffer.class),
                                                      anyMap(),
                                                      anyInt(),
                                                      anyLong(),
                                                      any(SuccessAction.class),
                                                      any(FailureAction.class));
-        ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<ByteBuffer> messageCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
         verify(expectedClient).publishMessage(eq(gcdTopic),
                                               messageCaptor.capture(),
                                               anyMap(),
@@ -184,7 +185,7 @@ public class MqttMultipleBackendDiscoveryRemoveTest extends MqttMultipleBackendD
                                               anyLong(),
                                               any(SuccessAction.class),
                                               any(FailureAction.class));
-        byte[] serializedMessage = messageCaptor.getValue();
+        byte[] serializedMessage = toByteArray(messageCaptor.getValue());
         ImmutableMessage capturedMessage = new ImmutableMessage(serializedMessage);
         assertEquals(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST, capturedMessage.getType());
         assertEquals(getGcdParticipantId(), capturedMessage.getRecipient());
@@ -32,6 +32,7 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -117,14 +118,14 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
         testProxy proxy1 = buildProxyForGlobalDiscoveryEntry(globalDiscoveryEntry1);
         testProxy proxy2 = buildProxyForGlobalDiscoveryEntry(globalDiscoveryEntry2);
         verify(joynrMqttClient1, times(0)).publishMessage(anyString(),
-                                                          any(byte[].class),
+                                                          any(ByteBuffer.class),
                                                           anyMap(),
                                                           anyInt(),
                                                           anyLong(),
                                                           any(SuccessAction.class),
                                                           any(FailureAction.class));
         verify(joynrMqttClient2, times(0)).publishMessage(anyString(),
-                                                          any(byte[].class),
+                                                          any(ByteBuffer.class),
                                                           anyMap(),
                                                           anyInt(),
                                                           anyLong(),
@@ -134,7 +135,7 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
         CountDownLatch publishCountDownLatch = new CountDownLatch(1);
         doAnswer(createVoidCountDownAnswer(publishCountDownLatch)).when(joynrMqttClient1)
                                                                   .publishMessage(anyString(),
-                                                                                  any(byte[].class),
+                                                                                  any(ByteBuffer.class),
                                                                                   anyMap(),
                                                                                   anyInt(),
                                                                                   anyLong(),
@@ -143,7 +144,7 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
         proxy1.methodFireAndForgetWithoutParams();
         assertTrue(publishCountDownLatch.await(100, TimeUnit.MILLISECONDS));
         verify(joynrMqttClient1).publishMessage(topicCaptor.capture(),
-                                                any(byte[].class),
+                                                any(ByteBuffer.class),
                                                 anyMap(),
                                                 anyInt(),
                                                 anyLong(),
@@ -151,7 +152,7 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
                                                 any(FailureAction.class));
         assertTrue(topicCaptor.getValue().startsWith(TESTTOPIC));
         verify(joynrMqttClient2, times(0)).publishMessage(anyString(),
-                                                          any(byte[].class),
+                                                          any(ByteBuffer.class),
                                                           anyMap(),
                                                           anyInt(),
                                                           anyLong(),
@@ -164,7 +165,7 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
         publishCountDownLatch = new CountDownLatch(1);
         doAnswer(createVoidCountDownAnswer(publishCountDownLatch)).when(joynrMqttClient2)
                                                                   .publishMessage(anyString(),
-                                                                                  any(byte[].class),
+                                                                                  any(ByteBuffer.class),
                                                                                   anyMap(),
                                                                                   anyInt(),
                                                                                   anyLong(),
@@ -173,14 +174,14 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
         proxy2.methodFireAndForgetWithoutParams();
         assertTrue(publishCountDownLatch.await(100, TimeUnit.MILLISECONDS));
         verify(joynrMqttClient1, times(0)).publishMessage(anyString(),
-                                                          any(byte[].class),
+                                                          any(ByteBuffer.class),
                                                           anyMap(),
                                                           anyInt(),
                                                           anyLong(),
                                                           any(SuccessAction.class),
                                                           any(FailureAction.class));
         verify(joynrMqttClient2).publishMessage(topicCaptor.capture(),
-                                                any(byte[].class),
+                                                any(ByteBuffer.class),
                                                 anyMap(),
                                                 anyInt(),
                                                 anyLong(),
@@ -341,7 +342,7 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
         CountDownLatch replyCountDownLatch = new CountDownLatch(1);
         doAnswer(createVoidCountDownAnswer(replyCountDownLatch)).when(expectedClient)
                                                                 .publishMessage(anyString(),
-                                                                                any(byte[].class),
+                                                                                any(ByteBuffer.class),
                                                                                 anyMap(),
                                                                                 anyInt(),
                                                                                 anyLong(),
@@ -349,7 +350,7 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
                                                                                 any(FailureAction.class));
         assertTrue(replyCountDownLatch.await(1000, TimeUnit.MILLISECONDS));
 
-        ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<ByteBuffer> messageCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
         verify(expectedClient).publishMessage(anyString(),
                                               messageCaptor.capture(),
                                               anyMap(),
@@ -358,13 +359,13 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
                                               any(SuccessAction.class),
                                               any(FailureAction.class));
         verify(otherClient, times(0)).publishMessage(anyString(),
-                                                     any(byte[].class),
+                                                     any(ByteBuffer.class),
                                                      anyMap(),
                                                      anyInt(),
                                                      anyLong(),
                                                      any(SuccessAction.class),
                                                      any(FailureAction.class));
-        byte[] serializedMessage = messageCaptor.getValue();
+        byte[] serializedMessage = toByteArray(messageCaptor.getValue());
         checkReplyMessage(serializedMessage,
                           proxyParticipantId,
                           providerParticipantId,
@@ -451,7 +452,7 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
         CountDownLatch replyCountDownLatch = new CountDownLatch(2);
         doAnswer(createVoidCountDownAnswer(replyCountDownLatch)).when(expectedClient)
                                                                 .publishMessage(anyString(),
-                                                                                any(byte[].class),
+                                                                                any(ByteBuffer.class),
                                                                                 anyMap(),
                                                                                 anyInt(),
                                                                                 anyLong(),
@@ -462,7 +463,7 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
 
         assertTrue(replyCountDownLatch.await(1000, TimeUnit.MILLISECONDS));
 
-        ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<ByteBuffer> messageCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
         verify(expectedClient, times(2)).publishMessage(anyString(),
                                                         messageCaptor.capture(),
                                                         anyMap(),
@@ -471,19 +472,19 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
                                                         any(SuccessAction.class),
                                                         any(FailureAction.class));
         verify(otherClient, times(0)).publishMessage(anyString(),
-                                                     any(byte[].class),
+                                                     any(ByteBuffer.class),
                                                      anyMap(),
                                                      anyInt(),
                                                      anyLong(),
                                                      any(SuccessAction.class),
                                                      any(FailureAction.class));
-        List<byte[]> serializedMessages = messageCaptor.getAllValues();
-        checkReplyMessage(serializedMessages.get(0),
+        List<ByteBuffer> serializedMessages = messageCaptor.getAllValues();
+        checkReplyMessage(toByteArray(serializedMessages.get(0)),
                           proxyParticipantId,
                           providerParticipantId,
                           replyType1,
                           requestReplyId);
-        checkReplyMessage(serializedMessages.get(1),
+        checkReplyMessage(toByteArray(serializedMessages.get(1)),
                           proxyParticipantId,
                           providerParticipantId,
                           replyType2,
@@ -568,7 +569,7 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
         CountDownLatch countDownLatch = new CountDownLatch(2);
         doAnswer(createVoidCountDownAnswer(countDownLatch)).when(joynrMqttClient1)
                                                            .publishMessage(anyString(),
-                                                                           any(byte[].class),
+                                                                           any(ByteBuffer.class),
                                                                            anyMap(),
                                                                            anyInt(),
                                                                            anyLong(),
@@ -576,21 +577,21 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
                                                                            any(FailureAction.class));
         doAnswer(createVoidCountDownAnswer(countDownLatch)).when(joynrMqttClient2)
                                                            .publishMessage(anyString(),
-                                                                           any(byte[].class),
+                                                                           any(ByteBuffer.class),
                                                                            anyMap(),
                                                                            anyInt(),
                                                                            anyLong(),
                                                                            any(SuccessAction.class),
                                                                            any(FailureAction.class));
         verify(joynrMqttClient1, times(0)).publishMessage(anyString(),
-                                                          any(byte[].class),
+                                                          any(ByteBuffer.class),
                                                           anyMap(),
                                                           anyInt(),
                                                           anyLong(),
                                                           any(SuccessAction.class),
                                                           any(FailureAction.class));
         verify(joynrMqttClient2, times(0)).publishMessage(anyString(),
-                                                          any(byte[].class),
+                                                          any(ByteBuffer.class),
                                                           anyMap(),
                                                           anyInt(),
                                                           anyLong(),
@@ -600,8 +601,8 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
         testProvider.fireEmptyBroadcast();
 
         assertTrue(countDownLatch.await(1000, TimeUnit.MILLISECONDS));
-        ArgumentCaptor<byte[]> messageCaptor1 = ArgumentCaptor.forClass(byte[].class);
-        ArgumentCaptor<byte[]> messageCaptor2 = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<ByteBuffer> messageCaptor1 = ArgumentCaptor.forClass(ByteBuffer.class);
+        ArgumentCaptor<ByteBuffer> messageCaptor2 = ArgumentCaptor.forClass(ByteBuffer.class);
         verify(joynrMqttClient1, times(1)).publishMessage(anyString(),
                                                           messageCaptor1.capture(),
                                                           anyMap(),
@@ -617,12 +618,12 @@ public class MqttMultipleBackendProviderProxyTest extends AbstractMqttMultipleBa
                                                           any(SuccessAction.class),
                                                           any(FailureAction.class));
 
-        checkReplyMessage(messageCaptor1.getValue(),
+        checkReplyMessage(toByteArray(messageCaptor1.getValue()),
                           multicastId,
                           providerParticipantId,
                           Message.MessageType.VALUE_MESSAGE_TYPE_MULTICAST,
                           null);
-        checkReplyMessage(messageCaptor2.getValue(),
+        checkReplyMessage(toByteArray(messageCaptor2.getValue()),
                           multicastId,
                           providerParticipantId,
                           Message.MessageType.VALUE_MESSAGE_TYPE_MULTICAST,
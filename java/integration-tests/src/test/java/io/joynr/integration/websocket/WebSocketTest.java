@@ -70,6 +70,7 @@ import joynr.test.JoynrTestLoggingRule;
 @RunWith(MockitoJUnitRunner.class)
 public class WebSocketTest {
     private static Logger logger = LoggerFactory.getLogger(WebSocketTest.class);
+    private static final int SEND_QUEUE_SIZE = 1000;
     @Rule
     public JoynrTestLoggingRule joynrTestRule = new JoynrTestLoggingRule(logger);
 
@@ -110,6 +111,7 @@ public class WebSocketTest {
         ObjectMapper objectMapper = new ObjectMapper();
         WebSocketEndpointFactory webSocketJettyServerFactory = new WebSocketJettyServerFactory(maxMessageSize,
                                                                                                websocketIdleTimeout,
+                                                                                               SEND_QUEUE_SIZE,
                                                                                                objectMapper);
         ccWebSocketMessagingSkeleton = new WebSocketMessagingSkeleton(serverAddress,
                                                                       webSocketJettyServerFactory,
@@ -122,6 +124,7 @@ public class WebSocketTest {
                                                                       maxMessageSize,
                                                                       reconnectDelay,
                                                                       websocketIdleTimeout,
+                                                                      SEND_QUEUE_SIZE,
                                                                       objectMapper);
         webSocketMessagingStub = new WebSocketMessagingStub(serverAddress,
                                                             webSocketJettyClientFactory.create(serverAddress));
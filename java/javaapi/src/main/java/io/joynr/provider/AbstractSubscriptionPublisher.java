@@ -29,9 +29,11 @@ import org.slf4j.LoggerFactory;
 
 import io.joynr.pubsub.publication.AttributeListener;
 import io.joynr.pubsub.publication.BroadcastFilter;
+import io.joynr.pubsub.publication.BroadcastFilterChain;
 import io.joynr.pubsub.publication.BroadcastFilterImpl;
 import io.joynr.pubsub.publication.BroadcastListener;
 import io.joynr.pubsub.publication.MulticastListener;
+import io.joynr.pubsub.publication.PublicationValues;
 
 public abstract class AbstractSubscriptionPublisher implements SubscriptionPublisherObservable, SubscriptionPublisher {
     private static final Logger logger = LoggerFactory.getLogger(AbstractSubscriptionPublisher.class);
@@ -64,9 +66,11 @@ public abstract class AbstractSubscriptionPublisher implements SubscriptionPubli
             return;
         }
         List<AttributeListener> listeners = attributeListeners.get(attributeName);
+        // share the serialized value of this change between all subscriptions
+        PublicationValues publicationValues = new PublicationValues(Arrays.asList(value));
         synchronized (listeners) {
             for (AttributeListener listener : listeners) {
-                listener.attributeValueChanged(value);
+                listener.attributeValueChanged(publicationValues);
             }
         }
     }
@@ -88,9 +92,15 @@ public abstract class AbstractSubscriptionPublisher implements SubscriptionPubli
             return;
         }
         List<BroadcastListener> listeners = broadcastListeners.get(broadcastName);
+        List<BroadcastFilter> filterChain = broadcastFilters;
+        if (broadcastFilters != null && !broadcastFilters.isEmpty()) {
+            // share the filter results of this broadcast between all subscriptions
+            filterChain = new BroadcastFilterChain(broadcastFilters);
+        }
+        PublicationValues publicationValues = new PublicationValues(Arrays.asList(values));
         synchronized (listeners) {
             for (BroadcastListener listener : listeners) {
-                listener.broadcastOccurred(broadcastFilters, values);
+                listener.broadcastOccurred(filterChain, publicationValues);
             }
         }
     }
@@ -20,4 +20,13 @@ package io.joynr.pubsub.publication;
 
 public interface AttributeListener {
     void attributeValueChanged(Object value);
+
+    /**
+     * Called with the values of an attribute change which are shared by the listeners of all subscriptions.
+     *
+     * @param values the new value of the attribute as single element
+     */
+    default void attributeValueChanged(PublicationValues values) {
+        attributeValueChanged(values.getValues().get(0));
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.pubsub.publication;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The broadcast filters of a single fired broadcast.
+ * <p>
+ * The same chain is passed to the listeners of all subscriptions of the broadcast. It stores the result of each
+ * filter per set of filter parameters, so that a filter is evaluated only once per broadcast for all subscriptions
+ * with equal filter parameters.
+ */
+public class BroadcastFilterChain extends ArrayList<BroadcastFilter> {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<BroadcastFilter, Map<Map<String, String>, Boolean>> filterResults = new IdentityHashMap<>();
+
+    public BroadcastFilterChain(List<BroadcastFilter> filters) {
+        super(filters);
+    }
+
+    /**
+     * @param filter the evaluated filter
+     * @param filterParameters the filter parameters of the subscription
+     * @return the result of a previous evaluation of the filter with equal filter parameters or null
+     */
+    public synchronized Boolean getFilterResult(BroadcastFilter filter, Map<String, String> filterParameters) {
+        Map<Map<String, String>, Boolean> resultsOfFilter = filterResults.get(filter);
+        return resultsOfFilter == null ? null : resultsOfFilter.get(filterParameters);
+    }
+
+    public synchronized void putFilterResult(BroadcastFilter filter,
+                                             Map<String, String> filterParameters,
+                                             boolean result) {
+        filterResults.computeIfAbsent(filter, k -> new HashMap<>()).put(filterParameters, result);
+    }
+}
@@ -22,4 +22,14 @@ import java.util.List;
 
 public interface BroadcastListener {
     void broadcastOccurred(List<BroadcastFilter> filters, Object... value);
+
+    /**
+     * Called with the values of a fired broadcast which are shared by the listeners of all subscriptions.
+     *
+     * @param filters the filters of the broadcast
+     * @param values the broadcast arguments
+     */
+    default void broadcastOccurred(List<BroadcastFilter> filters, PublicationValues values) {
+        broadcastOccurred(filters, values.getValues().toArray());
+    }
 }
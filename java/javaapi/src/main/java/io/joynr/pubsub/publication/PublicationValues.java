@@ -0,0 +1,60 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.pubsub.publication;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import io.joynr.util.ObjectMapper;
+
+/**
+ * The values of a single attribute change or fired broadcast.
+ * <p>
+ * The same instance is passed to the listeners of all subscriptions of the attribute or broadcast, so that the
+ * values are serialized only once per change for all subscriptions.
+ */
+public class PublicationValues {
+
+    private final List<Object> values;
+    private SerializableString serializedValues;
+
+    public PublicationValues(List<Object> values) {
+        this.values = values;
+    }
+
+    public List<Object> getValues() {
+        return values;
+    }
+
+    /**
+     * @param objectMapper the object mapper used to serialize the values
+     * @return the values serialized as JSON array, serialized on the first call only. The UTF-8 encoding of the
+     *         serialized values is cached as well, so they can be copied into the payload of each publication.
+     * @throws JsonProcessingException if the values cannot be serialized
+     */
+    public synchronized SerializableString getSerializedValues(ObjectMapper objectMapper) throws JsonProcessingException {
+        if (serializedValues == null) {
+            serializedValues = new SerializedString(objectMapper.writeValueAsString(values));
+        }
+        return serializedValues;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.subtypes;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+/**
+ * Base class of the generated JSON deserializers of joynr enums, see {@link JsonCodec}.
+ * <p>
+ * Like jackson's enum deserializer, enums are read from their name or from their index.
+ *
+ * @param <E> the deserialized enum type
+ */
+public abstract class EnumNameDeserializer<E extends Enum<E>> extends StdScalarDeserializer<E> {
+    private static final long serialVersionUID = 1L;
+
+    private final Class<E> enumType;
+
+    protected EnumNameDeserializer(Class<E> type) {
+        super(type);
+        enumType = type;
+    }
+
+    /**
+     * @param name the name of the enum value
+     * @return the enum value or null if the name is unknown
+     */
+    protected abstract E valueOfName(String name);
+
+    @Override
+    public E deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_STRING:
+            String name = p.getText();
+            E value = valueOfName(name);
+            if (value != null) {
+                return value;
+            }
+            return enumType.cast(ctxt.handleWeirdStringValue(enumType,
+                                                             name,
+                                                             "not one of the values accepted for Enum class: %s",
+                                                             Arrays.toString(enumType.getEnumConstants())));
+        case JsonTokenId.ID_NUMBER_INT:
+            int index = p.getIntValue();
+            if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS)) {
+                return enumType.cast(ctxt.handleWeirdNumberValue(enumType,
+                                                                 index,
+                                                                 "not allowed to deserialize Enum value out of number: "
+                                                                         + "disable DeserializationConfig.DeserializationFeature."
+                                                                         + "FAIL_ON_NUMBERS_FOR_ENUMS to allow"));
+            }
+            E[] values = enumType.getEnumConstants();
+            if (index >= 0 && index < values.length) {
+                return values[index];
+            }
+            return enumType.cast(ctxt.handleWeirdNumberValue(enumType,
+                                                             index,
+                                                             "index value outside legal index range [0..%s]",
+                                                             values.length - 1));
+        default:
+            return enumType.cast(ctxt.handleUnexpectedToken(enumType, p));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.subtypes;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * Base class of the generated JSON serializers of joynr enums, see {@link JsonCodec}.
+ * <p>
+ * Enums are written as their name, without type information.
+ *
+ * @param <E> the serialized enum type
+ */
+public abstract class EnumNameSerializer<E extends Enum<E>> extends StdScalarSerializer<E> {
+    private static final long serialVersionUID = 1L;
+
+    protected EnumNameSerializer(Class<E> type) {
+        super(type);
+    }
+
+    @Override
+    public void serialize(E value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(value.name());
+    }
+
+    @Override
+    public void serializeWithType(E value,
+                                  JsonGenerator gen,
+                                  SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        serialize(value, gen, provider);
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.subtypes;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+
+/**
+ * Base class of the generated JSON deserializers of joynr structs and maps, see {@link JsonCodec}.
+ * <p>
+ * The <code>_typeName</code> is handled by the {@link TypeDeserializer} of {@link JoynrType} before
+ * {@link #deserialize(JsonParser, DeserializationContext)} is called. Unknown members are skipped. Members of
+ * basic types are read directly from the parser; tokens which do not match the expected type (e.g. numbers
+ * sent as strings) are passed on to jackson's standard deserializers to accept the same input as before. The
+ * deserializers of all other member types are looked up once in {@link #resolve(DeserializationContext)}.
+ *
+ * @param <T> the deserialized type
+ */
+public abstract class JoynrTypeDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
+    private static final long serialVersionUID = 1L;
+
+    private interface ValueReader<V> {
+        V read(JsonParser p, DeserializationContext ctxt) throws IOException;
+    }
+
+    protected JoynrTypeDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    /**
+     * @return a new instance with default member values
+     */
+    protected abstract T createValue();
+
+    /**
+     * Reads a member (struct) or an entry (map) of the value.
+     *
+     * @param value the value to be filled
+     * @param name the name of the JSON field
+     * @param p the parser, pointing to the first token of the field value
+     * @param ctxt the deserialization context
+     * @return false if the field is unknown and has not been consumed
+     * @throws IOException if the field value cannot be read
+     */
+    public abstract boolean readMember(T value,
+                                       String name,
+                                       JsonParser p,
+                                       DeserializationContext ctxt) throws IOException;
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            @SuppressWarnings("unchecked")
+            T result = (T) ctxt.handleUnexpectedToken(handledType(), p);
+            return result;
+        }
+        T value = createValue();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            p.nextToken();
+            if (!readMember(value, name, p, ctxt)) {
+                p.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p,
+                                      DeserializationContext ctxt,
+                                      TypeDeserializer typeDeserializer) throws IOException {
+        return typeDeserializer.deserializeTypedFromObject(p, ctxt);
+    }
+
+    protected static JsonDeserializer<Object> findDeserializer(DeserializationContext ctxt,
+                                                               Class<?> type) throws JsonMappingException {
+        return ctxt.findRootValueDeserializer(ctxt.constructType(type));
+    }
+
+    protected static KeyDeserializer findKeyDeserializer(DeserializationContext ctxt,
+                                                         Class<?> type) throws JsonMappingException {
+        return ctxt.findKeyDeserializer(ctxt.constructType(type), null);
+    }
+
+    protected static Object readValue(JsonParser p,
+                                      DeserializationContext ctxt,
+                                      JsonDeserializer<Object> deserializer) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return deserializer.getNullValue(ctxt);
+        }
+        return deserializer.deserialize(p, ctxt);
+    }
+
+    protected static Boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_TRUE:
+            return Boolean.TRUE;
+        case JsonTokenId.ID_FALSE:
+            return Boolean.FALSE;
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+            return ctxt.readValue(p, Boolean.class);
+        }
+    }
+
+    protected static Byte readByte(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getByteValue();
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+            return ctxt.readValue(p, Byte.class);
+        }
+    }
+
+    protected static Short readShort(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getShortValue();
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+            return ctxt.readValue(p, Short.class);
+        }
+    }
+
+    protected static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getIntValue();
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+            return ctxt.readValue(p, Integer.class);
+        }
+    }
+
+    protected static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getLongValue();
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+            return ctxt.readValue(p, Long.class);
+        }
+    }
+
+    protected static Float readFloat(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_NUMBER_FLOAT:
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getFloatValue();
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+            return ctxt.readValue(p, Float.class);
+        }
+    }
+
+    protected static Double readDouble(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_NUMBER_FLOAT:
+        case JsonTokenId.ID_NUMBER_INT:
+            return p.getDoubleValue();
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+            return ctxt.readValue(p, Double.class);
+        }
+    }
+
+    protected static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_STRING:
+            return p.getText();
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+            return ctxt.readValue(p, String.class);
+        }
+    }
+
+    protected static Boolean[] readBooleanArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readArray(p, ctxt, Boolean[].class, JoynrTypeDeserializer::readBoolean);
+    }
+
+    protected static Byte[] readByteArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readArray(p, ctxt, Byte[].class, JoynrTypeDeserializer::readByte);
+    }
+
+    protected static Short[] readShortArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readArray(p, ctxt, Short[].class, JoynrTypeDeserializer::readShort);
+    }
+
+    protected static Integer[] readIntegerArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readArray(p, ctxt, Integer[].class, JoynrTypeDeserializer::readInteger);
+    }
+
+    protected static Long[] readLongArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readArray(p, ctxt, Long[].class, JoynrTypeDeserializer::readLong);
+    }
+
+    protected static Float[] readFloatArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readArray(p, ctxt, Float[].class, JoynrTypeDeserializer::readFloat);
+    }
+
+    protected static Double[] readDoubleArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readArray(p, ctxt, Double[].class, JoynrTypeDeserializer::readDouble);
+    }
+
+    protected static String[] readStringArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readArray(p, ctxt, String[].class, JoynrTypeDeserializer::readString);
+    }
+
+    private static <V> V[] readArray(JsonParser p,
+                                     DeserializationContext ctxt,
+                                     Class<V[]> arrayType,
+                                     ValueReader<V> elementReader) throws IOException {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_START_ARRAY:
+            List<V> elements = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                elements.add(elementReader.read(p, ctxt));
+            }
+            return Arrays.copyOf(elements.toArray(), elements.size(), arrayType);
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+            // e.g. a single value if ACCEPT_SINGLE_VALUE_AS_ARRAY is enabled
+            return ctxt.readValue(p, arrayType);
+        }
+    }
+}
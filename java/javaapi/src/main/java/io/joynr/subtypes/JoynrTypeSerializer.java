@@ -0,0 +1,190 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.subtypes;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Base class of the generated JSON serializers of joynr structs and maps, see {@link JsonCodec}.
+ * <p>
+ * The output is the same as the one of jackson's bean and map serializers with the joynr configuration:
+ * the <code>_typeName</code> is written by the {@link TypeSerializer} of {@link JoynrType}, struct members
+ * are written in alphabetical order and omitted if null.
+ *
+ * @param <T> the serialized type
+ */
+public abstract class JoynrTypeSerializer<T> extends StdSerializer<T> {
+    private static final long serialVersionUID = 1L;
+
+    protected JoynrTypeSerializer(Class<T> type) {
+        super(type);
+    }
+
+    /**
+     * Writes the members (struct) or entries (map) of the value as fields of the current JSON object.
+     *
+     * @param value the value to be serialized
+     * @param gen the generator
+     * @param provider the serializer provider
+     * @throws IOException if the value cannot be written
+     */
+    public abstract void writeMembers(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeMembers(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T value,
+                                  JsonGenerator gen,
+                                  SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        writeMembers(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    protected static void writeKey(Object key, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (key instanceof String) {
+            gen.writeFieldName((String) key);
+        } else if (key instanceof Enum) {
+            gen.writeFieldName(((Enum<?>) key).name());
+        } else if (key instanceof Number || key instanceof Boolean) {
+            gen.writeFieldName(key.toString());
+        } else if (key == null) {
+            provider.findNullKeySerializer(provider.constructType(Object.class), null).serialize(null, gen, provider);
+        } else {
+            provider.findKeySerializer(key.getClass(), null).serialize(key, gen, provider);
+        }
+    }
+
+    protected static void writeArray(Boolean[] values, JsonGenerator gen) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (Boolean element : values) {
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                gen.writeBoolean(element);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    protected static void writeArray(Byte[] values, JsonGenerator gen) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (Byte element : values) {
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(element.intValue());
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    protected static void writeArray(Short[] values, JsonGenerator gen) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (Short element : values) {
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(element.shortValue());
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    protected static void writeArray(Integer[] values, JsonGenerator gen) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (Integer element : values) {
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(element.intValue());
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    protected static void writeArray(Long[] values, JsonGenerator gen) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (Long element : values) {
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(element.longValue());
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    protected static void writeArray(Float[] values, JsonGenerator gen) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (Float element : values) {
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(element.floatValue());
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    protected static void writeArray(Double[] values, JsonGenerator gen) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (Double element : values) {
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(element.doubleValue());
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    protected static void writeArray(String[] values, JsonGenerator gen) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (String element : values) {
+            gen.writeString(element);
+        }
+        gen.writeEndArray();
+    }
+
+    protected static void writeArray(Enum<?>[] values, JsonGenerator gen) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (Enum<?> element : values) {
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(element.name());
+            }
+        }
+        gen.writeEndArray();
+    }
+}
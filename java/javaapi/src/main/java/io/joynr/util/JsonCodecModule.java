@@ -0,0 +1,121 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.util;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+import io.joynr.subtypes.JsonCodec;
+
+/**
+ * Provides the generated codecs of the types annotated with {@link JsonCodec}.
+ * <p>
+ * A new codec instance is created for every lookup, i.e. once per jackson ObjectMapper (snapshot), because
+ * the deserializers keep the deserializers of their member types which are resolved per ObjectMapper.
+ */
+final class JsonCodecModule extends Module {
+
+    @Override
+    public String getModuleName() {
+        return "JoynrJsonCodecModule";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addSerializers(new CodecSerializers());
+        context.addDeserializers(new CodecDeserializers());
+    }
+
+    private static <T> T createCodec(MapperConfig<?> config, JavaType type, boolean serializer) {
+        JsonCodec codec = type.getRawClass().getAnnotation(JsonCodec.class);
+        if (codec == null) {
+            return null;
+        }
+        Class<?> codecClass = serializer ? codec.serializer() : codec.deserializer();
+        @SuppressWarnings("unchecked")
+        T instance = (T) ClassUtil.createInstance(codecClass,
+                                                  config.isEnabled(MapperFeature.CAN_OVERRIDE_ACCESS_MODIFIERS));
+        return instance;
+    }
+
+    private static class CodecSerializers extends Serializers.Base {
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config,
+                                                JavaType type,
+                                                BeanDescription beanDesc) {
+            return createCodec(config, type, true);
+        }
+
+        @Override
+        public JsonSerializer<?> findMapSerializer(SerializationConfig config,
+                                                   MapType type,
+                                                   BeanDescription beanDesc,
+                                                   JsonSerializer<Object> keySerializer,
+                                                   TypeSerializer elementTypeSerializer,
+                                                   JsonSerializer<Object> elementValueSerializer) {
+            return createCodec(config, type, true);
+        }
+    }
+
+    private static class CodecDeserializers extends Deserializers.Base {
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(JavaType type,
+                                                        DeserializationConfig config,
+                                                        BeanDescription beanDesc) {
+            return createCodec(config, type, false);
+        }
+
+        @Override
+        public JsonDeserializer<?> findEnumDeserializer(Class<?> type,
+                                                        DeserializationConfig config,
+                                                        BeanDescription beanDesc) {
+            return createCodec(config, beanDesc.getType(), false);
+        }
+
+        @Override
+        public JsonDeserializer<?> findMapDeserializer(MapType type,
+                                                       DeserializationConfig config,
+                                                       BeanDescription beanDesc,
+                                                       KeyDeserializer keyDeserializer,
+                                                       TypeDeserializer elementTypeDeserializer,
+                                                       JsonDeserializer<?> elementDeserializer) {
+            return createCodec(config, type, false);
+        }
+    }
+}
@@ -20,12 +20,14 @@ package io.joynr.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.net.URL;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
@@ -40,14 +42,113 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.impl.StdSubtypeResolver;
 
+/**
+ * Thread safe wrapper of the jackson ObjectMapper.
+ * <p>
+ * The configuration (features, modules, subtypes) is applied to a mutable jackson ObjectMapper. Serialization
+ * and deserialization never use this instance directly: on first use after a configuration change, an
+ * immutable snapshot with a copy of the configured mapper is published, together with pre-built
+ * {@link ObjectWriter} and per type {@link ObjectReader} instances. Readers and writers therefore do not need
+ * any locking. Configuration changes are expected to happen during startup only; a later change of features
+ * or modules publishes a new snapshot, which has to warm up its serializer and deserializer caches again.
+ * <p>
+ * Subtypes (e.g. the data types of a newly used interface) are registered with the subtype resolver of the
+ * current snapshot instead, so registering them does not discard the caches. This is sufficient because all
+ * joynr types use the class name as type id: already built (de)serializers resolve new subtypes by their
+ * class name and do not depend on the set of registered subtypes.
+ * <p>
+ * Generated types annotated with {@link io.joynr.subtypes.JsonCodec} are serialized and deserialized by
+ * their generated codecs instead of jackson's reflective bean and map (de)serializers.
+ */
 public class ObjectMapper {
 
     private final com.fasterxml.jackson.databind.ObjectMapper realObjectMapper;
     private final Set<Class<?>> registeredSubtypes;
-    private final ReentrantReadWriteLock lock;
+    // null if the configuration has been changed since the last publication, written while holding
+    // realObjectMapper
+    private volatile Snapshot snapshot;
+
+    /**
+     * Subtype resolver which allows to register subtypes while it is used by the (de)serializers of a
+     * snapshot.
+     */
+    private static final class ConcurrentSubtypeResolver extends StdSubtypeResolver {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized void registerSubtypes(NamedType... types) {
+            super.registerSubtypes(types);
+        }
+
+        @Override
+        public synchronized void registerSubtypes(Class<?>... classes) {
+            super.registerSubtypes(classes);
+        }
+
+        @Override
+        public synchronized void registerSubtypes(Collection<Class<?>> subtypes) {
+            super.registerSubtypes(subtypes);
+        }
+
+        @Override
+        public synchronized Collection<NamedType> collectAndResolveSubtypesByClass(MapperConfig<?> config,
+                                                                                   AnnotatedMember property,
+                                                                                   JavaType baseType) {
+            return super.collectAndResolveSubtypesByClass(config, property, baseType);
+        }
+
+        @Override
+        public synchronized Collection<NamedType> collectAndResolveSubtypesByClass(MapperConfig<?> config,
+                                                                                   AnnotatedClass type) {
+            return super.collectAndResolveSubtypesByClass(config, type);
+        }
+
+        @Override
+        public synchronized Collection<NamedType> collectAndResolveSubtypesByTypeId(MapperConfig<?> config,
+                                                                                    AnnotatedMember property,
+                                                                                    JavaType baseType) {
+            return super.collectAndResolveSubtypesByTypeId(config, property, baseType);
+        }
+
+        @Override
+        public synchronized Collection<NamedType> collectAndResolveSubtypesByTypeId(MapperConfig<?> config,
+                                                                                    AnnotatedClass baseType) {
+            return super.collectAndResolveSubtypesByTypeId(config, baseType);
+        }
+    }
+
+    private static final class Snapshot {
+        private final com.fasterxml.jackson.databind.ObjectMapper mapper;
+        private final ConcurrentSubtypeResolver subtypeResolver;
+        private final ObjectWriter writer;
+        private final ConcurrentMap<Type, ObjectReader> readers;
+
+        private Snapshot(com.fasterxml.jackson.databind.ObjectMapper mapper,
+                         ConcurrentSubtypeResolver subtypeResolver) {
+            this.mapper = mapper;
+            this.subtypeResolver = subtypeResolver;
+            this.writer = mapper.writer();
+            this.readers = new ConcurrentHashMap<>();
+        }
+
+        private ObjectReader readerFor(Class<?> valueType) {
+            return readers.computeIfAbsent(valueType, type -> mapper.readerFor(valueType));
+        }
+
+        private ObjectReader readerFor(TypeReference<?> valueTypeRef) {
+            return readers.computeIfAbsent(valueTypeRef.getType(), type -> mapper.readerFor(valueTypeRef));
+        }
+    }
 
     public ObjectMapper() {
         this(new com.fasterxml.jackson.databind.ObjectMapper());
@@ -56,202 +157,167 @@ public class ObjectMapper {
     ObjectMapper(com.fasterxml.jackson.databind.ObjectMapper realObjectMapper) {
         Objects.requireNonNull(realObjectMapper);
         this.realObjectMapper = realObjectMapper;
-        registeredSubtypes = new HashSet<Class<?>>();
-        lock = new ReentrantReadWriteLock();
+        registeredSubtypes = ConcurrentHashMap.newKeySet();
+        realObjectMapper.registerModule(new JsonCodecModule());
     }
 
-    public <T> T readValue(JsonParser p, Class<T> valueType) throws IOException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.readValue(p, valueType);
-        } finally {
-            lock.readLock().unlock();
+    private Snapshot getSnapshot() {
+        Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            return currentSnapshot;
+        }
+        synchronized (realObjectMapper) {
+            if (snapshot == null) {
+                com.fasterxml.jackson.databind.ObjectMapper mapper = realObjectMapper.copy();
+                // copies share the subtype resolver before jackson 2.12, the snapshot needs its own one
+                ConcurrentSubtypeResolver subtypeResolver = new ConcurrentSubtypeResolver();
+                subtypeResolver.registerSubtypes(registeredSubtypes.toArray(new Class<?>[registeredSubtypes.size()]));
+                mapper.setSubtypeResolver(subtypeResolver);
+                snapshot = new Snapshot(mapper, subtypeResolver);
+            }
+            return snapshot;
         }
     }
 
+    private void configurationChanged() {
+        // called while holding realObjectMapper
+        snapshot = null;
+    }
+
+    public <T> T readValue(JsonParser p, Class<T> valueType) throws IOException {
+        return getSnapshot().readerFor(valueType).readValue(p);
+    }
+
     public <T> T readValue(URL src, Class<T> valueType) throws IOException, JsonParseException, JsonMappingException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.readValue(src, valueType);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().readerFor(valueType).readValue(src);
     }
 
     public <T> T readValue(String content, Class<T> valueType) throws JsonProcessingException, JsonMappingException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.readValue(content, valueType);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().readerFor(valueType).readValue(content);
     }
 
     public <T> T readValue(String content, TypeReference<T> valueTypeRef) throws JsonProcessingException,
                                                                           JsonMappingException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.readValue(content, valueTypeRef);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().readerFor(valueTypeRef).readValue(content);
     }
 
     public <T> T treeToValue(TreeNode n, Class<T> valueType) throws IllegalArgumentException, JsonProcessingException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.treeToValue(n, valueType);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().mapper.treeToValue(n, valueType);
     }
 
     public <T extends JsonNode> T valueToTree(Object fromValue) throws IllegalArgumentException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.valueToTree(fromValue);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().mapper.valueToTree(fromValue);
     }
 
     public String writeValueAsString(Object value) throws JsonProcessingException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.writeValueAsString(value);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().writer.writeValueAsString(value);
+    }
+
+    public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+        return getSnapshot().writer.writeValueAsBytes(value);
     }
 
     public <T> T convertValue(Object fromValue, Class<T> toValueType) throws IllegalArgumentException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.convertValue(fromValue, toValueType);
-        } finally {
-            lock.readLock().unlock();
+        return getSnapshot().mapper.convertValue(fromValue, toValueType);
+    }
+
+    /**
+     * Like {@link #convertValue(Object, Class)}, but returns the value itself if it already is an instance of
+     * the requested type, e.g. a struct which has been deserialized with its type information. This avoids
+     * serializing and deserializing the value again.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convertValueIfRequired(Object fromValue, Class<T> toValueType) throws IllegalArgumentException {
+        if (fromValue == null || toValueType.isInstance(fromValue)) {
+            return (T) fromValue;
         }
+        return convertValue(fromValue, toValueType);
     }
 
     public <T> T convertValue(Object fromValue, TypeReference<T> toValueTypeRef) throws IllegalArgumentException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.convertValue(fromValue, toValueTypeRef);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().mapper.convertValue(fromValue, toValueTypeRef);
     }
 
     public <T> T convertValue(Object fromValue, JavaType toValueType) throws IllegalArgumentException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.convertValue(fromValue, toValueType);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().mapper.convertValue(fromValue, toValueType);
     }
 
     @Deprecated
     public void enableDefaultTypingAsProperty(DefaultTyping applicability, String propertyName) {
-        lock.writeLock().lock();
-        try {
+        synchronized (realObjectMapper) {
             realObjectMapper.enableDefaultTypingAsProperty(applicability, propertyName);
-        } finally {
-            lock.writeLock().unlock();
+            configurationChanged();
         }
     }
 
     public void configure(SerializationFeature f, boolean state) {
-        lock.writeLock().lock();
-        try {
+        synchronized (realObjectMapper) {
             realObjectMapper.configure(f, state);
-        } finally {
-            lock.writeLock().unlock();
+            configurationChanged();
         }
     }
 
     public void configure(DeserializationFeature f, boolean state) {
-        lock.writeLock().lock();
-        try {
+        synchronized (realObjectMapper) {
             realObjectMapper.configure(f, state);
-        } finally {
-            lock.writeLock().unlock();
+            configurationChanged();
         }
     }
 
     public void configure(MapperFeature f, boolean state) {
-        lock.writeLock().lock();
-        try {
+        synchronized (realObjectMapper) {
             realObjectMapper.configure(f, state);
-        } finally {
-            lock.writeLock().unlock();
+            configurationChanged();
         }
     }
 
     public SerializationConfig getSerializationConfig() {
-        lock.readLock().lock();
-        try {
+        synchronized (realObjectMapper) {
             return realObjectMapper.getSerializationConfig();
-        } finally {
-            lock.readLock().unlock();
         }
     }
 
     public DeserializationConfig getDeserializationConfig() {
-        lock.readLock().lock();
-        try {
+        synchronized (realObjectMapper) {
             return realObjectMapper.getDeserializationConfig();
-        } finally {
-            lock.readLock().unlock();
         }
     }
 
     public void registerModule(Module module) {
-        lock.writeLock().lock();
-        try {
+        synchronized (realObjectMapper) {
             realObjectMapper.registerModule(module);
-        } finally {
-            lock.writeLock().unlock();
+            configurationChanged();
         }
     }
 
     public void registerSubtypes(Class<?>... classes) {
-        lock.readLock().lock();
-        try {
+        // fast path without locking for already registered subtypes
+        if (registeredSubtypes.containsAll(Arrays.asList(classes))) {
+            return;
+        }
+        synchronized (realObjectMapper) {
             classes = Arrays.asList(classes)
                             .stream()
                             .filter(c -> !registeredSubtypes.contains(c))
                             .toArray(size -> new Class<?>[size]);
-        } finally {
-            lock.readLock().unlock();
-        }
-        if (0 != classes.length) {
-            lock.writeLock().lock();
-            try {
+            if (0 != classes.length) {
                 realObjectMapper.registerSubtypes(classes);
                 registeredSubtypes.addAll(Arrays.asList(classes));
-            } finally {
-                lock.writeLock().unlock();
+                // keep the current snapshot and its caches, see class comment
+                Snapshot currentSnapshot = snapshot;
+                if (currentSnapshot != null) {
+                    currentSnapshot.subtypeResolver.registerSubtypes(classes);
+                }
             }
         }
     }
 
     public <T> T readValue(byte[] src, Class<T> valueType) throws IOException, JsonParseException,
                                                            JsonMappingException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.readValue(src, valueType);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().readerFor(valueType).readValue(src);
     }
 
     public JsonNode readTree(InputStream in) throws IOException {
-        lock.readLock().lock();
-        try {
-            return realObjectMapper.readTree(in);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getSnapshot().mapper.readTree(in);
     }
 }
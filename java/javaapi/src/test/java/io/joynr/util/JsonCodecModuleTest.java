@@ -0,0 +1,146 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import joynr.jsoncodec.JsonCodecTypes.BaseStruct;
+import joynr.jsoncodec.JsonCodecTypes.Color;
+import joynr.jsoncodec.JsonCodecTypes.ColorMap;
+import joynr.jsoncodec.JsonCodecTypes.ExtendedStruct;
+import joynr.jsoncodec.JsonCodecTypes.NamedStructs;
+
+/**
+ * The codecs of the types used below are created by the java generator with parameter generateJsonCodecs from
+ * json-codec-test.fidl, see the pom. Their output is compared with the output of jackson's reflective serializers.
+ */
+public class JsonCodecModuleTest {
+
+    private com.fasterxml.jackson.databind.ObjectMapper reflectiveObjectMapper;
+    private com.fasterxml.jackson.databind.ObjectMapper codecObjectMapper;
+    private ExtendedStruct value;
+
+    private static com.fasterxml.jackson.databind.ObjectMapper createJacksonObjectMapper() {
+        com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
+        objectMapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+        return objectMapper;
+    }
+
+    @Before
+    public void setUp() {
+        reflectiveObjectMapper = createJacksonObjectMapper();
+        codecObjectMapper = createJacksonObjectMapper();
+        codecObjectMapper.registerModule(new JsonCodecModule());
+
+        BaseStruct nested = new BaseStruct();
+        nested.setName(null);
+        nested.setIds(new Long[]{ Long.MAX_VALUE });
+        ExtendedStruct nestedExtended = new ExtendedStruct();
+        nestedExtended.setName("nested extended");
+        ColorMap colorMap = new ColorMap();
+        colorMap.put(7, Color.RED);
+        colorMap.put(-1, null);
+        NamedStructs namedStructs = new NamedStructs();
+        namedStructs.put("base", nested);
+        namedStructs.put("extended", nestedExtended);
+        namedStructs.put("null", null);
+
+        value = new ExtendedStruct();
+        value.setName("extended \"struct\"");
+        value.setIds(new Long[]{ 1L, null, -3L });
+        value.setFlag(true);
+        value.setAmount(47.11);
+        value.setData(new Byte[]{ 0, -1, 127 });
+        value.setColor(Color.GREEN);
+        value.setColors(new Color[]{ Color.RED, null, Color.GREEN });
+        value.setNested(nestedExtended);
+        value.setNestedArray(new BaseStruct[]{ nested, null, nestedExtended });
+        value.setColorMap(colorMap);
+        value.setNamedStructs(namedStructs);
+    }
+
+    @Test
+    public void codecsAreUsedForAnnotatedTypes() throws Exception {
+        SerializerProvider serializerProvider = codecObjectMapper.getSerializerProviderInstance();
+        assertEquals(BaseStruct.Serializer.class, serializerProvider.findValueSerializer(BaseStruct.class).getClass());
+        assertEquals(ExtendedStruct.Serializer.class,
+                     serializerProvider.findValueSerializer(ExtendedStruct.class).getClass());
+        assertEquals(ColorMap.Serializer.class, serializerProvider.findValueSerializer(ColorMap.class).getClass());
+        assertEquals(NamedStructs.Serializer.class,
+                     serializerProvider.findValueSerializer(NamedStructs.class).getClass());
+        assertEquals(Color.Serializer.class, serializerProvider.findValueSerializer(Color.class).getClass());
+    }
+
+    @Test
+    public void codecOutputEqualsReflectiveOutput() throws Exception {
+        String json = codecObjectMapper.writeValueAsString(value);
+        assertEquals(reflectiveObjectMapper.writeValueAsString(value), json);
+        assertTrue(json.startsWith("{\"_typeName\":\"" + ExtendedStruct.class.getName() + "\""));
+
+        assertEquals(reflectiveObjectMapper.writerFor(BaseStruct.class).writeValueAsString(value),
+                     codecObjectMapper.writerFor(BaseStruct.class).writeValueAsString(value));
+        assertEquals(reflectiveObjectMapper.writeValueAsString(value.getColorMap()),
+                     codecObjectMapper.writeValueAsString(value.getColorMap()));
+        assertEquals(reflectiveObjectMapper.writeValueAsString(value.getNamedStructs()),
+                     codecObjectMapper.writeValueAsString(value.getNamedStructs()));
+        assertEquals(reflectiveObjectMapper.writeValueAsString(Color.GREEN),
+                     codecObjectMapper.writeValueAsString(Color.GREEN));
+        assertEquals(reflectiveObjectMapper.writeValueAsString(new ExtendedStruct()),
+                     codecObjectMapper.writeValueAsString(new ExtendedStruct()));
+    }
+
+    @Test
+    public void codecReadsOwnAndReflectiveOutput() throws Exception {
+        String json = reflectiveObjectMapper.writeValueAsString(value);
+        BaseStruct expected = reflectiveObjectMapper.readValue(json, BaseStruct.class);
+        BaseStruct decoded = codecObjectMapper.readValue(json, BaseStruct.class);
+        assertEquals(expected, decoded);
+        assertEquals(value, decoded);
+        String codecJson = codecObjectMapper.writeValueAsString(value);
+        assertEquals(expected, codecObjectMapper.readValue(codecJson, BaseStruct.class));
+
+        ExtendedStruct decodedExtended = (ExtendedStruct) decoded;
+        assertArrayEquals(value.getData(), decodedExtended.getData());
+        assertNull(decodedExtended.getColorMap().get(-1));
+        assertTrue(decodedExtended.getNamedStructs().get("extended") instanceof ExtendedStruct);
+        assertTrue(decodedExtended.getNestedArray()[2] instanceof ExtendedStruct);
+    }
+
+    @Test
+    public void codecAcceptsReorderedAndUnknownMembers() throws Exception {
+        String json = "{\"amount\":\"2\",\"unknown\":{\"a\":[1,2]},\"color\":1,\"_typeName\":\""
+                + ExtendedStruct.class.getName() + "\",\"colorMap\":{\"_typeName\":\"" + ColorMap.class.getName()
+                + "\",\"3\":\"GREEN\"}}";
+        BaseStruct expected = reflectiveObjectMapper.readValue(json, BaseStruct.class);
+        BaseStruct decoded = codecObjectMapper.readValue(json, BaseStruct.class);
+        assertEquals(expected, decoded);
+        assertEquals(Double.valueOf(2), ((ExtendedStruct) decoded).getAmount());
+        assertEquals(Color.GREEN, ((ExtendedStruct) decoded).getColor());
+        assertEquals(Color.GREEN, ((ExtendedStruct) decoded).getColorMap().get(3));
+    }
+}
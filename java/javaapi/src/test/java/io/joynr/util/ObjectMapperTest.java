@@ -18,16 +18,35 @@
  */
 package io.joynr.util;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ObjectMapperTest {
     private class A {
@@ -39,6 +58,10 @@ public class ObjectMapperTest {
     private class C {
     };
 
+    public static class Value {
+        public String name;
+    }
+
     @Mock
     com.fasterxml.jackson.databind.ObjectMapper realObjectMapper;
 
@@ -71,4 +94,81 @@ public class ObjectMapperTest {
         verify(realObjectMapper, times(1)).registerSubtypes(ArgumentMatchers.<Class<?>> any());
     }
 
+    @Test
+    public void configurationChangeAfterFirstUseIsApplied() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Value value = objectMapper.readValue("{\"name\":\"a\"}", Value.class);
+        assertEquals("a", value.name);
+
+        objectMapper.configure(SerializationFeature.WRAP_ROOT_VALUE, true);
+        assertEquals("{\"Value\":{\"name\":\"a\"}}", objectMapper.writeValueAsString(value));
+
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        assertEquals("b", objectMapper.readValue("{\"name\":\"b\",\"unknown\":1}", Value.class).name);
+    }
+
+    @Test
+    public void subtypeRegistrationAfterFirstUseKeepsSerializers() throws Exception {
+        final AtomicInteger createdValueSerializers = new AtomicInteger();
+        SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                      BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                if (beanDesc.getBeanClass() == Value.class) {
+                    createdValueSerializers.incrementAndGet();
+                }
+                return serializer;
+            }
+        });
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(module);
+        Value value = new Value();
+        value.name = "a";
+        assertEquals("{\"name\":\"a\"}", objectMapper.writeValueAsString(value));
+
+        objectMapper.registerSubtypes(A.class, B.class);
+        assertEquals("{\"name\":\"a\"}", objectMapper.writeValueAsString(value));
+        assertEquals(1, createdValueSerializers.get());
+    }
+
+    @Test
+    public void convertValueIfRequired() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Value value = new Value();
+        assertSame(value, objectMapper.convertValueIfRequired(value, Value.class));
+        assertEquals(Long.valueOf(42), objectMapper.convertValueIfRequired(Integer.valueOf(42), Long.class));
+    }
+
+    @Test
+    public void concurrentReadsAndSubtypeRegistrations() throws Exception {
+        final int numberOfThreads = 4;
+        final int numberOfIterations = 1000;
+        final ObjectMapper objectMapper = new ObjectMapper();
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int thread = 0; thread < numberOfThreads; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < numberOfIterations; i++) {
+                        if (i % 100 == 0) {
+                            objectMapper.registerSubtypes(A.class, B.class, C.class);
+                        }
+                        String json = objectMapper.writeValueAsString(new Value());
+                        objectMapper.readValue(json, Value.class);
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
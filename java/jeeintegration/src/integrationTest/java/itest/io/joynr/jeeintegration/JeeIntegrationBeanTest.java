@@ -52,6 +52,7 @@ import io.joynr.statusmetrics.JoynrStatusMetrics;
 import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
 import io.joynr.jeeintegration.ServiceProviderDiscovery;
 import io.joynr.jeeintegration.api.JeeIntegrationPropertyKeys;
+import io.joynr.messaging.MessagingPropertyKeys;
 import io.joynr.messaging.routing.MessageRouter;
 import io.joynr.runtime.JoynrInjectionConstants;
 
@@ -105,6 +106,12 @@ public class JeeIntegrationBeanTest {
         assertEquals(scheduledExecutorService,
                      joynrInjector.getInstance(Key.get(ScheduledExecutorService.class,
                                                        Names.named(MessageRouter.SCHEDULEDTHREADPOOL))));
+        assertEquals(scheduledExecutorService,
+                     joynrInjector.getInstance(Key.get(ScheduledExecutorService.class,
+                                                       Names.named(MessagingPropertyKeys.SCHEDULEDTHREADPOOL_TRANSPORT))));
+        assertEquals(scheduledExecutorService,
+                     joynrInjector.getInstance(Key.get(ScheduledExecutorService.class,
+                                                       Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_DISCOVERY))));
         assertEquals(scheduledExecutorService,
                      joynrInjector.getInstance(Key.get(ScheduledExecutorService.class,
                                                        Names.named(LocalCapabilitiesDirectory.JOYNR_SCHEDULER_CAPABILITIES_FRESHNESS))));
@@ -34,6 +34,7 @@ import io.joynr.messaging.AbstractMiddlewareMessagingStubFactory;
 import io.joynr.messaging.IMessagingSkeletonFactory;
 import io.joynr.messaging.IMessagingStub;
 import io.joynr.messaging.JoynrMessageProcessor;
+import io.joynr.messaging.MessagingPropertyKeys;
 import io.joynr.messaging.MessagingSkeletonFactory;
 import io.joynr.messaging.routing.MessageRouter;
 import io.joynr.messaging.routing.MessagingStubFactory;
@@ -67,8 +68,12 @@ public class JeeJoynrIntegrationModule extends AbstractModule {
 
         bind(ScheduledExecutorService.class).annotatedWith(Names.named(MessageRouter.SCHEDULEDTHREADPOOL))
                                             .toInstance(scheduledExecutorService);
+        bind(ScheduledExecutorService.class).annotatedWith(Names.named(MessagingPropertyKeys.SCHEDULEDTHREADPOOL_TRANSPORT))
+                                            .toInstance(scheduledExecutorService);
         bind(ScheduledExecutorService.class).annotatedWith(Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP))
                                             .toInstance(scheduledExecutorService);
+        bind(ScheduledExecutorService.class).annotatedWith(Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_DISCOVERY))
+                                            .toInstance(scheduledExecutorService);
         bind(ScheduledExecutorService.class).annotatedWith(Names.named(LocalCapabilitiesDirectory.JOYNR_SCHEDULER_CAPABILITIES_FRESHNESS))
                                             .toInstance(scheduledExecutorService);
         bind(ExecutorService.class).toInstance(scheduledExecutorService);
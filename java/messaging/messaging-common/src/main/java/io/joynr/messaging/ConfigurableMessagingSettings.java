@@ -37,6 +37,8 @@ public class ConfigurableMessagingSettings implements MessagingSettings {
     public static final String PROPERTY_DISCOVERY_DEFAULT_RETRY_INTERVAL_MS = "joynr.discovery.defaultretryintervalms";
     public static final String PROPERTY_DISCOVERY_MINIMUM_RETRY_INTERVAL_MS = "joynr.discovery.minimumretryintervalms";
     public static final String PROPERTY_DISCOVERY_PROVIDER_DEFAULT_EXPIRY_TIME_MS = "joynr.discovery.provider.defaultexpirytimems";
+    public static final String PROPERTY_DISCOVERY_GCD_MAX_BATCH_SIZE = "joynr.discovery.gcd.maxbatchsize";
+    public static final String PROPERTY_DISCOVERY_LIBJOYNR_CACHE_MAX_SIZE = "joynr.discovery.libjoynrcache.maxsize";
 
     public static final String PROPERTY_SEND_MSG_RETRY_INTERVAL_MS = "joynr.messaging.sendmsgretryintervalms";
     public static final String PROPERTY_PARTICIPANTIDS_PERSISTENCE_FILE = "joynr.discovery.participantids_persistence_file";
@@ -60,6 +62,26 @@ public class ConfigurableMessagingSettings implements MessagingSettings {
 
     public static final String PROPERTY_GLOBAL_CAPABILITIES_DIRECTORY_URL = "joynr.messaging.gcd.url";
 
+    public static final String PROPERTY_SUBSCRIPTION_TIMER_THREADS = "joynr.dispatching.subscription.timerthreads";
+    public static final String PROPERTY_SUBSCRIPTION_TIMER_TICK_MS = "joynr.dispatching.subscription.timertickms";
+
+    public static final String PROPERTY_REPLY_CALLER_EXPIRY_TOLERANCE_MS = "joynr.dispatching.replycaller.expirytolerancems";
+    public static final String PROPERTY_IN_PROCESS_OBJECT_PASSING = "joynr.messaging.inprocessobjectpassing";
+
+    public static final String PROPERTY_TRANSPORT_EXECUTOR_THREADS = "joynr.messaging.transportexecutorthreads";
+    public static final String PROPERTY_CLEANUP_EXECUTOR_THREADS = "joynr.messaging.cleanupexecutorthreads";
+    public static final String PROPERTY_DISCOVERY_EXECUTOR_THREADS = "joynr.discovery.executorthreads";
+    public static final String PROPERTY_EXECUTOR_VIRTUAL_THREADS = "joynr.messaging.executorvirtualthreads";
+
+    public static final String PROPERTY_MULTICAST_RECEIVER_REGISTRY = "joynr.messaging.multicastreceiverregistry";
+    public static final String MULTICAST_RECEIVER_REGISTRY_TRIE = "trie";
+    public static final String MULTICAST_RECEIVER_REGISTRY_REGEX = "regex";
+
+    public static final String PROPERTY_MESSAGE_QUEUE_TYPE = "joynr.messaging.messagequeuetype";
+    public static final String MESSAGE_QUEUE_TYPE_DELAYQUEUE = "delayqueue";
+    public static final String MESSAGE_QUEUE_TYPE_SHARDED = "sharded";
+    public static final String PROPERTY_MESSAGE_QUEUE_LANES = "joynr.messaging.messagequeuelanes";
+
     private final long sendMsgRetryIntervalMs;
     private int maximumParallelSends;
 
@@ -36,6 +36,7 @@ public final class MessagingPropertyKeys {
     public static final String MQTT_TOPIC_PREFIX_UNICAST = "joynr.messaging.mqtt.topicprefix.unicast";
     public static final String MQTT_TOPIC_PREFIX_MULTICAST = "joynr.messaging.mqtt.topicprefix.multicast";
     public static final String GBID_ARRAY = "joynr.internal.messaging.gbidArray";
+    public static final String SCHEDULEDTHREADPOOL_TRANSPORT = "io.joynr.messaging.scheduledthreadpool.transport";
 
     private MessagingPropertyKeys() {
         throw new AssertionError();
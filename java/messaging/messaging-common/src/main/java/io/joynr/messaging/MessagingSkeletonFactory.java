@@ -30,7 +30,6 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
-import io.joynr.messaging.routing.MessageRouter;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
 import joynr.system.RoutingTypes.Address;
@@ -61,7 +60,7 @@ public class MessagingSkeletonFactory implements ShutdownListener {
      */
     @Inject
     public MessagingSkeletonFactory(@Named(MIDDLEWARE_MESSAGING_SKELETON_FACTORIES) Map<Class<? extends Address>, IMessagingSkeletonFactory> messagingSkeletonFactories,
-                                    @Named(MessageRouter.SCHEDULEDTHREADPOOL) ScheduledExecutorService scheduler,
+                                    @Named(MessagingPropertyKeys.SCHEDULEDTHREADPOOL_TRANSPORT) ScheduledExecutorService scheduler,
                                     ShutdownNotifier shutdownNotifier) {
         this.messagingSkeletonFactories = messagingSkeletonFactories;
         this.scheduler = scheduler;
@@ -38,7 +38,7 @@ public class MessageQueue {
     public static final String PROPERTY_MESSAGE_QUEUE_SHUTDOWN_MAX_TIMEOUT = "io.joynr.messaging.queue.shutdown.timeout";
     private static final long STARTUP_GRACE_PERIOD_MS = 1000;
 
-    private DelayQueue<DelayableImmutableMessage> delayableImmutableMessages;
+    private final DelayQueue<DelayableImmutableMessage> delayableImmutableMessages;
     private final long shutdownTimeoutMs;
 
     /**
@@ -61,17 +61,28 @@ public class MessageQueue {
         this.shutdownTimeoutMs = maxTimeoutHolder.getTimeout();
     }
 
+    /**
+     * Constructor for sub-classes which keep the queued messages in their own data structure. They have to
+     * override {@link #put(DelayableImmutableMessage)}, {@link #poll(long, TimeUnit)} and {@link #size()}.
+     *
+     * @param maxTimeoutHolder holder of the timeout for {@link #waitForQueueToDrain()}
+     */
+    protected MessageQueue(MaxTimeoutHolder maxTimeoutHolder) {
+        this.delayableImmutableMessages = null;
+        this.shutdownTimeoutMs = maxTimeoutHolder.getTimeout();
+    }
+
     /**
      * Call this method to wait for the queue to drain if it still contains any messages. The timeout is set by
      * the {@link #PROPERTY_MESSAGE_QUEUE_SHUTDOWN_MAX_TIMEOUT} property, which defaults to five seconds.
      */
     void waitForQueueToDrain() {
-        int remainingMessages = delayableImmutableMessages.size();
+        int remainingMessages = size();
         logger.info("Joynr message queue stopping. Contains {} remaining messages.", remainingMessages);
         if (remainingMessages > 0) {
             long shutdownStart = System.currentTimeMillis();
             while (System.currentTimeMillis() - shutdownStart < shutdownTimeoutMs) {
-                if (delayableImmutableMessages.size() == 0) {
+                if (size() == 0) {
                     break;
                 }
                 try {
@@ -82,7 +93,7 @@ public class MessageQueue {
                 }
             }
         }
-        remainingMessages = delayableImmutableMessages.size();
+        remainingMessages = size();
         if (remainingMessages == 0) {
             logger.info("Joynr message queue successfully emptied.");
         } else {
@@ -111,4 +122,11 @@ public class MessageQueue {
         DelayableImmutableMessage message = delayableImmutableMessages.poll(timeout, unit);
         return message;
     }
+
+    /**
+     * @return the number of queued messages including the messages whose delay has not yet expired
+     */
+    public int size() {
+        return delayableImmutableMessages.size();
+    }
 }
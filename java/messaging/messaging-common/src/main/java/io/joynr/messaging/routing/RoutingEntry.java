@@ -119,9 +119,11 @@ public class RoutingEntry {
         return true;
     }
 
-    Address address;
-    boolean isGloballyVisible;
-    long expiryDateMs;
-    boolean isSticky;
+    // the attributes are read without locking, modifications are serialized by the routing table
+    volatile Address address;
+    volatile boolean isGloballyVisible;
+    volatile long expiryDateMs;
+    volatile boolean isSticky;
+    // only accessed while the routing table modifies the entry
     long refCount;
 }
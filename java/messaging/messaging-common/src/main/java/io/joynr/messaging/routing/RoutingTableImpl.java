@@ -23,7 +23,6 @@ import static io.joynr.messaging.MessagingPropertyKeys.GBID_ARRAY;
 
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,10 +45,10 @@ public class RoutingTableImpl implements RoutingTable {
 
     private static final Logger logger = LoggerFactory.getLogger(RoutingTableImpl.class);
 
-    private ConcurrentMap<String, RoutingEntry> hashMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RoutingEntry> hashMap = new ConcurrentHashMap<>();
     private final long routingTableGracePeriodMs;
     private final Set<String> knownGbidsSet;
-    private String gcdParticipantId;
+    private volatile String gcdParticipantId;
     private final RoutingTableAddressValidator addressValidator;
 
     @Inject
@@ -97,21 +96,18 @@ public class RoutingTableImpl implements RoutingTable {
     }
 
     private Address getInternal(String participantId) {
-        synchronized (this) {
-            RoutingEntry routingEntry = hashMap.get(participantId);
-            if (routingEntry == null) {
-                logger.warn("No routing table entry found for participantId {}", participantId);
-                return null;
-            }
-            return routingEntry.getAddress();
+        RoutingEntry routingEntry = hashMap.get(participantId);
+        if (routingEntry == null) {
+            logger.warn("No routing table entry found for participantId {}", participantId);
+            return null;
         }
+        return routingEntry.getAddress();
     }
 
     private void updateRoutingEntry(final String participantId,
                                     final RoutingEntry oldRoutingEntry,
                                     final RoutingEntry newRoutingEntry) {
         mergeRoutingEntryAttributes(newRoutingEntry, oldRoutingEntry.getExpiryDateMs(), oldRoutingEntry.getIsSticky());
-        hashMap.put(participantId, newRoutingEntry);
         logger.debug("Updated routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {} from address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCount {}",
                      participantId,
                      newRoutingEntry.getAddress(),
@@ -177,70 +173,81 @@ public class RoutingTableImpl implements RoutingTable {
         } catch (ArithmeticException e) {
             expiryDateMs = Long.MAX_VALUE;
         }
-        RoutingEntry newRoutingEntry = new RoutingEntry(address, isGloballyVisible, expiryDateMs, sticky);
-
-        synchronized (this) {
-            RoutingEntry oldRoutingEntry = hashMap.putIfAbsent(participantId, newRoutingEntry);
-            final boolean routingEntryAlreadyPresent = oldRoutingEntry != null;
-
-            if (!routingEntryAlreadyPresent) {
+        final RoutingEntry newRoutingEntry = new RoutingEntry(address, isGloballyVisible, expiryDateMs, sticky);
+        // the routing entry of a participantId is only modified within compute, i.e. atomically and
+        // without blocking lookups or modifications of other participantIds
+        hashMap.compute(participantId, (key, oldRoutingEntry) -> {
+            if (oldRoutingEntry == null) {
                 logger.debug("Added routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCnt {}",
                              participantId,
                              address,
                              isGloballyVisible,
-                             expiryDateMs,
+                             newRoutingEntry.getExpiryDateMs(),
                              sticky,
                              1);
-                return;
+                return newRoutingEntry;
             }
-            oldRoutingEntry.incRefCount();
-            newRoutingEntry.setRefCount(oldRoutingEntry.getRefCount());
-            logger.debug("Increased reference count for routing entry participantId {}, address {}, new reference count: {}",
-                         participantId,
-                         oldRoutingEntry.getAddress(),
-                         oldRoutingEntry.getRefCount());
+            return mergeRoutingEntry(participantId, oldRoutingEntry, newRoutingEntry);
+        });
+    }
 
-            final boolean addressOrVisibilityOfRoutingEntryChanged = !address.equals(oldRoutingEntry.getAddress())
-                    || oldRoutingEntry.getIsGloballyVisible() != isGloballyVisible;
-
-            if (addressOrVisibilityOfRoutingEntryChanged) {
-                if (oldRoutingEntry.getIsSticky()) {
-                    logger.error("Refused to update sticky routing entry participantId {}, address {}, isGloballyVisible {}, to address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCnt {}",
-                                 participantId,
-                                 oldRoutingEntry.getAddress(),
-                                 oldRoutingEntry.getIsGloballyVisible(),
-                                 address,
-                                 isGloballyVisible,
-                                 expiryDateMs,
-                                 sticky,
-                                 oldRoutingEntry.getRefCount());
-                } else if (addressValidator.allowUpdate(oldRoutingEntry, newRoutingEntry)) {
-                    updateRoutingEntry(participantId, oldRoutingEntry, newRoutingEntry);
-                } else {
-                    logger.warn("Refused to update routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, to address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCnt {}",
-                                participantId,
-                                oldRoutingEntry.getAddress(),
-                                oldRoutingEntry.getIsGloballyVisible(),
-                                oldRoutingEntry.getExpiryDateMs(),
-                                oldRoutingEntry.getIsSticky(),
-                                address,
-                                isGloballyVisible,
-                                expiryDateMs,
-                                sticky,
-                                oldRoutingEntry.getRefCount());
-                }
-            } else {
-                // only expiryDate or sticky flag of routing entry changed
-                logger.trace("Updated routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCnt {} . Updated expiryDate and sticky-flag",
+    private RoutingEntry mergeRoutingEntry(final String participantId,
+                                           final RoutingEntry oldRoutingEntry,
+                                           final RoutingEntry newRoutingEntry) {
+        final Address address = newRoutingEntry.getAddress();
+        final boolean isGloballyVisible = newRoutingEntry.getIsGloballyVisible();
+        final long expiryDateMs = newRoutingEntry.getExpiryDateMs();
+        final boolean sticky = newRoutingEntry.getIsSticky();
+
+        oldRoutingEntry.incRefCount();
+        newRoutingEntry.setRefCount(oldRoutingEntry.getRefCount());
+        logger.debug("Increased reference count for routing entry participantId {}, address {}, new reference count: {}",
+                     participantId,
+                     oldRoutingEntry.getAddress(),
+                     oldRoutingEntry.getRefCount());
+
+        final boolean addressOrVisibilityOfRoutingEntryChanged = !address.equals(oldRoutingEntry.getAddress())
+                || oldRoutingEntry.getIsGloballyVisible() != isGloballyVisible;
+
+        if (addressOrVisibilityOfRoutingEntryChanged) {
+            if (oldRoutingEntry.getIsSticky()) {
+                logger.error("Refused to update sticky routing entry participantId {}, address {}, isGloballyVisible {}, to address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCnt {}",
                              participantId,
+                             oldRoutingEntry.getAddress(),
+                             oldRoutingEntry.getIsGloballyVisible(),
                              address,
                              isGloballyVisible,
                              expiryDateMs,
                              sticky,
                              oldRoutingEntry.getRefCount());
-                mergeRoutingEntryAttributes(oldRoutingEntry, expiryDateMs, sticky);
+            } else if (addressValidator.allowUpdate(oldRoutingEntry, newRoutingEntry)) {
+                updateRoutingEntry(participantId, oldRoutingEntry, newRoutingEntry);
+                return newRoutingEntry;
+            } else {
+                logger.warn("Refused to update routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, to address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCnt {}",
+                            participantId,
+                            oldRoutingEntry.getAddress(),
+                            oldRoutingEntry.getIsGloballyVisible(),
+                            oldRoutingEntry.getExpiryDateMs(),
+                            oldRoutingEntry.getIsSticky(),
+                            address,
+                            isGloballyVisible,
+                            expiryDateMs,
+                            sticky,
+                            oldRoutingEntry.getRefCount());
             }
+        } else {
+            // only expiryDate or sticky flag of routing entry changed
+            logger.trace("Updated routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCnt {} . Updated expiryDate and sticky-flag",
+                         participantId,
+                         address,
+                         isGloballyVisible,
+                         expiryDateMs,
+                         sticky,
+                         oldRoutingEntry.getRefCount());
+            mergeRoutingEntryAttributes(oldRoutingEntry, expiryDateMs, sticky);
         }
+        return oldRoutingEntry;
     }
 
     private void mergeRoutingEntryAttributes(final RoutingEntry entry,
@@ -260,131 +267,127 @@ public class RoutingTableImpl implements RoutingTable {
 
     @Override
     public boolean containsKey(String participantId) {
-        synchronized (this) {
-            boolean containsKey = hashMap.containsKey(participantId);
-            logger.trace("Checking for participant: {} success: {}", participantId, containsKey);
-            return containsKey;
-        }
+        boolean containsKey = hashMap.containsKey(participantId);
+        logger.trace("Checking for participant: {} success: {}", participantId, containsKey);
+        return containsKey;
     }
 
     @Override
     public boolean getIsGloballyVisible(String participantId) {
-        synchronized (this) {
-            RoutingEntry routingEntry = hashMap.get(participantId);
-            if (routingEntry == null) {
-                throw new JoynrRuntimeException("participantId doesn't exist in the routing table");
-            }
-            return routingEntry.getIsGloballyVisible();
+        RoutingEntry routingEntry = hashMap.get(participantId);
+        if (routingEntry == null) {
+            throw new JoynrRuntimeException("participantId doesn't exist in the routing table");
         }
+        return routingEntry.getIsGloballyVisible();
     }
 
     @Override
     public long getExpiryDateMs(String participantId) {
-        synchronized (this) {
-            RoutingEntry routingEntry = hashMap.get(participantId);
-            if (routingEntry == null) {
-                throw new JoynrRuntimeException("participantId doesn't exist in the routing table");
-            }
-            return routingEntry.getExpiryDateMs();
+        RoutingEntry routingEntry = hashMap.get(participantId);
+        if (routingEntry == null) {
+            throw new JoynrRuntimeException("participantId doesn't exist in the routing table");
         }
+        return routingEntry.getExpiryDateMs();
     }
 
     @Override
     public boolean getIsSticky(String participantId) {
-        synchronized (this) {
-            RoutingEntry routingEntry = hashMap.get(participantId);
-            if (routingEntry == null) {
-                throw new JoynrRuntimeException("participantId doesn't exist in the routing table");
-            }
-            return routingEntry.getIsSticky();
+        RoutingEntry routingEntry = hashMap.get(participantId);
+        if (routingEntry == null) {
+            throw new JoynrRuntimeException("participantId doesn't exist in the routing table");
         }
+        return routingEntry.getIsSticky();
     }
 
     @Override
     public void remove(String participantId) {
-        synchronized (this) {
-            RoutingEntry routingEntry = hashMap.get(participantId);
-            if (routingEntry != null) {
-                if (routingEntry.isSticky) {
-                    logger.warn("Cannot remove sticky routing entry (participantId={}, address={}, isGloballyVisible={}, expiryDateMs={}, sticky={}, refCnt={})",
-                                participantId,
-                                routingEntry.getAddress(),
-                                routingEntry.getIsGloballyVisible(),
-                                routingEntry.getExpiryDateMs(),
-                                routingEntry.getIsSticky(),
-                                routingEntry.getRefCount());
-                } else {
-                    routingEntry.decRefCount();
-                    logger.debug("Decreased reference count for routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, new reference count: {}",
-                                 participantId,
-                                 routingEntry.getAddress(),
-                                 routingEntry.getIsGloballyVisible(),
-                                 routingEntry.getExpiryDateMs(),
-                                 routingEntry.getIsSticky(),
-                                 routingEntry.getRefCount());
-                    if (routingEntry.getRefCount() > 0) {
-                        return;
-                    }
-                    hashMap.remove(participantId);
-                    logger.debug("Removed routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}",
-                                 participantId,
-                                 routingEntry.getAddress(),
-                                 routingEntry.getIsGloballyVisible(),
-                                 routingEntry.getExpiryDateMs(),
-                                 routingEntry.getIsSticky());
-                }
+        hashMap.computeIfPresent(participantId, (key, routingEntry) -> {
+            if (routingEntry.getIsSticky()) {
+                logger.warn("Cannot remove sticky routing entry (participantId={}, address={}, isGloballyVisible={}, expiryDateMs={}, sticky={}, refCnt={})",
+                            participantId,
+                            routingEntry.getAddress(),
+                            routingEntry.getIsGloballyVisible(),
+                            routingEntry.getExpiryDateMs(),
+                            routingEntry.getIsSticky(),
+                            routingEntry.getRefCount());
+                return routingEntry;
             }
-        }
+            routingEntry.decRefCount();
+            logger.debug("Decreased reference count for routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, new reference count: {}",
+                         participantId,
+                         routingEntry.getAddress(),
+                         routingEntry.getIsGloballyVisible(),
+                         routingEntry.getExpiryDateMs(),
+                         routingEntry.getIsSticky(),
+                         routingEntry.getRefCount());
+            if (routingEntry.getRefCount() > 0) {
+                return routingEntry;
+            }
+            logger.debug("Removed routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}",
+                         participantId,
+                         routingEntry.getAddress(),
+                         routingEntry.getIsGloballyVisible(),
+                         routingEntry.getExpiryDateMs(),
+                         routingEntry.getIsSticky());
+            return null;
+        });
     }
 
     @Override
     public void apply(AddressOperation addressOperation) {
-        synchronized (this) {
-            if (addressOperation == null) {
-                throw new IllegalArgumentException();
-            }
-            for (RoutingEntry routingEntry : hashMap.values()) {
-                addressOperation.perform(routingEntry.getAddress());
-            }
+        if (addressOperation == null) {
+            throw new IllegalArgumentException();
+        }
+        for (RoutingEntry routingEntry : hashMap.values()) {
+            addressOperation.perform(routingEntry.getAddress());
         }
     }
 
+    /**
+     * Removes all expired routing entries which are not sticky. The table is scanned without blocking
+     * lookups or modifications, the expiry of a candidate is checked again atomically before it is removed.
+     */
     public void purge() {
-        synchronized (this) {
-            Iterator<Entry<String, RoutingEntry>> it = hashMap.entrySet().iterator();
-            long currentTimeMillis = System.currentTimeMillis();
-            while (it.hasNext()) {
-                Entry<String, RoutingEntry> e = it.next();
-                logger.trace("Check: participantId {}, sticky {}, expiryDateMs {}, refCnt {}",
-                             e.getKey(),
-                             e.getValue().getIsSticky(),
-                             e.getValue().getExpiryDateMs(),
-                             e.getValue().getRefCount());
-
-                if (!e.getValue().getIsSticky() && e.getValue().expiryDateMs < currentTimeMillis) {
-                    it.remove();
-                    logger.debug("Purged routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCnt {}",
-                                 e.getKey(),
-                                 e.getValue().getAddress(),
-                                 e.getValue().getIsGloballyVisible(),
-                                 e.getValue().getExpiryDateMs(),
-                                 e.getValue().getIsSticky(),
-                                 e.getValue().getRefCount());
-                }
+        long currentTimeMillis = System.currentTimeMillis();
+        for (Entry<String, RoutingEntry> e : hashMap.entrySet()) {
+            logger.trace("Check: participantId {}, sticky {}, expiryDateMs {}, refCnt {}",
+                         e.getKey(),
+                         e.getValue().getIsSticky(),
+                         e.getValue().getExpiryDateMs(),
+                         e.getValue().getRefCount());
+            if (!isPurgeable(e.getValue(), currentTimeMillis)) {
+                continue;
             }
+            hashMap.computeIfPresent(e.getKey(), (participantId, routingEntry) -> {
+                if (!isPurgeable(routingEntry, currentTimeMillis)) {
+                    return routingEntry;
+                }
+                logger.debug("Purged routing entry participantId {}, address {}, isGloballyVisible {}, expiryDateMs {}, sticky {}, refCnt {}",
+                             participantId,
+                             routingEntry.getAddress(),
+                             routingEntry.getIsGloballyVisible(),
+                             routingEntry.getExpiryDateMs(),
+                             routingEntry.getIsSticky(),
+                             routingEntry.getRefCount());
+                return null;
+            });
         }
     }
 
+    private static boolean isPurgeable(RoutingEntry routingEntry, long currentTimeMillis) {
+        return !routingEntry.getIsSticky() && routingEntry.getExpiryDateMs() < currentTimeMillis;
+    }
+
     public void incrementReferenceCount(String participantId) {
-        synchronized (this) {
-            RoutingEntry routingEntry = hashMap.get(participantId);
-            if (routingEntry == null) {
-                throw new JoynrIllegalStateException("No routing entry with participantId " + participantId + "found!");
-            }
-            routingEntry.incRefCount();
+        RoutingEntry routingEntry = hashMap.computeIfPresent(participantId, (key, entry) -> {
+            entry.incRefCount();
             logger.debug("Increased reference count for routing entry participantId {}, new reference count: {}",
                          participantId,
-                         routingEntry.getRefCount());
+                         entry.getRefCount());
+            return entry;
+        });
+        if (routingEntry == null) {
+            throw new JoynrIllegalStateException("No routing entry with participantId " + participantId + "found!");
         }
     }
 }
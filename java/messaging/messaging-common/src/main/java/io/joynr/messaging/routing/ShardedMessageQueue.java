@@ -0,0 +1,185 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.routing;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.runtime.HashedWheelTimer;
+
+/**
+ * Message queue which distributes the messages to a fixed number of lanes by the hash of their recipient.
+ * <p>
+ * Lanes with pending messages are handed to the polling workers in round-robin order and a worker takes
+ * only one message from a lane before the lane is re-scheduled. A recipient flooded with messages therefore
+ * only delays the messages of the recipients sharing its lane, but not the messages of all other recipients.
+ * <p>
+ * Delayed messages (e.g. retries after a failed transmission) are not kept in the lanes but scheduled on a
+ * separate {@link HashedWheelTimer}; they are added to the tail of their lane when their delay has expired.
+ * Enqueueing and dequeueing is lock-free apart from the blocking hand-over of the ready lanes to the workers.
+ */
+public class ShardedMessageQueue extends MessageQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedMessageQueue.class);
+
+    private final Lane[] lanes;
+    private final BlockingQueue<Lane> readyLanes = new LinkedBlockingQueue<>();
+    private final AtomicInteger delayedMessageCount = new AtomicInteger(0);
+    private final HashedWheelTimer retryTimer;
+
+    private static final class Lane {
+        private final Queue<DelayableImmutableMessage> messages = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger(0);
+        // true while the lane is contained in readyLanes or owned by a polling worker
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    }
+
+    /**
+     * @param maxTimeoutHolder holder of the timeout for {@link #waitForQueueToDrain()}
+     * @param numberOfLanes number of lanes the messages are distributed to
+     * @param retryTimer timer used to delay messages until they are due
+     */
+    public ShardedMessageQueue(MaxTimeoutHolder maxTimeoutHolder, int numberOfLanes, HashedWheelTimer retryTimer) {
+        super(maxTimeoutHolder);
+        if (numberOfLanes <= 0) {
+            throw new IllegalArgumentException("numberOfLanes must be greater than 0: " + numberOfLanes);
+        }
+        this.lanes = new Lane[numberOfLanes];
+        for (int i = 0; i < numberOfLanes; i++) {
+            lanes[i] = new Lane();
+        }
+        this.retryTimer = retryTimer;
+    }
+
+    @Override
+    void waitForQueueToDrain() {
+        logger.info("Joynr message queue stopping. Lane depths: {}, delayed messages: {}.",
+                    Arrays.toString(getLaneDepths()),
+                    delayedMessageCount.get());
+        super.waitForQueueToDrain();
+    }
+
+    @Override
+    public void put(DelayableImmutableMessage delayableImmutableMessage) {
+        long delayMs = delayableImmutableMessage.getDelay(TimeUnit.MILLISECONDS);
+        if (delayMs <= 0) {
+            enqueue(delayableImmutableMessage);
+            return;
+        }
+        delayedMessageCount.incrementAndGet();
+        HashedWheelTimer.Timeout timeout = retryTimer.newTimeout(() -> {
+            delayedMessageCount.decrementAndGet();
+            enqueue(delayableImmutableMessage);
+        }, delayMs);
+        if (timeout.isCancelled()) {
+            delayedMessageCount.decrementAndGet();
+            logger.warn("Retry timer already shut down, dropping delayed message {}",
+                        delayableImmutableMessage.getMessage().getTrackingInfo());
+        }
+    }
+
+    @Override
+    public DelayableImmutableMessage poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long remainingNanos = unit.toNanos(timeout);
+        while (true) {
+            Lane lane = readyLanes.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (lane == null) {
+                return null;
+            }
+            DelayableImmutableMessage message = lane.messages.poll();
+            if (message != null) {
+                lane.depth.decrementAndGet();
+            }
+            reschedule(lane);
+            if (message != null) {
+                return message;
+            }
+            remainingNanos = deadline - System.nanoTime();
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = delayedMessageCount.get();
+        for (Lane lane : lanes) {
+            size += lane.depth.get();
+        }
+        return size;
+    }
+
+    /**
+     * @return the number of messages currently waiting in each lane, not including delayed messages
+     */
+    public int[] getLaneDepths() {
+        int[] laneDepths = new int[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            laneDepths[i] = lanes[i].depth.get();
+        }
+        return laneDepths;
+    }
+
+    /**
+     * @return the number of messages waiting for their delay to expire
+     */
+    public int getDelayedMessageCount() {
+        return delayedMessageCount.get();
+    }
+
+    private void enqueue(DelayableImmutableMessage delayableImmutableMessage) {
+        Lane lane = lanes[Math.floorMod(getLaneKey(delayableImmutableMessage).hashCode(), lanes.length)];
+        lane.messages.add(delayableImmutableMessage);
+        lane.depth.incrementAndGet();
+        if (lane.scheduled.compareAndSet(false, true)) {
+            readyLanes.add(lane);
+        }
+    }
+
+    private void reschedule(Lane lane) {
+        if (!lane.messages.isEmpty()) {
+            // move the lane to the tail so that the other lanes are served first
+            readyLanes.add(lane);
+            return;
+        }
+        lane.scheduled.set(false);
+        // a message might have been added after the emptiness check without scheduling the lane
+        if (!lane.messages.isEmpty() && lane.scheduled.compareAndSet(false, true)) {
+            readyLanes.add(lane);
+        }
+    }
+
+    private static String getLaneKey(DelayableImmutableMessage delayableImmutableMessage) {
+        Set<String> recipients = delayableImmutableMessage.getRecipients();
+        if (recipients != null && !recipients.isEmpty()) {
+            return recipients.iterator().next();
+        }
+        String recipient = delayableImmutableMessage.getMessage().getRecipient();
+        return recipient == null ? "" : recipient;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.joynr.messaging.util.MulticastWildcardRegexFactory;
+
+/**
+ * Multicast receiver registry which indexes the registered multicast IDs in a trie of partitions
+ * (the '/' separated segments of a multicast ID).
+ * <p>
+ * The wildcards are resolved natively: a '+' segment is stored as a dedicated child matching any single
+ * non-empty segment, a trailing '*' marks the receivers of a node as interested in the node itself and all
+ * of its descendants ('*' as only character matches every multicast ID). A lookup therefore only visits
+ * the nodes along the path of the multicast ID and its matching '+' branches instead of evaluating a regex
+ * per registered multicast ID.
+ * <p>
+ * Lookups are lock-free: the children of a node are kept in concurrent maps and the receiver sets are
+ * replaced (copy-on-write) instead of being modified in place. Modifications are serialized.
+ */
+@Singleton
+public class TrieMulticastReceiverRegistry implements MulticastReceiverRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrieMulticastReceiverRegistry.class);
+
+    private static final char SEPARATOR = '/';
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "*";
+
+    private final MulticastWildcardRegexFactory multicastWildcardRegexFactory;
+    private final Node root = new Node(null, null);
+    private final Object modificationLock = new Object();
+
+    private static final class Node {
+        private final Node parent;
+        private final String segment;
+        private final ConcurrentHashMap<String, Node> children = new ConcurrentHashMap<>();
+        private volatile Node singleLevelWildcardChild;
+        // receivers of multicast IDs ending at this node
+        private volatile Set<String> receivers = Collections.emptySet();
+        // receivers of multicast IDs ending at this node followed by the multi-level wildcard
+        private volatile Set<String> multiLevelWildcardReceivers = Collections.emptySet();
+
+        Node(Node parent, String segment) {
+            this.parent = parent;
+            this.segment = segment;
+        }
+
+        Node getChild(String segment) {
+            return SINGLE_LEVEL_WILDCARD.equals(segment) ? singleLevelWildcardChild : children.get(segment);
+        }
+
+        Node getOrCreateChild(String segment) {
+            Node child = getChild(segment);
+            if (child == null) {
+                child = new Node(this, segment);
+                if (SINGLE_LEVEL_WILDCARD.equals(segment)) {
+                    singleLevelWildcardChild = child;
+                } else {
+                    children.put(segment, child);
+                }
+            }
+            return child;
+        }
+
+        void removeChild(Node child) {
+            if (child == singleLevelWildcardChild) {
+                singleLevelWildcardChild = null;
+            } else {
+                children.remove(child.segment, child);
+            }
+        }
+
+        boolean isEmpty() {
+            return receivers.isEmpty() && multiLevelWildcardReceivers.isEmpty() && children.isEmpty()
+                    && singleLevelWildcardChild == null;
+        }
+    }
+
+    @Inject
+    public TrieMulticastReceiverRegistry(MulticastWildcardRegexFactory multicastWildcardRegexFactory) {
+        this.multicastWildcardRegexFactory = multicastWildcardRegexFactory;
+    }
+
+    @Override
+    public void registerMulticastReceiver(String multicastId, String participantId) {
+        multicastWildcardRegexFactory.verifyMulticastIdValid(multicastId);
+        List<String> segments = split(multicastId);
+        boolean isMultiLevelWildcard = isMultiLevelWildcard(segments);
+        int depth = isMultiLevelWildcard ? segments.size() - 1 : segments.size();
+        synchronized (modificationLock) {
+            Node node = root;
+            for (int i = 0; i < depth; i++) {
+                node = node.getOrCreateChild(segments.get(i));
+            }
+            if (isMultiLevelWildcard) {
+                node.multiLevelWildcardReceivers = copyAndAdd(node.multiLevelWildcardReceivers, participantId);
+            } else {
+                node.receivers = copyAndAdd(node.receivers, participantId);
+            }
+        }
+        logger.trace("Registered participantId {} for multicast ID {}", participantId, multicastId);
+    }
+
+    @Override
+    public void unregisterMulticastReceiver(String multicastId, String participantId) {
+        List<String> segments = split(multicastId);
+        boolean isMultiLevelWildcard = isMultiLevelWildcard(segments);
+        int depth = isMultiLevelWildcard ? segments.size() - 1 : segments.size();
+        synchronized (modificationLock) {
+            Node node = root;
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.getChild(segments.get(i));
+            }
+            if (node == null) {
+                return;
+            }
+            if (isMultiLevelWildcard) {
+                node.multiLevelWildcardReceivers = copyAndRemove(node.multiLevelWildcardReceivers, participantId);
+            } else {
+                node.receivers = copyAndRemove(node.receivers, participantId);
+            }
+            // prune nodes which are no longer needed
+            while (node != root && node.isEmpty()) {
+                node.parent.removeChild(node);
+                node = node.parent;
+            }
+        }
+    }
+
+    @Override
+    public Set<String> getReceivers(String multicastId) {
+        List<String> segments = split(multicastId);
+        Set<String> result = new HashSet<>();
+        collectReceivers(root, segments, 0, result);
+        return result;
+    }
+
+    @Override
+    public Map<String, Set<String>> getReceivers() {
+        Map<String, Set<String>> result = new HashMap<>();
+        synchronized (modificationLock) {
+            collectAllReceivers(root, "", result);
+        }
+        return result;
+    }
+
+    private void collectReceivers(Node node, List<String> segments, int index, Set<String> result) {
+        result.addAll(node.multiLevelWildcardReceivers);
+        if (index == segments.size()) {
+            result.addAll(node.receivers);
+            return;
+        }
+        String segment = segments.get(index);
+        Node child = node.children.get(segment);
+        if (child != null) {
+            collectReceivers(child, segments, index + 1, result);
+        }
+        Node singleLevelWildcardChild = node.singleLevelWildcardChild;
+        if (singleLevelWildcardChild != null && !segment.isEmpty()) {
+            collectReceivers(singleLevelWildcardChild, segments, index + 1, result);
+        }
+    }
+
+    private void collectAllReceivers(Node node, String prefix, Map<String, Set<String>> result) {
+        if (!node.receivers.isEmpty()) {
+            result.put(prefix, node.receivers);
+        }
+        if (!node.multiLevelWildcardReceivers.isEmpty()) {
+            result.put(prefix.isEmpty() ? MULTI_LEVEL_WILDCARD : prefix + SEPARATOR + MULTI_LEVEL_WILDCARD,
+                       node.multiLevelWildcardReceivers);
+        }
+        List<Node> children = new ArrayList<>(node.children.values());
+        if (node.singleLevelWildcardChild != null) {
+            children.add(node.singleLevelWildcardChild);
+        }
+        for (Node child : children) {
+            collectAllReceivers(child, node == root ? child.segment : prefix + SEPARATOR + child.segment, result);
+        }
+    }
+
+    private static boolean isMultiLevelWildcard(List<String> segments) {
+        return MULTI_LEVEL_WILDCARD.equals(segments.get(segments.size() - 1));
+    }
+
+    private static List<String> split(String multicastId) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = multicastId.indexOf(SEPARATOR, start)) >= 0) {
+            segments.add(multicastId.substring(start, end));
+            start = end + 1;
+        }
+        segments.add(multicastId.substring(start));
+        return segments;
+    }
+
+    private static Set<String> copyAndAdd(Set<String> participantIds, String participantId) {
+        if (participantIds.contains(participantId)) {
+            return participantIds;
+        }
+        Set<String> copy = new HashSet<>(participantIds);
+        copy.add(participantId);
+        return Collections.unmodifiableSet(copy);
+    }
+
+    private static Set<String> copyAndRemove(Set<String> participantIds, String participantId) {
+        if (!participantIds.contains(participantId)) {
+            return participantIds;
+        }
+        if (participantIds.size() == 1) {
+            return Collections.emptySet();
+        }
+        Set<String> copy = new HashSet<>(participantIds);
+        copy.remove(participantId);
+        return Collections.unmodifiableSet(copy);
+    }
+}
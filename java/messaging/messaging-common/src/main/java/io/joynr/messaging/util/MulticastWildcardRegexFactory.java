@@ -40,7 +40,14 @@ public class MulticastWildcardRegexFactory {
         return Pattern.compile(patternString);
     }
 
-    private void verifyMulticastIdValid(String multicastId) {
+    /**
+     * Checks that the given multicast ID only uses the wildcards '+' (as complete partition) and '*' (as
+     * only character or as last partition).
+     *
+     * @param multicastId the multicast ID to be checked
+     * @throws JoynrIllegalStateException if the multicast ID is invalid
+     */
+    public void verifyMulticastIdValid(String multicastId) {
         boolean invalid = multicastId.matches(".*.[^/]\\+.*") || multicastId.matches(".*\\+[^/]+.*")
                 || (!"*".equals(multicastId) && multicastId.contains("*") && !multicastId.matches(".*/\\*$"));
         if (invalid) {
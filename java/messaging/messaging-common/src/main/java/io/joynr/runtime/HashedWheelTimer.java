@@ -0,0 +1,333 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.util.JoynrThreadFactory;
+
+/**
+ * Timer which keeps scheduled tasks in a hashed wheel of buckets instead of a heap.
+ * <p>
+ * Scheduling and cancelling a task is O(1): new and cancelled timeouts are handed to the single ticker
+ * thread through lock-free queues, the ticker thread is the only one touching the buckets. Expired tasks
+ * are executed on a fixed number of worker threads, so the ticker thread is never blocked by a task.
+ * <p>
+ * The precision of the timer is limited by the tick duration: a task is executed at the earliest at its
+ * deadline and at the latest one tick after its deadline (provided that a worker thread is available).
+ */
+public class HashedWheelTimer {
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+    private final long tickDurationNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduledTimeoutCount = new AtomicInteger(0);
+    private final ExecutorService taskExecutor;
+    private final Thread tickerThread;
+    private volatile boolean running = true;
+    // only accessed by the ticker thread
+    private long tick;
+
+    /**
+     * @param name name used as prefix for the ticker and worker threads
+     * @param tickDurationMs duration of one tick of the wheel in milliseconds
+     * @param ticksPerWheel number of buckets of the wheel, will be rounded up to the next power of two
+     * @param workerThreads number of threads executing expired tasks
+     */
+    public HashedWheelTimer(String name, long tickDurationMs, int ticksPerWheel, int workerThreads) {
+        if (tickDurationMs <= 0) {
+            throw new IllegalArgumentException("tickDurationMs must be greater than 0: " + tickDurationMs);
+        }
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("ticksPerWheel must be greater than 0: " + ticksPerWheel);
+        }
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("workerThreads must be greater than 0: " + workerThreads);
+        }
+        this.tickDurationNanos = TimeUnit.MILLISECONDS.toNanos(tickDurationMs);
+        int normalizedTicksPerWheel = 1;
+        while (normalizedTicksPerWheel < ticksPerWheel) {
+            normalizedTicksPerWheel <<= 1;
+        }
+        this.wheel = new Bucket[normalizedTicksPerWheel];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.taskExecutor = Executors.newFixedThreadPool(workerThreads, new JoynrThreadFactory(name, true));
+        this.startTime = System.nanoTime();
+        this.tickerThread = new JoynrThreadFactory(name + "-ticker", true).newThread(this::runTicker);
+        this.tickerThread.start();
+    }
+
+    /**
+     * Schedules the given task for one-time execution after the given delay.
+     *
+     * @param task the task to be executed
+     * @param delayMs the delay in milliseconds, negative values are treated like 0
+     * @return handle which allows to cancel the execution of the task
+     */
+    public Timeout newTimeout(Runnable task, long delayMs) {
+        if (task == null) {
+            throw new IllegalArgumentException("task must not be null");
+        }
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMs));
+        long deadline = System.nanoTime() - startTime + delayNanos;
+        if (delayNanos > 0 && deadline < 0) {
+            // overflow
+            deadline = Long.MAX_VALUE;
+        }
+        Timeout timeout = new Timeout(this, task, deadline);
+        if (!running) {
+            logger.debug("Timer already shut down, task will not be executed.");
+            timeout.state = Timeout.ST_CANCELLED;
+            return timeout;
+        }
+        scheduledTimeoutCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return the number of scheduled tasks which have neither been executed nor cancelled yet
+     */
+    public int getScheduledTimeoutCount() {
+        return scheduledTimeoutCount.get();
+    }
+
+    /**
+     * Stops the ticker thread and the worker threads. Tasks which have not yet been executed are dropped.
+     */
+    public void shutdown() {
+        running = false;
+        tickerThread.interrupt();
+        taskExecutor.shutdown();
+        pendingTimeouts.clear();
+        cancelledTimeouts.clear();
+    }
+
+    private void runTicker() {
+        while (running) {
+            long currentDeadline = waitForNextTick();
+            if (currentDeadline < 0) {
+                continue;
+            }
+            processCancelledTimeouts();
+            transferPendingTimeoutsToBuckets();
+            wheel[(int) (tick & mask)].expireTimeouts(currentDeadline);
+            tick++;
+        }
+        logger.trace("Ticker thread stopped.");
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickDurationNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepTimeMs = TimeUnit.NANOSECONDS.toMillis(deadline - currentTime + 999999);
+            if (sleepTimeMs <= 0) {
+                return currentTime;
+            }
+            try {
+                Thread.sleep(sleepTimeMs);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPendingTimeoutsToBuckets() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.state == Timeout.ST_CANCELLED) {
+                continue;
+            }
+            long calculatedTick = timeout.deadline / tickDurationNanos;
+            timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+            // deadlines in the past are executed with the current tick
+            long ticks = Math.max(calculatedTick, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void execute(Timeout timeout) {
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    timeout.task.run();
+                } catch (Exception e) {
+                    logger.error("Error executing timer task:", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Timer task rejected, timer already shut down.");
+        }
+    }
+
+    /**
+     * Handle of a task scheduled with {@link HashedWheelTimer#newTimeout(Runnable, long)}.
+     */
+    public static final class Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Timeout.class,
+                                                                                                                     "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // only accessed by the ticker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the execution of the task if it has not been executed yet.
+         *
+         * @return true if the task has been cancelled, false if it has already been executed or cancelled
+         */
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.scheduledTimeoutCount.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timer.scheduledTimeoutCount.decrementAndGet();
+            timer.execute(this);
+        }
+    }
+
+    /**
+     * Doubly linked list of timeouts, only accessed by the ticker thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expireTimeouts(long currentDeadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= currentDeadline) {
+                        timeout.expire();
+                    } else {
+                        // deadline not yet reached within the current tick, should not happen
+                        timeout.remainingRounds = 0;
+                        timeout.timer.pendingTimeouts.add(timeout);
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
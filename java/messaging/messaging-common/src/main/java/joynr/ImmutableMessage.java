@@ -20,7 +20,9 @@ package joynr;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,6 +40,8 @@ import io.joynr.exceptions.JoynrIllegalStateException;
 import io.joynr.smrf.EncodingException;
 import io.joynr.smrf.MessageDeserializer;
 import io.joynr.smrf.MessageDeserializerImpl;
+import io.joynr.smrf.MessageSerializer;
+import io.joynr.smrf.MessageSerializerImpl;
 import io.joynr.smrf.UnsuppportedVersionException;
 import io.joynr.util.ObjectMapper;
 
@@ -47,6 +51,10 @@ import io.joynr.util.ObjectMapper;
  * {@link MutableMessage} objects will be converted to ImmutableMessage objects before they
  * are handed over to a sub-class of {@link io.joynr.messaging.routing.MessageRouter}.
  * It's not possible to modify a immutable message any more because the content may be signed.
+ * <p>
+ * The headers are parsed only once on first access and cached afterwards. Messages created via
+ * {@link #wrap(byte[])} share the serialized message with the creator instead of copying it, the
+ * serialized message can be accessed without copying via {@link #getSerializedMessageAsByteBuffer()}.
  */
 public class ImmutableMessage extends Message {
 
@@ -61,6 +69,13 @@ public class ImmutableMessage extends Message {
 
     private Map<String, String> extraCustomHeaders = new HashMap<String, String>();
 
+    // parsed on first access, immutable afterwards
+    private transient Map<String, String> headers;
+    private transient Map<String, String> customHeaders;
+    private transient Map<String, String> prefixedCustomHeaders;
+    // payload object of messages which are passed within the JVM, see MutableMessage#setInProcessPayload
+    private transient Object inProcessPayload;
+
     public void setPrefixedExtraCustomHeaders(Map<String, String> prefixedCustomHeaders) {
         extraCustomHeaders = stripCustomHeadersPrefix(prefixedCustomHeaders);
     }
@@ -81,15 +96,44 @@ public class ImmutableMessage extends Message {
     }
 
     public ImmutableMessage(byte[] serializedMessage) throws EncodingException, UnsuppportedVersionException {
-        this.serializedMessage = serializedMessage.clone();
+        this(serializedMessage, true);
+    }
+
+    private ImmutableMessage(byte[] serializedMessage,
+                             boolean copySerializedMessage) throws EncodingException, UnsuppportedVersionException {
+        this.serializedMessage = copySerializedMessage ? serializedMessage.clone() : serializedMessage;
         messageDeserializer = new MessageDeserializerImpl(this.serializedMessage);
     }
 
+    /**
+     * Creates an ImmutableMessage which uses the given array as backing storage without copying it.
+     * The caller hands over the ownership of the array and must not modify it afterwards.
+     *
+     * @param serializedMessage the serialized SMRF message, e.g. freshly received from a transport
+     * @return the ImmutableMessage backed by serializedMessage
+     * @throws EncodingException if the message cannot be deserialized
+     * @throws UnsuppportedVersionException if the SMRF version of the message is not supported
+     */
+    public static ImmutableMessage wrap(byte[] serializedMessage) throws EncodingException,
+                                                                  UnsuppportedVersionException {
+        return new ImmutableMessage(serializedMessage, false);
+    }
+
     @JsonIgnore
     public byte[] getSerializedMessage() {
         return serializedMessage.clone();
     }
 
+    /**
+     * Provides access to the serialized message without copying it.
+     *
+     * @return a read-only view of the serialized message, positioned at its start
+     */
+    @JsonIgnore
+    public ByteBuffer getSerializedMessageAsByteBuffer() {
+        return ByteBuffer.wrap(serializedMessage).asReadOnlyBuffer();
+    }
+
     public long getTtlMs() {
         return messageDeserializer.getTtlMs();
     }
@@ -126,19 +170,32 @@ public class ImmutableMessage extends Message {
         return messageDeserializer.getUnencryptedBody();
     }
 
+    /**
+     * @return all headers of the message, the returned map must not be modified
+     */
     public Map<String, String> getHeaders() {
-        return messageDeserializer.getHeaders();
+        Map<String, String> result = headers;
+        if (result == null) {
+            result = Collections.unmodifiableMap(messageDeserializer.getHeaders());
+            headers = result;
+        }
+        return result;
     }
 
     public Map<String, String> getCustomHeaders() {
-        return stripCustomHeadersPrefix(messageDeserializer.getHeaders());
+        Map<String, String> result = customHeaders;
+        if (result == null) {
+            result = Collections.unmodifiableMap(stripCustomHeadersPrefix(getHeaders()));
+            customHeaders = result;
+        }
+        return new HashMap<>(result);
     }
 
     private Map<String, String> stripCustomHeadersPrefix(Map<String, String> prefixedCustomHeaders) {
         Map<String, String> customHeaders = new HashMap<>();
         for (Map.Entry<String, String> entry : prefixedCustomHeaders.entrySet()) {
             if (entry.getKey().startsWith(Message.CUSTOM_HEADER_PREFIX)) {
-                String key = entry.getKey().replaceFirst("^" + Message.CUSTOM_HEADER_PREFIX, "");
+                String key = entry.getKey().substring(Message.CUSTOM_HEADER_PREFIX.length());
                 customHeaders.put(key, entry.getValue());
             }
         }
@@ -146,13 +203,64 @@ public class ImmutableMessage extends Message {
     }
 
     public Map<String, String> getPrefixedCustomHeaders() {
-        Map<String, String> prefixedCustomHeaders = new HashMap<>();
-        for (Map.Entry<String, String> entry : getHeaders().entrySet()) {
-            if (entry.getKey().startsWith(Message.CUSTOM_HEADER_PREFIX)) {
-                prefixedCustomHeaders.put(entry.getKey(), entry.getValue());
+        Map<String, String> result = prefixedCustomHeaders;
+        if (result == null) {
+            Map<String, String> prefixed = new HashMap<>();
+            for (Map.Entry<String, String> entry : getHeaders().entrySet()) {
+                if (entry.getKey().startsWith(Message.CUSTOM_HEADER_PREFIX)) {
+                    prefixed.put(entry.getKey(), entry.getValue());
+                }
             }
+            result = Collections.unmodifiableMap(prefixed);
+            prefixedCustomHeaders = result;
+        }
+        return new HashMap<>(result);
+    }
+
+    void setInProcessPayload(Object inProcessPayload) {
+        this.inProcessPayload = inProcessPayload;
+    }
+
+    /**
+     * @return the payload object of a message which has been created for an in-process recipient, or null if the
+     * payload is contained serialized in the message, see {@link MutableMessage#setInProcessPayload(Object)}
+     */
+    @JsonIgnore
+    public Object getInProcessPayload() {
+        return inProcessPayload;
+    }
+
+    /**
+     * Serializes the in-process payload of this message, e.g. if the recipient is not reachable within the JVM
+     * any more when the message is routed.
+     *
+     * @param objectMapper the ObjectMapper used to serialize the payload object
+     * @return this message if it does not have an in-process payload, otherwise a copy of this message with the
+     * same headers and context whose body contains the serialized payload
+     * @throws JsonProcessingException if the payload cannot be serialized
+     * @throws EncodingException if the message cannot be serialized
+     * @throws UnsuppportedVersionException if the SMRF version of the message is not supported
+     */
+    public ImmutableMessage serializeInProcessPayload(ObjectMapper objectMapper) throws JsonProcessingException,
+                                                                                 EncodingException,
+                                                                                 UnsuppportedVersionException {
+        if (inProcessPayload == null) {
+            return this;
         }
-        return prefixedCustomHeaders;
+        MessageSerializer messageSerializer = new MessageSerializerImpl();
+        messageSerializer.setSender(getSender());
+        messageSerializer.setRecipient(getRecipient());
+        messageSerializer.setTtlMs(getTtlMs());
+        messageSerializer.setTtlAbsolute(isTtlAbsolute());
+        messageSerializer.setHeaders(new HashMap<>(getHeaders()));
+        messageSerializer.setBody(objectMapper.writeValueAsBytes(inProcessPayload));
+        messageSerializer.setCompressed(isCompressed());
+
+        ImmutableMessage serializedMessage = wrap(messageSerializer.serialize());
+        serializedMessage.setContext(new HashMap<>(context));
+        serializedMessage.setReceivedFromGlobal(receivedFromGlobal);
+        serializedMessage.extraCustomHeaders = extraCustomHeaders;
+        return serializedMessage;
     }
 
     public void setContext(HashMap<String, Serializable> context) {
@@ -260,7 +368,7 @@ public class ImmutableMessage extends Message {
     }
 
     public String getTrackingInfo() {
-        String requestReplyId = getCustomHeaders().get(Message.CUSTOM_HEADER_REQUEST_REPLY_ID);
+        String requestReplyId = getHeaders().get(Message.CUSTOM_HEADER_PREFIX + Message.CUSTOM_HEADER_REQUEST_REPLY_ID);
         StringBuilder trackingInfo = new StringBuilder(256).append("messageId: ")
                                                            .append(getId())
                                                            .append(", type: ")
@@ -48,6 +48,7 @@ public class MutableMessage extends Message {
 
     private transient boolean compressed = false;
     private transient boolean statelessAsync;
+    private transient Object inProcessPayload;
 
     public MutableMessage() {
         id = createUuidString();
@@ -65,7 +66,9 @@ public class MutableMessage extends Message {
         messageSerializer.setBody(payload);
         messageSerializer.setCompressed(compressed);
 
-        return new ImmutableMessage(messageSerializer.serialize());
+        ImmutableMessage immutableMessage = ImmutableMessage.wrap(messageSerializer.serialize());
+        immutableMessage.setInProcessPayload(inProcessPayload);
+        return immutableMessage;
     }
 
     private Map<String, String> createHeader() {
@@ -183,4 +186,21 @@ public class MutableMessage extends Message {
     public void setStatelessAsync(boolean statelessAsync) {
         this.statelessAsync = statelessAsync;
     }
+
+    public Object getInProcessPayload() {
+        return inProcessPayload;
+    }
+
+    /**
+     * Sets the payload object of a message whose recipient is reachable within the JVM. The object is handed over
+     * to the recipient as is instead of the serialized payload, the serialized payload of such a message is empty.
+     * If the message cannot be passed within the JVM when it is routed, the object is serialized, see
+     * {@link ImmutableMessage#serializeInProcessPayload(io.joynr.util.ObjectMapper)}.
+     * The object must not be shared with the sender, i.e. it has to be immutable or a copy.
+     *
+     * @param inProcessPayload the payload object, e.g. a request or reply
+     */
+    public void setInProcessPayload(Object inProcessPayload) {
+        this.inProcessPayload = inProcessPayload;
+    }
 }
@@ -32,6 +32,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Field;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -584,4 +588,40 @@ public class RoutingTableImplTest {
         subject.incrementReferenceCount(participantId);
     }
 
+    @Test(timeout = 10000)
+    public void concurrentPutAndRemoveKeepReferenceCountConsistent() throws Exception {
+        final int numberOfThreads = 8;
+        final int numberOfIterations = 1000;
+        final String participantId = "testParticipantId";
+        final Address address = new MqttAddress("testBrokerUri", "testTopic");
+        final String stableParticipantId = "stableParticipantId";
+        subject.put(stableParticipantId, address, false, Long.MAX_VALUE);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final CountDownLatch doneLatch = new CountDownLatch(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < numberOfIterations; j++) {
+                        subject.put(participantId, address, false, Long.MAX_VALUE);
+                        assertEquals(address, subject.get(stableParticipantId));
+                        subject.remove(participantId);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        assertTrue(doneLatch.await(5, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        assertFalse(subject.containsKey(participantId));
+        assertTrue(subject.containsKey(stableParticipantId));
+    }
+
 }
@@ -0,0 +1,159 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.routing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.joynr.runtime.HashedWheelTimer;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ShardedMessageQueueTest {
+
+    private static final int NUMBER_OF_LANES = 16;
+    // adjacent hash codes, hence different lanes
+    private static final String RECIPIENT_A = "recipientA";
+    private static final String RECIPIENT_B = "recipientB";
+
+    @Mock
+    private MessageQueue.MaxTimeoutHolder maxTimeoutHolderMock;
+
+    private HashedWheelTimer retryTimer;
+    private ShardedMessageQueue subject;
+
+    private final long shutdownMaxTimeout = 50;
+
+    @Before
+    public void setup() {
+        when(maxTimeoutHolderMock.getTimeout()).thenReturn(shutdownMaxTimeout);
+        retryTimer = new HashedWheelTimer("ShardedMessageQueueTest", 1, 64, 1);
+        subject = new ShardedMessageQueue(maxTimeoutHolderMock, NUMBER_OF_LANES, retryTimer);
+    }
+
+    @After
+    public void tearDown() {
+        retryTimer.shutdown();
+    }
+
+    private DelayableImmutableMessage createMessage(String recipient, long delayMs) {
+        DelayableImmutableMessage message = mock(DelayableImmutableMessage.class);
+        when(message.getRecipients()).thenReturn(Set.of(recipient));
+        when(message.getDelay(TimeUnit.MILLISECONDS)).thenReturn(delayMs);
+        return message;
+    }
+
+    private static int laneCount(int[] laneDepths, int depth) {
+        int count = 0;
+        for (int laneDepth : laneDepths) {
+            if (laneDepth == depth) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testPutAndRetrieveMessage() throws Exception {
+        DelayableImmutableMessage message = createMessage(RECIPIENT_A, 0);
+
+        subject.put(message);
+        assertEquals(1, subject.size());
+
+        assertSame(message, subject.poll(0, TimeUnit.MILLISECONDS));
+        assertEquals(0, subject.size());
+        assertNull(subject.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testMessagesOfOneRecipientAreKeptInOrder() throws Exception {
+        DelayableImmutableMessage first = createMessage(RECIPIENT_A, 0);
+        DelayableImmutableMessage second = createMessage(RECIPIENT_A, 0);
+
+        subject.put(first);
+        subject.put(second);
+
+        assertSame(first, subject.poll(0, TimeUnit.MILLISECONDS));
+        assertSame(second, subject.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testFloodedRecipientDoesNotBlockOtherRecipients() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            subject.put(createMessage(RECIPIENT_A, 0));
+        }
+        DelayableImmutableMessage messageToB = createMessage(RECIPIENT_B, 0);
+        subject.put(messageToB);
+
+        int[] laneDepths = subject.getLaneDepths();
+        assertEquals(NUMBER_OF_LANES, laneDepths.length);
+        assertEquals(1, laneCount(laneDepths, 10));
+        assertEquals(1, laneCount(laneDepths, 1));
+
+        // the lanes are served in round-robin order: the message to B is the second one
+        assertNotEquals(messageToB, subject.poll(0, TimeUnit.MILLISECONDS));
+        assertSame(messageToB, subject.poll(0, TimeUnit.MILLISECONDS));
+        assertEquals(9, subject.size());
+    }
+
+    @Test
+    public void testDelayedMessageIsReturnedWhenDue() throws Exception {
+        DelayableImmutableMessage delayedMessage = createMessage(RECIPIENT_A, 50);
+        DelayableImmutableMessage message = createMessage(RECIPIENT_A, 0);
+
+        subject.put(delayedMessage);
+        subject.put(message);
+        assertEquals(1, subject.getDelayedMessageCount());
+        assertEquals(2, subject.size());
+
+        // the delayed message does not block the following message of the same recipient
+        assertSame(message, subject.poll(0, TimeUnit.MILLISECONDS));
+        assertNull(subject.poll(0, TimeUnit.MILLISECONDS));
+
+        assertSame(delayedMessage, subject.poll(1, TimeUnit.SECONDS));
+        assertEquals(0, subject.getDelayedMessageCount());
+        assertEquals(0, subject.size());
+    }
+
+    @Test
+    public void testShutdownBlocksMaxTimeIfQueueNotEmptied() {
+        subject.put(createMessage(RECIPIENT_A, 0));
+
+        long beforeStop = System.currentTimeMillis();
+        subject.waitForQueueToDrain();
+        long timeTaken = System.currentTimeMillis() - beforeStop;
+
+        assertTrue("Expected stop to block for maximum of around " + shutdownMaxTimeout + "ms. Actual: " + timeTaken,
+                   timeTaken >= shutdownMaxTimeout && timeTaken < shutdownMaxTimeout + 20);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.routing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.joynr.exceptions.JoynrIllegalStateException;
+import io.joynr.messaging.util.MulticastWildcardRegexFactory;
+
+public class TrieMulticastReceiverRegistryTest {
+
+    private static final String[] REGISTERED_IDS = { "provider/broadcast", "provider/broadcast/one",
+            "provider/broadcast/one/two", "provider/broadcast/+", "provider/broadcast/+/two",
+            "provider/broadcast/one/+", "provider/broadcast/+/+", "provider/broadcast/*", "provider/broadcast/one/*",
+            "provider/+/one", "+/broadcast/one", "+", "+/+", "*", "other/broadcast/*" };
+
+    private static final String[] MULTICAST_IDS = { "provider/broadcast", "provider/broadcast/one",
+            "provider/broadcast/two", "provider/broadcast/one/two", "provider/broadcast/one/three",
+            "provider/broadcast/one/two/three", "provider/other/one", "other/broadcast", "other/broadcast/one",
+            "provider", "unknown/unknown/unknown" };
+
+    private TrieMulticastReceiverRegistry subject;
+
+    @Before
+    public void setup() {
+        subject = new TrieMulticastReceiverRegistry(new MulticastWildcardRegexFactory());
+    }
+
+    @Test
+    public void testAddAndRetrieveAndRemove() {
+        String multicastId = "provider/broadcast/partition";
+        String participantId = "participantId";
+        subject.registerMulticastReceiver(multicastId, participantId);
+        assertEquals(new HashSet<>(Arrays.asList(participantId)), subject.getReceivers(multicastId));
+        assertTrue(subject.getReceivers("provider/broadcast").isEmpty());
+        assertTrue(subject.getReceivers("provider/broadcast/partition/other").isEmpty());
+
+        subject.unregisterMulticastReceiver(multicastId, participantId);
+        assertTrue(subject.getReceivers(multicastId).isEmpty());
+        assertTrue(subject.getReceivers().isEmpty());
+    }
+
+    @Test
+    public void testSingleLevelWildcardDoesNotMatchEmptyOrMultiplePartitions() {
+        subject.registerMulticastReceiver("one/+/three", "participantId");
+
+        assertEquals(1, subject.getReceivers("one/two/three").size());
+        assertTrue(subject.getReceivers("one//three").isEmpty());
+        assertTrue(subject.getReceivers("one/three").isEmpty());
+        assertTrue(subject.getReceivers("one/two/four/three").isEmpty());
+    }
+
+    @Test
+    public void testMultiLevelWildcardMatchesParentAndAllDescendants() {
+        subject.registerMulticastReceiver("one/two/*", "participantId");
+
+        assertEquals(1, subject.getReceivers("one/two").size());
+        assertEquals(1, subject.getReceivers("one/two/three").size());
+        assertEquals(1, subject.getReceivers("one/two/three/four").size());
+        assertTrue(subject.getReceivers("one").isEmpty());
+        assertTrue(subject.getReceivers("one/twothree").isEmpty());
+    }
+
+    @Test
+    public void testSameResultsAsRegexRegistry() {
+        InMemoryMulticastReceiverRegistry regexRegistry = new InMemoryMulticastReceiverRegistry(new MulticastWildcardRegexFactory());
+        for (int i = 0; i < REGISTERED_IDS.length; i++) {
+            subject.registerMulticastReceiver(REGISTERED_IDS[i], "participant" + i);
+            regexRegistry.registerMulticastReceiver(REGISTERED_IDS[i], "participant" + i);
+        }
+
+        for (String multicastId : MULTICAST_IDS) {
+            assertEquals(multicastId, regexRegistry.getReceivers(multicastId), subject.getReceivers(multicastId));
+        }
+    }
+
+    @Test
+    public void testUnregisterPrunesOnlyUnusedNodes() {
+        subject.registerMulticastReceiver("one/two/three", "participant1");
+        subject.registerMulticastReceiver("one/two", "participant2");
+        subject.registerMulticastReceiver("one/two/*", "participant3");
+
+        subject.unregisterMulticastReceiver("one/two/three", "participant1");
+        assertEquals(new HashSet<>(Arrays.asList("participant2", "participant3")), subject.getReceivers("one/two"));
+
+        subject.unregisterMulticastReceiver("one/two", "participant2");
+        assertEquals(new HashSet<>(Arrays.asList("participant3")), subject.getReceivers("one/two/three"));
+
+        subject.unregisterMulticastReceiver("one/two/*", "participant3");
+        assertTrue(subject.getReceivers("one/two/three").isEmpty());
+        assertTrue(subject.getReceivers().isEmpty());
+    }
+
+    @Test
+    public void testGetAllReceivers() {
+        subject.registerMulticastReceiver("one/+/three", "participant1");
+        subject.registerMulticastReceiver("one/two/three", "participant2");
+        subject.registerMulticastReceiver("one/two/three", "participant3");
+        subject.registerMulticastReceiver("one/*", "participant4");
+
+        Map<String, Set<String>> receivers = subject.getReceivers();
+        assertEquals(3, receivers.size());
+        assertEquals(new HashSet<>(Arrays.asList("participant1")), receivers.get("one/+/three"));
+        assertEquals(new HashSet<>(Arrays.asList("participant2", "participant3")), receivers.get("one/two/three"));
+        assertEquals(new HashSet<>(Arrays.asList("participant4")), receivers.get("one/*"));
+    }
+
+    @Test(expected = JoynrIllegalStateException.class)
+    public void testInvalidMulticastIdIsRejected() {
+        subject.registerMulticastReceiver("one/tw+o/three", "participantId");
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.joynr.runtime.HashedWheelTimer.Timeout;
+
+public class HashedWheelTimerTest {
+
+    private static final long TICK_DURATION_MS = 10;
+    // small wheel to cover timeouts spanning multiple rounds
+    private static final int TICKS_PER_WHEEL = 8;
+
+    private HashedWheelTimer timer;
+
+    @Before
+    public void setUp() {
+        timer = new HashedWheelTimer("HashedWheelTimerTest", TICK_DURATION_MS, TICKS_PER_WHEEL, 2);
+    }
+
+    @After
+    public void tearDown() {
+        timer.shutdown();
+    }
+
+    @Test(timeout = 3000)
+    public void taskIsExecutedNotBeforeDeadline() throws Exception {
+        final long delayMs = 200;
+        final CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        timer.newTimeout(latch::countDown, delayMs);
+
+        assertTrue(latch.await(1000, TimeUnit.MILLISECONDS));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue("elapsed: " + elapsedMs, elapsedMs >= delayMs);
+    }
+
+    @Test(timeout = 3000)
+    public void cancelledTaskIsNotExecuted() throws Exception {
+        final AtomicInteger executions = new AtomicInteger(0);
+        Timeout timeout = timer.newTimeout(executions::incrementAndGet, 100);
+        final CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(latch::countDown, 200);
+
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+
+        assertTrue(latch.await(1000, TimeUnit.MILLISECONDS));
+        assertEquals(0, executions.get());
+        assertEquals(0, timer.getScheduledTimeoutCount());
+    }
+
+    @Test(timeout = 3000)
+    public void tasksAreExecutedInOrderOfDeadlines() throws Exception {
+        final int numberOfTasks = 20;
+        final CountDownLatch latch = new CountDownLatch(numberOfTasks);
+        final AtomicInteger lastExecuted = new AtomicInteger(-1);
+        final AtomicInteger outOfOrder = new AtomicInteger(0);
+        for (int i = numberOfTasks - 1; i >= 0; i--) {
+            final int index = i;
+            timer.newTimeout(() -> {
+                if (lastExecuted.getAndSet(index) > index) {
+                    outOfOrder.incrementAndGet();
+                }
+                latch.countDown();
+            }, index * 3 * TICK_DURATION_MS);
+        }
+
+        assertTrue(latch.await(2000, TimeUnit.MILLISECONDS));
+        assertEquals(0, outOfOrder.get());
+    }
+
+    @Test
+    public void noTaskIsExecutedAfterShutdown() throws Exception {
+        final AtomicInteger executions = new AtomicInteger(0);
+        timer.newTimeout(executions::incrementAndGet, 50);
+        timer.shutdown();
+        Timeout timeout = timer.newTimeout(executions::incrementAndGet, 0);
+
+        Thread.sleep(150);
+        assertEquals(0, executions.get());
+        assertTrue(timeout.isCancelled());
+    }
+}
@@ -19,9 +19,14 @@
 package joynr;
 
 import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -154,4 +159,35 @@ public class ImmutableMessageTest {
         immutableMessage.setExtraCustomHeaders(expectedCustomHeaders);
     }
 
+    @Test
+    public void testSerializedMessageAsByteBufferIsReadOnlyViewOfWrappedMessage() throws Exception {
+        byte[] serializedMessage = testMessage.getImmutableMessage().getSerializedMessage();
+        ImmutableMessage immutableMessage = ImmutableMessage.wrap(serializedMessage);
+
+        ByteBuffer buffer = immutableMessage.getSerializedMessageAsByteBuffer();
+        assertTrue(buffer.isReadOnly());
+        assertEquals(serializedMessage.length, buffer.remaining());
+        byte[] bufferContent = new byte[buffer.remaining()];
+        buffer.get(bufferContent);
+        assertArrayEquals(serializedMessage, bufferContent);
+
+        // consuming a buffer does not affect buffers retrieved later
+        assertEquals(serializedMessage.length, immutableMessage.getSerializedMessageAsByteBuffer().remaining());
+        assertArrayEquals(serializedMessage, immutableMessage.getSerializedMessage());
+    }
+
+    @Test
+    public void testHeadersAreParsedOnce() throws Exception {
+        testMessage.setCustomHeaders(expectedCustomHeaders);
+        ImmutableMessage immutableMessage = testMessage.getImmutableMessage();
+
+        assertSame(immutableMessage.getHeaders(), immutableMessage.getHeaders());
+
+        // returned custom headers are copies which may be modified by the caller
+        Map<String, String> customHeaders = immutableMessage.getCustomHeaders();
+        assertNotSame(customHeaders, immutableMessage.getCustomHeaders());
+        customHeaders.put("additionalKey", "additionalValue");
+        assertEquals(expectedCustomHeaders, immutableMessage.getCustomHeaders());
+    }
+
 }
@@ -263,7 +263,7 @@ public class HivemqMqttClient implements JoynrMqttClient {
 
     @Override
     public void publishMessage(String topic,
-                               byte[] serializedMessage,
+                               ByteBuffer serializedMessage,
                                Map<String, String> prefixedCustomHeaders,
                                int qosLevel,
                                long messageExpiryIntervalSec,
@@ -276,9 +276,10 @@ public class HivemqMqttClient implements JoynrMqttClient {
             throw new JoynrMessageNotSentException("prefixedCustomHeaders must not be null");
         }
 
-        if (maxMsgSizeBytes != 0 && serializedMessage.length > maxMsgSizeBytes) {
+        final int messageSize = serializedMessage.remaining();
+        if (maxMsgSizeBytes != 0 && messageSize > maxMsgSizeBytes) {
             throw new JoynrMessageNotSentException("Publish failed: maximum allowed message size of " + maxMsgSizeBytes
-                    + " bytes exceeded, actual size is " + serializedMessage.length + " bytes");
+                    + " bytes exceeded, actual size is " + messageSize + " bytes");
         }
 
         if (!clientConfig.getState().isConnected()) {
@@ -312,14 +313,14 @@ public class HivemqMqttClient implements JoynrMqttClient {
         logger.debug("{}: Publishing to topic: {}, size: {}, qos: {}",
                      clientInformation,
                      topic,
-                     serializedMessage.length,
+                     messageSize,
                      qosLevel);
         client.toAsync().publish(mqtt5Publish).whenComplete((publishResult, throwable) -> {
             if (throwable != null) {
                 logger.error("{}: Publishing to topic: {}, size: {}, qos: {} failed with exception.",
                              clientInformation,
                              topic,
-                             serializedMessage.length,
+                             messageSize,
                              qosLevel,
                              throwable);
                 if (throwable instanceof MqttClientStateException) {
@@ -332,7 +333,7 @@ public class HivemqMqttClient implements JoynrMqttClient {
                 logger.error("{}: Publishing to topic: {}, size: {}, qos: {} failed with error result: {}",
                              clientInformation,
                              topic,
-                             serializedMessage.length,
+                             messageSize,
                              qosLevel,
                              publishResult,
                              publishResult.getError().get());
@@ -344,14 +345,14 @@ public class HivemqMqttClient implements JoynrMqttClient {
                     logger.trace("{}: Publishing to topic: {}, size: {}, qos: {} succeeded: {}",
                                  clientInformation,
                                  topic,
-                                 serializedMessage.length,
+                                 messageSize,
                                  qosLevel,
                                  publishResult);
                 } else {
                     logger.debug("{}: Publishing to topic: {}, size: {}, qos: {} succeeded.",
                                  clientInformation,
                                  topic,
-                                 serializedMessage.length,
+                                 messageSize,
                                  qosLevel);
 
                 }
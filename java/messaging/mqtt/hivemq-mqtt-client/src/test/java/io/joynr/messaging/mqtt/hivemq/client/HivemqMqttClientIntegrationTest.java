@@ -174,7 +174,7 @@ public class HivemqMqttClientIntegrationTest {
                 bind(MessageRouter.class).toInstance(mockMessageRouter);
                 bind(MessageProcessedHandler.class).toInstance(mockMessageProcessedHandler);
                 bind(RoutingTable.class).toInstance(mockRoutingTable);
-                bind(ScheduledExecutorService.class).annotatedWith(Names.named(MessageRouter.SCHEDULEDTHREADPOOL))
+                bind(ScheduledExecutorService.class).annotatedWith(Names.named(MessagingPropertyKeys.SCHEDULEDTHREADPOOL_TRANSPORT))
                                                     .toInstance(Executors.newScheduledThreadPool(10));
                 bind(RawMessagingPreprocessor.class).to(NoOpRawMessagingPreprocessor.class);
                 bind(JoynrStatusMetricsReceiver.class).toInstance(mockJoynrStatusMetrics);
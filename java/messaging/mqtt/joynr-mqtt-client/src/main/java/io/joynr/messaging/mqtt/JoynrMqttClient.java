@@ -18,6 +18,7 @@
  */
 package io.joynr.messaging.mqtt;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import io.joynr.messaging.FailureAction;
@@ -31,8 +32,29 @@ public interface JoynrMqttClient {
 
     public void shutdown();
 
+    public default void publishMessage(String topic,
+                                       byte[] serializedMessage,
+                                       Map<String, String> prefixedCustomHeaders,
+                                       int qosLevel,
+                                       long messageExpiryDateMs,
+                                       SuccessAction successAction,
+                                       FailureAction failureAction) {
+        publishMessage(topic,
+                       ByteBuffer.wrap(serializedMessage),
+                       prefixedCustomHeaders,
+                       qosLevel,
+                       messageExpiryDateMs,
+                       successAction,
+                       failureAction);
+    }
+
+    /**
+     * Publishes the remaining bytes of the given buffer without copying them upfront. The buffer must not be
+     * modified by the caller after the call, e.g. use a read-only view like
+     * {@link joynr.ImmutableMessage#getSerializedMessageAsByteBuffer()}.
+     */
     public void publishMessage(String topic,
-                               byte[] serializedMessage,
+                               ByteBuffer serializedMessage,
                                Map<String, String> prefixedCustomHeaders,
                                int qosLevel,
                                long messageExpiryDateMs,
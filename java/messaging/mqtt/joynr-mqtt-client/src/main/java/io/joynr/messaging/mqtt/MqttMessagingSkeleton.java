@@ -160,7 +160,7 @@ public class MqttMessagingSkeleton extends AbstractGlobalMessagingSkeleton
             HashMap<String, Serializable> context = new HashMap<String, Serializable>();
             byte[] processedMessage = rawMessagingPreprocessor.process(serializedMessage, Optional.of(context));
 
-            ImmutableMessage message = new ImmutableMessage(processedMessage);
+            ImmutableMessage message = ImmutableMessage.wrap(processedMessage);
             message.setContext(context);
             message.setPrefixedExtraCustomHeaders(prefixedCustomHeaders);
 
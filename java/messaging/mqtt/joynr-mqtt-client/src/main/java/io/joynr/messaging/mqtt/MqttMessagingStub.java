@@ -18,6 +18,8 @@
  */
 package io.joynr.messaging.mqtt;
 
+import java.nio.ByteBuffer;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,7 +68,7 @@ public class MqttMessagingStub implements IMessagingStub {
         if (msgTtlSec > MESSAGE_EXPIRY_MAX_INTERVAL || msgTtlSec < 0) {
             msgTtlSec = MESSAGE_EXPIRY_MAX_INTERVAL;
         }
-        byte[] serializedMessage = message.getSerializedMessage();
+        ByteBuffer serializedMessage = message.getSerializedMessageAsByteBuffer();
         if (logger.isTraceEnabled()) {
             logger.trace(">>> OUTGOING TO {} >>> {}", address.getBrokerUri(), message);
         } else {
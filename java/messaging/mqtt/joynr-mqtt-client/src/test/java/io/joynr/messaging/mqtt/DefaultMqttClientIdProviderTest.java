@@ -89,7 +89,7 @@ public class DefaultMqttClientIdProviderTest {
                 bind(MessageProcessedHandler.class).toInstance(mockMessageProcessedHandler);
                 bind(RoutingTable.class).toInstance(mockRoutingTable);
                 bind(MqttClientFactory.class).toInstance(mqttClientFactory);
-                bind(ScheduledExecutorService.class).annotatedWith(Names.named(MessageRouter.SCHEDULEDTHREADPOOL))
+                bind(ScheduledExecutorService.class).annotatedWith(Names.named(MessagingPropertyKeys.SCHEDULEDTHREADPOOL_TRANSPORT))
                                                     .toInstance(Executors.newScheduledThreadPool(10));
                 bind(String[].class).annotatedWith(Names.named(MessagingPropertyKeys.GBID_ARRAY))
                                     .toInstance(new String[]{ "testGbid" });
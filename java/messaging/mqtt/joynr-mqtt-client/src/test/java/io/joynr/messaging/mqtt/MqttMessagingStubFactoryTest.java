@@ -30,6 +30,8 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.ByteBuffer;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -102,14 +104,14 @@ public class MqttMessagingStubFactoryTest {
 
         messagingStub1.transmit(message, successAction, failureAction);
         verify(joynrMqttClient1).publishMessage(topicCaptor.capture(),
-                                                any(byte[].class),
+                                                any(ByteBuffer.class),
                                                 anyMap(),
                                                 anyInt(),
                                                 anyLong(),
                                                 any(SuccessAction.class),
                                                 any(FailureAction.class));
         verify(joynrMqttClient2, times(0)).publishMessage(anyString(),
-                                                          any(byte[].class),
+                                                          any(ByteBuffer.class),
                                                           anyMap(),
                                                           anyInt(),
                                                           anyLong(),
@@ -120,14 +122,14 @@ public class MqttMessagingStubFactoryTest {
         reset(joynrMqttClient2);
         messagingStub2.transmit(message, successAction, failureAction);
         verify(joynrMqttClient1, times(0)).publishMessage(anyString(),
-                                                          any(byte[].class),
+                                                          any(ByteBuffer.class),
                                                           anyMap(),
                                                           anyInt(),
                                                           anyLong(),
                                                           any(SuccessAction.class),
                                                           any(FailureAction.class));
         verify(joynrMqttClient2).publishMessage(topicCaptor.capture(),
-                                                any(byte[].class),
+                                                any(ByteBuffer.class),
                                                 anyMap(),
                                                 anyInt(),
                                                 anyLong(),
@@ -34,6 +34,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -76,7 +77,7 @@ public class MqttMessagingStubTest {
 
     @Before
     public void setup() {
-        doReturn(new byte[0]).when(joynrMessage).getSerializedMessage();
+        doReturn(ByteBuffer.wrap(new byte[0])).when(joynrMessage).getSerializedMessageAsByteBuffer();
         subject = new MqttMessagingStub(mqttAddress, mqttClient);
     }
 
@@ -88,7 +89,7 @@ public class MqttMessagingStubTest {
         subject.transmit(joynrMessage, successAction, failureAction);
 
         verify(mqttClient).publishMessage(eq(expectedTopic),
-                                          any(byte[].class),
+                                          any(ByteBuffer.class),
                                           anyMap(),
                                           eq(MqttMessagingStub.DEFAULT_QOS_LEVEL),
                                           anyLong(),
@@ -105,7 +106,7 @@ public class MqttMessagingStubTest {
         subject.transmit(joynrMessage, successAction, failureAction);
 
         verify(mqttClient).publishMessage(eq(expectedTopic),
-                                          any(byte[].class),
+                                          any(ByteBuffer.class),
                                           anyMap(),
                                           eq(MqttMessagingStub.DEFAULT_QOS_LEVEL),
                                           anyLong(),
@@ -120,7 +121,7 @@ public class MqttMessagingStubTest {
         subject.transmit(joynrMessage, successAction, failureAction);
 
         verify(mqttClient).publishMessage(anyString(),
-                                          any(byte[].class),
+                                          any(ByteBuffer.class),
                                           anyMap(),
                                           eq(MqttMessagingStub.DEFAULT_QOS_LEVEL),
                                           anyLong(),
@@ -152,7 +153,7 @@ public class MqttMessagingStubTest {
         assertTrue(relativeTtl2 % 1000 > 100 && relativeTtl2 % 1000 < 300);
 
         verify(mqttClient, times(2)).publishMessage(anyString(),
-                                                    any(byte[].class),
+                                                    any(ByteBuffer.class),
                                                     anyMap(),
                                                     eq(MqttMessagingStub.DEFAULT_QOS_LEVEL),
                                                     eq(expectedRoundedMsgTtlSec),
@@ -178,7 +179,7 @@ public class MqttMessagingStubTest {
         subject.transmit(joynrMessage, successAction, failureAction);
 
         verify(mqttClient, times(2)).publishMessage(anyString(),
-                                                    any(byte[].class),
+                                                    any(ByteBuffer.class),
                                                     anyMap(),
                                                     eq(MqttMessagingStub.DEFAULT_QOS_LEVEL),
                                                     eq(expectedMaxMsgTtlSec),
@@ -193,7 +194,7 @@ public class MqttMessagingStubTest {
         subject.transmit(joynrMessage, successAction, failureAction);
 
         verify(mqttClient).publishMessage(anyString(),
-                                          any(byte[].class),
+                                          any(ByteBuffer.class),
                                           anyMap(),
                                           eq(MqttMessagingStub.DEFAULT_QOS_LEVEL),
                                           anyLong(),
@@ -208,7 +209,7 @@ public class MqttMessagingStubTest {
         subject.transmit(joynrMessage, successAction, failureAction);
 
         verify(mqttClient).publishMessage(anyString(),
-                                          any(byte[].class),
+                                          any(ByteBuffer.class),
                                           anyMap(),
                                           eq(MqttMessagingStub.BEST_EFFORT_QOS_LEVEL),
                                           anyLong(),
@@ -223,7 +224,7 @@ public class MqttMessagingStubTest {
         subject.transmit(joynrMessage, successAction, failureAction);
 
         verify(mqttClient).publishMessage(anyString(),
-                                          any(byte[].class),
+                                          any(ByteBuffer.class),
                                           anyMap(),
                                           eq(MqttMessagingStub.DEFAULT_QOS_LEVEL),
                                           anyLong(),
@@ -239,7 +240,7 @@ public class MqttMessagingStubTest {
         JoynrRuntimeException exception = new JoynrRuntimeException("testException");
         JoynrRuntimeException expectedException = new JoynrRuntimeException(exception.getMessage());
         doThrow(exception).when(mqttClient).publishMessage(anyString(),
-                                                           any(byte[].class),
+                                                           any(ByteBuffer.class),
                                                            anyMap(),
                                                            anyInt(),
                                                            anyLong(),
@@ -266,7 +267,7 @@ public class MqttMessagingStubTest {
         subject.transmit(joynrMessage, successAction, failureAction);
 
         verify(mqttClient).publishMessage(anyString(),
-                                          any(byte[].class),
+                                          any(ByteBuffer.class),
                                           eq(map),
                                           eq(MqttMessagingStub.DEFAULT_QOS_LEVEL),
                                           anyLong(),
@@ -26,11 +26,13 @@ import java.util.Arrays;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.eclipse.jetty.websocket.api.BatchMode;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
 import org.eclipse.jetty.websocket.api.WriteCallback;
@@ -50,6 +52,7 @@ import io.joynr.messaging.FailureAction;
 import io.joynr.messaging.SuccessAction;
 import io.joynr.messaging.websocket.IWebSocketMessagingSkeleton;
 import io.joynr.messaging.websocket.JoynrWebSocketEndpoint;
+import io.joynr.messaging.websocket.WebSocketSendQueue;
 import io.joynr.util.ObjectMapper;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.WebSocketAddress;
@@ -65,19 +68,21 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
     private WebSocketClient jettyClient;
     private int maxMessageSize;
     private long websocketIdleTimeout;
-    CompletableFuture<Session> sessionFuture;
+    volatile CompletableFuture<Session> sessionFuture;
     private WebSocketAddress serverAddress;
     private IWebSocketMessagingSkeleton messageListener;
     private ObjectMapper objectMapper;
     private WebSocketClientAddress ownAddress;
+    private final WebSocketSendQueue sendQueue;
 
-    private boolean shutdown = false;
+    private volatile boolean shutdown = false;
 
     public WebSocketJettyClient(WebSocketAddress serverAddress,
                                 WebSocketClientAddress ownAddress,
                                 int maxMessageSize,
                                 long reconnectDelay,
                                 long websocketIdleTimeout,
+                                int sendQueueSize,
                                 ObjectMapper objectMapper) {
         this.serverAddress = serverAddress;
         this.ownAddress = ownAddress;
@@ -85,6 +90,7 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
         this.reconnectDelay = reconnectDelay;
         this.websocketIdleTimeout = websocketIdleTimeout;
         this.objectMapper = objectMapper;
+        this.sendQueue = new WebSocketSendQueue(serverAddress.toString(), sendQueueSize, this::writeFrame);
     }
 
     @Override
@@ -163,6 +169,7 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
     @Override
     public synchronized void shutdown() {
         shutdown = true;
+        sendQueue.clear(new JoynrShutdownException("WebSocket client is shutting down"));
         closeSession();
         try {
             if (jettyClient != null) {
@@ -234,12 +241,12 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
     }
 
     @Override
-    public synchronized void writeBytes(Address to,
-                                        byte[] message,
-                                        long timeout,
-                                        TimeUnit unit,
-                                        final SuccessAction successAction,
-                                        final FailureAction failureAction) {
+    public void writeBytes(Address to,
+                           byte[] message,
+                           long timeout,
+                           TimeUnit unit,
+                           final SuccessAction successAction,
+                           final FailureAction failureAction) {
         if (messageListener == null) {
             throw new JoynrDelayMessageException(20, "WebSocket write failed: receiver has not been set yet");
         }
@@ -252,9 +259,34 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
             }
         }
 
+        // the message is only queued, the session is not awaited by the sending thread
+        sendQueue.send(message, successAction, failureAction);
+    }
+
+    private void writeFrame(byte[] frame,
+                            boolean batch,
+                            final SuccessAction successAction,
+                            final FailureAction failureAction) {
+        CompletableFuture<Session> currentSessionFuture = sessionFuture;
+        Session session;
         try {
-            Session session = sessionFuture.get(timeout, unit);
-            session.getRemote().sendBytes(ByteBuffer.wrap(message), new WriteCallback() {
+            session = currentSessionFuture == null ? null : currentSessionFuture.getNow(null);
+        } catch (CompletionException e) {
+            reconnect();
+            failureAction.execute(new JoynrDelayMessageException(10, "WebSocket write failed", e));
+            return;
+        }
+        if (session == null) {
+            failureAction.execute(new JoynrDelayMessageException(reconnectDelay,
+                                                                 "WebSocket write failed: not connected yet"));
+            return;
+        }
+
+        try {
+            RemoteEndpoint remote = session.getRemote();
+            // batched frames are aggregated by Jetty and flushed with the next frame which is not batched
+            remote.setBatchMode(batch ? BatchMode.ON : BatchMode.OFF);
+            remote.sendBytes(ByteBuffer.wrap(frame), new WriteCallback() {
 
                 @Override
                 public void writeSuccess() {
@@ -271,13 +303,9 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
                     }
                 }
             });
-        } catch (WebSocketException | ExecutionException e) {
+        } catch (WebSocketException e) {
             reconnect();
-            throw new JoynrDelayMessageException(10, "WebSocket write failed", e);
-        } catch (TimeoutException e) {
-            throw new JoynrDelayMessageException("WebSocket write timed out", e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            failureAction.execute(new JoynrDelayMessageException(10, "WebSocket write failed", e));
         }
     }
 
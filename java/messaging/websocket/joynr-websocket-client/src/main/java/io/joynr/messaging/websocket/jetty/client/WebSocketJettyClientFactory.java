@@ -40,6 +40,7 @@ public class WebSocketJettyClientFactory implements WebSocketEndpointFactory {
     private int maxMessageSize;
     private long reconnectDelay;
     private long websocketIdleTimeout;
+    private int sendQueueSize;
     private Map<WebSocketAddress, JoynrWebSocketEndpoint> jettyClientsMap = new HashMap<WebSocketAddress, JoynrWebSocketEndpoint>();
     private ObjectMapper objectMapper;
 
@@ -48,11 +49,13 @@ public class WebSocketJettyClientFactory implements WebSocketEndpointFactory {
                                        @Named(ConfigurableMessagingSettings.PROPERTY_MAX_MESSAGE_SIZE) int maxMessageSize,
                                        @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_RECONNECT_DELAY) long reconnectDelay,
                                        @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_IDLE_TIMEOUT) long websocketIdleTimeout,
+                                       @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_SEND_QUEUE_SIZE) int sendQueueSize,
                                        ObjectMapper objectMapper) {
         this.ownAddress = ownAddress;
         this.maxMessageSize = maxMessageSize;
         this.reconnectDelay = reconnectDelay;
         this.websocketIdleTimeout = websocketIdleTimeout;
+        this.sendQueueSize = sendQueueSize;
         this.objectMapper = objectMapper;
     }
 
@@ -64,6 +67,7 @@ public class WebSocketJettyClientFactory implements WebSocketEndpointFactory {
                                                                           maxMessageSize,
                                                                           reconnectDelay,
                                                                           websocketIdleTimeout,
+                                                                          sendQueueSize,
                                                                           objectMapper);
             jettyClientsMap.put(serverAddress, jettyClient);
         }
@@ -94,7 +94,7 @@ public class WebSocketMessagingSkeleton implements IWebSocketMessagingSkeleton {
     @Override
     public void transmit(byte[] serializedMessage, FailureAction failureAction) {
         try {
-            ImmutableMessage message = new ImmutableMessage(serializedMessage);
+            ImmutableMessage message = ImmutableMessage.wrap(serializedMessage);
 
             if (logger.isTraceEnabled()) {
                 logger.trace("<<< INCOMING <<< {}", message);
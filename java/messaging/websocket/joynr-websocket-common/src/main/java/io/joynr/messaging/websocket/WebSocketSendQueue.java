@@ -0,0 +1,199 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.joynr.exceptions.JoynrDelayMessageException;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.SuccessAction;
+
+/**
+ * Bounded outbound queue of a single WebSocket session.
+ * <p>
+ * Senders only enqueue their message and never wait for the session. The queue is drained by at most one
+ * thread at a time: the queued messages are passed in batches to the {@link FrameWriter}, the next batch is
+ * written as soon as all frames of the previous batch have been completed by the WebSocket implementation.
+ * All but the last frame of a batch are written with the batch hint set, so that small frames can be
+ * aggregated before they are flushed to the network.
+ * <p>
+ * If the queue is full, e.g. because the receiver does not read its messages, the message is rejected by
+ * calling its {@link FailureAction} with a {@link JoynrDelayMessageException}. This affects only the session
+ * of this queue.
+ */
+public class WebSocketSendQueue {
+
+    static final long QUEUE_FULL_DELAY_MS = 100;
+    static final int MAX_BATCH_SIZE = 64;
+
+    /**
+     * Asynchronously writes a single frame to the WebSocket session.
+     */
+    @FunctionalInterface
+    public interface FrameWriter {
+        /**
+         * Writes the frame and calls exactly one of the actions when the write has completed. The actions may
+         * be called from within this method.
+         *
+         * @param frame the message to write
+         * @param batch true if more frames follow immediately, i.e. the frame does not need to be flushed yet
+         * @param successAction called when the frame has been written
+         * @param failureAction called when the frame could not be written
+         */
+        void write(byte[] frame, boolean batch, SuccessAction successAction, FailureAction failureAction);
+    }
+
+    private static final class QueuedMessage {
+        private final byte[] message;
+        private final SuccessAction successAction;
+        private final FailureAction failureAction;
+
+        private QueuedMessage(byte[] message, SuccessAction successAction, FailureAction failureAction) {
+            this.message = message;
+            this.successAction = successAction;
+            this.failureAction = failureAction;
+        }
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final FrameWriter frameWriter;
+
+    private final Queue<QueuedMessage> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // number of drain requests which have not been processed yet, see drain()
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    // true while a batch is written, only modified by the draining thread and the completion of a batch
+    private volatile boolean writing = false;
+
+    /**
+     * @param name name of the queue used in error messages, e.g. the id of the remote address
+     * @param maxSize maximum number of queued messages which have not been passed to the frame writer yet
+     * @param frameWriter writes the frames of this queue to the WebSocket session
+     */
+    public WebSocketSendQueue(String name, int maxSize, FrameWriter frameWriter) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.frameWriter = frameWriter;
+    }
+
+    /**
+     * Queues the message for sending without waiting for the WebSocket session.
+     *
+     * @param message the message to send
+     * @param successAction called when the message has been written
+     * @param failureAction called when the message could not be written or was rejected because the queue is full
+     */
+    public void send(byte[] message, SuccessAction successAction, FailureAction failureAction) {
+        if (size.incrementAndGet() > maxSize) {
+            size.decrementAndGet();
+            failureAction.execute(new JoynrDelayMessageException(QUEUE_FULL_DELAY_MS,
+                                                                 "WebSocket send queue of " + name + " is full"));
+            return;
+        }
+        queue.add(new QueuedMessage(message, successAction, failureAction));
+        drain();
+    }
+
+    /**
+     * Removes all queued messages which have not been passed to the frame writer yet and calls their
+     * {@link FailureAction} with the given error.
+     *
+     * @param error the error passed to the failure actions
+     */
+    public void clear(Throwable error) {
+        QueuedMessage queuedMessage;
+        while ((queuedMessage = queue.poll()) != null) {
+            size.decrementAndGet();
+            queuedMessage.failureAction.execute(error);
+        }
+    }
+
+    /**
+     * @return the number of queued messages which have not been passed to the frame writer yet
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /*
+     * Writes the next batch unless a batch is still being written. Concurrent and reentrant calls (e.g. from a
+     * frame writer which completes synchronously) are counted and processed by the thread which is already
+     * draining, so that at most one thread passes frames to the frame writer at any time.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            if (!writing) {
+                List<QueuedMessage> batch = pollBatch();
+                if (!batch.isEmpty()) {
+                    writing = true;
+                    writeBatch(batch);
+                }
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private List<QueuedMessage> pollBatch() {
+        List<QueuedMessage> batch = new ArrayList<>();
+        QueuedMessage queuedMessage;
+        while (batch.size() < MAX_BATCH_SIZE && (queuedMessage = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(queuedMessage);
+        }
+        return batch;
+    }
+
+    private void writeBatch(List<QueuedMessage> batch) {
+        AtomicInteger pendingFrames = new AtomicInteger(batch.size());
+        Runnable frameCompleted = () -> {
+            if (pendingFrames.decrementAndGet() == 0) {
+                writing = false;
+                drain();
+            }
+        };
+        for (int i = 0; i < batch.size(); i++) {
+            QueuedMessage queuedMessage = batch.get(i);
+            boolean moreFramesFollow = i < batch.size() - 1;
+            try {
+                frameWriter.write(queuedMessage.message, moreFramesFollow, () -> {
+                    frameCompleted.run();
+                    queuedMessage.successAction.execute();
+                }, error -> {
+                    frameCompleted.run();
+                    queuedMessage.failureAction.execute(error);
+                });
+            } catch (RuntimeException e) {
+                frameCompleted.run();
+                queuedMessage.failureAction.execute(e);
+            }
+        }
+    }
+}
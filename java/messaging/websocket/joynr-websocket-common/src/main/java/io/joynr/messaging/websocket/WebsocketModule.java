@@ -37,6 +37,7 @@ public class WebsocketModule extends AbstractModule {
     public static final String PROPERTY_WEBSOCKET_MESSAGING_PATH = "joynr.messaging.cc.path";
     public static final String PROPERTY_WEBSOCKET_MESSAGING_RECONNECT_DELAY = "joynr.messaging.cc.reconnectdelay";
     public static final String PROPERTY_WEBSOCKET_MESSAGING_IDLE_TIMEOUT = "joynr.messaging.cc.idletimeout";
+    public static final String PROPERTY_WEBSOCKET_MESSAGING_SEND_QUEUE_SIZE = "joynr.messaging.cc.sendqueuesize";
 
     public static final String WEBSOCKET_CLIENT_ADDRESS = "websocket_client_address";
     public static final String WEBSOCKET_SERVER_ADDRESS = "websocket_server_address";
@@ -0,0 +1,172 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.websocket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.joynr.exceptions.JoynrDelayMessageException;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.SuccessAction;
+
+public class WebSocketSendQueueTest {
+    private static final FailureAction NO_FAILURE_EXPECTED = new FailureAction() {
+        @Override
+        public void execute(Throwable error) {
+            fail("Unexpected FailureAction call: " + error.toString());
+        }
+    };
+    private static final int MAX_SIZE = 3;
+
+    private static class WrittenFrame {
+        private final byte[] frame;
+        private final boolean batch;
+        private final SuccessAction successAction;
+        private final FailureAction failureAction;
+
+        private WrittenFrame(byte[] frame, boolean batch, SuccessAction successAction, FailureAction failureAction) {
+            this.frame = frame;
+            this.batch = batch;
+            this.successAction = successAction;
+            this.failureAction = failureAction;
+        }
+    }
+
+    // frames which have been written but not completed yet
+    private List<WrittenFrame> writtenFrames;
+    private WebSocketSendQueue subject;
+
+    @Before
+    public void setUp() {
+        writtenFrames = new ArrayList<>();
+        subject = new WebSocketSendQueue("test", MAX_SIZE, (frame, batch, successAction, failureAction) -> {
+            writtenFrames.add(new WrittenFrame(frame, batch, successAction, failureAction));
+        });
+    }
+
+    private static byte[] message(int i) {
+        return new byte[]{ (byte) i };
+    }
+
+    @Test
+    public void messageIsWrittenImmediatelyIfIdle() {
+        AtomicInteger successCount = new AtomicInteger();
+        subject.send(message(1), successCount::incrementAndGet, NO_FAILURE_EXPECTED);
+
+        assertEquals(1, writtenFrames.size());
+        assertArrayEquals(message(1), writtenFrames.get(0).frame);
+        assertFalse(writtenFrames.get(0).batch);
+        assertEquals(0, subject.size());
+
+        writtenFrames.get(0).successAction.execute();
+        assertEquals(1, successCount.get());
+    }
+
+    @Test
+    public void queuedMessagesAreWrittenAsBatchAfterPreviousWriteCompleted() {
+        subject.send(message(1), SuccessAction.noAction, NO_FAILURE_EXPECTED);
+        subject.send(message(2), SuccessAction.noAction, NO_FAILURE_EXPECTED);
+        subject.send(message(3), SuccessAction.noAction, NO_FAILURE_EXPECTED);
+        assertEquals(1, writtenFrames.size());
+        assertEquals(2, subject.size());
+
+        WrittenFrame first = writtenFrames.remove(0);
+        first.successAction.execute();
+
+        assertEquals(2, writtenFrames.size());
+        assertArrayEquals(message(2), writtenFrames.get(0).frame);
+        assertTrue(writtenFrames.get(0).batch);
+        assertArrayEquals(message(3), writtenFrames.get(1).frame);
+        assertFalse(writtenFrames.get(1).batch);
+        assertEquals(0, subject.size());
+    }
+
+    @Test
+    public void messageIsRejectedIfQueueIsFull() {
+        for (int i = 0; i <= MAX_SIZE; i++) {
+            subject.send(message(i), SuccessAction.noAction, NO_FAILURE_EXPECTED);
+        }
+        assertEquals(1, writtenFrames.size());
+        assertEquals(MAX_SIZE, subject.size());
+
+        List<Throwable> errors = new ArrayList<>();
+        subject.send(message(MAX_SIZE + 1), () -> fail("unexpected success"), errors::add);
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof JoynrDelayMessageException);
+        assertEquals(1, writtenFrames.size());
+    }
+
+    @Test
+    public void failedWriteIsReportedAndNextBatchIsWritten() {
+        List<Throwable> errors = new ArrayList<>();
+        subject.send(message(1), () -> fail("unexpected success"), errors::add);
+        subject.send(message(2), SuccessAction.noAction, NO_FAILURE_EXPECTED);
+
+        Exception error = new Exception("write failed");
+        writtenFrames.remove(0).failureAction.execute(error);
+
+        assertEquals(1, errors.size());
+        assertEquals(error, errors.get(0));
+        assertEquals(1, writtenFrames.size());
+        assertArrayEquals(message(2), writtenFrames.get(0).frame);
+    }
+
+    @Test
+    public void synchronouslyCompletingWriterDrainsQueueInOrder() {
+        List<Byte> written = new ArrayList<>();
+        subject = new WebSocketSendQueue("test", 1000, (frame, batch, successAction, failureAction) -> {
+            written.add(frame[0]);
+            successAction.execute();
+        });
+        AtomicInteger successCount = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            subject.send(message(i), successCount::incrementAndGet, NO_FAILURE_EXPECTED);
+        }
+
+        assertEquals(100, successCount.get());
+        for (int i = 0; i < 100; i++) {
+            assertEquals((byte) i, written.get(i).byteValue());
+        }
+    }
+
+    @Test
+    public void clearFailsQueuedMessages() {
+        subject.send(message(1), SuccessAction.noAction, NO_FAILURE_EXPECTED);
+        List<Throwable> errors = new ArrayList<>();
+        subject.send(message(2), () -> fail("unexpected success"), errors::add);
+
+        Exception error = new Exception("session closed");
+        subject.clear(error);
+
+        assertEquals(1, errors.size());
+        assertEquals(error, errors.get(0));
+        assertEquals(0, subject.size());
+    }
+}
@@ -23,10 +23,10 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jetty.http.HttpVersion;
@@ -34,6 +34,8 @@ import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.websocket.api.BatchMode;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
 import org.eclipse.jetty.websocket.api.WriteCallback;
@@ -51,6 +53,7 @@ import io.joynr.messaging.FailureAction;
 import io.joynr.messaging.SuccessAction;
 import io.joynr.messaging.websocket.IWebSocketMessagingSkeleton;
 import io.joynr.messaging.websocket.JoynrWebSocketEndpoint;
+import io.joynr.messaging.websocket.WebSocketSendQueue;
 import io.joynr.util.ObjectMapper;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.WebSocketAddress;
@@ -64,23 +67,27 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
     private WebSocketAddress address;
     private int maxMessageSize;
     private long websocketIdleTimeout;
-    private Map<String, Session> sessionMap = new HashMap<>();
+    private int sendQueueSize;
+    private ConcurrentMap<String, Session> sessionMap = new ConcurrentHashMap<>();
+    private ConcurrentMap<String, WebSocketSendQueue> sendQueues = new ConcurrentHashMap<>();
     private List<CCWebSocketMessagingSkeletonSocket> openSockets = new ArrayList<>();
 
     public ObjectMapper objectMapper;
 
     private IWebSocketMessagingSkeleton messageListener;
 
-    private boolean shutdown = false;
+    private volatile boolean shutdown = false;
 
     public WebSocketJettyServer(WebSocketAddress address,
                                 ObjectMapper objectMapper,
                                 int maxMessageSize,
-                                long websocketIdleTimeout) {
+                                long websocketIdleTimeout,
+                                int sendQueueSize) {
         this.address = address;
         this.objectMapper = objectMapper;
         this.maxMessageSize = maxMessageSize;
         this.websocketIdleTimeout = websocketIdleTimeout;
+        this.sendQueueSize = sendQueueSize;
     }
 
     @Override
@@ -164,25 +171,73 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
     }
 
     @Override
-    public synchronized void writeBytes(Address toAddress,
-                                        byte[] message,
-                                        long timeout,
-                                        TimeUnit unit,
-                                        final SuccessAction successAction,
-                                        final FailureAction failureAction) {
+    public void writeBytes(Address toAddress,
+                           byte[] message,
+                           long timeout,
+                           TimeUnit unit,
+                           final SuccessAction successAction,
+                           final FailureAction failureAction) {
         if (!(toAddress instanceof WebSocketClientAddress)) {
             throw new JoynrIllegalStateException("Web Socket Server can only send to WebSocketClientAddresses");
         }
 
         WebSocketClientAddress toClientAddress = (WebSocketClientAddress) toAddress;
-        Session session = sessionMap.get(toClientAddress.getId());
-        if (session == null) {
+        WebSocketSendQueue sendQueue = sendQueues.get(toClientAddress.getId());
+        if (sendQueue == null) {
             //TODO We need a delay with invalidation of the stub
             throw new JoynrDelayMessageException("no active session for WebSocketClientAddress: "
                     + toClientAddress.getId());
         }
+        // the message is only queued, a slow client does not block the sends to other clients
+        sendQueue.send(message, successAction, error -> {
+            if (shutdown) {
+                return;
+            }
+            failureAction.execute(error);
+        });
+    }
+
+    private void registerSession(String clientId, Session session) {
+        WebSocketSendQueue sendQueue = new WebSocketSendQueue(clientId,
+                                                              sendQueueSize,
+                                                              (frame, batch, successAction, failureAction) -> {
+                                                                  writeFrame(clientId,
+                                                                             session,
+                                                                             frame,
+                                                                             batch,
+                                                                             successAction,
+                                                                             failureAction);
+                                                              });
+        sessionMap.put(clientId, session);
+        WebSocketSendQueue previousSendQueue = sendQueues.put(clientId, sendQueue);
+        if (previousSendQueue != null) {
+            // the client has reconnected, the messages queued for the old session are sent again later
+            previousSendQueue.clear(new JoynrDelayMessageException("WebSocketClientAddress " + clientId
+                    + " has reconnected"));
+        }
+    }
+
+    private void unregisterSession(String clientId, Session session) {
+        if (sessionMap.remove(clientId, session)) {
+            WebSocketSendQueue sendQueue = sendQueues.remove(clientId);
+            if (sendQueue != null) {
+                sendQueue.clear(new JoynrDelayMessageException("no active session for WebSocketClientAddress: "
+                        + clientId));
+            }
+        }
+    }
+
+    private void writeFrame(String clientId,
+                            Session session,
+                            byte[] frame,
+                            boolean batch,
+                            final SuccessAction successAction,
+                            final FailureAction failureAction) {
         try {
-            session.getRemote().sendBytes(ByteBuffer.wrap(message), new WriteCallback() {
+            RemoteEndpoint remote = session.getRemote();
+            // batched frames are aggregated by Jetty and flushed with the next frame which is not batched
+            remote.setBatchMode(batch ? BatchMode.ON : BatchMode.OFF);
+            remote.sendBytes(ByteBuffer.wrap(frame), new WriteCallback() {
                 @Override
                 public void writeSuccess() {
                     successAction.execute();
@@ -190,18 +245,15 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
 
                 @Override
                 public void writeFailed(Throwable error) {
-                    if (shutdown) {
-                        return;
-                    }
                     failureAction.execute(error);
                 }
             });
         } catch (WebSocketException e) {
             // Jetty throws WebSocketException when expecting [OPEN or CONNECTED] but found a different state
             // The client must reconnect, but the message can be queued in the mean time.
-            sessionMap.remove(toClientAddress.getId());
+            unregisterSession(clientId, session);
             //TODO We need a delay with invalidation of the stub
-            throw new JoynrDelayMessageException(e.getMessage(), e);
+            failureAction.execute(new JoynrDelayMessageException(e.getMessage(), e));
         }
     }
 
@@ -216,6 +268,7 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
     private class CCWebSocketMessagingSkeletonSocket extends WebSocketAdapter {
 
         private WebSocketMessageArrivedListener messageArrivedListener;
+        private volatile String clientId;
 
         public CCWebSocketMessagingSkeletonSocket(WebSocketMessageArrivedListener messageArrivedListener) {
             this.messageArrivedListener = messageArrivedListener;
@@ -235,7 +288,8 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
                     WebSocketClientAddress webSocketClientAddress = objectMapper.readValue(serializedMessage,
                                                                                            WebSocketClientAddress.class);
                     logger.debug("Registering WebSocketClientAddress: {}", webSocketClientAddress);
-                    sessionMap.put(webSocketClientAddress.getId(), getSession());
+                    clientId = webSocketClientAddress.getId();
+                    registerSession(clientId, getSession());
                 } catch (IOException e) {
                     logger.error("Error parsing WebSocketClientAddress: ", e);
                 }
@@ -246,7 +300,11 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
 
         @Override
         public void onWebSocketClose(int statusCode, String reason) {
+            Session session = getSession();
             super.onWebSocketClose(statusCode, reason);
+            if (clientId != null) {
+                unregisterSession(clientId, session);
+            }
             openSockets.remove(CCWebSocketMessagingSkeletonSocket.this);
             // TODO remove address from routing table???
         }
@@ -35,15 +35,18 @@ public class WebSocketJettyServerFactory implements WebSocketEndpointFactory {
 
     private int maxMessageSize;
     private long websocketIdleTimeout;
+    private int sendQueueSize;
     private ObjectMapper objectMapper;
     private WebSocketJettyServer jettyServer;
 
     @Inject
     public WebSocketJettyServerFactory(@Named(ConfigurableMessagingSettings.PROPERTY_MAX_MESSAGE_SIZE) int maxMessageSize,
                                        @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_IDLE_TIMEOUT) long websocketIdleTimeout,
+                                       @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_SEND_QUEUE_SIZE) int sendQueueSize,
                                        ObjectMapper objectMapper) {
         this.maxMessageSize = maxMessageSize;
         this.websocketIdleTimeout = websocketIdleTimeout;
+        this.sendQueueSize = sendQueueSize;
         this.objectMapper = objectMapper;
     }
 
@@ -53,7 +56,8 @@ public class WebSocketJettyServerFactory implements WebSocketEndpointFactory {
             jettyServer = new WebSocketJettyServer((WebSocketAddress) serverAddress,
                                                    objectMapper,
                                                    maxMessageSize,
-                                                   websocketIdleTimeout);
+                                                   websocketIdleTimeout,
+                                                   sendQueueSize);
         }
         return jettyServer;
     }
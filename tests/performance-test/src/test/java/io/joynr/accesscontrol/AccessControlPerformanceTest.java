@@ -0,0 +1,199 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.accesscontrol;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.joynr.capabilities.LocalCapabilitiesDirectory;
+import io.joynr.provider.Promise;
+import joynr.ImmutableMessage;
+import joynr.Message;
+import joynr.MutableMessage;
+import joynr.infrastructure.DacTypes.MasterAccessControlEntry;
+import joynr.infrastructure.DacTypes.Permission;
+import joynr.infrastructure.DacTypes.TrustLevel;
+import joynr.system.DiscoveryProvider.Lookup4Deferred;
+import joynr.types.DiscoveryEntryWithMetaInfo;
+import joynr.types.GlobalDiscoveryEntry;
+import joynr.types.ProviderQos;
+import joynr.types.Version;
+import net.sf.ehcache.CacheManager;
+
+/**
+ * Compares the number of permission checks per second done by the cluster controller for incoming requests
+ * with access control disabled, with access control enabled and with access control enabled but without
+ * the decision cache. The discovery lookup is answered immediately, the ACEs are evaluated by the
+ * EhCache based DomainAccessControlStore.
+ */
+public class AccessControlPerformanceTest {
+
+    private static final int NUM_WARMUP_RUNS = 10000;
+    private static final int NUM_RUNS = 200000;
+    private static final String DOMAIN = "domain";
+    private static final String INTERFACE_NAME = "interfaceName";
+    private static final String PROVIDER_PARTICIPANT_ID = "providerParticipantId";
+
+    private CacheManager cacheManager;
+    private LocalCapabilitiesDirectory localCapabilitiesDirectory;
+    private LocalDomainAccessController localDomainAccessController;
+    private ImmutableMessage request;
+    private final AtomicInteger grantedCount = new AtomicInteger();
+    private final HasConsumerPermissionCallback callback = hasPermission -> {
+        if (hasPermission) {
+            grantedCount.incrementAndGet();
+        }
+    };
+
+    @Before
+    public void setUp() throws Exception {
+        cacheManager = CacheManager.create();
+        DomainAccessControlStore domainAccessControlStore = new DomainAccessControlStoreEhCache(cacheManager,
+                                                                                                new DefaultDomainAccessControlProvisioning());
+        TrustLevel[] trustLevels = { TrustLevel.LOW };
+        MasterAccessControlEntry masterAce = new MasterAccessControlEntry(ImmutableMessage.DUMMY_CREATOR_USER_ID,
+                                                                          DOMAIN,
+                                                                          INTERFACE_NAME,
+                                                                          TrustLevel.LOW,
+                                                                          trustLevels,
+                                                                          TrustLevel.LOW,
+                                                                          trustLevels,
+                                                                          "*",
+                                                                          Permission.YES,
+                                                                          new Permission[]{ Permission.YES });
+        domainAccessControlStore.updateMasterAccessControlEntry(masterAce);
+        GlobalDiscoveryEntry capabilitiesDirectoryEntry = new GlobalDiscoveryEntry();
+        capabilitiesDirectoryEntry.setDomain("discoveryDirectoriesDomain");
+        LocalDomainAccessControllerImpl localDomainAccessControllerImpl = new LocalDomainAccessControllerImpl(capabilitiesDirectoryEntry,
+                                                                                                              domainAccessControlStore,
+                                                                                                              null,
+                                                                                                              "systemServicesDomain");
+        localDomainAccessController = createLocalDomainAccessController(localDomainAccessControllerImpl);
+        DiscoveryEntryWithMetaInfo providerEntry = new DiscoveryEntryWithMetaInfo(new Version(47, 11),
+                                                                                  DOMAIN,
+                                                                                  INTERFACE_NAME,
+                                                                                  PROVIDER_PARTICIPANT_ID,
+                                                                                  new ProviderQos(),
+                                                                                  System.currentTimeMillis(),
+                                                                                  Long.MAX_VALUE,
+                                                                                  "publicKeyId",
+                                                                                  true);
+        localCapabilitiesDirectory = createLocalCapabilitiesDirectory(providerEntry);
+
+        MutableMessage mutableMessage = new MutableMessage();
+        mutableMessage.setType(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST);
+        mutableMessage.setSender("consumerParticipantId");
+        mutableMessage.setRecipient(PROVIDER_PARTICIPANT_ID);
+        mutableMessage.setTtlAbsolute(true);
+        mutableMessage.setTtlMs(Long.MAX_VALUE);
+        mutableMessage.setPayload(new byte[0]);
+        request = mutableMessage.getImmutableMessage();
+    }
+
+    @After
+    public void tearDown() {
+        cacheManager.shutdown();
+    }
+
+    // evaluates the ACEs synchronously like LocalDomainAccessControllerImpl does for already known interfaces
+    private static LocalDomainAccessController createLocalDomainAccessController(LocalDomainAccessControllerImpl localDomainAccessControllerImpl) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("getConsumerPermission") && args.length == 5) {
+                Permission permission = localDomainAccessControllerImpl.getConsumerPermission((String) args[0],
+                                                                                              (String) args[1],
+                                                                                              (String) args[2],
+                                                                                              "*",
+                                                                                              (TrustLevel) args[3]);
+                ((GetConsumerPermissionCallback) args[4]).getConsumerPermission(permission);
+                return null;
+            }
+            return method.invoke(localDomainAccessControllerImpl, args);
+        };
+        return (LocalDomainAccessController) Proxy.newProxyInstance(LocalDomainAccessController.class.getClassLoader(),
+                                                                    new Class<?>[]{ LocalDomainAccessController.class },
+                                                                    handler);
+    }
+
+    // answers the participantId lookups immediately like the local discovery entry store of the cluster controller
+    private static LocalCapabilitiesDirectory createLocalCapabilitiesDirectory(DiscoveryEntryWithMetaInfo providerEntry) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("lookup") && args.length == 3) {
+                Lookup4Deferred deferred = new Lookup4Deferred();
+                deferred.resolve(providerEntry);
+                return new Promise<>(deferred);
+            }
+            return null;
+        };
+        return (LocalCapabilitiesDirectory) Proxy.newProxyInstance(LocalCapabilitiesDirectory.class.getClassLoader(),
+                                                                   new Class<?>[]{ LocalCapabilitiesDirectory.class },
+                                                                   handler);
+    }
+
+    private AccessController createAccessController(int decisionCacheMaxSize) {
+        return new AccessControllerImpl(localCapabilitiesDirectory,
+                                        localDomainAccessController,
+                                        () -> new ArrayList<GlobalDiscoveryEntry>(),
+                                        "discoveryProviderParticipantId",
+                                        "routingProviderParticipantId",
+                                        decisionCacheMaxSize);
+    }
+
+    @Test
+    public void accessControlDisabled() {
+        runBenchmark("Access control disabled", new AccessControllerDummy());
+    }
+
+    @Test
+    public void accessControlEnabled_withDecisionCache() {
+        runBenchmark("Access control enabled, decision cache", createAccessController(10000));
+    }
+
+    @Test
+    public void accessControlEnabled_withoutDecisionCache() {
+        runBenchmark("Access control enabled, no decision cache", createAccessController(0));
+    }
+
+    private void runBenchmark(String name, AccessController accessController) {
+        for (int i = 0; i < NUM_WARMUP_RUNS; i++) {
+            accessController.hasConsumerPermission(request, callback);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < NUM_RUNS; i++) {
+            accessController.hasConsumerPermission(request, callback);
+        }
+        long end = System.nanoTime();
+        assertEquals(NUM_WARMUP_RUNS + NUM_RUNS, grantedCount.get());
+
+        double deltaMs = (double) (end - start) / 1000000.0;
+        double checksPerSecond = NUM_RUNS * 1000.0 / deltaMs;
+        System.out.println(String.format("Test case %s: %d runs, %.0f permission checks per second",
+                                         name,
+                                         NUM_RUNS,
+                                         checksPerSecond));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import io.joynr.messaging.routing.InMemoryMulticastReceiverRegistry;
+import io.joynr.messaging.routing.MulticastReceiverRegistry;
+import io.joynr.messaging.routing.TrieMulticastReceiverRegistry;
+import io.joynr.messaging.util.MulticastWildcardRegexFactory;
+
+/**
+ * Compares the regex based and the trie based multicast receiver registry for a provider with a
+ * partitioned broadcast: each consumer subscribes to one partition pair "region/vehicle", a few consumers
+ * use wildcards ("region/+", "region/*").
+ */
+@RunWith(Parameterized.class)
+public class MulticastReceiverRegistryPerformanceTest {
+
+    private static final String PROVIDER_PARTICIPANT_ID = "providerParticipantId";
+    private static final String BROADCAST_NAME = "vehicleStatus";
+    private static final int NUM_REGIONS = 10;
+    private static final int NUM_WARMUP_RUNS = 1000;
+    private static final int NUM_RUNS = 2000;
+
+    private final int numSubscriptions;
+    private final String testName;
+    private String[] multicastIds;
+
+    public MulticastReceiverRegistryPerformanceTest(Integer numSubscriptions, String testName) {
+        this.numSubscriptions = numSubscriptions.intValue();
+        this.testName = testName;
+    }
+
+    @Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{ { Integer.valueOf(100), "100 subscriptions" },
+                { Integer.valueOf(1000), "1k subscriptions" }, { Integer.valueOf(10000), "10k subscriptions" } });
+    }
+
+    public interface ITestCase {
+        void run() throws Exception;
+    }
+
+    @Before
+    public void setUp() {
+        multicastIds = new String[numSubscriptions];
+        for (int i = 0; i < numSubscriptions; i++) {
+            multicastIds[i] = createMulticastId("region" + (i % NUM_REGIONS), "vehicle" + i);
+        }
+    }
+
+    private static String createMulticastId(String... partitions) {
+        return PROVIDER_PARTICIPANT_ID + "/" + BROADCAST_NAME + "/" + String.join("/", partitions);
+    }
+
+    private void registerReceivers(MulticastReceiverRegistry registry) {
+        for (int i = 0; i < numSubscriptions; i++) {
+            registry.registerMulticastReceiver(multicastIds[i], "consumer" + i);
+        }
+        for (int region = 0; region < NUM_REGIONS; region++) {
+            registry.registerMulticastReceiver(createMulticastId("region" + region, "+"), "regionConsumer" + region);
+            registry.registerMulticastReceiver(createMulticastId("region" + region, "*"), "fleetConsumer" + region);
+        }
+        registry.registerMulticastReceiver(createMulticastId("+", "vehicle0"), "vehicleConsumer");
+    }
+
+    private void runLookups(final MulticastReceiverRegistry registry, String name) throws Exception {
+        registerReceivers(registry);
+        ITestCase testCase = new ITestCase() {
+            private int index = 0;
+
+            @Override
+            public void run() throws Exception {
+                registry.getReceivers(multicastIds[index]);
+                index = (index + 1) % multicastIds.length;
+            }
+        };
+        runBenchmark(String.format("%s - warmup, %s", name, testName), NUM_WARMUP_RUNS, testCase);
+        runBenchmark(String.format("%s - getReceivers, %s", name, testName), NUM_RUNS, testCase);
+    }
+
+    @Test
+    public void getReceivers_regex() throws Exception {
+        runLookups(new InMemoryMulticastReceiverRegistry(new MulticastWildcardRegexFactory()), "Regex");
+    }
+
+    @Test
+    public void getReceivers_trie() throws Exception {
+        runLookups(new TrieMulticastReceiverRegistry(new MulticastWildcardRegexFactory()), "Trie");
+    }
+
+    private void runBenchmark(String name, int numRuns, ITestCase testCase) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < numRuns; i++) {
+            testCase.run();
+        }
+        long end = System.nanoTime();
+
+        double deltaMs = (double) (end - start) / 1000000.0;
+        double averageRunUs = deltaMs * 1000.0 / (double) numRuns;
+
+        System.out.println(String.format("Test case %s: %d runs, average %.3f us, total %.3f ms",
+                                         name,
+                                         numRuns,
+                                         averageRunUs,
+                                         deltaMs));
+    }
+}
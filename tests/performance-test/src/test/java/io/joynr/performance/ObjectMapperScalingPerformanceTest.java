@@ -0,0 +1,149 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import io.joynr.messaging.JsonMessageSerializerModule;
+import io.joynr.util.ObjectMapper;
+import joynr.Request;
+
+/**
+ * Measures how the request serialization and deserialization throughput of the shared ObjectMapper scales
+ * with the number of threads using it concurrently.
+ */
+@RunWith(Parameterized.class)
+public class ObjectMapperScalingPerformanceTest {
+
+    private static final int NUM_WARMUP_RUNS = 1000;
+    private static final int NUM_RUNS_PER_THREAD = 10000;
+
+    private final int numberOfThreads;
+    private ObjectMapper objectMapper;
+    private ExecutorService executor;
+    private Request request;
+
+    public ObjectMapperScalingPerformanceTest(Integer numberOfThreads) {
+        this.numberOfThreads = numberOfThreads.intValue();
+    }
+
+    @Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{ { Integer.valueOf(1) }, { Integer.valueOf(2) }, { Integer.valueOf(4) },
+                { Integer.valueOf(8) }, { Integer.valueOf(16) }, { Integer.valueOf(32) } });
+    }
+
+    public interface ITestCase {
+        void run() throws Exception;
+    }
+
+    @Before
+    public void setUp() {
+        Injector injector = Guice.createInjector(new JsonMessageSerializerModule(), new AbstractModule() {
+            @Override
+            protected void configure() {
+                requestStaticInjection(Request.class);
+            }
+        });
+        objectMapper = injector.getInstance(ObjectMapper.class);
+        executor = Executors.newFixedThreadPool(numberOfThreads);
+        request = new Request("methodName",
+                              new Object[]{ "stringParameter", Integer.valueOf(42) },
+                              new String[]{ String.class.getName(), Integer.class.getName() },
+                              "requestReplyId");
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void serialize() throws Exception {
+        runBenchmark("Serialize request", new ITestCase() {
+            @Override
+            public void run() throws Exception {
+                objectMapper.writeValueAsBytes(request);
+            }
+        });
+    }
+
+    @Test
+    public void deserialize() throws Exception {
+        final byte[] serializedRequest = objectMapper.writeValueAsBytes(request);
+        runBenchmark("Deserialize request", new ITestCase() {
+            @Override
+            public void run() throws Exception {
+                objectMapper.readValue(serializedRequest, Request.class);
+            }
+        });
+    }
+
+    private void runBenchmark(String name, ITestCase testCase) throws Exception {
+        for (int i = 0; i < NUM_WARMUP_RUNS; i++) {
+            testCase.run();
+        }
+
+        CyclicBarrier startBarrier = new CyclicBarrier(numberOfThreads + 1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < numberOfThreads; thread++) {
+            futures.add(executor.submit(() -> {
+                startBarrier.await();
+                for (int i = 0; i < NUM_RUNS_PER_THREAD; i++) {
+                    testCase.run();
+                }
+                return null;
+            }));
+        }
+        startBarrier.await();
+        long start = System.nanoTime();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long end = System.nanoTime();
+
+        double deltaMs = (double) (end - start) / 1000000.0;
+        long totalRuns = (long) numberOfThreads * NUM_RUNS_PER_THREAD;
+        System.out.println(String.format("Test case %s, %d threads: %d runs, total %.3f ms, %.0f operations per second",
+                                         name,
+                                         numberOfThreads,
+                                         totalRuns,
+                                         deltaMs,
+                                         totalRuns * 1000.0 / deltaMs));
+    }
+}
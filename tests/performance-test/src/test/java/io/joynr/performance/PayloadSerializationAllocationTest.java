@@ -0,0 +1,164 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import io.joynr.messaging.JsonMessageSerializerModule;
+import io.joynr.util.ObjectMapper;
+import joynr.Request;
+
+/**
+ * Compares the allocation rate and the duration of the payload serialization via an intermediate String
+ * (writeValueAsString + getBytes, new String + readValue) with the direct serialization to / from UTF-8
+ * encoded bytes as done by MutableMessageFactory and DispatcherImpl.
+ */
+@RunWith(Parameterized.class)
+public class PayloadSerializationAllocationTest {
+
+    private static final int NUM_WARMUP_RUNS = 1000;
+    private static final int NUM_RUNS = 1000;
+
+    private final int payloadSize;
+    private final String testName;
+    private ObjectMapper objectMapper;
+    private Request request;
+
+    public PayloadSerializationAllocationTest(Integer payloadSize, String testName) {
+        this.payloadSize = payloadSize.intValue();
+        this.testName = testName;
+    }
+
+    @Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{ { Integer.valueOf(100), "100 chars" },
+                { Integer.valueOf(10000), "10k chars" }, { Integer.valueOf(100000), "100k chars" } });
+    }
+
+    public interface ITestCase {
+        void run() throws Exception;
+    }
+
+    @Before
+    public void setUp() {
+        Injector injector = Guice.createInjector(new JsonMessageSerializerModule(), new AbstractModule() {
+            @Override
+            protected void configure() {
+                requestStaticInjection(Request.class);
+            }
+        });
+        objectMapper = injector.getInstance(ObjectMapper.class);
+
+        char[] content = new char[payloadSize];
+        Arrays.fill(content, 'x');
+        request = new Request("methodName",
+                              new Object[]{ new String(content) },
+                              new String[]{ String.class.getName() },
+                              "requestReplyId");
+    }
+
+    @Test
+    public void serialize_viaString() throws Exception {
+        runBenchmark("Serialize via String", new ITestCase() {
+            @Override
+            public void run() throws Exception {
+                objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            }
+        });
+    }
+
+    @Test
+    public void serialize_toBytes() throws Exception {
+        runBenchmark("Serialize to bytes", new ITestCase() {
+            @Override
+            public void run() throws Exception {
+                objectMapper.writeValueAsBytes(request);
+            }
+        });
+    }
+
+    @Test
+    public void deserialize_viaString() throws Exception {
+        final byte[] serializedRequest = objectMapper.writeValueAsBytes(request);
+        runBenchmark("Deserialize via String", new ITestCase() {
+            @Override
+            public void run() throws Exception {
+                objectMapper.readValue(new String(serializedRequest, StandardCharsets.UTF_8), Request.class);
+            }
+        });
+    }
+
+    @Test
+    public void deserialize_fromBytes() throws Exception {
+        final byte[] serializedRequest = objectMapper.writeValueAsBytes(request);
+        runBenchmark("Deserialize from bytes", new ITestCase() {
+            @Override
+            public void run() throws Exception {
+                objectMapper.readValue(serializedRequest, Request.class);
+            }
+        });
+    }
+
+    private void runBenchmark(String name, ITestCase testCase) throws Exception {
+        for (int i = 0; i < NUM_WARMUP_RUNS; i++) {
+            testCase.run();
+        }
+
+        long allocatedBytesStart = getAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < NUM_RUNS; i++) {
+            testCase.run();
+        }
+        long end = System.nanoTime();
+        long allocatedBytes = getAllocatedBytes() - allocatedBytesStart;
+
+        double deltaMs = (double) (end - start) / 1000000.0;
+        double averageRunUs = deltaMs * 1000.0 / (double) NUM_RUNS;
+
+        System.out.println(String.format("Test case %s, %s: %d runs, average %.3f us, allocated %d bytes per run",
+                                         name,
+                                         testName,
+                                         NUM_RUNS,
+                                         averageRunUs,
+                                         allocatedBytes / NUM_RUNS));
+    }
+
+    private static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread()
+                                                                                                  .getId());
+        }
+        // allocation measurement not supported by this JVM
+        return 0;
+    }
+}
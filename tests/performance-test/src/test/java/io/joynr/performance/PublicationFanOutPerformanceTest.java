@@ -0,0 +1,160 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import io.joynr.dispatching.MutableMessageFactory;
+import io.joynr.messaging.JsonMessageSerializerModule;
+import io.joynr.messaging.MessagingQos;
+import io.joynr.pubsub.publication.PublicationValues;
+import io.joynr.util.ObjectMapper;
+import joynr.Request;
+import joynr.SubscriptionPublication;
+
+/**
+ * Measures the creation of the publication messages of one attribute change for a varying number of
+ * subscribers, with the value serialized once per subscriber and once per change.
+ */
+@RunWith(Parameterized.class)
+public class PublicationFanOutPerformanceTest {
+
+    private static final int NUM_VALUE_ELEMENTS = 100;
+    private static final int NUM_MESSAGES = 200000;
+    private static final String PROVIDER_PARTICIPANT_ID = "providerParticipantId";
+
+    private final int numberOfSubscribers;
+    private final int numberOfChanges;
+    private MutableMessageFactory messageFactory;
+    private MessagingQos messagingQos;
+    private String[] subscriptionIds;
+    private String[] proxyParticipantIds;
+    private Object value;
+
+    public PublicationFanOutPerformanceTest(Integer numberOfSubscribers) {
+        this.numberOfSubscribers = numberOfSubscribers.intValue();
+        this.numberOfChanges = Math.max(1, NUM_MESSAGES / this.numberOfSubscribers);
+    }
+
+    @Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{ { Integer.valueOf(1) }, { Integer.valueOf(100) },
+                { Integer.valueOf(10000) } });
+    }
+
+    public interface ITestCase {
+        void run() throws Exception;
+    }
+
+    @Before
+    public void setUp() {
+        Injector injector = Guice.createInjector(new JsonMessageSerializerModule(), new AbstractModule() {
+            @Override
+            protected void configure() {
+                requestStaticInjection(Request.class);
+            }
+        });
+        ObjectMapper objectMapper = injector.getInstance(ObjectMapper.class);
+        messageFactory = new MutableMessageFactory(objectMapper, Collections.emptySet());
+        messagingQos = new MessagingQos();
+
+        subscriptionIds = new String[numberOfSubscribers];
+        proxyParticipantIds = new String[numberOfSubscribers];
+        for (int i = 0; i < numberOfSubscribers; i++) {
+            subscriptionIds[i] = "subscriptionId-" + i;
+            proxyParticipantIds[i] = "proxyParticipantId-" + i;
+        }
+        String[] elements = new String[NUM_VALUE_ELEMENTS];
+        for (int i = 0; i < NUM_VALUE_ELEMENTS; i++) {
+            elements[i] = "attribute value element " + i;
+        }
+        value = elements;
+    }
+
+    @Test
+    public void serializePerSubscriber() throws Exception {
+        runBenchmark("Serialize value per subscriber", new ITestCase() {
+            @Override
+            public void run() throws Exception {
+                for (int i = 0; i < numberOfSubscribers; i++) {
+                    SubscriptionPublication publication = new SubscriptionPublication(Arrays.asList(value),
+                                                                                      subscriptionIds[i]);
+                    messageFactory.createPublication(PROVIDER_PARTICIPANT_ID,
+                                                     proxyParticipantIds[i],
+                                                     publication,
+                                                     messagingQos);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void serializeOncePerChange() throws Exception {
+        runBenchmark("Serialize value once per change", new ITestCase() {
+            @Override
+            public void run() throws Exception {
+                PublicationValues publicationValues = new PublicationValues(Arrays.asList(value));
+                for (int i = 0; i < numberOfSubscribers; i++) {
+                    SubscriptionPublication publication = new SubscriptionPublication(publicationValues,
+                                                                                      subscriptionIds[i]);
+                    messageFactory.createPublication(PROVIDER_PARTICIPANT_ID,
+                                                     proxyParticipantIds[i],
+                                                     publication,
+                                                     messagingQos);
+                }
+            }
+        });
+    }
+
+    private void runBenchmark(String name, ITestCase testCase) throws Exception {
+        // warm up
+        for (int change = 0; change < numberOfChanges; change++) {
+            testCase.run();
+        }
+
+        long start = System.nanoTime();
+        for (int change = 0; change < numberOfChanges; change++) {
+            testCase.run();
+        }
+        long end = System.nanoTime();
+
+        double deltaMs = (double) (end - start) / 1000000.0;
+        long numberOfMessages = (long) numberOfChanges * numberOfSubscribers;
+        System.out.println(String.format("Test case %s, %d subscribers: %d changes, %d messages, total %.3f ms, %.3f ms per change, %.0f messages per second",
+                                         name,
+                                         numberOfSubscribers,
+                                         numberOfChanges,
+                                         numberOfMessages,
+                                         deltaMs,
+                                         deltaMs / numberOfChanges,
+                                         numberOfMessages * 1000.0 / deltaMs));
+    }
+}
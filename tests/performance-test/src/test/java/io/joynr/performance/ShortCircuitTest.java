@@ -21,12 +21,17 @@ package io.joynr.performance;
 import static io.joynr.util.JoynrUtil.createUuidString;
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Properties;
 import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Module;
@@ -38,6 +43,7 @@ import io.joynr.arbitration.ArbitrationStrategy;
 import io.joynr.arbitration.DiscoveryQos;
 import io.joynr.arbitration.DiscoveryScope;
 import io.joynr.integration.util.DummyJoynrApplication;
+import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.messaging.routing.GlobalAddressFactory;
 import io.joynr.messaging.routing.TestGlobalAddressModule;
 import io.joynr.proxy.ProxyBuilder;
@@ -52,6 +58,12 @@ import joynr.tests.performance.Types.ComplexStruct;
 import joynr.types.ProviderQos;
 import joynr.types.ProviderScope;
 
+/**
+ * Measures round trips between a proxy and a provider in the same cluster controller in-process runtime, with the
+ * payload passed as object and with the payload serialized to JSON and SMRF, see
+ * {@link ConfigurableMessagingSettings#PROPERTY_IN_PROCESS_OBJECT_PASSING}.
+ */
+@RunWith(Parameterized.class)
 public class ShortCircuitTest {
 
     private static final int THOUSAND = 1000;
@@ -61,11 +73,25 @@ public class ShortCircuitTest {
     private JoynrRuntime runtime;
     private EchoProxy echoProxy;
     private int times = 1000;
+    private final boolean inProcessObjectPassing;
+    private final String mode;
+
+    public ShortCircuitTest(boolean inProcessObjectPassing) {
+        this.inProcessObjectPassing = inProcessObjectPassing;
+        this.mode = inProcessObjectPassing ? "object passing" : "serialized";
+    }
+
+    @Parameters(name = "inProcessObjectPassing={0}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{ { true }, { false } });
+    }
 
     @Before
     public void setup() throws Exception {
         Module runtimeModule = Modules.override(new CCInProcessRuntimeModule()).with(new TestGlobalAddressModule());
         Properties joynrConfig = new Properties();
+        joynrConfig.setProperty(ConfigurableMessagingSettings.PROPERTY_IN_PROCESS_OBJECT_PASSING,
+                                String.valueOf(inProcessObjectPassing));
         DummyJoynrApplication application = (DummyJoynrApplication) new JoynrInjectorFactory(joynrConfig,
                                                                                              runtimeModule).createApplication(DummyJoynrApplication.class);
 
@@ -112,10 +138,10 @@ public class ShortCircuitTest {
         double elapsedTimeMs = (double) (end - start) / MILLION;
 
         System.err.println("");
-        System.err.println("string length:\t" + sendString.length() + "\t# roundtrips: " + times + "\tin time (ms): \t"
-                + elapsedTimeMs);
+        System.err.println(mode + "\tstring length:\t" + sendString.length() + "\t# roundtrips: " + times
+                + "\tin time (ms): \t" + elapsedTimeMs);
         double averagePerTrip = elapsedTimeMs / times;
-        System.err.println("string length:\t" + sendString.length() + "\taverage time (ms) per roundtrip: \t"
+        System.err.println(mode + "\tstring length:\t" + sendString.length() + "\taverage time (ms) per roundtrip: \t"
                 + averagePerTrip);
     }
 
@@ -138,9 +164,11 @@ public class ShortCircuitTest {
         int size = (Integer.SIZE + Long.SIZE) / 8 + str.length() + byteArray.length;
 
         System.err.println("");
-        System.err.println("struct bytes\t" + size + "\t# roundtrips: " + times + "\tin time (ms): \t" + elapsedTimeMs);
+        System.err.println(mode + "\tstruct bytes\t" + size + "\t# roundtrips: " + times + "\tin time (ms): \t"
+                + elapsedTimeMs);
         double averagePerTrip = elapsedTimeMs / times;
-        System.err.println("struct bytes\t" + size + "\taverage time (ms) per roundtrip: \t" + averagePerTrip);
+        System.err.println(mode + "\tstruct bytes\t" + size + "\taverage time (ms) per roundtrip: \t"
+                + averagePerTrip);
     }
 
     @Test(timeout = CONST_DEFAULT_TEST_TIMEOUT)
@@ -149,10 +177,11 @@ public class ShortCircuitTest {
         double elapsedTimeMs = startSendingBytes(byteCount, times);
 
         System.err.println("");
-        System.err.println("byte[] length:\t" + byteCount + "\t# roundtrips:\t" + times + "\tin time (ms):\t"
+        System.err.println(mode + "\tbyte[] length:\t" + byteCount + "\t# roundtrips:\t" + times + "\tin time (ms):\t"
                 + elapsedTimeMs);
         double averagePerTrip = elapsedTimeMs / times;
-        System.err.println("byte[] length:\t" + byteCount + "\taverage time (ms) per roundtrip:\t" + averagePerTrip);
+        System.err.println(mode + "\tbyte[] length:\t" + byteCount + "\taverage time (ms) per roundtrip:\t"
+                + averagePerTrip);
     }
 
     @Test(timeout = CONST_DEFAULT_TEST_TIMEOUT)
@@ -162,10 +191,11 @@ public class ShortCircuitTest {
         double elapsedTimeMs = startSendingBytes(byteCount, roundTrips);
 
         System.err.println("");
-        System.err.println("byte[] length:\t" + byteCount + "\t# roundtrips:\t" + roundTrips + "\tin time (ms):\t"
-                + elapsedTimeMs);
+        System.err.println(mode + "\tbyte[] length:\t" + byteCount + "\t# roundtrips:\t" + roundTrips
+                + "\tin time (ms):\t" + elapsedTimeMs);
         double averagePerTrip = elapsedTimeMs / roundTrips;
-        System.err.println("byte[] length:\t" + byteCount + "\taverage time (ms) per roundtrip:\t" + averagePerTrip);
+        System.err.println(mode + "\tbyte[] length:\t" + byteCount + "\taverage time (ms) per roundtrip:\t"
+                + averagePerTrip);
     }
 
     private double startSendingBytes(int byteCount, int times) {
@@ -131,6 +131,10 @@ public class InvocationArguments {
         usageString.append("             same versioning scheme to be able to communicate with each other.\n");
         usageString.append("       -target proxy|provider|both:\n");
         usageString.append("         specify which code shall be generated.\n");
+        usageString.append("      Optional, Java only: \n");
+        usageString.append("       -generateJsonCodecs <true, false>\n");
+        usageString.append("         generate a JSON serializer and deserializer for every struct, map and\n");
+        usageString.append("             enumeration type\n");
         usageString.append("      Optional, C++ only: \n");
         usageString.append("       -generationId <name of what is being generated>\n");
         usageString.append("       -outputHeaderPath <path to directory containing header files>\n");
@@ -183,6 +187,9 @@ public class InvocationArguments {
             } else if (args[i].equalsIgnoreCase("-ignoreInvalidNullClassMembers")) {
                 setParameterElement("ignoreInvalidNullClassMembers", args[i + 1].replace("\"", ""));
                 i++;
+            } else if (args[i].equalsIgnoreCase("-generateJsonCodecs")) {
+                setParameterElement("generateJsonCodecs", args[i + 1].replace("\"", ""));
+                i++;
             } else if (args[i].equalsIgnoreCase("-outputHeaderPath")) {
                 setParameterElement("outputHeaderPath", args[i + 1].replace("\"", ""));
                 i++;
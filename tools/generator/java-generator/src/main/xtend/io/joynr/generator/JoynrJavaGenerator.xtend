@@ -183,6 +183,10 @@ class JoynrJavaGenerator implements IJoynrGenerator {
 			parameter.get("ignoreInvalidNullClassMembers").equals("true")) {
 			activateIgnoreInvalidNullClassMembersExtension
 		}
+		if (parameter.get("generateJsonCodecs") !== null &&
+			parameter.get("generateJsonCodecs").equals("true")) {
+			activateGenerateJsonCodecsExtension
+		}
 	}
 
 	override supportedParameters() {
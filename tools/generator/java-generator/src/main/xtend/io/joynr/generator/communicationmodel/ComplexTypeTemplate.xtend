@@ -22,6 +22,7 @@ import io.joynr.generator.templates.CompoundTypeTemplate
 import io.joynr.generator.templates.util.NamingUtil
 import io.joynr.generator.util.JavaTypeUtil
 import io.joynr.generator.util.JoynrJavaGeneratorExtensions
+import io.joynr.generator.util.JsonCodecUtil
 import io.joynr.generator.util.TemplateBase
 import org.franca.core.franca.FCompoundType
 import com.google.inject.assistedinject.Assisted
@@ -32,6 +33,7 @@ class ComplexTypeTemplate extends CompoundTypeTemplate {
 	@Inject extension JavaTypeUtil
 	@Inject extension TemplateBase
 	@Inject extension NamingUtil
+	@Inject extension JsonCodecUtil
 
 	@Inject
 	new(@Assisted FCompoundType type) {
@@ -54,6 +56,22 @@ import «member»;
 «ENDFOR»
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+«IF generateJsonCodecsExtension»
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.joynr.subtypes.JoynrTypeDeserializer;
+import io.joynr.subtypes.JoynrTypeSerializer;
+import io.joynr.subtypes.JsonCodec;
+«ENDIF»
 
 // NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
 //       The compiler will generate a serialVersionUID based on the class and its members
@@ -63,6 +81,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 /**
 «appendJavadocSummaryAndWriteSeeAndDescription(type, " *")»
  */
+«IF generateJsonCodecsExtension»
+«jsonCodecAnnotation(typeName)»
+«ENDIF»
 @SuppressWarnings("serial")
 public class «typeName»«IF hasExtendsDeclaration(type)» extends «type.extendedType.typeName»«ENDIF» implements Serializable, JoynrType {
 	public static final int MAJOR_VERSION = «majorVersion»;
@@ -274,6 +295,10 @@ public class «typeName»«IF hasExtendsDeclaration(type)» extends «type.exten
 		«ENDFOR»
 		return result;
 	}
+	«IF generateJsonCodecsExtension»
+
+	«generateStructJsonCodecs(type)»
+	«ENDIF»
 }
 
 	
@@ -22,6 +22,7 @@ import io.joynr.generator.templates.EnumTemplate
 import io.joynr.generator.templates.util.NamingUtil
 import io.joynr.generator.util.JavaTypeUtil
 import io.joynr.generator.util.JoynrJavaGeneratorExtensions
+import io.joynr.generator.util.JsonCodecUtil
 import io.joynr.generator.util.TemplateBase
 import org.franca.core.franca.FEnumerationType
 import com.google.inject.assistedinject.Assisted
@@ -32,6 +33,7 @@ class EnumTypeTemplate extends EnumTemplate {
 	@Inject extension JavaTypeUtil
 	@Inject extension NamingUtil
 	@Inject extension TemplateBase
+	@Inject extension JsonCodecUtil
 
 	@Inject
 	new(@Assisted FEnumerationType type) {
@@ -48,16 +50,29 @@ package «packagePath»;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+«IF generateJsonCodecsExtension»
 
-«generateEnumCode()»
+import io.joynr.subtypes.EnumNameDeserializer;
+import io.joynr.subtypes.EnumNameSerializer;
+import io.joynr.subtypes.JsonCodec;
+«ENDIF»
+
+«generateEnumCode(generateJsonCodecsExtension)»
 '''
 
-	def generateEnumCode()
+	def generateEnumCode() {
+		generateEnumCode(false)
+	}
+
+	def generateEnumCode(boolean generateJsonCodecs)
 '''
 «val typeName = type.joynrName»
 /**
 «appendJavadocSummaryAndWriteSeeAndDescription(type, " *")»
  */
+«IF generateJsonCodecs»
+«jsonCodecAnnotation(typeName)»
+«ENDIF»
 public enum «typeName» {
 	«FOR enumValue : getEnumElementsAndBaseEnumElements(type) SEPARATOR ","»
 	/**
@@ -108,6 +123,10 @@ public enum «typeName» {
 		}
 		return ordinal;
 	}
+	«IF generateJsonCodecs»
+
+	«generateEnumJsonCodecs(type)»
+	«ENDIF»
 }
 '''
 }
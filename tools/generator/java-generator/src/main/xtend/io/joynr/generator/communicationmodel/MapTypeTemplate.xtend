@@ -22,6 +22,7 @@ import io.joynr.generator.templates.MapTemplate
 import io.joynr.generator.templates.util.NamingUtil
 import io.joynr.generator.util.JavaTypeUtil
 import io.joynr.generator.util.JoynrJavaGeneratorExtensions
+import io.joynr.generator.util.JsonCodecUtil
 import io.joynr.generator.util.TemplateBase
 import org.franca.core.franca.FMapType
 import org.franca.core.franca.FType
@@ -33,6 +34,7 @@ class MapTypeTemplate extends MapTemplate {
 	@Inject extension JavaTypeUtil
 	@Inject extension TemplateBase
 	@Inject extension NamingUtil
+	@Inject extension JsonCodecUtil
 
 	@Inject
 	new(@Assisted FMapType type) {
@@ -48,8 +50,25 @@ class MapTypeTemplate extends MapTemplate {
 
 package «mapTypePackageName»;
 import java.util.HashMap;
+«IF generateJsonCodecsExtension»
+import java.io.IOException;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+«ENDIF»
 
 import io.joynr.subtypes.JoynrType;
+«IF generateJsonCodecsExtension»
+import io.joynr.subtypes.JoynrTypeDeserializer;
+import io.joynr.subtypes.JoynrTypeSerializer;
+import io.joynr.subtypes.JsonCodec;
+«ENDIF»
 
 «val keyType = getDatatype(type.keyType)»
 «val valueType = getDatatype(type.valueType)»
@@ -68,6 +87,9 @@ import «getIncludeOf(valueType, generateVersion)»;
 /**
 «appendJavadocSummaryAndWriteSeeAndDescription(type, " *")»
  */
+«IF generateJsonCodecsExtension»
+«jsonCodecAnnotation(typeName)»
+«ENDIF»
 @SuppressWarnings("serial")
 public class «typeName» extends HashMap<«type.keyType.typeName», «type.valueType.typeName»> implements JoynrType {
     public static final int MAJOR_VERSION = «majorVersion»;
@@ -79,6 +101,10 @@ public class «typeName» extends HashMap<«type.keyType.typeName», «type.valu
     public «typeName»(«typeName» other) {
         super(other);
     }
+    «IF generateJsonCodecsExtension»
+
+    «generateMapJsonCodecs(type)»
+    «ENDIF»
 }
 '''
 }
@@ -0,0 +1,129 @@
+package io.joynr.generator.interfaces
+/*
+ * !!!
+ *
+ * Copyright (C) 2026 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.google.inject.Inject
+import io.joynr.generator.templates.InterfaceTemplate
+import io.joynr.generator.templates.util.AttributeUtil
+import io.joynr.generator.templates.util.InterfaceUtil
+import io.joynr.generator.templates.util.MethodUtil
+import io.joynr.generator.templates.util.NamingUtil
+import io.joynr.generator.util.JavaTemplateFactory
+import io.joynr.generator.util.JavaTypeUtil
+import io.joynr.generator.util.JoynrJavaGeneratorExtensions
+import io.joynr.generator.util.TemplateBase
+import java.util.ArrayList
+import java.util.HashMap
+import org.franca.core.franca.FMethod
+
+/*
+ * Generates the interface whose methods return a CompletableFuture. It cannot be combined with the sync interface
+ * in the proxy interface because the methods only differ in their return type, so proxies are built for this
+ * interface directly.
+ */
+class InterfaceCompletionStageTemplate extends InterfaceTemplate {
+	@Inject extension JoynrJavaGeneratorExtensions
+	@Inject extension JavaTypeUtil
+	@Inject extension InterfaceUtil
+	@Inject extension MethodUtil
+	@Inject extension NamingUtil
+	@Inject extension AttributeUtil
+	@Inject extension TemplateBase
+	@Inject JavaTemplateFactory templateFactory
+
+	override generate(boolean generateVersion) {
+		var methodToReturnTypeName = new HashMap<FMethod, String>();
+		var uniqueMultioutMethods = new ArrayList<FMethod>();
+		// the multi-out containers are the ones of the sync interface
+		templateFactory.createInterfaceSyncTemplate(francaIntf).init(francaIntf, methodToReturnTypeName, uniqueMultioutMethods, generateVersion);
+		val interfaceName =  francaIntf.joynrName
+		val completionStageClassName = interfaceName + "CompletionStage"
+		val packagePath = getPackagePathWithJoynrPrefix(francaIntf, ".", generateVersion)
+		'''
+«warning()»
+
+package «packagePath»;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.CompletionStageAsync;
+import io.joynr.UsedBy;
+
+«FOR datatype: getRequiredIncludesFor(francaIntf, true, true, true, false, false, false, generateVersion)»
+	import «datatype»;
+«ENDFOR»
+
+«FOR method: uniqueMultioutMethods»
+	import «packagePath».«interfaceName»Sync.«methodToReturnTypeName.get(method)»;
+«ENDFOR»
+
+/**
+ * Proxy interface whose methods return a CompletableFuture which is completed when the reply is received.
+ * Proxies are built for this interface directly, e.g. runtime.getProxyBuilder(domain, «completionStageClassName».class).
+ * Modeled errors complete the future exceptionally with an ApplicationException.
+ */
+@CompletionStageAsync
+@UsedBy(«francaIntf.proxyClassName».class)
+public interface «completionStageClassName» extends «interfaceName»«IF hasFireAndForgetMethods(francaIntf)», «interfaceName»FireAndForget«ENDIF»«IF francaIntf.attributes.size>0», «interfaceName»SubscriptionInterface«ENDIF»«IF francaIntf.broadcasts.size>0», «interfaceName»BroadcastInterface«ENDIF» {
+
+«FOR attribute: getAttributes(francaIntf) SEPARATOR "\n"»
+	«var attributeName = attribute.joynrName»
+	«var attributeType = attribute.typeName.objectDataTypeForPlainType»
+	«var getAttribute = "get" + attributeName.toFirstUpper»
+	«var setAttribute = "set" + attributeName.toFirstUpper»
+		«IF isReadable(attribute)»
+			public CompletableFuture<«attributeType»> «getAttribute»();
+			default public CompletableFuture<«attributeType»> «getAttribute»(MessagingQos messagingQos) {
+				return «getAttribute»();
+			}
+		«ENDIF»
+		«IF isWritable(attribute)»
+			CompletableFuture<Void> «setAttribute»(«attributeType» «attributeName»);
+			default CompletableFuture<Void> «setAttribute»(«attributeType» «attributeName», MessagingQos messagingQos) {
+				return «setAttribute»(«attributeName»);
+			}
+		«ENDIF»
+«ENDFOR»
+
+«FOR method: getMethods(francaIntf).filter[!fireAndForget] SEPARATOR "\n"»
+	«var methodName = method.joynrName»
+	«var returnTypeName = methodToReturnTypeName.get(method)»
+	«var futureName = "CompletableFuture<" + (if (returnTypeName == "void") "Void" else returnTypeName) + ">"»
+		/*
+		* «methodName»
+		*/
+		public «futureName» «methodName»(
+				«method.inputParameters.typedParameterList»
+		);
+		default public «futureName» «methodName»(
+				«method.inputParameters.typedParameterList»«IF !method.inputParameters.empty»,«ENDIF»
+				MessagingQos messagingQos
+		) {
+			return «methodName»(
+				«FOR inParameter : method.inputParameters SEPARATOR ","»
+					«inParameter.name»
+				«ENDFOR»
+			);
+		}
+«ENDFOR»
+}
+		'''
+	}
+
+}
@@ -76,6 +76,14 @@ class InterfaceGenerator {
 				generateVersion
 			);
 
+			var interfaceCompletionStageTemplate = templateFactory.createInterfaceCompletionStageTemplate(serviceInterface)
+			generateFile(
+				fsa,
+				path + serviceName + "CompletionStage.java",
+				interfaceCompletionStageTemplate,
+				generateVersion
+			)
+
 			var interfaceStatelessAsyncTemplate = templateFactory.createInterfaceStatelessAsyncTemplate(serviceInterface)
 			generateFile(
 				fsa,
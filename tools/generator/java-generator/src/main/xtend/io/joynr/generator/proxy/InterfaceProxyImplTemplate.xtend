@@ -0,0 +1,392 @@
+package io.joynr.generator.proxy
+/*
+ * !!!
+ *
+ * Copyright (C) 2026 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.google.inject.Inject
+import io.joynr.generator.templates.InterfaceTemplate
+import io.joynr.generator.templates.util.AttributeUtil
+import io.joynr.generator.templates.util.InterfaceUtil
+import io.joynr.generator.templates.util.MethodUtil
+import io.joynr.generator.templates.util.NamingUtil
+import io.joynr.generator.util.JavaTemplateFactory
+import io.joynr.generator.util.JavaTypeUtil
+import io.joynr.generator.util.JoynrJavaGeneratorExtensions
+import io.joynr.generator.util.TemplateBase
+import java.util.ArrayList
+import java.util.HashMap
+import org.franca.core.franca.FArgument
+import org.franca.core.franca.FMethod
+
+/*
+ * Generates the static proxy implementing the proxy interface. The calls of the sync, async and fire and forget
+ * interfaces are passed to the ProxyInvocationHandler together with a ProxyMethod which is created once per method,
+ * so that no reflective dispatch and no lookup of the method meta information is needed per call. All other calls
+ * (subscriptions, broadcasts and stateless async) are dispatched reflectively as for dynamic proxies.
+ */
+class InterfaceProxyImplTemplate extends InterfaceTemplate {
+	@Inject extension JoynrJavaGeneratorExtensions
+	@Inject extension JavaTypeUtil
+	@Inject extension InterfaceUtil
+	@Inject extension MethodUtil
+	@Inject extension NamingUtil
+	@Inject extension AttributeUtil
+	@Inject extension TemplateBase
+	@Inject JavaTemplateFactory templateFactory
+
+	override generate(boolean generateVersion) {
+		var methodToReturnTypeName = new HashMap<FMethod, String>();
+		var uniqueSyncMultioutMethods = new ArrayList<FMethod>();
+		templateFactory.createInterfaceSyncTemplate(francaIntf).init(francaIntf, methodToReturnTypeName, uniqueSyncMultioutMethods, generateVersion);
+		var methodToCallbackName = new HashMap<FMethod, String>();
+		var methodToFutureName = new HashMap<FMethod, String>();
+		var methodToSyncReturnedName = new HashMap<FMethod, String>();
+		var uniqueAsyncMultioutMethods = new ArrayList<FMethod>();
+		templateFactory.createInterfaceAsyncTemplate(francaIntf).init(francaIntf, methodToCallbackName, methodToFutureName, francaIntf.methodToErrorEnumName, methodToSyncReturnedName, uniqueAsyncMultioutMethods, generateVersion);
+		val interfaceName =  francaIntf.joynrName
+		val className = francaIntf.proxyClassName + "Impl"
+		val syncClassName = interfaceName + "Sync"
+		val asyncClassName = interfaceName + "Async"
+		val fireAndForgetClassName = interfaceName + "FireAndForget"
+		val statelessAsyncClassName = interfaceName + "StatelessAsync"
+		val subscriptionClassName = interfaceName + "SubscriptionInterface"
+		val broadcastClassName = interfaceName + "BroadcastInterface"
+		val methods = getMethods(francaIntf)
+		val rpcMethods = methods.filter[!fireAndForget]
+		val fireAndForgetMethods = methods.filter[fireAndForget]
+		val hasAsyncCalls = !getAttributes(francaIntf).empty || !rpcMethods.empty
+		val packagePath = getPackagePathWithJoynrPrefix(francaIntf, ".", generateVersion)
+		'''
+«warning()»
+
+package «packagePath»;
+
+import io.joynr.messaging.MessagingQos;
+«IF hasAsyncCalls»
+import io.joynr.proxy.Callback;
+«IF francaIntf.hasMethodWithErrorEnum»
+import io.joynr.proxy.CallbackWithModeledError;
+«ENDIF»
+import io.joynr.proxy.Future;
+import io.joynr.proxy.MessageIdCallback;
+«ENDIF»
+import io.joynr.proxy.ProxyInvocationHandler;
+import io.joynr.proxy.ProxyMethod;
+«IF francaIntf.hasNotifiableAttribute»
+import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
+import io.joynr.pubsub.SubscriptionQos;
+«ENDIF»
+«IF hasSelectiveBroadcast»
+import joynr.OnChangeSubscriptionQos;
+«ENDIF»
+«IF hasNonSelectiveBroadcast»
+import joynr.MulticastSubscriptionQos;
+«ENDIF»
+«IF francaIntf.hasMethodWithErrorEnum»
+import joynr.exceptions.ApplicationException;
+«ENDIF»
+
+«FOR datatype: getRequiredIncludesFor(francaIntf, true, true, true, true, false, true, generateVersion)»
+	import «datatype»;
+«ENDFOR»
+
+/**
+ * Static proxy of «interfaceName» which passes the calls to the ProxyInvocationHandler without reflective dispatch.
+ * It is instantiated by the proxy builder, see the StaticProxy annotation of «francaIntf.proxyClassName».
+ */
+public class «className» implements «francaIntf.proxyClassName» {
+
+«FOR attribute: getAttributes(francaIntf)»
+	«val attributeName = attribute.joynrName»
+	«val attributeType = attribute.typeName.objectDataTypeForPlainType»
+	«val descriptorName = attributeName.toUpperCase»
+	«IF isReadable(attribute)»
+		private static final ProxyMethod SYNC_GET_«descriptorName» = new ProxyMethod(«syncClassName».class, "get«attributeName.toFirstUpper»");
+		private static final ProxyMethod ASYNC_GET_«descriptorName» = new ProxyMethod(«asyncClassName».class, "get«attributeName.toFirstUpper»", Callback.class);
+		private static final ProxyMethod STATELESS_GET_«descriptorName» = new ProxyMethod(«statelessAsyncClassName».class, "get«attributeName.toFirstUpper»", MessageIdCallback.class);
+	«ENDIF»
+	«IF isWritable(attribute)»
+		private static final ProxyMethod SYNC_SET_«descriptorName» = new ProxyMethod(«syncClassName».class, "set«attributeName.toFirstUpper»", «attributeType».class);
+		private static final ProxyMethod ASYNC_SET_«descriptorName» = new ProxyMethod(«asyncClassName».class, "set«attributeName.toFirstUpper»", Callback.class, «attributeType».class);
+		private static final ProxyMethod STATELESS_SET_«descriptorName» = new ProxyMethod(«statelessAsyncClassName».class, "set«attributeName.toFirstUpper»", «attributeType».class, MessageIdCallback.class);
+	«ENDIF»
+	«IF isNotifiable(attribute)»
+		private static final ProxyMethod SUBSCRIBE_TO_«descriptorName» = new ProxyMethod(«subscriptionClassName».class, "subscribeTo«attributeName.toFirstUpper»", AttributeSubscriptionListener.class, SubscriptionQos.class);
+		private static final ProxyMethod SUBSCRIBE_TO_«descriptorName»_WITH_ID = new ProxyMethod(«subscriptionClassName».class, "subscribeTo«attributeName.toFirstUpper»", String.class, AttributeSubscriptionListener.class, SubscriptionQos.class);
+		private static final ProxyMethod UNSUBSCRIBE_FROM_«descriptorName» = new ProxyMethod(«subscriptionClassName».class, "unsubscribeFrom«attributeName.toFirstUpper»", String.class);
+	«ENDIF»
+«ENDFOR»
+«FOR method: rpcMethods»
+	«val descriptorName = method.proxyMethodConstantName(methods.indexOf(method))»
+	private static final ProxyMethod SYNC_«descriptorName» = new ProxyMethod(«syncClassName».class, "«method.joynrName»"«method.inputParameters.parameterClassLiterals»);
+	private static final ProxyMethod ASYNC_«descriptorName» = new ProxyMethod(«asyncClassName».class, "«method.joynrName»", «methodToCallbackName.get(method).erasure».class«method.inputParameters.parameterClassLiterals»);
+	private static final ProxyMethod STATELESS_«descriptorName» = new ProxyMethod(«statelessAsyncClassName».class, "«method.joynrName»"«method.inputParameters.parameterClassLiterals», MessageIdCallback.class);
+«ENDFOR»
+«FOR method: fireAndForgetMethods»
+	private static final ProxyMethod FIRE_AND_FORGET_«method.proxyMethodConstantName(methods.indexOf(method))» = new ProxyMethod(«fireAndForgetClassName».class, "«method.joynrName»"«method.inputParameters.parameterClassLiterals»);
+«ENDFOR»
+«FOR broadcast : francaIntf.broadcasts»
+	«val broadcastName = broadcast.joynrName.toFirstUpper»
+	«val descriptorName = broadcast.joynrName.toUpperCase + "_BROADCAST"»
+	«val parameterClassLiterals = if (broadcast.selective) "OnChangeSubscriptionQos.class, " + broadcastName + "BroadcastFilterParameters.class" else "MulticastSubscriptionQos.class, String[].class"»
+	private static final ProxyMethod SUBSCRIBE_TO_«descriptorName» = new ProxyMethod(«broadcastClassName».class, "subscribeTo«broadcastName»Broadcast", «broadcastName»BroadcastListener.class, «parameterClassLiterals»);
+	private static final ProxyMethod SUBSCRIBE_TO_«descriptorName»_WITH_ID = new ProxyMethod(«broadcastClassName».class, "subscribeTo«broadcastName»Broadcast", String.class, «broadcastName»BroadcastListener.class, «parameterClassLiterals»);
+	private static final ProxyMethod UNSUBSCRIBE_FROM_«descriptorName» = new ProxyMethod(«broadcastClassName».class, "unsubscribeFrom«broadcastName»Broadcast", String.class);
+«ENDFOR»
+
+	private final ProxyInvocationHandler invocationHandler;
+
+	public «className»(ProxyInvocationHandler invocationHandler) {
+		this.invocationHandler = invocationHandler;
+	}
+
+«FOR attribute: getAttributes(francaIntf)»
+	«val attributeName = attribute.joynrName»
+	«val attributeType = attribute.typeName.objectDataTypeForPlainType»
+	«val descriptorName = attributeName.toUpperCase»
+	«val getAttribute = "get" + attributeName.toFirstUpper»
+	«val setAttribute = "set" + attributeName.toFirstUpper»
+	«IF isReadable(attribute)»
+		@Override
+		public «attributeType» «getAttribute»() {
+			return («attributeType») invocationHandler.invokeSyncMethod(SYNC_GET_«descriptorName», new Object[]{}, null);
+		}
+
+		@Override
+		public «attributeType» «getAttribute»(MessagingQos messagingQos) {
+			return («attributeType») invocationHandler.invokeSyncMethod(SYNC_GET_«descriptorName», new Object[]{}, messagingQos);
+		}
+
+		@Override
+		public Future<«attributeType»> «getAttribute»(Callback<«attributeType»> callback) {
+			return invocationHandler.invokeAsyncMethod(this, ASYNC_GET_«descriptorName», callback, new Future<«attributeType»>(), new Object[]{}, null);
+		}
+
+		@Override
+		public Future<«attributeType»> «getAttribute»(Callback<«attributeType»> callback, MessagingQos messagingQos) {
+			return invocationHandler.invokeAsyncMethod(this, ASYNC_GET_«descriptorName», callback, new Future<«attributeType»>(), new Object[]{}, messagingQos);
+		}
+
+		@Override
+		public void «getAttribute»(MessageIdCallback messageIdCallback) {
+			invocationHandler.invokeReflectively(this, STATELESS_GET_«descriptorName», new Object[]{ messageIdCallback });
+		}
+
+	«ENDIF»
+	«IF isWritable(attribute)»
+		@Override
+		public void «setAttribute»(«attributeType» «attributeName») {
+			invocationHandler.invokeSyncMethod(SYNC_SET_«descriptorName», new Object[]{ «attributeName» }, null);
+		}
+
+		@Override
+		public void «setAttribute»(«attributeType» «attributeName», MessagingQos messagingQos) {
+			invocationHandler.invokeSyncMethod(SYNC_SET_«descriptorName», new Object[]{ «attributeName» }, messagingQos);
+		}
+
+		@Override
+		public Future<Void> «setAttribute»(Callback<Void> callback, «attributeType» «attributeName») {
+			return invocationHandler.invokeAsyncMethod(this, ASYNC_SET_«descriptorName», callback, new Future<Void>(), new Object[]{ «attributeName» }, null);
+		}
+
+		@Override
+		public Future<Void> «setAttribute»(Callback<Void> callback, «attributeType» «attributeName», MessagingQos messagingQos) {
+			return invocationHandler.invokeAsyncMethod(this, ASYNC_SET_«descriptorName», callback, new Future<Void>(), new Object[]{ «attributeName» }, messagingQos);
+		}
+
+		@Override
+		public void «setAttribute»(«attributeType» «attributeName», MessageIdCallback messageIdCallback) {
+			invocationHandler.invokeReflectively(this, STATELESS_SET_«descriptorName», new Object[]{ «attributeName», messageIdCallback });
+		}
+
+	«ENDIF»
+	«IF isNotifiable(attribute)»
+		@SuppressWarnings("unchecked")
+		@Override
+		public Future<String> subscribeTo«attributeName.toFirstUpper»(AttributeSubscriptionListener<«attributeType»> listener, SubscriptionQos subscriptionQos) {
+			return (Future<String>) invocationHandler.invokeReflectively(this, SUBSCRIBE_TO_«descriptorName», new Object[]{ listener, subscriptionQos });
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public Future<String> subscribeTo«attributeName.toFirstUpper»(String subscriptionId, AttributeSubscriptionListener<«attributeType»> listener, SubscriptionQos subscriptionQos) {
+			return (Future<String>) invocationHandler.invokeReflectively(this, SUBSCRIBE_TO_«descriptorName»_WITH_ID, new Object[]{ subscriptionId, listener, subscriptionQos });
+		}
+
+		@Override
+		public void unsubscribeFrom«attributeName.toFirstUpper»(String subscriptionId) {
+			invocationHandler.invokeReflectively(this, UNSUBSCRIBE_FROM_«descriptorName», new Object[]{ subscriptionId });
+		}
+
+	«ENDIF»
+«ENDFOR»
+«FOR method: rpcMethods»
+	«val methodName = method.joynrName»
+	«val descriptorName = method.proxyMethodConstantName(methods.indexOf(method))»
+	«val returnTypeName = methodToReturnTypeName.get(method)»
+	«val invokeSyncMethod = if (method.hasErrorEnum) "invokeSyncMethodWithModeledError" else "invokeSyncMethod"»
+	«val params = method.inputParameters.typedParameterList»
+	«val paramArray = method.inputParameters.parameterArray»
+	/*
+	 * «methodName»
+	 */
+	@Override
+	public «returnTypeName» «methodName»(
+			«params»
+	)«IF method.hasErrorEnum» throws ApplicationException«ENDIF» {
+		«IF returnTypeName == "void"»
+			invocationHandler.«invokeSyncMethod»(SYNC_«descriptorName», «paramArray», null);
+		«ELSE»
+			return («returnTypeName») invocationHandler.«invokeSyncMethod»(SYNC_«descriptorName», «paramArray», null);
+		«ENDIF»
+	}
+
+	@Override
+	public «returnTypeName» «methodName»(
+			«params»«IF !method.inputParameters.empty»,«ENDIF»
+			MessagingQos messagingQos
+	)«IF method.hasErrorEnum» throws ApplicationException«ENDIF» {
+		«IF returnTypeName == "void"»
+			invocationHandler.«invokeSyncMethod»(SYNC_«descriptorName», «paramArray», messagingQos);
+		«ELSE»
+			return («returnTypeName») invocationHandler.«invokeSyncMethod»(SYNC_«descriptorName», «paramArray», messagingQos);
+		«ENDIF»
+	}
+
+	@Override
+	public «methodToFutureName.get(method)» «methodName»(
+			«methodToCallbackName.get(method)» callback«IF !method.inputParameters.empty»,«ENDIF»
+			«params»
+	) {
+		return invocationHandler.invokeAsyncMethod(this, ASYNC_«descriptorName», callback, new «methodToFutureName.get(method)»(), «paramArray», null);
+	}
+
+	@Override
+	public «methodToFutureName.get(method)» «methodName»(
+			«methodToCallbackName.get(method)» callback«IF !method.inputParameters.empty»,«ENDIF»
+			«params»,
+			MessagingQos messagingQos
+	) {
+		return invocationHandler.invokeAsyncMethod(this, ASYNC_«descriptorName», callback, new «methodToFutureName.get(method)»(), «paramArray», messagingQos);
+	}
+
+	@Override
+	public void «methodName»(
+			«IF !method.inputParameters.empty»
+			«params»,
+			«ENDIF»
+			MessageIdCallback messageIdCallback
+	) {
+		invocationHandler.invokeReflectively(this, STATELESS_«descriptorName», new Object[]{ «FOR inParameter : method.inputParameters»«inParameter.joynrName», «ENDFOR»messageIdCallback });
+	}
+
+«ENDFOR»
+«FOR method: fireAndForgetMethods»
+	«val methodName = method.joynrName»
+	«val descriptorName = method.proxyMethodConstantName(methods.indexOf(method))»
+	«val params = method.inputParameters.typedParameterList»
+	/*
+	 * «methodName»
+	 */
+	@Override
+	public void «methodName»(
+			«params»
+	) {
+		invocationHandler.invokeOneWayMethod(FIRE_AND_FORGET_«descriptorName», «method.inputParameters.parameterArray», null);
+	}
+
+	@Override
+	public void «methodName»(
+			«params»«IF !method.inputParameters.empty»,«ENDIF»
+			MessagingQos messagingQos
+	) {
+		invocationHandler.invokeOneWayMethod(FIRE_AND_FORGET_«descriptorName», «method.inputParameters.parameterArray», messagingQos);
+	}
+
+«ENDFOR»
+«FOR broadcast : francaIntf.broadcasts»
+	«val broadcastName = broadcast.joynrName.toFirstUpper»
+	«val descriptorName = broadcast.joynrName.toUpperCase + "_BROADCAST"»
+	«val listenerInterface = broadcastName + "BroadcastListener"»
+	«IF broadcast.selective»
+		@SuppressWarnings("unchecked")
+		@Override
+		public Future<String> subscribeTo«broadcastName»Broadcast(
+				«listenerInterface» broadcastListener,
+				OnChangeSubscriptionQos subscriptionQos,
+				«broadcastName»BroadcastFilterParameters filterParameters) {
+			return (Future<String>) invocationHandler.invokeReflectively(this, SUBSCRIBE_TO_«descriptorName», new Object[]{ broadcastListener, subscriptionQos, filterParameters });
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public Future<String> subscribeTo«broadcastName»Broadcast(
+				String subscriptionId,
+				«listenerInterface» broadcastListener,
+				OnChangeSubscriptionQos subscriptionQos,
+				«broadcastName»BroadcastFilterParameters filterParameters) {
+			return (Future<String>) invocationHandler.invokeReflectively(this, SUBSCRIBE_TO_«descriptorName»_WITH_ID, new Object[]{ subscriptionId, broadcastListener, subscriptionQos, filterParameters });
+		}
+	«ELSE»
+		@SuppressWarnings("unchecked")
+		@Override
+		public Future<String> subscribeTo«broadcastName»Broadcast(
+				«listenerInterface» subscriptionListener,
+				MulticastSubscriptionQos subscriptionQos,
+				String... partitions) {
+			return (Future<String>) invocationHandler.invokeReflectively(this, SUBSCRIBE_TO_«descriptorName», new Object[]{ subscriptionListener, subscriptionQos, partitions });
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public Future<String> subscribeTo«broadcastName»Broadcast(
+				String subscriptionId,
+				«listenerInterface» subscriptionListener,
+				MulticastSubscriptionQos subscriptionQos,
+				String... partitions) {
+			return (Future<String>) invocationHandler.invokeReflectively(this, SUBSCRIBE_TO_«descriptorName»_WITH_ID, new Object[]{ subscriptionId, subscriptionListener, subscriptionQos, partitions });
+		}
+	«ENDIF»
+
+	@Override
+	public void unsubscribeFrom«broadcastName»Broadcast(String subscriptionId) {
+		invocationHandler.invokeReflectively(this, UNSUBSCRIBE_FROM_«descriptorName», new Object[]{ subscriptionId });
+	}
+
+«ENDFOR»
+}
+		'''
+	}
+
+	// overloaded methods are distinguished by their index in the interface
+	def proxyMethodConstantName(FMethod method, int index) {
+		method.joynrName.toUpperCase + "_" + index
+	}
+
+	def erasure(String typeName) {
+		val genericsStart = typeName.indexOf("<")
+		if (genericsStart < 0) typeName else typeName.substring(0, genericsStart)
+	}
+
+	def parameterClassLiterals(Iterable<FArgument> parameters) {
+		'''«FOR parameter : parameters», «parameter.typeName.erasure».class«ENDFOR»'''
+	}
+
+	def parameterArray(Iterable<FArgument> parameters) {
+		'''new Object[]{«FOR parameter : parameters SEPARATOR ","» «parameter.joynrName»«ENDFOR» }'''
+	}
+}
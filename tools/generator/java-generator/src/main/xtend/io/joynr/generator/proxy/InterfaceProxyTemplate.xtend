@@ -43,7 +43,9 @@ class InterfaceProxyTemplate extends InterfaceTemplate {
 		package «packagePath»;
 
 		import io.joynr.JoynrVersion;
+		import io.joynr.StaticProxy;
 
+		@StaticProxy(«className»Impl.class)
 		@JoynrVersion(major = «majorVersion», minor = «minorVersion»)
 		public interface «className» extends «asyncClassName», «statelessAsyncClassName», «syncClassName»«IF francaIntf.attributes.size>0», «subscriptionClassName»«ENDIF»«IF francaIntf.broadcasts.size>0», «broadcastClassName»«ENDIF» {
 			public static String INTERFACE_NAME = "«francaIntf.fullyQualifiedName»";
@@ -44,5 +44,13 @@ class ProxyGenerator {
 			interfaceProxyTemplate,
 			generateVersion
 		);
+
+		var interfaceProxyImplTemplate = templateFactory.createInterfaceProxyImplTemplate(fInterface)
+		generateFile(
+			fsa,
+			path + serviceName + "ProxyImpl.java",
+			interfaceProxyImplTemplate,
+			generateVersion
+		);
 	}
 }
\ No newline at end of file
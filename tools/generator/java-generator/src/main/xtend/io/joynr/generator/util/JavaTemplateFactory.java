@@ -28,6 +28,7 @@ import io.joynr.generator.communicationmodel.EnumTypeTemplate;
 import io.joynr.generator.communicationmodel.MapTypeTemplate;
 import io.joynr.generator.interfaces.InterfaceAsyncTemplate;
 import io.joynr.generator.interfaces.InterfaceBroadcastTemplate;
+import io.joynr.generator.interfaces.InterfaceCompletionStageTemplate;
 import io.joynr.generator.interfaces.InterfaceFireAndForgetTemplate;
 import io.joynr.generator.interfaces.InterfaceStatelessAsyncCallbackTemplate;
 import io.joynr.generator.interfaces.InterfaceStatelessAsyncTemplate;
@@ -39,6 +40,7 @@ import io.joynr.generator.provider.InterfaceAbstractProviderTemplate;
 import io.joynr.generator.provider.InterfaceProviderTemplate;
 import io.joynr.generator.provider.InterfaceSubscriptionPublisherImplTemplate;
 import io.joynr.generator.provider.InterfaceSubscriptionPublisherTemplate;
+import io.joynr.generator.proxy.InterfaceProxyImplTemplate;
 import io.joynr.generator.proxy.InterfaceProxyTemplate;
 
 public interface JavaTemplateFactory {
@@ -50,6 +52,8 @@ public interface JavaTemplateFactory {
 
     InterfaceFireAndForgetTemplate createInterfaceFireAndForgetTemplate(FInterface francaIntf);
 
+    InterfaceCompletionStageTemplate createInterfaceCompletionStageTemplate(FInterface francaIntf);
+
     InterfaceStatelessAsyncTemplate createInterfaceStatelessAsyncTemplate(FInterface francaIntf);
 
     InterfaceStatelessAsyncCallbackTemplate createInterfaceStatelessAsyncCallbackTemplate(FInterface francaIntf);
@@ -70,6 +74,8 @@ public interface JavaTemplateFactory {
 
     InterfaceProxyTemplate createInterfaceProxyTemplate(FInterface francaIntf);
 
+    InterfaceProxyImplTemplate createInterfaceProxyImplTemplate(FInterface francaIntf);
+
     ComplexTypeTemplate createComplexTypeTemplate(FCompoundType type);
 
     EnumTypeTemplate createEnumTypeTemplate(FEnumerationType type);
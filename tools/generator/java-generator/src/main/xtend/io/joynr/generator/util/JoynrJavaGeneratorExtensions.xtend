@@ -41,6 +41,7 @@ class JoynrJavaGeneratorExtensions extends JoynrGeneratorExtensions {
 	@Inject extension BroadcastUtil
 
 	var ignoreInvalidNullClassMembersExtension = false
+	var generateJsonCodecsExtension = false
 
 	def String getNamespaceStarter(FInterface interfaceType, boolean generateVersion) {
 		getNamespaceStarter(getPackageNames(interfaceType, generateVersion));
@@ -256,6 +257,14 @@ class JoynrJavaGeneratorExtensions extends JoynrGeneratorExtensions {
 		ignoreInvalidNullClassMembersExtension
 	}
 
+	def activateGenerateJsonCodecsExtension() {
+		generateJsonCodecsExtension = true
+	}
+
+	def generateJsonCodecsExtension() {
+		generateJsonCodecsExtension
+	}
+
 	def getProviderClassName(FInterface francaIntf) {
 		francaIntf.joynrName + "Provider"
 	}
@@ -0,0 +1,283 @@
+package io.joynr.generator.util
+/*
+ * !!!
+ *
+ * Copyright (C) 2026 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.google.inject.Inject
+import io.joynr.generator.templates.util.NamingUtil
+import org.franca.core.franca.FCompoundType
+import org.franca.core.franca.FEnumerationType
+import org.franca.core.franca.FMapType
+import org.franca.core.franca.FTypeRef
+import org.franca.core.franca.FTypedElement
+
+/**
+ * Generates the JSON serializer and deserializer classes which are nested into
+ * the generated structs, maps and enums if the generator parameter
+ * generateJsonCodecs is set, see io.joynr.subtypes.JsonCodec.
+ *
+ * The generated code has to produce exactly the same JSON as jackson's bean and
+ * map serializers configured by joynr: members are written in alphabetical order,
+ * null members are omitted, null map values are written and enums are written by
+ * name without type information.
+ */
+class JsonCodecUtil {
+	@Inject extension JavaTypeUtil
+	@Inject extension NamingUtil
+
+	static val SIMPLE_TYPES = #{"Boolean", "Byte", "Short", "Integer", "Long", "Float", "Double", "String"}
+
+	def jsonCodecAnnotation(String typeName)
+	'''@JsonCodec(serializer = «typeName».Serializer.class, deserializer = «typeName».Deserializer.class)'''
+
+	def generateStructJsonCodecs(FCompoundType type) {
+		val typeName = type.joynrName
+		val ownMembers = getMembers(type)
+		val allMembers = getMembersRecursive(type).sortBy[joynrName]
+		val membersWithDeserializer = ownMembers.sortBy[joynrName].filter[!javaType.isDirectlyReadable]
+		'''
+		public static class Serializer extends JoynrTypeSerializer<«typeName»> {
+			private static final long serialVersionUID = 1L;
+			«FOR member : allMembers»
+			private static final SerializedString FIELD_«member.joynrName» = new SerializedString("«member.joynrName»");
+			«ENDFOR»
+
+			public Serializer() {
+				super(«typeName».class);
+			}
+
+			@Override
+			public void writeMembers(«typeName» value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+				«FOR member : allMembers»
+				«IF ownMembers.contains(member)»
+				if (value.«member.joynrName» != null) {
+					gen.writeFieldName(FIELD_«member.joynrName»);
+					«writeValue(member.javaType, member.type, "value." + member.joynrName)»
+				}
+				«ELSE»
+				«member.javaType» «member.joynrName»Value = value.get«member.joynrName.toFirstUpper»();
+				if («member.joynrName»Value != null) {
+					gen.writeFieldName(FIELD_«member.joynrName»);
+					«writeValue(member.javaType, member.type, member.joynrName + "Value")»
+				}
+				«ENDIF»
+				«ENDFOR»
+			}
+		}
+
+		public static class Deserializer extends JoynrTypeDeserializer<«typeName»> {
+			private static final long serialVersionUID = 1L;
+			«IF type.hasExtendsDeclaration»
+			private final «type.extendedType.typeName».Deserializer superDeserializer = new «type.extendedType.typeName».Deserializer();
+			«ENDIF»
+			«FOR member : membersWithDeserializer»
+			private JsonDeserializer<Object> «member.joynrName»Deserializer;
+			«ENDFOR»
+
+			public Deserializer() {
+				super(«typeName».class);
+			}
+			«IF type.hasExtendsDeclaration || !membersWithDeserializer.empty»
+
+			@Override
+			public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+				«IF type.hasExtendsDeclaration»
+				superDeserializer.resolve(ctxt);
+				«ENDIF»
+				«FOR member : membersWithDeserializer»
+				«member.joynrName»Deserializer = findDeserializer(ctxt, «member.javaType».class);
+				«ENDFOR»
+			}
+			«ENDIF»
+
+			@Override
+			protected «typeName» createValue() {
+				return new «typeName»();
+			}
+
+			@Override
+			public boolean readMember(«typeName» value, String name, JsonParser p, DeserializationContext ctxt) throws IOException {
+				«IF ownMembers.empty»
+				«readUnknownMember(type)»
+				«ELSE»
+				switch (name) {
+				«FOR member : ownMembers.sortBy[joynrName]»
+				case "«member.joynrName»":
+					value.«member.joynrName» = «readValue(member.javaType, member.joynrName + "Deserializer")»;
+					return true;
+				«ENDFOR»
+				default:
+					«readUnknownMember(type)»
+				}
+				«ENDIF»
+			}
+		}
+		'''
+	}
+
+	def generateMapJsonCodecs(FMapType type) {
+		val typeName = type.joynrName
+		val keyType = type.keyType.typeName
+		val valueType = type.valueType.typeName
+		val hasStringKey = keyType == "String"
+		val hasValueDeserializer = !valueType.isDirectlyReadable
+		'''
+		public static class Serializer extends JoynrTypeSerializer<«typeName»> {
+			private static final long serialVersionUID = 1L;
+
+			public Serializer() {
+				super(«typeName».class);
+			}
+
+			@Override
+			public void writeMembers(«typeName» value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+				for (Map.Entry<«keyType», «valueType»> entry : value.entrySet()) {
+					writeKey(entry.getKey(), gen, provider);
+					if (entry.getValue() == null) {
+						gen.writeNull();
+					} else {
+						«writeValue(valueType, type.valueType, "entry.getValue()")»
+					}
+				}
+			}
+		}
+
+		public static class Deserializer extends JoynrTypeDeserializer<«typeName»> {
+			private static final long serialVersionUID = 1L;
+			«IF !hasStringKey»
+			private KeyDeserializer keyDeserializer;
+			«ENDIF»
+			«IF hasValueDeserializer»
+			private JsonDeserializer<Object> valueDeserializer;
+			«ENDIF»
+
+			public Deserializer() {
+				super(«typeName».class);
+			}
+			«IF !hasStringKey || hasValueDeserializer»
+
+			@Override
+			public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+				«IF !hasStringKey»
+				keyDeserializer = findKeyDeserializer(ctxt, «keyType».class);
+				«ENDIF»
+				«IF hasValueDeserializer»
+				valueDeserializer = findDeserializer(ctxt, «valueType».class);
+				«ENDIF»
+			}
+			«ENDIF»
+
+			@Override
+			protected «typeName» createValue() {
+				return new «typeName»();
+			}
+
+			@Override
+			public boolean readMember(«typeName» value, String name, JsonParser p, DeserializationContext ctxt) throws IOException {
+				«IF hasStringKey»
+				value.put(name, «readValue(valueType, "valueDeserializer")»);
+				«ELSE»
+				value.put((«keyType») keyDeserializer.deserializeKey(name, ctxt), «readValue(valueType, "valueDeserializer")»);
+				«ENDIF»
+				return true;
+			}
+		}
+		'''
+	}
+
+	def generateEnumJsonCodecs(FEnumerationType type) {
+		val typeName = type.joynrName
+		'''
+		public static class Serializer extends EnumNameSerializer<«typeName»> {
+			private static final long serialVersionUID = 1L;
+
+			public Serializer() {
+				super(«typeName».class);
+			}
+		}
+
+		public static class Deserializer extends EnumNameDeserializer<«typeName»> {
+			private static final long serialVersionUID = 1L;
+
+			public Deserializer() {
+				super(«typeName».class);
+			}
+
+			@Override
+			protected «typeName» valueOfName(String name) {
+				switch (name) {
+				«FOR enumValue : getEnumElementsAndBaseEnumElements(type)»
+				case "«enumValue.joynrName»":
+					return «enumValue.joynrName»;
+				«ENDFOR»
+				default:
+					return null;
+				}
+			}
+		}
+		'''
+	}
+
+	def private readUnknownMember(FCompoundType type) {
+		if (type.hasExtendsDeclaration) {
+			'''return superDeserializer.readMember(value, name, p, ctxt);'''
+		} else {
+			'''return false;'''
+		}
+	}
+
+	def private getJavaType(FTypedElement member) {
+		member.typeName.replace("::", "__")
+	}
+
+	def private isSimpleArrayType(String javaType) {
+		javaType.endsWith("[]") && SIMPLE_TYPES.contains(javaType.substring(0, javaType.length - 2))
+	}
+
+	// members which are read by the static helpers of JoynrTypeDeserializer without a jackson deserializer
+	def private isDirectlyReadable(String javaType) {
+		SIMPLE_TYPES.contains(javaType) || javaType.isSimpleArrayType
+	}
+
+	def private writeValue(String javaType, FTypeRef type, String value) {
+		if (javaType == "Boolean") {
+			'''gen.writeBoolean(«value»);'''
+		} else if (javaType == "String") {
+			'''gen.writeString(«value»);'''
+		} else if (SIMPLE_TYPES.contains(javaType)) {
+			'''gen.writeNumber(«value»);'''
+		} else if (javaType.isSimpleArrayType) {
+			'''writeArray(«value», gen);'''
+		} else if (type.isEnum && !javaType.endsWith("[]")) {
+			'''gen.writeString(«value».name());'''
+		} else if (type.isEnum && !javaType.endsWith("[][]")) {
+			'''writeArray(«value», gen);'''
+		} else {
+			'''provider.defaultSerializeValue(«value», gen);'''
+		}
+	}
+
+	def private readValue(String javaType, String deserializer) {
+		if (SIMPLE_TYPES.contains(javaType)) {
+			'''read«javaType»(p, ctxt)'''
+		} else if (javaType.isSimpleArrayType) {
+			'''read«javaType.substring(0, javaType.length - 2)»Array(p, ctxt)'''
+		} else {
+			'''(«javaType») readValue(p, ctxt, «deserializer»)'''
+		}
+	}
+}
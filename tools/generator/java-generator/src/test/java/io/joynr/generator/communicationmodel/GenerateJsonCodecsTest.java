@@ -0,0 +1,149 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.generator.communicationmodel;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.joynr.generator.AbstractJoynrJavaGeneratorTest;
+
+public class GenerateJsonCodecsTest extends AbstractJoynrJavaGeneratorTest {
+
+    private Map<String, String> generateTypes(boolean generateJsonCodecs) throws Exception {
+        super.setup(true, true, false, false);
+        if (generateJsonCodecs) {
+            generator.setParameters(Collections.singletonMap("generateJsonCodecs", "true"));
+        }
+        Map<String, String> result = generate("json-codec-test.fidl");
+        // Comment in to manually inspect the generator output during testing
+        //System.out.println("ExtendedStruct:\n" + result.get("ExtendedStruct"));
+        return result;
+    }
+
+    private static void assertInOrder(String content, String... parts) {
+        int index = -1;
+        for (String part : parts) {
+            int nextIndex = content.indexOf(part, index + 1);
+            assertTrue(part + " not found in expected order", nextIndex > index);
+            index = nextIndex;
+        }
+    }
+
+    @Test
+    public void testNoCodecsWithoutParameter() throws Exception {
+        Map<String, String> result = generateTypes(false);
+        for (String typeName : new String[]{ "BaseStruct", "ExtendedStruct", "ColorMap", "NamedStructs", "Color" }) {
+            assertNotNull(result.get(typeName));
+            assertFalse(result.get(typeName).contains("JsonCodec"));
+            assertFalse(result.get(typeName).contains("Serializer"));
+        }
+    }
+
+    @Test
+    public void testGeneratesStructCodecs() throws Exception {
+        Map<String, String> result = generateTypes(true);
+        String baseStruct = result.get("BaseStruct");
+        String extendedStruct = result.get("ExtendedStruct");
+        assertNotNull(baseStruct);
+        assertNotNull(extendedStruct);
+
+        assertTrue(extendedStruct.contains("@JsonCodec(serializer = ExtendedStruct.Serializer.class, deserializer = ExtendedStruct.Deserializer.class)"));
+        assertTrue(extendedStruct.contains("public static class Serializer extends JoynrTypeSerializer<ExtendedStruct> {"));
+        assertTrue(extendedStruct.contains("public static class Deserializer extends JoynrTypeDeserializer<ExtendedStruct> {"));
+
+        // own and inherited members are written in alphabetical order like jackson's sorted bean serializer
+        assertInOrder(extendedStruct,
+                      "gen.writeFieldName(FIELD_amount);",
+                      "gen.writeFieldName(FIELD_color);",
+                      "gen.writeFieldName(FIELD_colorMap);",
+                      "gen.writeFieldName(FIELD_colors);",
+                      "gen.writeFieldName(FIELD_data);",
+                      "gen.writeFieldName(FIELD_flag);",
+                      "gen.writeFieldName(FIELD_ids);",
+                      "gen.writeFieldName(FIELD_name);",
+                      "gen.writeFieldName(FIELD_namedStructs);",
+                      "gen.writeFieldName(FIELD_nested);",
+                      "gen.writeFieldName(FIELD_nestedArray);");
+        assertTrue(extendedStruct.contains("private static final SerializedString FIELD_amount = new SerializedString(\"amount\");"));
+        assertTrue(extendedStruct.contains("gen.writeNumber(value.amount);"));
+        assertTrue(extendedStruct.contains("gen.writeBoolean(value.flag);"));
+        assertTrue(extendedStruct.contains("writeArray(value.data, gen);"));
+        assertTrue(extendedStruct.contains("gen.writeString(value.color.name());"));
+        assertTrue(extendedStruct.contains("writeArray(value.colors, gen);"));
+        assertTrue(extendedStruct.contains("provider.defaultSerializeValue(value.nestedArray, gen);"));
+        assertTrue(extendedStruct.contains("Long[] idsValue = value.getIds();"));
+        assertTrue(extendedStruct.contains("writeArray(idsValue, gen);"));
+        assertTrue(extendedStruct.contains("gen.writeString(nameValue);"));
+
+        // inherited members are read by the deserializer of the base struct
+        assertTrue(extendedStruct.contains("private final BaseStruct.Deserializer superDeserializer = new BaseStruct.Deserializer();"));
+        assertTrue(extendedStruct.contains("superDeserializer.resolve(ctxt);"));
+        assertTrue(extendedStruct.contains("colorDeserializer = findDeserializer(ctxt, Color.class);"));
+        assertTrue(extendedStruct.contains("nestedArrayDeserializer = findDeserializer(ctxt, BaseStruct[].class);"));
+        assertFalse(extendedStruct.contains("amountDeserializer"));
+        assertTrue(extendedStruct.contains("value.amount = readDouble(p, ctxt);"));
+        assertTrue(extendedStruct.contains("value.data = readByteArray(p, ctxt);"));
+        assertTrue(extendedStruct.contains("value.nested = (BaseStruct) readValue(p, ctxt, nestedDeserializer);"));
+        assertTrue(extendedStruct.contains("value.colorMap = (ColorMap) readValue(p, ctxt, colorMapDeserializer);"));
+        assertTrue(extendedStruct.contains("return superDeserializer.readMember(value, name, p, ctxt);"));
+        assertFalse(extendedStruct.contains("case \"name\":"));
+
+        assertTrue(baseStruct.contains("value.ids = readLongArray(p, ctxt);"));
+        assertTrue(baseStruct.contains("value.name = readString(p, ctxt);"));
+        assertTrue(baseStruct.contains("return false;"));
+        assertFalse(baseStruct.contains("resolve("));
+    }
+
+    @Test
+    public void testGeneratesMapCodecs() throws Exception {
+        Map<String, String> result = generateTypes(true);
+        String colorMap = result.get("ColorMap");
+        String namedStructs = result.get("NamedStructs");
+        assertNotNull(colorMap);
+        assertNotNull(namedStructs);
+
+        assertTrue(colorMap.contains("@JsonCodec(serializer = ColorMap.Serializer.class, deserializer = ColorMap.Deserializer.class)"));
+        assertTrue(colorMap.contains("for (Map.Entry<Integer, Color> entry : value.entrySet()) {"));
+        assertTrue(colorMap.contains("gen.writeString(entry.getValue().name());"));
+        assertTrue(colorMap.contains("keyDeserializer = findKeyDeserializer(ctxt, Integer.class);"));
+        assertTrue(colorMap.contains("value.put((Integer) keyDeserializer.deserializeKey(name, ctxt), (Color) readValue(p, ctxt, valueDeserializer));"));
+
+        assertTrue(namedStructs.contains("provider.defaultSerializeValue(entry.getValue(), gen);"));
+        assertTrue(namedStructs.contains("value.put(name, (BaseStruct) readValue(p, ctxt, valueDeserializer));"));
+        assertFalse(namedStructs.contains("keyDeserializer"));
+    }
+
+    @Test
+    public void testGeneratesEnumCodecs() throws Exception {
+        Map<String, String> result = generateTypes(true);
+        String color = result.get("Color");
+        assertNotNull(color);
+
+        assertTrue(color.contains("@JsonCodec(serializer = Color.Serializer.class, deserializer = Color.Deserializer.class)"));
+        assertTrue(color.contains("public static class Serializer extends EnumNameSerializer<Color> {"));
+        assertTrue(color.contains("public static class Deserializer extends EnumNameDeserializer<Color> {"));
+        assertInOrder(color, "case \"RED\":", "return RED;", "case \"GREEN\":", "return GREEN;", "return null;");
+    }
+}
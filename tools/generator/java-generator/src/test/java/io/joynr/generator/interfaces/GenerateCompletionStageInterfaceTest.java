@@ -0,0 +1,81 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.generator.interfaces;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.joynr.generator.AbstractJoynrJavaGeneratorTest;
+
+public class GenerateCompletionStageInterfaceTest extends AbstractJoynrJavaGeneratorTest {
+
+    private final boolean generateProxy = true;
+    private final boolean generateProvider = true;
+    private final boolean useComment = false;
+
+    private void testGeneratesCompletionStageInterfaceWithAllMethods(final boolean generateVersion) throws Exception {
+        super.setup(generateProxy, generateProvider, generateVersion, useComment);
+
+        Map<String, String> result = generate("stateless-async-test" + (generateVersion ? "" : "_noversiongeneration")
+                + ".fidl");
+        String fileContent = null;
+        for (Map.Entry<String, String> entry : result.entrySet()) {
+            if (entry.getKey().endsWith("CompletionStage")) {
+                fileContent = entry.getValue();
+            }
+        }
+        // Comment in to manually inspect the generator output during testing
+        //System.out.println("CompletionStage interface:\n" + fileContent);
+        assertNotNull(fileContent);
+        assertTrue(fileContent.contains("import io.joynr.CompletionStageAsync;"));
+        assertTrue(fileContent.contains("@CompletionStageAsync"));
+        assertTrue(fileContent.contains(", StatelessAsyncTestFireAndForget"));
+        assertTrue(fileContent.contains(", StatelessAsyncTestSubscriptionInterface"));
+        assertFalse(fileContent.contains("callFireAndForget"));
+
+        assertTrue(fileContent.contains("CompletableFuture<String> getTestAttribute()"));
+        assertTrue(fileContent.contains("CompletableFuture<Void> setTestAttribute(String testAttribute)"));
+        assertTrue(fileContent.contains("CompletableFuture<Integer> getTestReadOnlyAttribute()"));
+        assertFalse(fileContent.contains("setTestReadOnlyAttribute("));
+
+        assertTrue(fileContent.contains("CompletableFuture<Void> noOutMethod("));
+        assertTrue(fileContent.contains("CompletableFuture<String> noInOneOutMethod("));
+        assertTrue(fileContent.contains("CompletableFuture<String> withError("));
+        assertTrue(fileContent.contains("CompletableFuture<OneInTwoOutMethodReturned> oneInTwoOutMethod("));
+        assertTrue(fileContent.contains("import joynr.statelessasync" + (generateVersion ? ".v0" : "")
+                + ".StatelessAsyncTestSync.OneInTwoOutMethodReturned;"));
+        assertTrue(fileContent.contains("MessagingQos messagingQos"));
+        assertFalse(fileContent.contains("Callback"));
+    }
+
+    @Test
+    public void testGeneratesCompletionStageInterfaceWithAllMethods_withVersioning() throws Exception {
+        testGeneratesCompletionStageInterfaceWithAllMethods(true);
+    }
+
+    @Test
+    public void testGeneratesCompletionStageInterfaceWithAllMethods_noVersioning() throws Exception {
+        testGeneratesCompletionStageInterfaceWithAllMethods(false);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2026 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.generator.interfaces;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.joynr.generator.AbstractJoynrJavaGeneratorTest;
+
+public class GenerateStaticProxyTest extends AbstractJoynrJavaGeneratorTest {
+
+    private final boolean generateProxy = true;
+    private final boolean generateProvider = false;
+    private final boolean useComment = false;
+
+    private void testGeneratesStaticProxy(final boolean generateVersion) throws Exception {
+        super.setup(generateProxy, generateProvider, generateVersion, useComment);
+
+        Map<String, String> result = generate("stateless-async-test" + (generateVersion ? "" : "_noversiongeneration")
+                + ".fidl");
+        String proxyInterfaceContent = null;
+        String staticProxyContent = null;
+        for (Map.Entry<String, String> entry : result.entrySet()) {
+            if (entry.getKey().endsWith("StatelessAsyncTestProxy")) {
+                proxyInterfaceContent = entry.getValue();
+            } else if (entry.getKey().endsWith("StatelessAsyncTestProxyImpl")) {
+                staticProxyContent = entry.getValue();
+            }
+        }
+        // Comment in to manually inspect the generator output during testing
+        //System.out.println("Static proxy:\n" + staticProxyContent);
+        assertNotNull(proxyInterfaceContent);
+        assertNotNull(staticProxyContent);
+        assertTrue(proxyInterfaceContent.contains("@StaticProxy(StatelessAsyncTestProxyImpl.class)"));
+
+        assertTrue(staticProxyContent.contains("public class StatelessAsyncTestProxyImpl implements StatelessAsyncTestProxy"));
+        assertTrue(staticProxyContent.contains("public StatelessAsyncTestProxyImpl(ProxyInvocationHandler invocationHandler)"));
+
+        // overloaded methods get separate descriptors
+        assertTrue(staticProxyContent.contains("SYNC_NOOUTMETHOD_0 = new ProxyMethod(StatelessAsyncTestSync.class, \"noOutMethod\", String.class);"));
+        assertTrue(staticProxyContent.contains("SYNC_NOOUTMETHOD_1 = new ProxyMethod(StatelessAsyncTestSync.class, \"noOutMethod\", String.class, String.class);"));
+        assertTrue(staticProxyContent.contains("new ProxyMethod(StatelessAsyncTestSync.class, \"withInputOnlyType\", TestTypeInput.class);"));
+
+        // sync, async and fire and forget calls are passed directly
+        assertTrue(staticProxyContent.contains("invocationHandler.invokeSyncMethod(SYNC_GET_TESTATTRIBUTE, new Object[]{}, messagingQos)"));
+        assertTrue(staticProxyContent.contains("invocationHandler.invokeSyncMethodWithModeledError(SYNC_WITHERROR_6, new Object[]{ inData }, null)"));
+        assertTrue(staticProxyContent.contains("new ProxyMethod(StatelessAsyncTestAsync.class, \"withError\", CallbackWithModeledError.class, String.class);"));
+        assertTrue(staticProxyContent.contains("new ProxyMethod(StatelessAsyncTestAsync.class, \"oneInTwoOutMethod\", OneInTwoOutMethodCallback.class, String.class);"));
+        assertTrue(staticProxyContent.contains("invocationHandler.invokeAsyncMethod(this, ASYNC_ONEINTWOOUTMETHOD_5, callback, new OneInTwoOutMethodFuture(), new Object[]{ threeInData }, null)"));
+        assertTrue(staticProxyContent.contains("invocationHandler.invokeOneWayMethod(FIRE_AND_FORGET_CALLFIREANDFORGET_9, new Object[]{ fireAndForgetInData }, messagingQos)"));
+
+        // subscriptions and stateless async calls are dispatched reflectively
+        assertTrue(staticProxyContent.contains("invocationHandler.invokeReflectively(this, SUBSCRIBE_TO_TESTATTRIBUTE, new Object[]{ listener, subscriptionQos })"));
+        assertTrue(staticProxyContent.contains("invocationHandler.invokeReflectively(this, STATELESS_WITHERROR_6, new Object[]{ inData, messageIdCallback })"));
+        assertFalse(staticProxyContent.contains("setTestReadOnlyAttribute"));
+    }
+
+    @Test
+    public void testGeneratesStaticProxy_withVersioning() throws Exception {
+        testGeneratesStaticProxy(true);
+    }
+
+    @Test
+    public void testGeneratesStaticProxy_noVersioning() throws Exception {
+        testGeneratesStaticProxy(false);
+    }
+}